@@ -16,9 +16,11 @@ import com.communet.malmoon.aac.dto.request.AacCompleteReq;
 import com.communet.malmoon.aac.dto.request.AacConfirmReq;
 import com.communet.malmoon.aac.dto.request.AacCreateReq;
 import com.communet.malmoon.aac.dto.request.AacCustomPresignReq;
+import com.communet.malmoon.aac.dto.request.AacCursorReq;
 import com.communet.malmoon.aac.dto.request.AacCustomReq;
 import com.communet.malmoon.aac.dto.request.AacGetReq;
 import com.communet.malmoon.aac.dto.response.AacCreateRes;
+import com.communet.malmoon.aac.dto.response.AacCursorRes;
 import com.communet.malmoon.aac.dto.response.AacGetRes;
 import com.communet.malmoon.aac.service.AacService;
 import com.communet.malmoon.common.auth.CurrentMember;
@@ -66,6 +68,20 @@ public class AacController {
 		return ResponseEntity.ok(result);
 	}
 
+	/**
+	 * 커서(keyset) 기반 AAC 목록 조회 API입니다.
+	 * 전체 개수(count)를 계산하지 않으며, 응답의 nextCursor로 다음 페이지를 요청합니다.
+	 *
+	 * @param req 상황, 감정 등 필터와 커서, 조회 개수
+	 * @return 필터 조건에 따른 AAC 목록과 다음 페이지 커서
+	 */
+	@Operation(summary = "AAC 커서 기반 목록 조회", description = "created_at, id 기준 keyset 페이지네이션으로 AAC 목록을 조회합니다. 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 전달합니다.")
+	@GetMapping("/cursor")
+	public ResponseEntity<AacCursorRes> getAacListByCursor(
+		@Parameter(description = "AAC 필터 조건 및 커서 정보") @ModelAttribute AacCursorReq req, @CurrentMember Member member) {
+		return ResponseEntity.ok(aacService.getAacListByCursor(req, member.getMemberId()));
+	}
+
 	/**
 	 * 사용자가 직접 AAC를 등록하는 API입니다.
 	 * 이미지와 함께 상황, 감정, 동작 등의 메타데이터를 업로드합니다.
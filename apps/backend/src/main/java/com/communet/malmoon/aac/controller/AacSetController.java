@@ -2,6 +2,7 @@ package com.communet.malmoon.aac.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.communet.malmoon.aac.dto.request.AacSetCreateReq;
 import com.communet.malmoon.aac.dto.request.AacSetUpdateReq;
@@ -72,19 +74,33 @@ public class AacSetController {
 	/**
 	 * 특정 AAC 묶음에 포함된 AAC 항목들을 상세 조회합니다.
 	 * 항목들은 저장 당시의 순서를 기준으로 정렬되어 반환됩니다.
+	 * 묶음 ID 와 마지막 변경 시각으로 계산한 ETag를 내려주며, If-None-Match 가 일치하면
+	 * 항목 조회와 이미지 URL 발급 없이 304 Not Modified 를 반환합니다.
+	 * 이미지 presigned URL 은 ETag 에 포함되지 않으므로, 클라이언트는 이미지 URL 이 만료되면(403)
+	 * If-None-Match 없이 다시 조회하여 새 URL 을 받습니다.
 	 *
 	 * @param aacSetId 조회할 AAC 묶음 ID
 	 * @param member 현재 로그인한 사용자
-	 * @return AAC 묶음에 포함된 항목 목록 (정렬 순서 포함)
+	 * @param webRequest If-None-Match 헤더 확인용 요청
+	 * @return AAC 묶음에 포함된 항목 목록 (정렬 순서 포함), 변경이 없으면 304
 	 */
 	@GetMapping("/my/{aacSetId}")
-	@Operation(summary = "AAC 묶음 상세 조회", description = "묶음에 포함된 AAC 항목들을 순서대로 반환합니다.")
+	@Operation(summary = "AAC 묶음 상세 조회", description = "묶음에 포함된 AAC 항목들을 순서대로 반환합니다. "
+		+ "If-None-Match 헤더가 현재 ETag 와 같으면 304 를 반환합니다.")
 	public ResponseEntity<List<AacSetDetailRes>> getAacItemsInSet(
 		@PathVariable("aacSetId") Long aacSetId,
-		@CurrentMember Member member
+		@CurrentMember Member member,
+		WebRequest webRequest
 	) {
+		String eTag = aacSetService.getAacSetETag(aacSetId, member.getMemberId());
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
 		List<AacSetDetailRes> result = aacSetService.getAacInset(aacSetId, member.getMemberId());
-		return ResponseEntity.ok(result);
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.noCache().cachePrivate())
+			.eTag(eTag)
+			.body(result);
 	}
 
 	/**
@@ -11,6 +11,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,7 +20,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "aac_item")
+@Table(name = "aac_item", indexes = {
+	// 목록 조회(필터 + created_at, id 내림차순 seek)를 인덱스 범위 스캔으로 처리
+	@Index(name = "idx_aac_item_filter_seek", columnList = "status, situation, action, emotion, created_at, id"),
+	@Index(name = "idx_aac_item_status_seek", columnList = "status, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -42,13 +42,26 @@ public class AacSet {
 	@Column(name = "created_at", nullable = false)
 	private LocalDateTime createdAt;
 
+	// 묶음 정보나 포함 항목이 바뀐 시각 (컬럼 추가 이전에 만든 묶음은 null 이며 created_at 을 사용)
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
 	@PrePersist
 	protected void onCreate() {
 		this.createdAt = LocalDateTime.now();
+		this.updatedAt = this.createdAt;
 	}
 
 	public void update(String name, String description) {
 		this.name = name;
 		this.description = description;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	/**
+	 * 마지막 변경 시각 (변경 이력이 없으면 생성 시각)
+	 */
+	public LocalDateTime getLastModifiedAt() {
+		return updatedAt != null ? updatedAt : createdAt;
 	}
 }
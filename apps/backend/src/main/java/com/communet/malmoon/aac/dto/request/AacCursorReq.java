@@ -0,0 +1,33 @@
+package com.communet.malmoon.aac.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AAC 목록 커서(keyset) 조회 요청 DTO
+ *
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AacCursorReq {
+
+	@Schema(description = "AAC 상황", example = "긴급")
+	private String situation;
+
+	@Schema(description = "AAC 동작", example = "도움 요청")
+	private String action;
+
+	@Schema(description = "AAC 감정", example = "불안")
+	private String emotion;
+
+	@Schema(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "MjAyNS0wOC0wMVQxMjowMDowMF80Mg")
+	private String cursor;
+
+	@Schema(description = "조회 개수", example = "20")
+	private int size;
+}
@@ -0,0 +1,29 @@
+package com.communet.malmoon.aac.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * AAC 목록 커서(keyset) 조회 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "AAC 커서 조회 응답 DTO")
+public class AacCursorRes {
+
+	@Schema(description = "AAC 목록")
+	private List<AacGetRes> content;
+
+	@Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNS0wOC0wMVQxMjowMDowMF80Mg")
+	private String nextCursor;
+
+	@Schema(description = "다음 페이지 존재 여부", example = "true")
+	private boolean hasNext;
+}
@@ -1,6 +1,6 @@
 package com.communet.malmoon.aac.dto.response;
 
-import com.communet.malmoon.aac.domain.Aac;
+import com.communet.malmoon.aac.repository.AacSetItemView;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -32,10 +32,13 @@ public class AacSetDetailRes {
 	@Schema(description = "이미지 파일 ID", example = "100")
 	private Long fileId;
 
+	@Schema(description = "이미지 presigned URL", example = "https://bucket.s3.amazonaws.com/AAC/abc.png?X-Amz-...")
+	private String fileUrl;
+
 	@Schema(description = "정렬 순서", example = "1")
 	private int orderNo;
 
-	public static AacSetDetailRes from(Aac item, int orderNo) {
+	public static AacSetDetailRes from(AacSetItemView item, String fileUrl) {
 		return AacSetDetailRes.builder()
 			.id(item.getId())
 			.name(item.getName())
@@ -43,7 +46,8 @@ public class AacSetDetailRes {
 			.action(item.getAction())
 			.emotion(item.getEmotion())
 			.fileId(item.getFileId())
-			.orderNo(orderNo)
+			.fileUrl(fileUrl)
+			.orderNo(item.getOrderNo())
 			.build();
 	}
 }
@@ -0,0 +1,30 @@
+package com.communet.malmoon.aac.event;
+
+import com.communet.malmoon.aac.domain.AacStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AAC 카탈로그(aac_item)에 변경이 생겼음을 알리는 도메인 이벤트입니다.
+ * 등록/확정/삭제 시 발행되며, 카탈로그 캐시 무효화에 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AacCatalogChangedEvent {
+
+	/** 변경된 AAC의 소유 치료사 ID */
+	private final Long therapistId;
+
+	/** 변경된 AAC의 공개 상태 (삭제의 경우 삭제 전 상태) */
+	private final AacStatus status;
+
+	/**
+	 * PRIVATE 항목은 소유 치료사의 목록에만 노출되므로 해당 치료사 범위만 무효화하면 됩니다.
+	 *
+	 * @return 변경 영향이 소유 치료사에게만 한정되는지 여부
+	 */
+	public boolean isTherapistScoped() {
+		return status != null && status.isPrivate() && therapistId != null;
+	}
+}
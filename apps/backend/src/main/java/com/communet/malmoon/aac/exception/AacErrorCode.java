@@ -17,9 +17,11 @@ public enum AacErrorCode {
 	FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
 	UNAUTHORIZED_ACCESS(HttpStatus.FORBIDDEN, "해당 AAC에 접근 권한이 없습니다."),
 	GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AAC 이미지 생성에 실패했습니다."),
+	GENERATION_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "AAC 이미지 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 	FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "파일 정보를 찾을 수 없습니다."),
 	UNEXPECTED_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "예상치 못한 서버 오류가 발생했습니다."),
 	REQUEST_AAC_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "요청 바디에서 AAC를 찾을 수 없습니다."),
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
 
 	// === 삭제 권한 및 상태 관련 ===
 	INVALID_STATUS(HttpStatus.BAD_REQUEST, "삭제 가능한 상태가 아닙니다."),
@@ -29,6 +31,7 @@ public enum AacErrorCode {
 	FASTAPI_CLIENT_ERROR(HttpStatus.BAD_REQUEST, "FastAPI 요청이 잘못되었습니다."),
 	FASTAPI_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "FastAPI 서버 오류가 발생했습니다."),
 	FASTAPI_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "FastAPI 응답 지연 또는 연결 실패입니다."),
+	FASTAPI_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "FastAPI 요청이 많거나 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요."),
 	FASTAPI_INVALID_RESPONSE(HttpStatus.INTERNAL_SERVER_ERROR, "FastAPI로부터 잘못된 응답을 받았습니다."),
 
 	// === 임시 이미지 처리 관련 ===
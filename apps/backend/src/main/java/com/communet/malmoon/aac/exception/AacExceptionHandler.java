@@ -1,5 +1,6 @@
 package com.communet.malmoon.aac.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -23,4 +24,17 @@ public class AacExceptionHandler {
 				request
 			));
 	}
+
+	@ExceptionHandler(AacGenerationRejectedException.class)
+	public ResponseEntity<ApiErrorRes> handleGenerationRejected(AacGenerationRejectedException e,
+		WebRequest request) {
+		log.warn("AacGenerationRejectedException: retryAfter={}s", e.getRetryAfterSeconds());
+		return ResponseEntity.status(e.getErrorCode().getStatus())
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.body(ExceptionResponseUtils.build(
+				e.getErrorCode().getStatus(),
+				e.getErrorCode().getMessage(),
+				request
+			));
+	}
 }
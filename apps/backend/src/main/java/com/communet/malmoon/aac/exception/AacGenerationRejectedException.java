@@ -0,0 +1,18 @@
+package com.communet.malmoon.aac.exception;
+
+/**
+ * AAC 이미지 생성 대기열이 가득 차 요청을 거절할 때 사용하는 예외입니다.
+ * 응답의 Retry-After 헤더에 담을 재시도 대기 시간(초)을 함께 전달합니다.
+ */
+public class AacGenerationRejectedException extends AacException {
+	private final long retryAfterSeconds;
+
+	public AacGenerationRejectedException(long retryAfterSeconds) {
+		super(AacErrorCode.GENERATION_QUEUE_FULL);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
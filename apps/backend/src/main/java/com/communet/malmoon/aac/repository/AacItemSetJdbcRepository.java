@@ -0,0 +1,62 @@
+package com.communet.malmoon.aac.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.communet.malmoon.aac.domain.AacItemSet;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AAC 묶음 항목(aac_item_set)의 일괄 쓰기를 담당하는 JDBC 리포지토리입니다.
+ * IDENTITY 전략 엔티티는 Hibernate가 insert를 배치로 묶지 못하므로,
+ * id 컬럼을 제외한 JDBC batch로 항목 수와 무관하게 한 번의 왕복으로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AacItemSetJdbcRepository {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO aac_item_set (aac_item_id, aac_set_id, order_no, added_at) VALUES (?, ?, ?, ?)";
+
+	private static final String UPDATE_ORDER_SQL =
+		"UPDATE aac_item_set SET order_no = ? WHERE aac_set_id = ? AND aac_item_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * AAC 묶음 항목을 일괄 저장합니다.
+	 *
+	 * @param items 저장할 항목 (id는 DB에서 생성)
+	 */
+	public void batchInsert(List<AacItemSet> items) {
+		if (items.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, items, items.size(), (ps, item) -> {
+			ps.setLong(1, item.getAacItemId());
+			ps.setLong(2, item.getAacSetId());
+			ps.setInt(3, item.getOrderNo());
+			ps.setTimestamp(4, Timestamp.valueOf(item.getAddedAt()));
+		});
+	}
+
+	/**
+	 * 기존 AAC 묶음 항목의 순서(order_no)를 일괄 변경합니다.
+	 *
+	 * @param items 변경할 순서가 담긴 항목 (aacSetId, aacItemId로 대상 식별)
+	 */
+	public void batchUpdateOrderNo(List<AacItemSet> items) {
+		if (items.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(UPDATE_ORDER_SQL, items, items.size(), (ps, item) -> {
+			ps.setInt(1, item.getOrderNo());
+			ps.setLong(2, item.getAacSetId());
+			ps.setLong(3, item.getAacItemId());
+		});
+	}
+}
@@ -1,13 +1,34 @@
 package com.communet.malmoon.aac.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.communet.malmoon.aac.domain.AacItemSet;
 
 public interface AacItemSetRepository extends JpaRepository<AacItemSet, Long> {
 	List<AacItemSet> findByAacSetIdOrderByOrderNo(Long aacSetId);
 
-	void deleteByAacSetId(Long aacSetId);
+	/**
+	 * 묶음의 항목을 순서대로 조회합니다. 연결된 AAC 항목이 없는 행도 id 가 null 인 행으로 반환합니다.
+	 */
+	@Query("SELECT a.id AS id, a.name AS name, a.situation AS situation, a.action AS action, "
+		+ "a.emotion AS emotion, a.fileId AS fileId, s.orderNo AS orderNo "
+		+ "FROM AacItemSet s LEFT JOIN Aac a ON a.id = s.aacItemId "
+		+ "WHERE s.aacSetId = :aacSetId "
+		+ "ORDER BY s.orderNo")
+	List<AacSetItemView> findItemViewsByAacSetId(@Param("aacSetId") Long aacSetId);
+
+	@Modifying
+	@Query("DELETE FROM AacItemSet s WHERE s.aacSetId = :aacSetId")
+	void deleteByAacSetId(@Param("aacSetId") Long aacSetId);
+
+	@Modifying
+	@Query("DELETE FROM AacItemSet s WHERE s.aacSetId = :aacSetId AND s.aacItemId IN :aacItemIds")
+	void deleteByAacSetIdAndAacItemIdIn(@Param("aacSetId") Long aacSetId,
+		@Param("aacItemIds") Collection<Long> aacItemIds);
 }
@@ -1,5 +1,7 @@
 package com.communet.malmoon.aac.repository;
 
+import java.util.Collection;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -12,4 +14,5 @@ import com.communet.malmoon.aac.domain.Aac;
 @Repository
 public interface AacRepository extends JpaRepository<Aac, Long>, JpaSpecificationExecutor<Aac> {
 
+	long countByIdIn(Collection<Long> ids);
 }
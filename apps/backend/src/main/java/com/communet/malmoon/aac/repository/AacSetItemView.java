@@ -0,0 +1,21 @@
+package com.communet.malmoon.aac.repository;
+
+/**
+ * AAC 묶음에 포함된 AAC 항목 한 행을 나타내는 조회 전용 프로젝션입니다.
+ * aac_item_set 과 aac_item 을 조인하여 필요한 컬럼만 조회합니다.
+ */
+public interface AacSetItemView {
+	Long getId();
+
+	String getName();
+
+	String getSituation();
+
+	String getAction();
+
+	String getEmotion();
+
+	Long getFileId();
+
+	int getOrderNo();
+}
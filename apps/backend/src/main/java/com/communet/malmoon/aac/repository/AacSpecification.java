@@ -1,5 +1,6 @@
 package com.communet.malmoon.aac.repository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -67,4 +68,23 @@ public class AacSpecification {
 			return builder.and(predicates.toArray(new Predicate[0]));
 		};
 	}
+
+	/**
+	 * keyset 페이지네이션용 seek 조건입니다. (created_at, id) 내림차순 기준으로 커서 이후의 행만 조회합니다.
+	 *
+	 * - (created_at, id) < (:createdAt, :id) 를 OR 조건으로 풀어 작성합니다.
+	 *
+	 * @param createdAt 커서의 생성 시각
+	 * @param id 커서의 AAC ID
+	 * @return JPA Criteria 기반 Specification 조건 객체
+	 */
+	public static Specification<Aac> seekAfter(LocalDateTime createdAt, Long id) {
+		return (root, query, builder) -> builder.or(
+			builder.lessThan(root.get("createdAt"), createdAt),
+			builder.and(
+				builder.equal(root.get("createdAt"), createdAt),
+				builder.lessThan(root.get("id"), id)
+			)
+		);
+	}
 }
@@ -0,0 +1,45 @@
+package com.communet.malmoon.aac.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.communet.malmoon.aac.domain.Aac;
+import com.communet.malmoon.aac.exception.AacErrorCode;
+import com.communet.malmoon.aac.exception.AacException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AAC 목록 keyset 페이지네이션의 seek 키 (created_at, id)입니다.
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 토큰으로만 노출됩니다.
+ */
+@Getter
+@AllArgsConstructor
+class AacCursor {
+
+	private static final String DELIMITER = "_";
+
+	private final LocalDateTime createdAt;
+	private final Long id;
+
+	static AacCursor of(Aac aac) {
+		return new AacCursor(aac.getCreatedAt(), aac.getId());
+	}
+
+	String encode() {
+		String raw = createdAt + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	static AacCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int idx = raw.lastIndexOf(DELIMITER);
+			return new AacCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+		} catch (RuntimeException e) {
+			throw new AacException(AacErrorCode.INVALID_CURSOR);
+		}
+	}
+}
@@ -3,26 +3,36 @@ package com.communet.malmoon.aac.service;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import com.communet.malmoon.aac.domain.Aac;
+import com.communet.malmoon.aac.domain.AacStatus;
 import com.communet.malmoon.aac.dto.request.AacConfirmReq;
 import com.communet.malmoon.aac.dto.request.AacCreateReq;
 import com.communet.malmoon.aac.dto.request.AacCustomPresignReq;
+import com.communet.malmoon.aac.dto.request.AacCursorReq;
 import com.communet.malmoon.aac.dto.request.AacCustomReq;
 import com.communet.malmoon.aac.dto.request.AacGetReq;
 import com.communet.malmoon.aac.dto.response.AacCreateRes;
+import com.communet.malmoon.aac.dto.response.AacCursorRes;
 import com.communet.malmoon.aac.dto.response.AacGetRes;
+import com.communet.malmoon.aac.event.AacCatalogChangedEvent;
 import com.communet.malmoon.aac.exception.AacErrorCode;
 import com.communet.malmoon.aac.exception.AacException;
 import com.communet.malmoon.aac.repository.AacRepository;
 import com.communet.malmoon.aac.repository.AacSpecification;
+import com.communet.malmoon.aac.service.cache.AacCatalogCache;
+import com.communet.malmoon.aac.service.cache.AacPreviewCache;
+import com.communet.malmoon.common.config.AacGenerationProperties;
 import com.communet.malmoon.external.fastapi.FastApiClient;
 import com.communet.malmoon.file.domain.File;
 import com.communet.malmoon.file.domain.FileType;
@@ -42,14 +52,22 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AacService {
 
+	private static final int DEFAULT_CURSOR_SIZE = 20;
+	private static final int MAX_CURSOR_SIZE = 100;
+
 	private final AacRepository aacRepository;
 	private final FileService fileService;
 	private final FileRepository fileRepository;
 	private final FastApiClient fastApiClient;
+	private final AacCatalogCache aacCatalogCache;
+	private final AacPreviewCache aacPreviewCache;
+	private final AacGenerationProperties generationProperties;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 필터 조건과 페이징 정보를 기반으로 DEFAULT 또는 PUBLIC 상태의 AAC 항목을 조회합니다.
 	 * 각 항목에는 S3 이미지 URL이 포함되어 반환됩니다.
+	 * 조회 결과는 {@link AacCatalogCache}를 통해 캐싱되며, 카탈로그 변경 이벤트로 무효화됩니다.
 	 *
 	 * @param req 필터 조건 (situation, action, emotion) 및 페이지 정보
 	 * @return 조건에 맞는 AAC 항목 페이지 (이미지 URL 포함)
@@ -59,18 +77,57 @@ public class AacService {
 		// 동적 필터 조건 구성
 		var spec = AacSpecification.withFilters(req.getSituation(), req.getAction(), req.getEmotion(), therapistId);
 
-		// Specification 기반 조회
-		Page<Aac> page = aacRepository.findAll(spec, pageable);
+		// Specification 기반 조회 (캐시 미스 시에만 DB 조회)
+		Page<Aac> page = aacCatalogCache.getPage(req, therapistId, pageable,
+			() -> aacRepository.findAll(spec, pageable));
+
+		// 페이지 내 파일 URL을 일괄 조회 (File IN 쿼리 1회 + 캐시된 presigned URL)
+		Map<Long, String> imageUrls;
+		try {
+			imageUrls = fileService.getPresignedFileUrls(page.map(Aac::getFileId).getContent());
+		} catch (Exception e) {
+			throw new AacException(AacErrorCode.NOT_FOUND);
+		}
 
 		// 파일 URL 포함하여 응답 객체로 변환
-		return page.map(aac -> {
-			try {
-				String imageUrl = fileService.getPresignedFileUrl(aac.getFileId());
-				return AacGetRes.from(aac, imageUrl);
-			} catch (Exception e) {
-				throw new AacException(AacErrorCode.NOT_FOUND);
-			}
-		});
+		return page.map(aac -> AacGetRes.from(aac, imageUrls.get(aac.getFileId())));
+	}
+
+	/**
+	 * 필터 조건과 커서를 기반으로 AAC 항목을 (created_at, id) 내림차순 keyset 방식으로 조회합니다.
+	 * OFFSET/COUNT 쿼리 없이 size + 1건만 조회하여 다음 페이지 존재 여부를 판단합니다.
+	 *
+	 * @param req 필터 조건 (situation, action, emotion), 커서 및 조회 개수
+	 * @param therapistId 조회하는 치료사 ID (본인 PRIVATE 포함 여부 결정)
+	 * @return AAC 항목 목록과 다음 페이지 커서
+	 */
+	public AacCursorRes getAacListByCursor(AacCursorReq req, Long therapistId) {
+		int size = req.getSize() <= 0 ? DEFAULT_CURSOR_SIZE : Math.min(req.getSize(), MAX_CURSOR_SIZE);
+
+		Specification<Aac> spec = AacSpecification.withFilters(req.getSituation(), req.getAction(), req.getEmotion(), therapistId);
+		if (req.getCursor() != null && !req.getCursor().isBlank()) {
+			AacCursor cursor = AacCursor.decode(req.getCursor());
+			spec = spec.and(AacSpecification.seekAfter(cursor.getCreatedAt(), cursor.getId()));
+		}
+
+		Sort sort = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+		List<Aac> rows = aacRepository.findBy(spec, query -> query.sortBy(sort).limit(size + 1).all());
+
+		boolean hasNext = rows.size() > size;
+		List<Aac> content = hasNext ? rows.subList(0, size) : rows;
+
+		Map<Long, String> imageUrls;
+		try {
+			imageUrls = fileService.getPresignedFileUrls(content.stream().map(Aac::getFileId).toList());
+		} catch (Exception e) {
+			throw new AacException(AacErrorCode.NOT_FOUND);
+		}
+
+		return AacCursorRes.builder()
+			.content(content.stream().map(aac -> AacGetRes.from(aac, imageUrls.get(aac.getFileId()))).toList())
+			.nextCursor(hasNext ? AacCursor.of(content.get(content.size() - 1)).encode() : null)
+			.hasNext(hasNext)
+			.build();
 	}
 
 	/**
@@ -101,6 +158,7 @@ public class AacService {
 				.build();
 
 			aacRepository.save(aac);
+			eventPublisher.publishEvent(new AacCatalogChangedEvent(memberId, aac.getStatus()));
 		} catch (AacException e) {
 			log.warn("사용자 정의 AAC 등록 실패 - 사용자 요청 오류: {}", e.getMessage());
 			throw e;
@@ -112,12 +170,13 @@ public class AacService {
 
 	/**
 	 * FastAPI를 통해 이미지 프리뷰 생성 요청을 수행합니다.
+	 * 같은 프롬프트의 생성 결과는 {@link AacPreviewCache}를 통해 재사용되며, 생성 대기열이 가득 차면 429로 거절됩니다.
 	 *
 	 * @param request AAC 생성 요청 데이터
 	 * @return 생성된 이미지 preview URL
 	 */
 	public String requestPreviewFromFastApi(AacCreateReq request) {
-		return fastApiClient.requestPreviewImage(request);
+		return aacPreviewCache.getOrGenerate(request, () -> fastApiClient.requestPreviewImage(request));
 	}
 
 	/**
@@ -130,9 +189,7 @@ public class AacService {
 	@Transactional
 	public void confirmAndSaveAac(AacConfirmReq request, Long memberId) {
 		// 1. 파일 경로 재구성
-		String filename = Path.of(request.getImagePath()).getFileName().toString(); // abc123.png
-		Path tempImagePath = Paths.get("apps/AI/static/temp", filename).normalize();
-		System.out.println(tempImagePath);
+		Path tempImagePath = generationProperties.resolveTempImage(request.getImagePath()); // {temp-image-dir}/abc123.png
 
 		if (!Files.exists(tempImagePath)) {
 			throw new AacException(AacErrorCode.TEMP_IMAGE_NOT_FOUND);
@@ -149,12 +206,14 @@ public class AacService {
 			throw new AacException(AacErrorCode.FILE_UPLOAD_FAILED);
 		}
 
-		// 3. 임시 이미지 삭제
-		try {
-			Files.delete(tempImagePath);
-		} catch (IOException e) {
-			log.warn("❗ 임시 이미지 삭제 실패: {}", tempImagePath, e);
-			throw new AacException(AacErrorCode.TEMP_IMAGE_DELETE_FAILED);
+		// 3. 임시 이미지 삭제 (미리보기 캐시가 아직 다른 재활사에게 내줄 수 있는 이미지면 남겨 둠)
+		if (!aacPreviewCache.isReferenced(request.getImagePath())) {
+			try {
+				Files.delete(tempImagePath);
+			} catch (IOException e) {
+				log.warn("❗ 임시 이미지 삭제 실패: {}", tempImagePath, e);
+				throw new AacException(AacErrorCode.TEMP_IMAGE_DELETE_FAILED);
+			}
 		}
 
 		memberId = 1L;
@@ -169,6 +228,7 @@ public class AacService {
 				.therapistId(memberId)
 				.status(request.getStatus())
 				.build());
+			eventPublisher.publishEvent(new AacCatalogChangedEvent(memberId, request.getStatus()));
 
 			//System.out.println(fileUploadRes.getFileId());
 		} catch (Exception e) {
@@ -207,8 +267,10 @@ public class AacService {
 		}
 
 		try {
+			AacStatus previousStatus = aac.getStatus();
 			aac.changeStatusDeleted();
 			aacRepository.save(aac);
+			eventPublisher.publishEvent(new AacCatalogChangedEvent(memberId, previousStatus));
 		} catch (Exception e) {
 			log.error("AAC 삭제 실패 - aacId: {}", aacId, e);
 			throw new AacException(AacErrorCode.AAC_DELETE_FAILED);
@@ -241,6 +303,7 @@ public class AacService {
 			.build();
 
 		Aac saved = aacRepository.save(aac);
+		eventPublisher.publishEvent(new AacCatalogChangedEvent(therapistId, saved.getStatus()));
 
 		// 3) (선택) 미리보기 URL(짧은 pre-signed GET) 생성
 		String previewUrl = fileService.getPresignedFileUrl(request.getFileId());
@@ -1,13 +1,17 @@
 package com.communet.malmoon.aac.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
-import com.communet.malmoon.aac.domain.Aac;
 import com.communet.malmoon.aac.domain.AacItemSet;
 import com.communet.malmoon.aac.domain.AacSet;
 import com.communet.malmoon.aac.dto.request.AacSetCreateReq;
@@ -17,9 +21,12 @@ import com.communet.malmoon.aac.dto.response.AacSetDetailRes;
 import com.communet.malmoon.aac.dto.response.AacSetSimpleRes;
 import com.communet.malmoon.aac.exception.AacErrorCode;
 import com.communet.malmoon.aac.exception.AacException;
+import com.communet.malmoon.aac.repository.AacItemSetJdbcRepository;
 import com.communet.malmoon.aac.repository.AacItemSetRepository;
 import com.communet.malmoon.aac.repository.AacRepository;
+import com.communet.malmoon.aac.repository.AacSetItemView;
 import com.communet.malmoon.aac.repository.AacSetRepository;
+import com.communet.malmoon.file.service.FileService;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +41,8 @@ public class AacSetService {
 	private final AacRepository aacRepository;
 	private final AacSetRepository aacSetRepository;
 	private final AacItemSetRepository aacItemSetRepository;
+	private final AacItemSetJdbcRepository aacItemSetJdbcRepository;
+	private final FileService fileService;
 
 	/**
 	 * AAC 묶음을 생성하고, 선택된 AAC 항목들을 묶음에 연결합니다.
@@ -44,14 +53,7 @@ public class AacSetService {
 	 */
 	@Transactional
 	public AacSetCreateRes createAacSet(AacSetCreateReq request, Long therapistId) {
-		if (request.getAacItemIds() == null || request.getAacItemIds().isEmpty()) {
-			throw new AacException(AacErrorCode.REQUEST_AAC_ITEM_NOT_FOUND);
-		}
-
-		Set<Long> uniqueIds = new HashSet<>(request.getAacItemIds());
-		if (uniqueIds.size() != request.getAacItemIds().size()) {
-			throw new AacException(AacErrorCode.DUPLICATED_ITEM_IN_SET);
-		}
+		validateAacItemIds(request.getAacItemIds());
 
 		// 1. AAC Set 생성
 		AacSet aacSet = aacSetRepository.save(AacSet.builder()
@@ -61,16 +63,14 @@ public class AacSetService {
 			.createdAt(LocalDateTime.now())
 			.build());
 
-		// 2. AAC Item Set 연결 저장
+		// 2. AAC Item Set 연결 일괄 저장
+		LocalDateTime now = LocalDateTime.now();
+		List<AacItemSet> items = new ArrayList<>(request.getAacItemIds().size());
 		int order = 1;
 		for (Long itemId : request.getAacItemIds()) {
-			aacItemSetRepository.save(AacItemSet.builder()
-				.aacItemId(itemId)
-				.aacSetId(aacSet.getId())
-				.orderNo(order++)
-				.addedAt(LocalDateTime.now())
-				.build());
+			items.add(itemSet(aacSet.getId(), itemId, order++, now));
 		}
+		aacItemSetJdbcRepository.batchInsert(items);
 
 		return AacSetCreateRes.of(aacSet.getId());
 	}
@@ -89,12 +89,34 @@ public class AacSetService {
 			.toList();
 	}
 
+	/**
+	 * AAC 묶음 상세 조회 응답의 ETag 를 계산합니다.
+	 * 묶음 ID 와 마지막 변경 시각으로만 계산하므로 항목 조인과 이미지 URL 발급 없이 변경 여부를 판단할 수 있습니다.
+	 * (포함 항목은 {@link #updateAacSet}에서만 바뀌고 그때 변경 시각도 갱신되며, AAC 항목 자체는 수정되지 않습니다.)
+	 *
+	 * @param aacSetId 조회할 AAC 묶음 ID
+	 * @param therapistId 로그인한 치료사 ID
+	 * @return ETag 값 (따옴표 제외)
+	 */
+	@Transactional
+	public String getAacSetETag(Long aacSetId, Long therapistId) {
+		AacSet set = aacSetRepository.findById(aacSetId)
+			.orElseThrow(() -> new AacException(AacErrorCode.NOT_FOUND));
+
+		if (!set.getTherapistId().equals(therapistId)) {
+			throw new AacException(AacErrorCode.UNAUTHORIZED_ACCESS);
+		}
+
+		String version = set.getId() + ":" + set.getLastModifiedAt();
+		return DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8));
+	}
+
 	/**
 	 * 특정 AAC 묶음에 포함된 AAC 항목들을 상세 조회합니다.
 	 *
 	 * @param aacSetId 조회할 AAC 묶음 ID
 	 * @param therapistId 로그인한 치료사 ID
-	 * @return AAC 항목 상세 리스트 (순서 포함)
+	 * @return AAC 항목 상세 리스트 (순서, 이미지 URL 포함)
 	 */
 	@Transactional
 	public List<AacSetDetailRes> getAacInset(Long aacSetId, Long therapistId) {
@@ -106,20 +128,23 @@ public class AacSetService {
 			throw new AacException(AacErrorCode.UNAUTHORIZED_ACCESS);
 		}
 
-		// AAC 항목 조회
-		List<AacItemSet> mappings = aacItemSetRepository.findByAacSetIdOrderByOrderNo(aacSetId);
+		// AAC 항목 조회 (조인 1회) 및 이미지 URL 일괄 발급
+		List<AacSetItemView> items = aacItemSetRepository.findItemViewsByAacSetId(aacSetId);
+		if (items.stream().anyMatch(item -> item.getId() == null)) {
+			throw new AacException(AacErrorCode.AAC_ITEM_NOT_FOUND);
+		}
+		Map<Long, String> fileUrls = fileService.getPresignedFileUrls(
+			items.stream().map(AacSetItemView::getFileId).toList());
 
-		return mappings.stream()
-			.map(mapping -> {
-				Aac item = aacRepository.findById(mapping.getAacItemId())
-					.orElseThrow(() -> new AacException(AacErrorCode.AAC_ITEM_NOT_FOUND));
-				return AacSetDetailRes.from(item, mapping.getOrderNo());
-			})
+		return items.stream()
+			.map(item -> AacSetDetailRes.from(item, fileUrls.get(item.getFileId())))
 			.toList();
 	}
 
 	/**
 	 * AAC 묶음을 수정합니다. 이름, 설명, 포함된 항목 리스트를 모두 갱신합니다.
+	 * 항목은 전체 삭제 후 재등록하지 않고, 기존 항목과의 차이(삭제/순서 변경/추가)만 일괄 반영합니다.
+	 * 요청 항목은 기존과 같이 검증하지 않습니다. (빈 목록이면 모든 항목을 제거)
 	 *
 	 * @param aacSetId 수정할 AAC 묶음 ID
 	 * @param request 요청 DTO (이름, 설명, 항목 리스트)
@@ -136,17 +161,55 @@ public class AacSetService {
 
 		set.update(request.getName(), request.getDescription());
 
-		aacItemSetRepository.deleteByAacSetId(aacSetId);
+		List<AacItemSet> mappings = aacItemSetRepository.findByAacSetIdOrderByOrderNo(aacSetId);
+		Map<Long, AacItemSet> current = new HashMap<>();
+		for (AacItemSet mapping : mappings) {
+			current.putIfAbsent(mapping.getAacItemId(), mapping);
+		}
 
+		Set<Long> requested = new HashSet<>(request.getAacItemIds());
+		if (current.size() != mappings.size() || requested.size() != request.getAacItemIds().size()) {
+			// 같은 항목이 여러 번 포함되면 항목 ID 로 차이를 계산할 수 없으므로 기존처럼 전체 교체 (일괄 삭제 + 일괄 저장)
+			replaceAll(aacSetId, request.getAacItemIds());
+			return;
+		}
+
+		// 기존 항목과 요청 항목을 비교하여 삭제/순서 변경/추가분만 반영
+		List<Long> removed = current.keySet().stream()
+			.filter(itemId -> !requested.contains(itemId))
+			.toList();
+
+		LocalDateTime now = LocalDateTime.now();
+		List<AacItemSet> added = new ArrayList<>();
+		List<AacItemSet> reordered = new ArrayList<>();
 		int order = 1;
 		for (Long itemId : request.getAacItemIds()) {
-			aacItemSetRepository.save(AacItemSet.builder()
-				.aacSetId(aacSetId)
-				.aacItemId(itemId)
-				.orderNo(order++)
-				.addedAt(LocalDateTime.now())
-				.build());
+			AacItemSet existing = current.get(itemId);
+			if (existing == null) {
+				added.add(itemSet(aacSetId, itemId, order, now));
+			} else if (existing.getOrderNo() != order) {
+				reordered.add(itemSet(aacSetId, itemId, order, existing.getAddedAt()));
+			}
+			order++;
 		}
+
+		if (!removed.isEmpty()) {
+			aacItemSetRepository.deleteByAacSetIdAndAacItemIdIn(aacSetId, removed);
+		}
+		aacItemSetJdbcRepository.batchUpdateOrderNo(reordered);
+		aacItemSetJdbcRepository.batchInsert(added);
+	}
+
+	private void replaceAll(Long aacSetId, List<Long> aacItemIds) {
+		aacItemSetRepository.deleteByAacSetId(aacSetId);
+
+		LocalDateTime now = LocalDateTime.now();
+		List<AacItemSet> items = new ArrayList<>(aacItemIds.size());
+		int order = 1;
+		for (Long itemId : aacItemIds) {
+			items.add(itemSet(aacSetId, itemId, order++, now));
+		}
+		aacItemSetJdbcRepository.batchInsert(items);
 	}
 
 	/**
@@ -167,4 +230,34 @@ public class AacSetService {
 		aacItemSetRepository.deleteByAacSetId(aacSetId);
 		aacSetRepository.delete(set);
 	}
+
+	/**
+	 * 묶음에 포함할 AAC 항목 ID 목록을 검증합니다.
+	 * 존재 여부는 IN 조건의 count 쿼리 1회로 확인합니다.
+	 *
+	 * @param aacItemIds 요청된 AAC 항목 ID 리스트
+	 */
+	private void validateAacItemIds(List<Long> aacItemIds) {
+		if (aacItemIds == null || aacItemIds.isEmpty()) {
+			throw new AacException(AacErrorCode.REQUEST_AAC_ITEM_NOT_FOUND);
+		}
+
+		Set<Long> uniqueIds = new HashSet<>(aacItemIds);
+		if (uniqueIds.size() != aacItemIds.size()) {
+			throw new AacException(AacErrorCode.DUPLICATED_ITEM_IN_SET);
+		}
+
+		if (aacRepository.countByIdIn(uniqueIds) != uniqueIds.size()) {
+			throw new AacException(AacErrorCode.AAC_ITEM_NOT_FOUND);
+		}
+	}
+
+	private AacItemSet itemSet(Long aacSetId, Long aacItemId, int orderNo, LocalDateTime addedAt) {
+		return AacItemSet.builder()
+			.aacSetId(aacSetId)
+			.aacItemId(aacItemId)
+			.orderNo(orderNo)
+			.addedAt(addedAt)
+			.build();
+	}
 }
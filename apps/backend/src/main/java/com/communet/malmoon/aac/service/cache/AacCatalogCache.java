@@ -0,0 +1,233 @@
+package com.communet.malmoon.aac.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.communet.malmoon.aac.domain.Aac;
+import com.communet.malmoon.aac.dto.request.AacGetReq;
+import com.communet.malmoon.aac.event.AacCatalogChangedEvent;
+import com.communet.malmoon.common.redis.RedisCacheVersions;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AAC 카탈로그 목록 조회 결과를 캐싱하는 2단계(로컬 near cache + Redis) 캐시입니다.
+ * - 키: (치료사 가시 범위, situation, action, emotion, page, size)
+ * - 로컬 캐시 미스 시 Redis, Redis 미스 시 DB 조회 후 양쪽에 적재
+ *   Redis 적재는 DB 조회 전에 읽어 둔 카탈로그 버전(전체 / 치료사 범위)이 그대로일 때만 하여,
+ *   조회 도중 다른 인스턴스에서 무효화된 이전 목록이 TTL 동안 남지 않도록 함
+ * - {@link AacCatalogChangedEvent} 수신 시 영향 범위의 키를 무효화하고,
+ *   Redis pub/sub으로 다른 인스턴스의 로컬 캐시도 함께 무효화
+ * - Redis 장애 시에는 DB 조회로 대체하며 요청을 실패시키지 않음
+ */
+@Component
+@Slf4j
+public class AacCatalogCache {
+
+	private static final String KEY_PREFIX = "aac:catalog:";
+	private static final String INVALIDATE_CHANNEL = "aac-catalog-invalidate";
+	private static final String PUBLIC_SCOPE = "public";
+	private static final String THERAPIST_SCOPE = "therapist:";
+	// 무효화 시 SCAN 대상(KEY_PREFIX*)에 포함되지 않도록 별도 접두어 사용
+	private static final String VERSION_PREFIX = "aac:catalog-version:";
+	private static final String GLOBAL_VERSION_KEY = VERSION_PREFIX + "global";
+	private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+	private static final Duration NEAR_TTL = Duration.ofSeconds(60);
+	private static final long NEAR_MAX_SIZE = 2_000;
+	private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+	private static final long SCAN_COUNT = 500;
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final RedisCacheVersions cacheVersions;
+
+	private final Cache<String, AacCatalogPage> nearCache = CacheBuilder.newBuilder()
+		.expireAfterWrite(NEAR_TTL)
+		.maximumSize(NEAR_MAX_SIZE)
+		.recordStats()
+		.build();
+
+	// 로딩 중 무효화가 일어난 경우 오래된 결과를 로컬 캐시에 다시 넣지 않기 위한 세대 값
+	private final AtomicLong generation = new AtomicLong();
+
+	private final Counter redisHits;
+	private final Counter redisMisses;
+	private final Counter redisEvictions;
+	private final Counter invalidations;
+
+	public AacCatalogCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+		RedisCacheVersions cacheVersions, MeterRegistry meterRegistry,
+		RedisMessageListenerContainer listenerContainer) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.cacheVersions = cacheVersions;
+
+		GuavaCacheMetrics.monitor(meterRegistry, nearCache, "aac.catalog.near");
+		this.redisHits = Counter.builder("aac.catalog.redis.requests").tag("result", "hit").register(meterRegistry);
+		this.redisMisses = Counter.builder("aac.catalog.redis.requests").tag("result", "miss").register(meterRegistry);
+		this.redisEvictions = Counter.builder("aac.catalog.redis.evictions").register(meterRegistry);
+		this.invalidations = Counter.builder("aac.catalog.invalidations").register(meterRegistry);
+
+		// 다른 인스턴스에서 발생한 무효화 요청 수신 → 로컬 캐시만 정리
+		listenerContainer.addMessageListener(
+			(message, pattern) -> evictNear(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(INVALIDATE_CHANNEL));
+	}
+
+	/**
+	 * 캐시된 AAC 목록 페이지를 반환하고, 없으면 loader로 조회한 결과를 캐시에 적재합니다.
+	 *
+	 * @param req 필터 조건 및 페이지 정보
+	 * @param therapistId 조회하는 치료사 ID (PRIVATE 노출 범위 결정, nullable)
+	 * @param pageable 응답 Page에 사용할 페이지 정보
+	 * @param loader 캐시 미스 시 실행할 DB 조회
+	 * @return AAC 목록 페이지
+	 */
+	public Page<Aac> getPage(AacGetReq req, Long therapistId, Pageable pageable, Supplier<Page<Aac>> loader) {
+		String key = cacheKey(req, therapistId);
+
+		AacCatalogPage cached = nearCache.getIfPresent(key);
+		if (cached == null) {
+			long startGeneration = generation.get();
+			cached = readRedis(key);
+			if (cached == null) {
+				RedisCacheVersions.Snapshot versions = snapshotVersions(therapistId);
+				Page<Aac> loaded = loader.get();
+				cached = new AacCatalogPage(loaded.getContent(), loaded.getTotalElements());
+				writeRedis(key, cached, versions);
+			}
+			if (generation.get() == startGeneration) {
+				nearCache.put(key, cached);
+			}
+		}
+
+		return new PageImpl<>(cached.getContent(), pageable, cached.getTotalElements());
+	}
+
+	/**
+	 * 카탈로그 변경 이벤트를 커밋 이후에 받아 영향 범위의 캐시를 무효화합니다.
+	 * PRIVATE 변경은 소유 치료사 범위만, 그 외에는 전체 카탈로그를 무효화합니다.
+	 *
+	 * @param event 카탈로그 변경 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCatalogChanged(AacCatalogChangedEvent event) {
+		String prefix = event.isTherapistScoped()
+			? KEY_PREFIX + THERAPIST_SCOPE + event.getTherapistId() + ":"
+			: KEY_PREFIX;
+		String versionKey = event.isTherapistScoped()
+			? therapistVersionKey(event.getTherapistId())
+			: GLOBAL_VERSION_KEY;
+
+		invalidations.increment();
+		evictNear(prefix);
+
+		try {
+			// 버전을 먼저 올려 진행 중인 적재가 삭제 이후에 이전 목록을 다시 저장하지 못하도록 함
+			cacheVersions.bump(List.of(versionKey), VERSION_TTL);
+			redisEvictions.increment(deleteRedisKeys(prefix));
+			redisTemplate.convertAndSend(INVALIDATE_CHANNEL, prefix);
+		} catch (Exception e) {
+			log.warn("[AacCatalogCache] Redis 무효화 실패 (TTL 만료까지 유지됨): prefix={}, error={}", prefix, e.getMessage());
+		}
+	}
+
+	private void evictNear(String prefix) {
+		generation.incrementAndGet();
+		nearCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+	}
+
+	private long deleteRedisKeys(String prefix) {
+		List<String> keys = new ArrayList<>();
+		ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			cursor.forEachRemaining(keys::add);
+		}
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		Long deleted = redisTemplate.delete(keys);
+		return deleted == null ? 0 : deleted;
+	}
+
+	private AacCatalogPage readRedis(String key) {
+		try {
+			String json = redisTemplate.opsForValue().get(key);
+			if (json == null) {
+				redisMisses.increment();
+				return null;
+			}
+			redisHits.increment();
+			return objectMapper.readValue(json, AacCatalogPage.class);
+		} catch (Exception e) {
+			log.warn("[AacCatalogCache] Redis 조회 실패, DB로 대체: key={}, error={}", key, e.getMessage());
+			return null;
+		}
+	}
+
+	private RedisCacheVersions.Snapshot snapshotVersions(Long therapistId) {
+		List<String> versionKeys = therapistId == null
+			? List.of(GLOBAL_VERSION_KEY)
+			: List.of(GLOBAL_VERSION_KEY, therapistVersionKey(therapistId));
+		try {
+			return cacheVersions.snapshot(versionKeys);
+		} catch (Exception e) {
+			log.warn("[AacCatalogCache] 버전 조회 실패, Redis 적재 생략: error={}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void writeRedis(String key, AacCatalogPage page, RedisCacheVersions.Snapshot versions) {
+		if (versions == null) {
+			return;
+		}
+		try {
+			cacheVersions.setIfUnchanged(key, objectMapper.writeValueAsString(page), REDIS_TTL, versions);
+		} catch (JsonProcessingException e) {
+			log.warn("[AacCatalogCache] 직렬화 실패: key={}, error={}", key, e.getMessage());
+		} catch (Exception e) {
+			log.warn("[AacCatalogCache] Redis 저장 실패: key={}, error={}", key, e.getMessage());
+		}
+	}
+
+	private String therapistVersionKey(Long therapistId) {
+		return VERSION_PREFIX + THERAPIST_SCOPE + therapistId;
+	}
+
+	private String cacheKey(AacGetReq req, Long therapistId) {
+		String scope = therapistId == null ? PUBLIC_SCOPE : THERAPIST_SCOPE + therapistId;
+		return KEY_PREFIX + scope + ":"
+			+ normalize(req.getSituation()) + "|"
+			+ normalize(req.getAction()) + "|"
+			+ normalize(req.getEmotion()) + "|"
+			+ req.getPage() + "|" + req.getSize();
+	}
+
+	// AacSpecification과 동일하게 null/공백 필터는 조건 없음으로 취급
+	private String normalize(String value) {
+		return value == null || value.isBlank() ? "" : value;
+	}
+}
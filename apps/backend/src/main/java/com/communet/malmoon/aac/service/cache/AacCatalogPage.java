@@ -0,0 +1,24 @@
+package com.communet.malmoon.aac.service.cache;
+
+import java.util.List;
+
+import com.communet.malmoon.aac.domain.Aac;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * AAC 카탈로그 캐시에 저장되는 페이지 스냅샷입니다.
+ * 이미지 URL은 만료가 있으므로 저장하지 않고, 조회 시점에 fileId로 다시 해석합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AacCatalogPage {
+
+	private List<Aac> content;
+
+	private long totalElements;
+}
@@ -0,0 +1,251 @@
+package com.communet.malmoon.aac.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.communet.malmoon.aac.dto.request.AacCreateReq;
+import com.communet.malmoon.aac.exception.AacErrorCode;
+import com.communet.malmoon.aac.exception.AacException;
+import com.communet.malmoon.aac.exception.AacGenerationRejectedException;
+import com.communet.malmoon.common.config.AacGenerationProperties;
+import com.google.common.hash.Hashing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AAC 이미지 생성(FastAPI /api/v1/aacs/generate) 결과 캐시와 생성 요청 관문입니다.
+ * - 같은 프롬프트(situation, action, emotion) 생성 결과(preview URL)를 Redis에 TTL로 저장하여 재활사 간에도 재사용
+ * - 캐시가 가리키는 임시 이미지는 같은 TTL 동안 참조 표시를 남겨, 한 재활사의 확정(confirm)이 이미지를 지우지 않도록 함
+ *   ({@link #isReferenced})
+ * - 같은 프롬프트의 동시 요청은 진행 중인 생성 1건의 결과를 함께 받음 (인스턴스 내 single-flight)
+ * - 동시 생성 수를 제한하고 대기열이 가득 차면 429 + Retry-After 로 거절하여 AI 서버 과부하를 막음
+ * - 재생성 이유(reason)가 있는 요청은 새 이미지를 원하는 것이므로 캐시/합치기 없이 생성
+ * - 캐시된 임시 이미지가 사라졌으면(AI 서버 정리 등) 캐시 미스로 보고 다시 생성
+ * - Redis 장애 시에는 캐시 없이 생성하며 요청을 실패시키지 않음
+ */
+@Component
+@Slf4j
+public class AacPreviewCache {
+
+	private static final String KEY_PREFIX = "aac:preview:";
+	private static final String REF_KEY_PREFIX = "aac:preview:ref:";
+	private static final long DEFAULT_RETRY_AFTER_SECONDS = 10;
+	private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+	private final StringRedisTemplate redisTemplate;
+	private final AacGenerationProperties generationProperties;
+	private final Duration cacheTtl;
+	private final Duration queueTimeout;
+	private final int concurrency;
+	private final int maxPending;
+
+	private final Semaphore generationPermits;
+	private final AtomicInteger pending = new AtomicInteger();
+	private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+	private final Timer generationTimer;
+	private final Counter cacheHits;
+	private final Counter cacheMisses;
+	private final Counter coalesced;
+	private final Counter rejected;
+
+	public AacPreviewCache(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+		@Value("${aac.generation.cache-ttl:6h}") Duration cacheTtl,
+		@Value("${aac.generation.concurrency:4}") int concurrency,
+		@Value("${aac.generation.queue-capacity:16}") int queueCapacity,
+		@Value("${aac.generation.queue-timeout:60s}") Duration queueTimeout,
+		AacGenerationProperties generationProperties) {
+		this.redisTemplate = redisTemplate;
+		this.generationProperties = generationProperties;
+		this.cacheTtl = cacheTtl;
+		this.queueTimeout = queueTimeout;
+		this.concurrency = concurrency;
+		this.maxPending = concurrency + queueCapacity;
+		this.generationPermits = new Semaphore(concurrency, true);
+
+		this.generationTimer = Timer.builder("aac.generation.duration")
+			.description("AAC 이미지 생성 소요 시간 (대기 제외)")
+			.register(meterRegistry);
+		this.cacheHits = Counter.builder("aac.generation.requests").tag("result", "cache_hit").register(meterRegistry);
+		this.cacheMisses = Counter.builder("aac.generation.requests").tag("result", "cache_miss").register(meterRegistry);
+		this.coalesced = Counter.builder("aac.generation.requests").tag("result", "coalesced").register(meterRegistry);
+		this.rejected = Counter.builder("aac.generation.requests").tag("result", "rejected").register(meterRegistry);
+		Gauge.builder("aac.generation.pending", pending, AtomicInteger::get)
+			.description("생성 중이거나 대기 중인 AAC 생성 요청 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 캐시된 preview URL을 반환하고, 없으면 generator로 생성한 결과를 캐시에 적재합니다.
+	 *
+	 * @param request 생성 요청 (situation, action, emotion, reason)
+	 * @param generator 캐시 미스 시 실행할 FastAPI 생성 호출
+	 * @return 미리보기 이미지 URL
+	 * @throws AacGenerationRejectedException 생성 대기열이 가득 찬 경우 (429)
+	 */
+	public String getOrGenerate(AacCreateReq request, Supplier<String> generator) {
+		if (request.getReason() != null && !request.getReason().isBlank()) {
+			return admitAndGenerate(generator);
+		}
+
+		String key = cacheKey(request);
+		String cached = readRedis(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		CompletableFuture<String> mine = new CompletableFuture<>();
+		CompletableFuture<String> leader = inFlight.putIfAbsent(key, mine);
+		if (leader != null) {
+			coalesced.increment();
+			return await(leader);
+		}
+
+		try {
+			// 직전에 끝난 생성이 이미 캐시에 적재했을 수 있으므로 한 번 더 확인
+			String url = readRedis(key);
+			if (url == null) {
+				cacheMisses.increment();
+				url = admitAndGenerate(generator);
+				writeRedis(key, url);
+			}
+			mine.complete(url);
+			return url;
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	/**
+	 * 임시 이미지가 아직 캐시에서 다른 요청에 내줄 수 있는 상태인지 확인합니다.
+	 * 참조 중이면 확정 시 임시 이미지를 지우지 않아야 하며, Redis 장애 시에는 지우지 않도록 true 를 반환합니다.
+	 *
+	 * @param imageUrl preview URL 또는 이미지 경로
+	 */
+	public boolean isReferenced(String imageUrl) {
+		try {
+			return Boolean.TRUE.equals(redisTemplate.hasKey(refKey(imageUrl)));
+		} catch (Exception e) {
+			log.warn("[AacPreviewCache] Redis 조회 실패, 임시 이미지 유지: url={}, error={}", imageUrl, e.getMessage());
+			return true;
+		}
+	}
+
+	private String admitAndGenerate(Supplier<String> generator) {
+		int queued = pending.incrementAndGet();
+		try {
+			if (queued > maxPending) {
+				throw reject(queued);
+			}
+			if (!generationPermits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				throw reject(queued);
+			}
+			try {
+				return generationTimer.record(generator);
+			} finally {
+				generationPermits.release();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AacException(AacErrorCode.GENERATION_FAILED);
+		} finally {
+			pending.decrementAndGet();
+		}
+	}
+
+	// 평균 생성 시간 x (앞선 요청 수 / 동시 생성 수) 로 대기 시간을 추정
+	private AacGenerationRejectedException reject(int queued) {
+		rejected.increment();
+		double meanSeconds = generationTimer.mean(TimeUnit.SECONDS);
+		long retryAfter = meanSeconds > 0
+			? (long)Math.ceil(meanSeconds * queued / concurrency)
+			: DEFAULT_RETRY_AFTER_SECONDS;
+		retryAfter = Math.max(1, Math.min(MAX_RETRY_AFTER_SECONDS, retryAfter));
+		log.warn("[AacPreviewCache] 생성 대기열 초과로 거절: pending={}, retryAfter={}s", queued, retryAfter);
+		return new AacGenerationRejectedException(retryAfter);
+	}
+
+	private String await(CompletableFuture<String> leader) {
+		try {
+			return leader.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private String readRedis(String key) {
+		String url;
+		try {
+			url = redisTemplate.opsForValue().get(key);
+		} catch (Exception e) {
+			log.warn("[AacPreviewCache] Redis 조회 실패, 캐시 없이 생성: key={}, error={}", key, e.getMessage());
+			return null;
+		}
+		if (url == null) {
+			return null;
+		}
+		if (!Files.exists(generationProperties.resolveTempImage(url))) {
+			// 확정(confirm)되어 임시 이미지가 삭제된 URL은 다시 내줄 수 없음
+			deleteRedis(key);
+			return null;
+		}
+		cacheHits.increment();
+		return url;
+	}
+
+	private void writeRedis(String key, String url) {
+		try {
+			redisTemplate.opsForValue().set(refKey(url), "1", cacheTtl);
+			redisTemplate.opsForValue().set(key, url, cacheTtl);
+		} catch (Exception e) {
+			log.warn("[AacPreviewCache] Redis 저장 실패: key={}, error={}", key, e.getMessage());
+		}
+	}
+
+	private void deleteRedis(String key) {
+		try {
+			redisTemplate.delete(key);
+		} catch (Exception e) {
+			log.warn("[AacPreviewCache] Redis 삭제 실패: key={}, error={}", key, e.getMessage());
+		}
+	}
+
+	private String cacheKey(AacCreateReq request) {
+		String prompt = normalize(request.getSituation()) + "|"
+			+ normalize(request.getAction()) + "|"
+			+ normalize(request.getEmotion());
+		return KEY_PREFIX + Hashing.sha256().hashString(prompt, StandardCharsets.UTF_8);
+	}
+
+	private String refKey(String imageUrl) {
+		return REF_KEY_PREFIX + generationProperties.resolveTempImage(imageUrl).getFileName();
+	}
+
+	// 앞뒤 공백과 연속 공백 차이로 같은 프롬프트가 다른 키가 되지 않도록 정리
+	private String normalize(String value) {
+		return value == null ? "" : value.strip().replaceAll("\\s+", " ");
+	}
+}
@@ -0,0 +1,163 @@
+package com.communet.malmoon.chat.config;
+
+import java.security.Principal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+import com.communet.malmoon.chat.repository.ChatRoomParticipantRepository;
+import com.communet.malmoon.chat.service.ChatBroadcaster;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipal;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipalCache;
+import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
+import com.google.common.util.concurrent.RateLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 인바운드 프레임 인터셉터입니다.
+ * - CONNECT   : Authorization 헤더의 JWT 검증 후 연결 사용자(Principal) 설정
+ * - SUBSCRIBE : 채팅방 참여자만 /topic/chat/room/{roomId} 구독 가능,
+ *               사용자 전용 목적지(/user/queue/errors 등)는 연결 사용자 본인에게만 전달되므로 채팅방 확인 없이 허용
+ * - SEND      : 연결당 초당 메시지 수 제한(chat.ws.messages-per-second, 기본 20, 초과분은 버림), 참여자만 발행 가능
+ * 참여 여부는 연결(STOMP 세션)마다 채팅방별 1번만 DB로 확인합니다.
+ */
+@Slf4j
+@Component
+public class ChatStompInterceptor implements ChannelInterceptor {
+
+	static final String ROOM_TOPIC_PREFIX = ChatBroadcaster.TOPIC_PREFIX;
+	static final List<String> SEND_PREFIXES = List.of("/app/chat/room/", "/app/chat/session/");
+	static final String USER_DESTINATION_PREFIX = "/user/";
+	private static final String AUTHORIZED_ROOMS = "chat.authorizedRooms";
+
+	private final MemberPrincipalCache memberPrincipalCache;
+	private final ChatRoomParticipantRepository participantRepository;
+	private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+	private final Counter droppedCounter;
+	private final double messagesPerSecond;
+
+	public ChatStompInterceptor(MemberPrincipalCache memberPrincipalCache,
+		ChatRoomParticipantRepository participantRepository, MeterRegistry meterRegistry,
+		@Value("${chat.ws.messages-per-second:20}") double messagesPerSecond) {
+		this.memberPrincipalCache = memberPrincipalCache;
+		this.participantRepository = participantRepository;
+		this.messagesPerSecond = messagesPerSecond;
+		this.droppedCounter = Counter.builder("chat.ws.inbound.dropped")
+			.description("연결당 전송 한도를 넘어 버려진 메시지 수")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (accessor == null || accessor.getCommand() == null) {
+			return message;
+		}
+
+		StompCommand command = accessor.getCommand();
+		if (command == StompCommand.CONNECT) {
+			accessor.setUser(authenticate(accessor.getFirstNativeHeader(JwtTokenUtil.HEADER_STRING)));
+		} else if (command == StompCommand.SUBSCRIBE) {
+			String destination = accessor.getDestination();
+			if (destination != null && destination.startsWith(USER_DESTINATION_PREFIX)) {
+				memberId(accessor.getUser());
+			} else {
+				authorizeRoom(accessor, roomId(destination, List.of(ROOM_TOPIC_PREFIX)));
+			}
+		} else if (command == StompCommand.SEND) {
+			if (!acquire(accessor.getSessionId())) {
+				droppedCounter.increment();
+				log.debug("[ws] 전송 한도 초과로 메시지 버림. sessionId={}", accessor.getSessionId());
+				return null;
+			}
+			authorizeRoom(accessor, roomId(accessor.getDestination(), SEND_PREFIXES));
+		} else if (command == StompCommand.DISCONNECT) {
+			rateLimiters.remove(accessor.getSessionId());
+		}
+		return message;
+	}
+
+	/**
+	 * 연결 사용자의 회원 ID를 반환합니다.
+	 */
+	public static Long memberId(Principal principal) {
+		if (principal instanceof Authentication authentication
+			&& authentication.getDetails() instanceof MemberPrincipal details) {
+			return details.getMemberId();
+		}
+		throw new ChatException(ChatErrorCode.INVALID_TOKEN);
+	}
+
+	private Authentication authenticate(String token) {
+		if (token == null || !token.startsWith(JwtTokenUtil.TOKEN_PREFIX)) {
+			throw new ChatException(ChatErrorCode.INVALID_TOKEN);
+		}
+		try {
+			DecodedJWT decodedJWT = JwtTokenUtil.verify(token);
+			MemberPrincipal details = memberPrincipalCache.get(decodedJWT.getSubject())
+				.orElseThrow(() -> new ChatException(ChatErrorCode.INVALID_TOKEN));
+			UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+				decodedJWT.getSubject(), null, List.of(new SimpleGrantedAuthority(decodedJWT.getClaim("role").asString())));
+			authentication.setDetails(details);
+			return authentication;
+		} catch (ChatException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ChatException(ChatErrorCode.INVALID_TOKEN);
+		}
+	}
+
+	private void authorizeRoom(StompHeaderAccessor accessor, Long roomId) {
+		Long memberId = memberId(accessor.getUser());
+		Map<String, Object> attributes = accessor.getSessionAttributes();
+		@SuppressWarnings("unchecked")
+		Set<Long> authorized = attributes == null ? new HashSet<>()
+			: (Set<Long>)attributes.computeIfAbsent(AUTHORIZED_ROOMS, key -> ConcurrentHashMap.newKeySet());
+		if (authorized.contains(roomId)) {
+			return;
+		}
+		if (!participantRepository.existsByRoomIdAndMemberIdAndLeftAtIsNull(roomId, memberId)) {
+			throw new ChatException(ChatErrorCode.UNAUTHORIZED_ACCESS);
+		}
+		authorized.add(roomId);
+	}
+
+	private boolean acquire(String sessionId) {
+		return rateLimiters.computeIfAbsent(sessionId, id -> RateLimiter.create(messagesPerSecond)).tryAcquire();
+	}
+
+	private static Long roomId(String destination, List<String> prefixes) {
+		if (destination != null) {
+			for (String prefix : prefixes) {
+				if (destination.startsWith(prefix)) {
+					try {
+						return Long.valueOf(destination.substring(prefix.length()));
+					} catch (NumberFormatException e) {
+						break;
+					}
+				}
+			}
+		}
+		throw new ChatException(ChatErrorCode.INVALID_DESTINATION);
+	}
+}
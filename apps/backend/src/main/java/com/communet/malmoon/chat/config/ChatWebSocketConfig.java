@@ -0,0 +1,78 @@
+package com.communet.malmoon.chat.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * 실시간 채팅 STOMP/WebSocket 설정입니다.
+ *
+ * - 연결: /ws/chat (CONNECT 프레임의 Authorization 헤더로 JWT 인증)
+ * - 발행: /app/chat/room/{roomId} (1:1, 그룹), /app/chat/session/{roomId} (세션)
+ * - 구독: /topic/chat/room/{roomId}, 오류는 /user/queue/errors
+ *
+ * 인스턴스 간 전달은 {@link com.communet.malmoon.chat.service.ChatBroadcaster}가 Redis pub/sub 으로 처리하고,
+ * 각 인스턴스는 자신에게 연결된 구독자에게만 내장 브로커로 전달합니다.
+ *
+ * 연결별 backpressure
+ * - 수신: 연결당 초당 메시지 수 제한 ({@link ChatStompInterceptor}), 프레임 크기 제한
+ * - 송신: 연결별 송신 버퍼/시간 한도를 넘는 느린 클라이언트는 연결을 끊어 다른 연결과 서버 메모리를 보호
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class ChatWebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+	private static final int MESSAGE_SIZE_LIMIT = 64 * 1024;
+	private static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+	private static final int SEND_TIME_LIMIT_MS = 10_000;
+	private static final long HEARTBEAT_MS = 10_000;
+
+	private final ChatStompInterceptor chatStompInterceptor;
+	private final TaskScheduler messageBrokerTaskScheduler;
+
+	public ChatWebSocketConfig(ChatStompInterceptor chatStompInterceptor,
+		@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+		this.chatStompInterceptor = chatStompInterceptor;
+		this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+	}
+
+	@Override
+	public void registerStompEndpoints(StompEndpointRegistry registry) {
+		registry.addEndpoint("/ws/chat").setAllowedOriginPatterns("*");
+	}
+
+	@Override
+	public void configureMessageBroker(MessageBrokerRegistry registry) {
+		// 하트비트로 끊어진 유휴 연결을 정리
+		registry.enableSimpleBroker("/topic", "/queue")
+			.setHeartbeatValue(new long[] {HEARTBEAT_MS, HEARTBEAT_MS})
+			.setTaskScheduler(messageBrokerTaskScheduler);
+		registry.setApplicationDestinationPrefixes("/app");
+		registry.setUserDestinationPrefix("/user");
+	}
+
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		registration.setMessageSizeLimit(MESSAGE_SIZE_LIMIT)
+			.setSendBufferSizeLimit(SEND_BUFFER_SIZE_LIMIT)
+			.setSendTimeLimit(SEND_TIME_LIMIT_MS);
+	}
+
+	@Override
+	public void configureClientInboundChannel(ChannelRegistration registration) {
+		registration.interceptors(chatStompInterceptor);
+		registration.taskExecutor().corePoolSize(8).maxPoolSize(32).queueCapacity(10_000);
+	}
+
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		registration.taskExecutor().corePoolSize(8).maxPoolSize(32).queueCapacity(10_000);
+	}
+}
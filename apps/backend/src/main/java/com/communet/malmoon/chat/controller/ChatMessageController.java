@@ -8,11 +8,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.communet.malmoon.chat.dto.request.ChatMessageReq;
 import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
+import com.communet.malmoon.chat.dto.response.ChatMessageCursorRes;
 import com.communet.malmoon.chat.dto.response.ChatMessageRes;
+import com.communet.malmoon.chat.service.ChatBroadcaster;
 import com.communet.malmoon.chat.service.ChatMessageService;
 import com.communet.malmoon.chat.service.ChatRedisService;
 
@@ -24,6 +27,7 @@ import lombok.RequiredArgsConstructor;
  * 채팅 메시지 관련 API를 처리하는 컨트롤러입니다.
  * 실시간 세션 채팅 메시지는 Redis에 저장되고,
  * 일반 채팅 메시지는 즉시 DB에 저장됩니다.
+ * 저장된 메시지는 STOMP 구독자(/topic/chat/room/{roomId})에게도 전달됩니다.
  */
 @RestController
 @RequestMapping("/api/v1/chat")
@@ -33,6 +37,7 @@ public class ChatMessageController {
 
 	private final ChatRedisService chatRedisService;
 	private final ChatMessageService chatMessageService;
+	private final ChatBroadcaster chatBroadcaster;
 
 	/**
 	 * 세션 기반 채팅 메시지를 Redis에 임시 저장합니다.
@@ -43,7 +48,9 @@ public class ChatMessageController {
 	@Operation(summary = "세션 채팅 메시지 저장", description = "LiveKit 세션 중 채팅 메시지를 Redis에 임시 저장합니다.")
 	@PostMapping("/session/message")
 	public ResponseEntity<String> saveMessageRedis(@RequestBody ChatSessionMessageReq request) {
-		chatRedisService.saveToRedis(request);
+		if (chatRedisService.saveToRedis(request)) {
+			chatBroadcaster.publish(ChatMessageRes.from(request));
+		}
 		return ResponseEntity.ok("메시지가 Redis에 저장되었습니다.");
 	}
 
@@ -57,6 +64,7 @@ public class ChatMessageController {
 	@PostMapping("/room/message")
 	public ResponseEntity<ChatMessageRes> saveMessageToDb(@RequestBody ChatMessageReq request) {
 		ChatMessageRes response = chatMessageService.saveToDatabase(request);
+		chatBroadcaster.publish(response);
 		return ResponseEntity.ok(response);
 	}
 
@@ -66,9 +74,26 @@ public class ChatMessageController {
 	 * @param roomId 조회할 채팅방 ID
 	 * @return 해당 채팅방의 메시지 리스트
 	 */
-	@Operation(summary = "채팅 메시지 조회", description = "채팅방 ID를 기준으로 메시지를 시간순 조회합니다.")
+	@Operation(summary = "채팅 메시지 조회", description = "채팅방 ID를 기준으로 메시지를 시간순 조회합니다. 전체 메시지를 반환하므로 /room/{roomId}/messages/cursor 사용을 권장합니다.", deprecated = true)
 	@GetMapping("/room/{roomId}/messages")
 	public ResponseEntity<List<ChatMessageRes>> getMessages(@PathVariable(name = "roomId") Long roomId) {
 		return ResponseEntity.ok(chatMessageService.getMessagesByRoomId(roomId));
 	}
+
+	/**
+	 * 채팅방 대화 기록을 최신 메시지부터 커서 기반으로 조회합니다.
+	 * 전체 개수를 계산하지 않으며, 응답의 nextCursor로 더 오래된 메시지를 요청합니다.
+	 *
+	 * @param roomId 조회할 채팅방 ID
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+	 * @param size 조회 개수 (기본 50, 최대 100)
+	 * @return 커서 이전의 메시지 목록(오래된 순)과 다음 커서
+	 */
+	@Operation(summary = "채팅 대화 기록 커서 조회", description = "sent_at, message_id 기준 keyset 페이지네이션으로 최신 메시지부터 조회합니다. 세션 채팅방은 아직 DB에 저장되지 않은 메시지도 포함합니다.")
+	@GetMapping("/room/{roomId}/messages/cursor")
+	public ResponseEntity<ChatMessageCursorRes> getMessageHistory(@PathVariable(name = "roomId") Long roomId,
+		@RequestParam(name = "cursor", required = false) String cursor,
+		@RequestParam(name = "size", defaultValue = "0") int size) {
+		return ResponseEntity.ok(chatMessageService.getMessageHistory(roomId, cursor, size));
+	}
 }
@@ -105,6 +105,21 @@ public class ChatRoomController {
 		return ResponseEntity.ok().build();
 	}
 
+	/**
+	 * 채팅방의 안 읽은 메시지 수를 0으로 초기화합니다.
+	 *
+	 * @param roomId 읽음 처리할 채팅방 ID
+	 * @param member 현재 로그인한 사용자 정보
+	 * @return 200 OK
+	 */
+	@Operation(summary = "채팅방 읽음 처리", description = "채팅방의 안 읽은 메시지 수를 0으로 초기화합니다.")
+	@PatchMapping("/{roomId}/read")
+	public ResponseEntity<Void> markAsRead(@PathVariable("roomId") Long roomId,
+		@Parameter(hidden = true) @CurrentMember Member member) {
+		chatRoomService.markAsRead(roomId, member.getMemberId());
+		return ResponseEntity.ok().build();
+	}
+
 	@Operation(summary = "채팅방 나가기", description = "사용자가 채팅방에서 나갑니다.")
 	@PatchMapping("/{roomId}/leave")
 	public ResponseEntity<Void> leaveRoom(@PathVariable Long roomId,
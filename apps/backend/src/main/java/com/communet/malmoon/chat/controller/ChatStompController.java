@@ -0,0 +1,107 @@
+package com.communet.malmoon.chat.controller;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import com.communet.malmoon.chat.config.ChatStompInterceptor;
+import com.communet.malmoon.chat.dto.request.ChatMessageReq;
+import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
+import com.communet.malmoon.chat.dto.response.ChatMessageRes;
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+import com.communet.malmoon.chat.repository.ChatRoomRepository;
+import com.communet.malmoon.chat.service.ChatBroadcaster;
+import com.communet.malmoon.chat.service.ChatMessageService;
+import com.communet.malmoon.chat.service.ChatRedisService;
+import com.communet.malmoon.common.exception.ApiErrorRes;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 채팅 메시지 수신 컨트롤러입니다.
+ * 저장은 REST API 와 동일하게 {@link ChatMessageService}(1:1, 그룹) / {@link ChatRedisService}(세션)를 사용하고,
+ * 저장 후 {@link ChatBroadcaster}로 /topic/chat/room/{roomId} 구독자에게 전달합니다.
+ * 보낸 사람과 보낸 시간은 클라이언트 값이 아닌 연결 사용자와 서버 시간으로 설정합니다.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class ChatStompController {
+
+	private static final String SESSION_IDS = "chat.sessionIds";
+
+	private final ChatMessageService chatMessageService;
+	private final ChatRedisService chatRedisService;
+	private final ChatRoomRepository chatRoomRepository;
+	private final ChatBroadcaster chatBroadcaster;
+
+	/**
+	 * 1:1, 그룹 채팅 메시지를 DB에 저장하고 전달합니다.
+	 */
+	@MessageMapping("/chat/room/{roomId}")
+	public void sendRoomMessage(@DestinationVariable("roomId") Long roomId, @Payload ChatMessageReq payload,
+		Principal principal) {
+		ChatMessageRes saved = chatMessageService.saveToDatabase(ChatMessageReq.builder()
+			.roomId(roomId)
+			.senderId(ChatStompInterceptor.memberId(principal))
+			.content(payload.getContent())
+			.messageType(payload.getMessageType())
+			.sendAt(LocalDateTime.now())
+			.build());
+		chatBroadcaster.publish(saved);
+	}
+
+	/**
+	 * 세션 채팅 메시지를 Redis에 저장하고 전달합니다. 세션 ID는 채팅방 정보로 결정합니다.
+	 */
+	@MessageMapping("/chat/session/{roomId}")
+	public void sendSessionMessage(@DestinationVariable("roomId") Long roomId, @Payload ChatMessageReq payload,
+		Principal principal, SimpMessageHeaderAccessor headerAccessor) {
+		ChatSessionMessageReq request = ChatSessionMessageReq.builder()
+			.sessionId(sessionId(roomId, headerAccessor))
+			.roomId(roomId)
+			.senderId(ChatStompInterceptor.memberId(principal))
+			.content(payload.getContent())
+			.messageType(payload.getMessageType())
+			.sendAt(LocalDateTime.now())
+			.build();
+		if (chatRedisService.saveToRedis(request)) {
+			chatBroadcaster.publish(ChatMessageRes.from(request));
+		}
+	}
+
+	@MessageExceptionHandler(ChatException.class)
+	@SendToUser(destinations = "/queue/errors", broadcast = false)
+	public ApiErrorRes handleChatException(ChatException e) {
+		log.warn("ChatException(STOMP): {}", e.getMessage());
+		return new ApiErrorRes(e.getErrorCode().getStatus(), e.getErrorCode().getMessage());
+	}
+
+	/**
+	 * 채팅방의 세션 ID를 연결(STOMP 세션)마다 채팅방별 1번만 조회합니다.
+	 */
+	private String sessionId(Long roomId, SimpMessageHeaderAccessor headerAccessor) {
+		Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+		@SuppressWarnings("unchecked")
+		Map<Long, String> sessionIds = attributes == null ? new HashMap<>()
+			: (Map<Long, String>)attributes.computeIfAbsent(SESSION_IDS, key -> new ConcurrentHashMap<>());
+		String sessionId = sessionIds.computeIfAbsent(roomId,
+			id -> chatRoomRepository.findSessionIdByRoomId(id).orElse(null));
+		if (sessionId == null) {
+			throw new ChatException(ChatErrorCode.INVALID_ROOM_ID);
+		}
+		return sessionId;
+	}
+}
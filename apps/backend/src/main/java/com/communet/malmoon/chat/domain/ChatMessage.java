@@ -7,15 +7,22 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "chat_message")
+@Table(name = "chat_message", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_chat_message_source_key", columnNames = "source_key")
+}, indexes = {
+	// 채팅방 대화 기록 조회(sent_at, message_id 내림차순 seek)를 인덱스 범위 스캔으로 처리
+	@Index(name = "idx_chat_message_room_seek", columnList = "roomId, sent_at, message_id")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -42,6 +49,13 @@ public class ChatMessage {
 	@Column(name = "sent_at", nullable = false)
 	private LocalDateTime sentAt;
 
+	/**
+	 * Redis 등 외부 저장소에서 옮겨 온 메시지의 원본 식별자 (예: session:{sessionId}:{index}).
+	 * 재시도/재개 시 같은 메시지가 중복 저장되지 않도록 유니크 제약을 둡니다. 직접 저장한 메시지는 null.
+	 */
+	@Column(name = "source_key", length = 100)
+	private String sourceKey;
+
 	@PrePersist
 	protected void onSent() {
 		if (this.sentAt == null) {
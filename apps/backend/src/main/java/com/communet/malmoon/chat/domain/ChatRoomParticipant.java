@@ -2,11 +2,14 @@ package com.communet.malmoon.chat.domain;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -15,7 +18,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "chat_room_participant")
+@Table(name = "chat_room_participant", indexes = {
+	// 내 채팅방 목록 조회 (member_id, left_at IS NULL)
+	@Index(name = "idx_chat_room_participant_member", columnList = "member_id, left_at")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -38,6 +44,13 @@ public class ChatRoomParticipant {
 	@Column(name = "left_at")
 	private LocalDateTime leftAt;
 
+	/**
+	 * 마지막으로 읽은 이후 다른 참여자가 보낸 메시지 수 (메시지 저장 시 증가, 읽음 처리 시 0)
+	 */
+	@ColumnDefault("0")
+	@Column(name = "unread_count", nullable = false)
+	private int unreadCount;
+
 	@PrePersist
 	protected void onJoin() {
 		if (this.joinedAt == null) {
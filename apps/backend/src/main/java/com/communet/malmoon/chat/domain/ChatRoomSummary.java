@@ -0,0 +1,36 @@
+package com.communet.malmoon.chat.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방 목록 조회용 요약 (읽기 모델).
+ * 메시지 저장 시마다 갱신되며, 채팅방 목록은 메시지 테이블을 조회하지 않고 이 테이블만 조인합니다.
+ * 갱신은 {@link com.communet.malmoon.chat.repository.ChatRoomSummaryRepository#upsertLastMessage}로만 수행합니다.
+ */
+@Entity
+@Table(name = "chat_room_summary")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ChatRoomSummary {
+
+	@Id
+	@Column(name = "room_id")
+	private Long roomId;
+
+	@Column(name = "last_message", columnDefinition = "TEXT")
+	private String lastMessage;
+
+	@Column(name = "last_message_at")
+	private LocalDateTime lastMessageAt;
+}
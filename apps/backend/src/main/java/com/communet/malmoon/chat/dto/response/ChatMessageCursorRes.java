@@ -0,0 +1,29 @@
+package com.communet.malmoon.chat.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 대화 기록 커서(keyset) 조회 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "채팅 대화 기록 커서 조회 응답 DTO")
+public class ChatMessageCursorRes {
+
+	@Schema(description = "메시지 목록 (오래된 순). 아직 DB에 저장되지 않은 세션 메시지는 messageId 가 null")
+	private List<ChatMessageRes> content;
+
+	@Schema(description = "이전(더 오래된) 메시지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNS0wOC0wNVQxMDozMDowMF8xMjM")
+	private String nextCursor;
+
+	@Schema(description = "이전 메시지 존재 여부", example = "true")
+	private boolean hasNext;
+}
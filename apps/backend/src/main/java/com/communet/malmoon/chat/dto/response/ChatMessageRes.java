@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 
 import com.communet.malmoon.chat.domain.ChatMessage;
 import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
+import com.communet.malmoon.chat.repository.ChatMessageView;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,4 +34,25 @@ public class ChatMessageRes {
 			.sentAt(entity.getSentAt())
 			.build();
 	}
+
+	public static ChatMessageRes from(ChatMessageView view) {
+		return ChatMessageRes.builder()
+			.messageId(view.getMessageId())
+			.roomId(view.getRoomId())
+			.senderId(view.getSenderId())
+			.content(view.getContent())
+			.messageType(view.getMessageType())
+			.sentAt(view.getSentAt())
+			.build();
+	}
+
+	public static ChatMessageRes from(ChatSessionMessageReq pending) {
+		return ChatMessageRes.builder()
+			.roomId(pending.getRoomId())
+			.senderId(pending.getSenderId())
+			.content(pending.getContent())
+			.messageType(pending.getMessageType())
+			.sentAt(pending.getSendAt())
+			.build();
+	}
 }
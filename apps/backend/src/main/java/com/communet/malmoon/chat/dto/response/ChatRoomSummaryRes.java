@@ -3,6 +3,7 @@ package com.communet.malmoon.chat.dto.response;
 import java.time.LocalDateTime;
 
 import com.communet.malmoon.chat.domain.RoomType;
+import com.communet.malmoon.chat.repository.ChatRoomSummaryView;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,4 +20,16 @@ public class ChatRoomSummaryRes {
 	private RoomType roomType;
 	private String lastMessage;
 	private LocalDateTime lastMessageTime;
+	private int unreadCount;
+
+	public static ChatRoomSummaryRes from(ChatRoomSummaryView view) {
+		return ChatRoomSummaryRes.builder()
+			.roomId(view.getRoomId())
+			.roomName(view.getRoomName())
+			.roomType(view.getRoomType())
+			.lastMessage(view.getLastMessage() != null ? view.getLastMessage() : "")
+			.lastMessageTime(view.getLastMessageTime())
+			.unreadCount(view.getUnreadCount())
+			.build();
+	}
 }
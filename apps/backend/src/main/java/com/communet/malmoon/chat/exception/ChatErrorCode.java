@@ -18,7 +18,10 @@ public enum ChatErrorCode {
 	NOT_ENOUGH_PARTICIPANTS(HttpStatus.BAD_REQUEST, "참여자는 최소 2명 이상이어야 합니다."),
 	NOT_FOUND(HttpStatus.NOT_FOUND, "대화 내용이 없습니다."),
 	UNAUTHORIZED_ACCESS(HttpStatus.NOT_FOUND, "해당 채팅방에 대한 접근 권한이 없습니다."),
-	NOT_FOUND_MEMBER(HttpStatus.NOT_FOUND, "해당 멤버 정보를 찾지 못했습니다.");
+	NOT_FOUND_MEMBER(HttpStatus.NOT_FOUND, "해당 멤버 정보를 찾지 못했습니다."),
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+	INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "인증 정보가 유효하지 않습니다."),
+	INVALID_DESTINATION(HttpStatus.BAD_REQUEST, "지원하지 않는 채팅 경로입니다.");
 
 	private final HttpStatus status;
 	private final String message;
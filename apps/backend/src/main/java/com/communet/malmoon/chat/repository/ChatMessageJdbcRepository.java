@@ -0,0 +1,47 @@
+package com.communet.malmoon.chat.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지(chat_message)의 일괄 쓰기를 담당하는 JDBC 리포지토리입니다.
+ * IDENTITY 전략 엔티티는 Hibernate가 insert를 배치로 묶지 못하므로 JDBC batch로 저장합니다.
+ * source_key 가 이미 존재하는 행은 건너뛰어(ON CONFLICT DO NOTHING) 재시도 시에도 중복 저장되지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+	// message_type 은 @Enumerated 미지정(ORDINAL) 매핑이므로 ordinal 값으로 저장
+	private static final String INSERT_IGNORE_DUPLICATE_SQL =
+		"INSERT INTO chat_message (room_id, sender_id, message_type, content, sent_at, source_key) "
+			+ "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (source_key) DO NOTHING";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 채팅 메시지를 일괄 저장합니다. 이미 저장된 source_key 는 무시합니다.
+	 *
+	 * @param messages 저장할 메시지 (id는 DB에서 생성)
+	 */
+	public void batchInsertIgnoringDuplicates(List<ChatMessage> messages) {
+		if (messages.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT_IGNORE_DUPLICATE_SQL, messages, messages.size(), (ps, message) -> {
+			ps.setLong(1, message.getRoomId());
+			ps.setLong(2, message.getSenderId());
+			ps.setShort(3, (short)message.getMessageType().ordinal());
+			ps.setString(4, message.getContent());
+			ps.setTimestamp(5, Timestamp.valueOf(message.getSentAt()));
+			ps.setString(6, message.getSourceKey());
+		});
+	}
+}
@@ -1,7 +1,9 @@
 package com.communet.malmoon.chat.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,6 +15,21 @@ import com.communet.malmoon.chat.domain.ChatMessage;
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 	List<ChatMessage> findByRoomId(Long roomId);
 
-	@Query("SELECT m FROM ChatMessage m WHERE m.roomId = :roomId ORDER BY m.sentAt DESC")
-	ChatMessage findFirstByRoomIdOrderBySentAtDesc(@Param("roomId") Long roomId);
+	ChatMessage findFirstByRoomIdOrderBySentAtDescMessageIdDesc(Long roomId);
+
+	@Query("SELECT m.messageId AS messageId, m.roomId AS roomId, m.senderId AS senderId, m.content AS content, "
+		+ "m.messageType AS messageType, m.sentAt AS sentAt, m.sourceKey AS sourceKey "
+		+ "FROM ChatMessage m "
+		+ "WHERE m.roomId = :roomId "
+		+ "ORDER BY m.sentAt DESC, m.messageId DESC")
+	List<ChatMessageView> findLatestViews(@Param("roomId") Long roomId, Pageable pageable);
+
+	@Query("SELECT m.messageId AS messageId, m.roomId AS roomId, m.senderId AS senderId, m.content AS content, "
+		+ "m.messageType AS messageType, m.sentAt AS sentAt, m.sourceKey AS sourceKey "
+		+ "FROM ChatMessage m "
+		+ "WHERE m.roomId = :roomId "
+		+ "AND (m.sentAt < :sentAt OR (m.sentAt = :sentAt AND m.messageId < :messageId)) "
+		+ "ORDER BY m.sentAt DESC, m.messageId DESC")
+	List<ChatMessageView> findViewsBefore(@Param("roomId") Long roomId, @Param("sentAt") LocalDateTime sentAt,
+		@Param("messageId") Long messageId, Pageable pageable);
 }
@@ -0,0 +1,25 @@
+package com.communet.malmoon.chat.repository;
+
+import java.time.LocalDateTime;
+
+import com.communet.malmoon.chat.domain.ChatMessageType;
+
+/**
+ * 채팅방 대화 기록 한 행을 나타내는 조회 전용 프로젝션입니다.
+ * 엔티티 대신 필요한 컬럼만 조회합니다.
+ */
+public interface ChatMessageView {
+	Long getMessageId();
+
+	Long getRoomId();
+
+	Long getSenderId();
+
+	String getContent();
+
+	ChatMessageType getMessageType();
+
+	LocalDateTime getSentAt();
+
+	String getSourceKey();
+}
@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.communet.malmoon.chat.domain.ChatRoomParticipant;
@@ -19,6 +22,17 @@ public interface ChatRoomParticipantRepository extends JpaRepository<ChatRoomPar
 
 	boolean existsByRoomIdAndLeftAtIsNull(Long roomId);
 
+	boolean existsByRoomIdAndMemberIdAndLeftAtIsNull(Long roomId, Long memberId);
+
 	Optional<ChatRoomParticipant> findByRoomIdAndMemberId(Long roomId, Long memberId);
 
+	@Modifying
+	@Query("UPDATE ChatRoomParticipant p SET p.unreadCount = p.unreadCount + 1 "
+		+ "WHERE p.roomId = :roomId AND p.memberId <> :senderId AND p.leftAt IS NULL")
+	void incrementUnreadExcept(@Param("roomId") Long roomId, @Param("senderId") Long senderId);
+
+	@Modifying
+	@Query("UPDATE ChatRoomParticipant p SET p.unreadCount = 0 WHERE p.roomId = :roomId AND p.memberId = :memberId")
+	int resetUnread(@Param("roomId") Long roomId, @Param("memberId") Long memberId);
+
 }
@@ -24,4 +24,7 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 	Optional<ChatRoom> findOneToOneRoomByParticipants(@Param("member1") Long aLong, @Param("member2") Long aLong1);
 
 	Optional<ChatRoom> findBySessionId(String sessionId);
+
+	@Query("SELECT cr.sessionId FROM ChatRoom cr WHERE cr.roomId = :roomId")
+	Optional<String> findSessionIdByRoomId(@Param("roomId") Long roomId);
 }
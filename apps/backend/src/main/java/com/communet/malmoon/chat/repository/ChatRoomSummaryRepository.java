@@ -0,0 +1,54 @@
+package com.communet.malmoon.chat.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.communet.malmoon.chat.domain.ChatRoomSummary;
+
+@Repository
+public interface ChatRoomSummaryRepository extends JpaRepository<ChatRoomSummary, Long> {
+
+	/**
+	 * 마지막 메시지를 갱신합니다. 이미 더 최근 메시지가 기록되어 있으면 변경하지 않습니다.
+	 * (flush 등으로 과거 메시지가 나중에 저장되어도 요약이 뒤로 가지 않음)
+	 */
+	@Modifying
+	@Query(value = "INSERT INTO chat_room_summary (room_id, last_message, last_message_at) "
+		+ "VALUES (:roomId, :content, :sentAt) "
+		+ "ON CONFLICT (room_id) DO UPDATE SET last_message = EXCLUDED.last_message, "
+		+ "last_message_at = EXCLUDED.last_message_at "
+		+ "WHERE chat_room_summary.last_message_at IS NULL "
+		+ "OR chat_room_summary.last_message_at <= EXCLUDED.last_message_at", nativeQuery = true)
+	void upsertLastMessage(@Param("roomId") Long roomId, @Param("content") String content,
+		@Param("sentAt") LocalDateTime sentAt);
+
+	/**
+	 * 요약이 없는 채팅방을 기존 메시지로 채웁니다. (요약 도입 이전 데이터 보정)
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO chat_room_summary (room_id, last_message, last_message_at) "
+		+ "SELECT DISTINCT ON (m.room_id) m.room_id, m.content, m.sent_at FROM chat_message m "
+		+ "WHERE NOT EXISTS (SELECT 1 FROM chat_room_summary s WHERE s.room_id = m.room_id) "
+		+ "ORDER BY m.room_id, m.sent_at DESC, m.message_id DESC "
+		+ "ON CONFLICT (room_id) DO NOTHING", nativeQuery = true)
+	int backfillMissing();
+
+	@Query("SELECT r.roomId AS roomId, r.roomName AS roomName, r.roomType AS roomType, "
+		+ "s.lastMessage AS lastMessage, s.lastMessageAt AS lastMessageTime, p.unreadCount AS unreadCount "
+		+ "FROM ChatRoomParticipant p "
+		+ "JOIN ChatRoom r ON r.roomId = p.roomId "
+		+ "LEFT JOIN ChatRoomSummary s ON s.roomId = p.roomId "
+		+ "WHERE p.memberId = :memberId AND p.leftAt IS NULL "
+		+ "AND r.roomType IN ('ONE_TO_ONE', 'GROUP') "
+		+ "AND r.endedAt IS NULL "
+		+ "ORDER BY s.lastMessageAt DESC NULLS LAST, r.roomId DESC")
+	List<ChatRoomSummaryView> findMyRoomSummaries(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,23 @@
+package com.communet.malmoon.chat.repository;
+
+import java.time.LocalDateTime;
+
+import com.communet.malmoon.chat.domain.RoomType;
+
+/**
+ * 내 채팅방 목록 한 행을 나타내는 조회 전용 프로젝션입니다.
+ * 참여 정보, 채팅방, 채팅방 요약을 조인하여 필요한 컬럼만 조회합니다.
+ */
+public interface ChatRoomSummaryView {
+	Long getRoomId();
+
+	String getRoomName();
+
+	RoomType getRoomType();
+
+	String getLastMessage();
+
+	LocalDateTime getLastMessageTime();
+
+	int getUnreadCount();
+}
@@ -0,0 +1,99 @@
+package com.communet.malmoon.chat.service;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import com.communet.malmoon.chat.dto.response.ChatMessageRes;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 채팅 메시지를 모든 인스턴스의 구독자에게 전달합니다.
+ * 메시지는 Redis 채널(chat:broadcast)로 한 번 발행되고, 각 인스턴스는 수신한 메시지를
+ * 자신에게 연결된 /topic/chat/room/{roomId} 구독자에게 내장 브로커로 전달합니다.
+ *
+ * 발행 형식은 "{roomId}|{json}" 이며, 수신 측은 JSON 을 다시 파싱하지 않고 그대로 STOMP 본문으로 사용합니다.
+ */
+@Slf4j
+@Component
+public class ChatBroadcaster {
+
+	static final String CHANNEL = "chat:broadcast";
+	public static final String TOPIC_PREFIX = "/topic/chat/room/";
+	private static final char SEPARATOR = '|';
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final Counter publishedCounter;
+	private final Counter deliveredCounter;
+
+	public ChatBroadcaster(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+		SimpMessagingTemplate messagingTemplate, RedisMessageListenerContainer listenerContainer,
+		MeterRegistry meterRegistry) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.messagingTemplate = messagingTemplate;
+		this.publishedCounter = Counter.builder("chat.broadcast.published").register(meterRegistry);
+		this.deliveredCounter = Counter.builder("chat.broadcast.delivered")
+			.description("이 인스턴스의 내장 브로커로 전달한 메시지 수")
+			.register(meterRegistry);
+
+		listenerContainer.addMessageListener((message, pattern) -> deliver(message.getBody()), new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 메시지를 채팅방 구독자에게 발행합니다. 실패해도 저장된 메시지에는 영향이 없으며, 클라이언트는 대화 기록 조회로 보완합니다.
+	 *
+	 * @param message 저장된 채팅 메시지
+	 */
+	public void publish(ChatMessageRes message) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, message.getRoomId() + String.valueOf(SEPARATOR)
+				+ objectMapper.writeValueAsString(message));
+			publishedCounter.increment();
+		} catch (JsonProcessingException e) {
+			log.warn("[broadcast] 메시지 직렬화 실패: {}", e.getMessage());
+		} catch (Exception e) {
+			log.warn("[broadcast] 메시지 발행 실패. roomId={}, 원인={}", message.getRoomId(), e.getMessage());
+		}
+	}
+
+	void deliver(byte[] body) {
+		int separator = indexOf(body, (byte)SEPARATOR);
+		if (separator <= 0) {
+			log.warn("[broadcast] 형식이 잘못된 메시지 무시");
+			return;
+		}
+		String roomId = new String(body, 0, separator, StandardCharsets.US_ASCII);
+		byte[] payload = new byte[body.length - separator - 1];
+		System.arraycopy(body, separator + 1, payload, 0, payload.length);
+
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+		accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		accessor.setLeaveMutable(true);
+		messagingTemplate.send(TOPIC_PREFIX + roomId, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+		deliveredCounter.increment();
+	}
+
+	private static int indexOf(byte[] body, byte target) {
+		for (int i = 0; i < body.length; i++) {
+			if (body[i] == target) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,52 @@
+package com.communet.malmoon.chat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.communet.malmoon.chat.exception.ChatErrorCode;
+import com.communet.malmoon.chat.exception.ChatException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅 대화 기록 keyset 페이지네이션의 seek 키 (sent_at, message_id)입니다.
+ * 아직 DB에 저장되지 않은 세션 메시지는 message_id 가 없으므로 -(메시지 순번 + 1)을 사용합니다.
+ * 같은 sent_at 에서는 DB 메시지 뒤(더 과거)에 정렬됩니다.
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 토큰으로만 노출됩니다.
+ */
+@Getter
+@AllArgsConstructor
+class ChatCursor implements Comparable<ChatCursor> {
+
+	private static final String DELIMITER = "_";
+
+	private final LocalDateTime sentAt;
+	private final long messageId;
+
+	static ChatCursor pending(LocalDateTime sentAt, long index) {
+		return new ChatCursor(sentAt, -(index + 1));
+	}
+
+	String encode() {
+		String raw = sentAt + DELIMITER + messageId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	static ChatCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int idx = raw.lastIndexOf(DELIMITER);
+			return new ChatCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+		} catch (RuntimeException e) {
+			throw new ChatException(ChatErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	@Override
+	public int compareTo(ChatCursor other) {
+		int bySentAt = sentAt.compareTo(other.sentAt);
+		return bySentAt != 0 ? bySentAt : Long.compare(messageId, other.messageId);
+	}
+}
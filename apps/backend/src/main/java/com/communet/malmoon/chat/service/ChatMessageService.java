@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 
 import com.communet.malmoon.chat.dto.request.ChatMessageReq;
+import com.communet.malmoon.chat.dto.response.ChatMessageCursorRes;
 import com.communet.malmoon.chat.dto.response.ChatMessageRes;
 
 /**
@@ -30,6 +31,17 @@ public interface ChatMessageService {
 	 */
 	List<ChatMessageRes> getMessagesByRoomId(Long roomId);
 
+	/**
+	 * 채팅방 대화 기록을 최신 메시지부터 커서 기반으로 조회합니다.
+	 * 세션 채팅방이면 아직 DB에 저장되지 않은 Redis 메시지도 함께 병합합니다.
+	 *
+	 * @param roomId 조회할 채팅방 ID
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+	 * @param size 조회 개수
+	 * @return 커서 이전의 메시지 목록(오래된 순)과 다음 커서
+	 */
+	ChatMessageCursorRes getMessageHistory(Long roomId, String cursor, int size);
+
 	/**
 	 * 특정 채팅방의 마지막 메시지를 조회합니다.
 	 *
@@ -1,16 +1,26 @@
 package com.communet.malmoon.chat.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.communet.malmoon.chat.domain.ChatMessage;
 import com.communet.malmoon.chat.dto.request.ChatMessageReq;
+import com.communet.malmoon.chat.dto.response.ChatMessageCursorRes;
 import com.communet.malmoon.chat.dto.response.ChatMessageRes;
 import com.communet.malmoon.chat.exception.ChatErrorCode;
 import com.communet.malmoon.chat.exception.ChatException;
 import com.communet.malmoon.chat.repository.ChatMessageRepository;
+import com.communet.malmoon.chat.repository.ChatMessageView;
+import com.communet.malmoon.chat.repository.ChatRoomRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,7 +28,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ChatMessageServiceImpl implements ChatMessageService {
 
+	private static final int DEFAULT_HISTORY_SIZE = 50;
+	private static final int MAX_HISTORY_SIZE = 100;
+
 	private final ChatMessageRepository chatMessageRepository;
+	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRedisService chatRedisService;
+	private final ChatRoomSummaryUpdater chatRoomSummaryUpdater;
 
 	@Override
 	@Transactional
@@ -36,6 +52,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 			.build();
 
 		ChatMessage saved = chatMessageRepository.save(message);
+		chatRoomSummaryUpdater.onMessageSaved(saved);
 		return ChatMessageRes.from(saved);
 	}
 
@@ -51,12 +68,75 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 			.toList();
 	}
 
+	/**
+	 * (sent_at, message_id) 내림차순 keyset 조회로 커서 이전 메시지를 size + 1 건만 읽어 다음 페이지 여부를 판단합니다.
+	 * 세션 채팅방이면 Redis 의 미저장 메시지를 먼저 읽은 뒤 DB를 조회하고,
+	 * 그 사이 저장된 메시지는 source_key 로 중복 제거하여 누락/중복 없는 타임라인을 만듭니다.
+	 */
+	@Override
+	public ChatMessageCursorRes getMessageHistory(Long roomId, String cursor, int size) {
+		if (roomId == null) {
+			throw new ChatException(ChatErrorCode.INVALID_ROOM_ID);
+		}
+		int limit = size <= 0 ? DEFAULT_HISTORY_SIZE : Math.min(size, MAX_HISTORY_SIZE);
+		ChatCursor before = cursor == null || cursor.isBlank() ? null : ChatCursor.decode(cursor);
+
+		Map<String, HistoryEntry> pending = chatRoomRepository.findSessionIdByRoomId(roomId)
+			.map(sessionId -> pendingEntries(sessionId, before))
+			.orElseGet(Map::of);
+
+		Pageable page = PageRequest.of(0, limit + 1);
+		List<ChatMessageView> rows = before == null
+			? chatMessageRepository.findLatestViews(roomId, page)
+			: chatMessageRepository.findViewsBefore(roomId, before.getSentAt(), before.getMessageId(), page);
+
+		List<HistoryEntry> merged = new ArrayList<>(rows.size() + pending.size());
+		Map<String, HistoryEntry> unsaved = new HashMap<>(pending);
+		for (ChatMessageView row : rows) {
+			if (row.getSourceKey() != null) {
+				unsaved.remove(row.getSourceKey());
+			}
+			merged.add(new HistoryEntry(new ChatCursor(row.getSentAt(), row.getMessageId()), ChatMessageRes.from(row)));
+		}
+		merged.addAll(unsaved.values());
+		merged.sort(Comparator.comparing(HistoryEntry::key).reversed());
+
+		boolean hasNext = merged.size() > limit;
+		List<HistoryEntry> content = new ArrayList<>(hasNext ? merged.subList(0, limit) : merged);
+		ChatCursor oldest = content.isEmpty() ? null : content.get(content.size() - 1).key();
+		Collections.reverse(content);
+
+		return ChatMessageCursorRes.builder()
+			.content(content.stream().map(HistoryEntry::message).toList())
+			.nextCursor(hasNext ? oldest.encode() : null)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	private Map<String, HistoryEntry> pendingEntries(String sessionId, ChatCursor before) {
+		Map<String, HistoryEntry> entries = new HashMap<>();
+		chatRedisService.getPendingSessionMessages(sessionId).forEach((seq, message) -> {
+			// 보낸 시간이 없는 메시지는 DB 저장 후(저장 시각 기준) 조회됨
+			if (message.getSendAt() == null) {
+				return;
+			}
+			ChatCursor key = ChatCursor.pending(message.getSendAt(), seq);
+			if (before == null || key.compareTo(before) < 0) {
+				entries.put(ChatSessionFlusher.sourceKey(sessionId, seq), new HistoryEntry(key, ChatMessageRes.from(message)));
+			}
+		});
+		return entries;
+	}
+
 	@Override
 	public ChatMessageRes getLastMessageByRoomId(Long roomId) {
-		ChatMessage lastMessage = chatMessageRepository.findFirstByRoomIdOrderBySentAtDesc(roomId);
+		ChatMessage lastMessage = chatMessageRepository.findFirstByRoomIdOrderBySentAtDescMessageIdDesc(roomId);
 		if (lastMessage == null) {
 			throw new ChatException(ChatErrorCode.NOT_FOUND);
 		}
 		return ChatMessageRes.from(lastMessage);
 	}
+
+	private record HistoryEntry(ChatCursor key, ChatMessageRes message) {
+	}
 }
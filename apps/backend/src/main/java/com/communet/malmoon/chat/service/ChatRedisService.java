@@ -1,5 +1,7 @@
 package com.communet.malmoon.chat.service;
 
+import java.util.Map;
+
 import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
 
 /**
@@ -12,13 +14,23 @@ public interface ChatRedisService {
 	 * 세션 채팅 메시지를 Redis에 저장합니다.
 	 *
 	 * @param request Redis에 저장할 채팅 메시지 요청 DTO
+	 * @return 저장 여부 (이미 입장 기록이 있는 ENTER 메시지는 false)
 	 */
-	void saveToRedis(ChatSessionMessageReq request);
+	boolean saveToRedis(ChatSessionMessageReq request);
 
 	/**
-	 * 세션 종료 시 Redis에 임시 저장된 메시지를 DB로 저장합니다.
+	 * 세션 종료 시 Redis에 임시 저장된 메시지를 DB로 저장합니다. (비동기, 호출 즉시 반환)
 	 *
 	 * @param sessionId Redis 키로 사용되는 세션 ID
 	 */
 	void flushSessionMessagesToDb(String sessionId);
+
+	/**
+	 * 아직 DB에 저장되지 않은 세션 메시지를 조회합니다.
+	 * flush 체크포인트 이후이면서 write-behind 저장 완료 비트맵에 표시되지 않은 메시지만 반환합니다.
+	 *
+	 * @param sessionId Redis 키로 사용되는 세션 ID
+	 * @return 메시지 순번(source_key 의 번호) → 메시지 (순번 오름차순)
+	 */
+	Map<Long, ChatSessionMessageReq> getPendingSessionMessages(String sessionId);
 }
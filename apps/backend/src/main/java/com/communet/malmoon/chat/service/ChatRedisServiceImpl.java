@@ -1,17 +1,19 @@
 package com.communet.malmoon.chat.service;
 
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import com.communet.malmoon.chat.domain.ChatMessage;
 import com.communet.malmoon.chat.domain.ChatMessageType;
 import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
 import com.communet.malmoon.chat.exception.ChatErrorCode;
 import com.communet.malmoon.chat.exception.ChatException;
-import com.communet.malmoon.chat.repository.ChatMessageRepository;
+import com.communet.malmoon.common.redis.RedisScripts;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -21,7 +23,8 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 세션 채팅 메시지 Redis 적재 및 flush 책임.
  * - ENTER는 세션당 사용자별 1회만 저장(SET으로 중복 방지)
- * - flush 시 리스트와 ENTER 세트 모두 정리
+ * - 메시지는 리스트와 write-behind 스트림에 함께 기록되어 {@link ChatWriteBehindWorker}가 세션 중에도 DB로 저장
+ * - flush 는 {@link ChatSessionFlusher}에 위임하여 비동기·청크 단위로 처리 (완료 시 리스트와 ENTER 세트 모두 정리)
  * - 메시지가 하나도 없어도 예외를 던지지 않고 정상 종료
  */
 @Service
@@ -29,8 +32,51 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ChatRedisServiceImpl implements ChatRedisService {
 
+	private static final long STREAM_MAX_LEN = 1_000_000;
+
+	/**
+	 * 세션 리스트 적재와 write-behind 스트림 기록을 원자적으로 수행합니다.
+	 * 스트림 항목에는 리스트 인덱스(저장 완료 비트맵 위치)와 순번(base + 인덱스)을 함께 기록하고,
+	 * 순번을 DB의 source_key(session:{id}:{seq})로 사용합니다.
+	 * KEYS: list, stream, base / ARGV: json, sessionId, 스트림 최대 길이(근사)
+	 */
+	private static final RedisScript<Long> APPEND = new DefaultRedisScript<>("""
+		local index = redis.call('RPUSH', KEYS[1], ARGV[1]) - 1
+		local seq = tonumber(redis.call('GET', KEYS[3]) or '0') + index
+		redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[3], '*', 'session', ARGV[2], 'index', index, 'seq', seq,
+			'payload', ARGV[1])
+		return index
+		""", Long.class);
+
+	/**
+	 * 미저장 세션 메시지 조회. 리스트 끝에서 최대 ARGV[1]개 범위 안에서
+	 * flush 체크포인트 이후이고 저장 완료 비트가 꺼진 항목만 {seq, json, seq, json, ...} 으로 반환합니다.
+	 * KEYS: list, checkpoint, persisted, base / ARGV: 최대 조회 개수
+	 */
+	private static final RedisScript<List<String>> PENDING = RedisScripts.list("""
+		local len = redis.call('LLEN', KEYS[1])
+		local start = math.max(tonumber(redis.call('GET', KEYS[2]) or '0'), len - tonumber(ARGV[1]), 0)
+		local result = {}
+		if start >= len then
+			return result
+		end
+		local base = tonumber(redis.call('GET', KEYS[4]) or '0')
+		local items = redis.call('LRANGE', KEYS[1], start, len - 1)
+		for i, item in ipairs(items) do
+			local index = start + i - 1
+			if redis.call('GETBIT', KEYS[3], index) == 0 then
+				table.insert(result, tostring(base + index))
+				table.insert(result, item)
+			end
+		end
+		return result
+		""");
+
+	/** write-behind 가 밀려 있어도 한 번에 읽는 미저장 메시지 수의 상한 */
+	private static final int MAX_PENDING_SCAN = 1_000;
+
 	private final RedisTemplate<String, String> redisTemplate;
-	private final ChatMessageRepository chatMessageRepository;
+	private final ChatSessionFlusher chatSessionFlusher;
 	private final ObjectMapper objectMapper;
 
 	private String getRedisKey(String sessionId) {
@@ -42,7 +88,7 @@ public class ChatRedisServiceImpl implements ChatRedisService {
 	}
 
 	@Override
-	public void saveToRedis(ChatSessionMessageReq request) {
+	public boolean saveToRedis(ChatSessionMessageReq request) {
 		try {
 			final String sessionId = String.valueOf(request.getSessionId());
 			final String redisKey = getRedisKey(sessionId);
@@ -53,58 +99,48 @@ public class ChatRedisServiceImpl implements ChatRedisService {
 				if (added == null || added == 0) {
 					// 이미 입장 기록이 있음 → 저장 스킵
 					log.debug("ENTER 중복 스킵: sessionId={}, senderId={}", sessionId, request.getSenderId());
-					return;
+					return false;
 				}
 			}
 			String json = objectMapper.writeValueAsString(request);
-			redisTemplate.opsForList().rightPush(redisKey, json);
+			redisTemplate.execute(APPEND,
+				List.of(redisKey, ChatWriteBehindWorker.STREAM_KEY, ChatSessionFlusher.baseKey(sessionId)),
+				json, sessionId, String.valueOf(STREAM_MAX_LEN));
+			return true;
 		} catch (JsonProcessingException e) {
 			log.error("Redis 저장 실패: {}", e.getMessage());
 			throw new ChatException(ChatErrorCode.REDIS_SAVE_FAILED);
 		}
 	}
 
+	/**
+	 * 세션 메시지 flush 를 비동기로 요청하고 즉시 반환합니다.
+	 * 대부분은 write-behind 로 이미 저장되어 있으므로, {@link ChatSessionFlusher}는 남은 메시지만 저장하고 키를 정리합니다.
+	 */
 	@Override
 	public void flushSessionMessagesToDb(String sessionId) {
-		String listKey = getRedisKey(sessionId);
-		String enterKey = getEnteredSetKey(sessionId);
-
-		List<String> messages = redisTemplate.opsForList().range(listKey, 0, -1);
+		chatSessionFlusher.requestFlush(sessionId);
+	}
 
-		if (messages == null || messages.isEmpty()) {
-			log.info("[flush] 세션 {}: 저장할 메시지가 없어 키만 정리합니다.", sessionId);
-			redisTemplate.delete(listKey);
-			redisTemplate.delete(enterKey);
-			return;
+	@Override
+	public Map<Long, ChatSessionMessageReq> getPendingSessionMessages(String sessionId) {
+		List<String> result = redisTemplate.execute(PENDING,
+			List.of(getRedisKey(sessionId), ChatSessionFlusher.checkpointKey(sessionId),
+				ChatWriteBehindWorker.persistedKey(sessionId), ChatSessionFlusher.baseKey(sessionId)),
+			String.valueOf(MAX_PENDING_SCAN));
+		if (result == null || result.isEmpty()) {
+			return Map.of();
 		}
 
-		List<ChatMessage> chatMessages = new ArrayList<>();
-		for (String json : messages) {
+		Map<Long, ChatSessionMessageReq> pending = new LinkedHashMap<>();
+		for (int i = 0; i + 1 < result.size(); i += 2) {
 			try {
-				ChatSessionMessageReq request = objectMapper.readValue(json, ChatSessionMessageReq.class);
-				ChatMessage message = ChatMessage.builder()
-					.roomId(request.getRoomId())
-					.senderId(request.getSenderId())
-					.content(request.getContent())
-					.messageType(request.getMessageType())
-					.sentAt(request.getSendAt())
-					.build();
-				chatMessages.add(message);
+				ChatSessionMessageReq message = objectMapper.readValue(result.get(i + 1), ChatSessionMessageReq.class);
+				pending.put(Long.valueOf(result.get(i)), message);
 			} catch (JsonProcessingException e) {
 				log.warn("Redis → 객체 변환 실패: {}", e.getMessage());
-				continue;
 			}
 		}
-
-		try {
-			chatMessageRepository.saveAll(chatMessages);
-			log.info("[flush] Redis → DB 저장 완료 ({}개) [sessionId={}]", chatMessages.size(), sessionId);
-
-			redisTemplate.delete(listKey);
-			redisTemplate.delete(enterKey);
-		} catch (Exception e) {
-			log.error("DB 저장 실패: {}", e.getMessage());
-			throw new ChatException(ChatErrorCode.DB_SAVE_FAILED);
-		}
+		return pending;
 	}
 }
@@ -47,6 +47,14 @@ public interface ChatRoomService {
 	 */
 	List<ChatRoomSummaryRes> getMyChatRooms(Long memberId);
 
+	/**
+	 * 채팅방의 안 읽은 메시지 수를 0으로 초기화합니다.
+	 *
+	 * @param roomId 채팅방 ID
+	 * @param memberId 읽음 처리할 사용자 ID
+	 */
+	void markAsRead(Long roomId, Long memberId);
+
 	/**
 	 * 채팅방 이름을 수정합니다.
 	 *
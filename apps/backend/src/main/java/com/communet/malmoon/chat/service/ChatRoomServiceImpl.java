@@ -4,7 +4,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -26,6 +25,7 @@ import com.communet.malmoon.chat.exception.ChatException;
 import com.communet.malmoon.chat.repository.ChatMessageRepository;
 import com.communet.malmoon.chat.repository.ChatRoomParticipantRepository;
 import com.communet.malmoon.chat.repository.ChatRoomRepository;
+import com.communet.malmoon.chat.repository.ChatRoomSummaryRepository;
 import com.communet.malmoon.member.domain.Member;
 import com.communet.malmoon.member.repository.MemberRepository;
 import com.communet.malmoon.member.service.MemberService;
@@ -41,6 +41,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomParticipantRepository participantRepository;
 	private final ChatMessageRepository chatMessageRepository;
+	private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+	private final ChatRoomSummaryUpdater chatRoomSummaryUpdater;
 
 	@Override
 	@Transactional
@@ -181,37 +183,24 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 		}
 	}
 
+	/**
+	 * 참여 정보, 채팅방, 채팅방 요약을 한 번의 조인 쿼리로 조회합니다. (최근 메시지 순)
+	 */
 	@Override
 	public List<ChatRoomSummaryRes> getMyChatRooms(Long memberId) {
-		List<ChatRoomParticipant> participations = participantRepository.findByMemberIdAndLeftAtIsNull(memberId);
-
-		return participations.stream()
-			.map(participant -> {
-				Long roomId = participant.getRoomId();
-				ChatRoom room = chatRoomRepository.findById(roomId)
-					.orElseThrow(() -> new ChatException(ChatErrorCode.INVALID_ROOM_ID));
-
-				if (room.getRoomType() != RoomType.ONE_TO_ONE && room.getRoomType() != RoomType.GROUP) {
-					return null;
-				}
-
-				if (room.getEndedAt() != null)
-					return null;
-
-				ChatMessage lastMessage = chatMessageRepository.findFirstByRoomIdOrderBySentAtDesc(roomId);
-
-				return ChatRoomSummaryRes.builder()
-					.roomId(room.getRoomId())
-					.roomName(room.getRoomName())
-					.roomType(room.getRoomType())
-					.lastMessage(lastMessage != null ? lastMessage.getContent() : "")
-					.lastMessageTime(lastMessage != null ? lastMessage.getSentAt() : null)
-					.build();
-			})
-			.filter(Objects::nonNull)
+		return chatRoomSummaryRepository.findMyRoomSummaries(memberId).stream()
+			.map(ChatRoomSummaryRes::from)
 			.toList();
 	}
 
+	@Override
+	@Transactional
+	public void markAsRead(Long roomId, Long memberId) {
+		if (participantRepository.resetUnread(roomId, memberId) == 0) {
+			throw new ChatException(ChatErrorCode.UNAUTHORIZED_ACCESS);
+		}
+	}
+
 	@Override
 	@Transactional
 	public void updateRoomName(Long roomId, Long memberId, String newName) {
@@ -253,6 +242,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 			.build();
 
 		chatMessageRepository.save(leaveMessage);
+		chatRoomSummaryUpdater.onMessageSaved(leaveMessage);
 		participant.setLeftAt();
 		participantRepository.save(participant);
 
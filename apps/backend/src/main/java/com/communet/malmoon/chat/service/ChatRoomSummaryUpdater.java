@@ -0,0 +1,75 @@
+package com.communet.malmoon.chat.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.repository.ChatRoomParticipantRepository;
+import com.communet.malmoon.chat.repository.ChatRoomSummaryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 목록용 요약(마지막 메시지, 마지막 시간, 참여자별 안 읽은 수)을 메시지 저장 시점에 갱신합니다.
+ * - 일반 메시지/나가기 메시지: 마지막 메시지 갱신 + 보낸 사람을 제외한 참여자의 안 읽은 수 증가
+ * - 세션 메시지(write-behind, flush): 채팅방별 가장 최근 메시지로 마지막 메시지만 갱신
+ *   (세션 중 양쪽 모두 화면에서 실시간으로 확인하므로 안 읽은 수는 증가시키지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSummaryUpdater {
+
+	private static final Comparator<ChatMessage> BY_SENT_AT = Comparator.comparing(ChatMessage::getSentAt);
+
+	private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+	private final ChatRoomParticipantRepository participantRepository;
+
+	/**
+	 * 일반 채팅 메시지 저장 후 호출합니다.
+	 *
+	 * @param message 저장된 메시지
+	 */
+	@Transactional
+	public void onMessageSaved(ChatMessage message) {
+		chatRoomSummaryRepository.upsertLastMessage(message.getRoomId(), message.getContent(), message.getSentAt());
+		participantRepository.incrementUnreadExcept(message.getRoomId(), message.getSenderId());
+	}
+
+	/**
+	 * 세션 메시지 일괄 저장 후 호출합니다. 채팅방마다 1번만 갱신합니다.
+	 *
+	 * @param messages 저장된 메시지 묶음
+	 */
+	@Transactional
+	public void onMessagesFlushed(List<ChatMessage> messages) {
+		Map<Long, ChatMessage> latestByRoom = messages.stream()
+			.collect(Collectors.toMap(ChatMessage::getRoomId, m -> m, BinaryOperator.maxBy(BY_SENT_AT)));
+		latestByRoom.values().forEach(latest ->
+			chatRoomSummaryRepository.upsertLastMessage(latest.getRoomId(), latest.getContent(), latest.getSentAt()));
+	}
+
+	/**
+	 * 요약 도입 이전에 생성된 채팅방의 요약을 채웁니다. 이미 요약이 있는 채팅방은 건드리지 않습니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		try {
+			int filled = chatRoomSummaryRepository.backfillMissing();
+			if (filled > 0) {
+				log.info("[chat-summary] 기존 채팅방 요약 {}건 생성", filled);
+			}
+		} catch (Exception e) {
+			log.warn("[chat-summary] 채팅방 요약 보정 실패: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,245 @@
+package com.communet.malmoon.chat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
+import com.communet.malmoon.chat.repository.ChatMessageJdbcRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 채팅 메시지를 Redis 리스트에서 DB로 옮기는 스트리밍 flusher.
+ * - 리스트 전체를 한 번에 읽지 않고 CHUNK_SIZE 단위로 LRANGE 하여 JDBC batch 로 저장
+ * - 저장한 위치(리스트 인덱스)를 Redis 체크포인트에 기록하여 중단 시 이어서 처리
+ * - 각 메시지는 source_key(session:{sessionId}:{순번})로 저장되어, 체크포인트 기록 전에 중단되어도 중복 저장되지 않음
+ *   순번 = 이전에 정리된 메시지 수(base) + 리스트 인덱스 이므로, 정리 후 늦게 도착해 인덱스 0부터 다시 쌓인 메시지도 키가 겹치지 않음
+ * - 세션 중 write-behind 로 이미 저장된 연속 구간(저장 완료 비트맵)은 읽지 않고 건너뜀
+ * - 요청 스레드가 아닌 전용 스레드 풀에서 실행되며, 대기 목록에 남은 세션은 주기 작업이 다시 처리
+ */
+@Slf4j
+@Component
+public class ChatSessionFlusher {
+
+	static final int CHUNK_SIZE = 500;
+	static final String PENDING_KEY = "chat:flush:pending";
+	private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+	// 정리 후 늦게 도착하는 메시지는 세션 종료 직후에만 생기므로 base 는 하루 동안만 보관
+	private static final Duration BASE_TTL = Duration.ofDays(1);
+
+	/**
+	 * 체크포인트 이후로 새 메시지가 없을 때만 세션 키를 모두 정리합니다.
+	 * 삭제하는 리스트 길이만큼 base 를 올려, 이후 다시 쌓이는 메시지의 순번이 이어지도록 합니다.
+	 * KEYS: list, entered, checkpoint, pending, persisted, base / ARGV: 처리한 메시지 수, sessionId, base TTL(초)
+	 */
+	private static final RedisScript<Long> FINISH = new DefaultRedisScript<>("""
+		local len = redis.call('LLEN', KEYS[1])
+		if len > tonumber(ARGV[1]) then
+			return 0
+		end
+		redis.call('INCRBY', KEYS[6], len)
+		redis.call('EXPIRE', KEYS[6], ARGV[3])
+		redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[5])
+		redis.call('SREM', KEYS[4], ARGV[2])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+	private final ObjectMapper objectMapper;
+	private final ChatRoomSummaryUpdater chatRoomSummaryUpdater;
+	private final ThreadPoolTaskExecutor executor;
+
+	public ChatSessionFlusher(StringRedisTemplate redisTemplate, ChatMessageJdbcRepository chatMessageJdbcRepository,
+		ObjectMapper objectMapper, ChatRoomSummaryUpdater chatRoomSummaryUpdater) {
+		this.redisTemplate = redisTemplate;
+		this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+		this.objectMapper = objectMapper;
+		this.chatRoomSummaryUpdater = chatRoomSummaryUpdater;
+		this.executor = new ThreadPoolTaskExecutor();
+		this.executor.setCorePoolSize(2);
+		this.executor.setMaxPoolSize(4);
+		this.executor.setQueueCapacity(200);
+		this.executor.setThreadNamePrefix("chat-flush-");
+		this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		this.executor.setWaitForTasksToCompleteOnShutdown(true);
+		this.executor.setAwaitTerminationSeconds(30);
+		this.executor.initialize();
+	}
+
+	static String messagesKey(String sessionId) {
+		return "chat:session:" + sessionId + ":messages";
+	}
+
+	static String enteredKey(String sessionId) {
+		return "chat:session:" + sessionId + ":entered";
+	}
+
+	static String checkpointKey(String sessionId) {
+		return "chat:session:" + sessionId + ":flushed";
+	}
+
+	/**
+	 * 이전에 정리(FINISH)된 세션 메시지 수. 리스트가 삭제되어도 초기화되지 않음
+	 */
+	static String baseKey(String sessionId) {
+		return "chat:session:" + sessionId + ":base";
+	}
+
+	/**
+	 * 세션 메시지의 DB source_key
+	 *
+	 * @param seq 메시지 순번 (base + 리스트 인덱스)
+	 */
+	static String sourceKey(String sessionId, long seq) {
+		return "session:" + sessionId + ":" + seq;
+	}
+
+	private static String lockKey(String sessionId) {
+		return "chat:flush:lock:" + sessionId;
+	}
+
+	/**
+	 * 세션을 flush 대기 목록에 등록하고 비동기로 flush 를 시작합니다. 즉시 반환합니다.
+	 *
+	 * @param sessionId 세션 ID
+	 */
+	public void requestFlush(String sessionId) {
+		redisTemplate.opsForSet().add(PENDING_KEY, sessionId);
+		submit(sessionId);
+	}
+
+	/**
+	 * 대기 목록에 남아 있는 세션(서버 중단, 큐 거절, DB 오류 등)을 다시 flush 합니다.
+	 * 다른 인스턴스가 처리 중인 세션은 잠금으로 건너뜁니다.
+	 */
+	@Scheduled(fixedDelay = 60_000, initialDelay = 30_000)
+	public void resumePending() {
+		Set<String> pending = redisTemplate.opsForSet().members(PENDING_KEY);
+		if (pending == null || pending.isEmpty()) {
+			return;
+		}
+		log.info("[flush] 미완료 세션 {}개 재처리", pending.size());
+		pending.forEach(this::submit);
+	}
+
+	private void submit(String sessionId) {
+		try {
+			executor.execute(() -> flush(sessionId));
+		} catch (TaskRejectedException e) {
+			log.warn("[flush] 작업 큐가 가득 차 다음 주기에 처리합니다. sessionId={}", sessionId);
+		}
+	}
+
+	/**
+	 * 세션 메시지를 체크포인트부터 끝까지 청크 단위로 저장합니다.
+	 *
+	 * @param sessionId 세션 ID
+	 * @return 이번 실행에서 저장을 시도한 메시지 수 (다른 인스턴스가 처리 중이면 -1)
+	 */
+	int flush(String sessionId) {
+		String lockKey = lockKey(sessionId);
+		if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "1", LOCK_TTL))) {
+			log.debug("[flush] 다른 작업이 처리 중인 세션입니다. sessionId={}", sessionId);
+			return -1;
+		}
+
+		String listKey = messagesKey(sessionId);
+		String checkpointKey = checkpointKey(sessionId);
+		int flushed = 0;
+		try {
+			String checkpoint = redisTemplate.opsForValue().get(checkpointKey);
+			long offset = Math.max(checkpoint == null ? 0 : Long.parseLong(checkpoint), persistedPrefix(sessionId));
+			// base 는 FINISH 에서만 바뀌고 FINISH 는 잠금을 가진 이 작업만 실행하므로 한 번만 읽음
+			String base = redisTemplate.opsForValue().get(baseKey(sessionId));
+			long seqBase = base == null ? 0 : Long.parseLong(base);
+
+			while (true) {
+				List<String> chunk = redisTemplate.opsForList().range(listKey, offset, offset + CHUNK_SIZE - 1);
+				if (chunk == null || chunk.isEmpty()) {
+					if (finish(sessionId, offset)) {
+						break;
+					}
+					continue;
+				}
+
+				List<ChatMessage> messages = toMessages(sessionId, seqBase + offset, chunk);
+				chatMessageJdbcRepository.batchInsertIgnoringDuplicates(messages);
+				chatRoomSummaryUpdater.onMessagesFlushed(messages);
+				offset += chunk.size();
+				flushed += chunk.size();
+				redisTemplate.opsForValue().set(checkpointKey, String.valueOf(offset));
+				redisTemplate.expire(lockKey, LOCK_TTL);
+			}
+
+			log.info("[flush] Redis → DB 저장 완료 ({}개) [sessionId={}]", flushed, sessionId);
+		} catch (Exception e) {
+			// 체크포인트와 대기 목록이 남아 있으므로 다음 주기에 이어서 처리
+			log.error("[flush] 저장 실패, 다음 주기에 재시도합니다. sessionId={}, 원인={}", sessionId, e.getMessage());
+		} finally {
+			redisTemplate.delete(lockKey);
+		}
+		return flushed;
+	}
+
+	/**
+	 * write-behind 로 0번부터 연속해서 저장된 메시지 수 (첫 번째 0 비트 위치)
+	 */
+	private long persistedPrefix(String sessionId) {
+		byte[] key = ChatWriteBehindWorker.persistedKey(sessionId).getBytes(StandardCharsets.UTF_8);
+		Long position = redisTemplate.execute((RedisCallback<Long>)connection ->
+			connection.stringCommands().bitPos(key, false));
+		return position == null || position < 0 ? 0 : position;
+	}
+
+	private boolean finish(String sessionId, long offset) {
+		Long done = redisTemplate.execute(FINISH,
+			List.of(messagesKey(sessionId), enteredKey(sessionId), checkpointKey(sessionId), PENDING_KEY,
+				ChatWriteBehindWorker.persistedKey(sessionId), baseKey(sessionId)),
+			String.valueOf(offset), sessionId, String.valueOf(BASE_TTL.getSeconds()));
+		return done != null && done == 1L;
+	}
+
+	private List<ChatMessage> toMessages(String sessionId, long firstSeq, List<String> chunk) {
+		List<ChatMessage> messages = new ArrayList<>(chunk.size());
+		for (int i = 0; i < chunk.size(); i++) {
+			try {
+				ChatSessionMessageReq request = objectMapper.readValue(chunk.get(i), ChatSessionMessageReq.class);
+				messages.add(ChatMessage.builder()
+					.roomId(request.getRoomId())
+					.senderId(request.getSenderId())
+					.content(request.getContent())
+					.messageType(request.getMessageType())
+					.sentAt(request.getSendAt() != null ? request.getSendAt() : LocalDateTime.now())
+					.sourceKey(sourceKey(sessionId, firstSeq + i))
+					.build());
+			} catch (JsonProcessingException e) {
+				log.warn("Redis → 객체 변환 실패: {}", e.getMessage());
+			}
+		}
+		return messages;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,214 @@
+package com.communet.malmoon.chat.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
+import com.communet.malmoon.chat.repository.ChatMessageJdbcRepository;
+import com.communet.malmoon.common.redis.RedisStreams;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 채팅 메시지 write-behind 워커.
+ * 메시지는 저장 시 Redis 리스트와 함께 스트림(chat:session:stream)에도 기록되며,
+ * 이 워커가 consumer group 으로 스트림을 읽어 주기적으로(T ms 마다, 최대 N건씩) DB에 저장합니다.
+ *
+ * - 여러 인스턴스가 같은 group 에 참여하여 작업을 나눠 처리
+ * - 저장 후 XACK/XDEL 하고, 세션별 저장 완료 비트맵(chat:session:{id}:persisted)에 인덱스를 표시
+ *   → 세션 종료 시 {@link ChatSessionFlusher}는 비트맵의 연속 구간을 건너뛰고 남은 메시지만 저장
+ * - 처리 도중 죽은 consumer 의 미확인 메시지는 일정 시간 후 다른 consumer 가 가져와 처리
+ * - source_key 유니크 제약으로 재처리 시에도 중복 저장되지 않음
+ */
+@Slf4j
+@Component
+public class ChatWriteBehindWorker {
+
+	static final String STREAM_KEY = "chat:session:stream";
+	static final String GROUP = "chat-writer";
+	private static final Duration CLAIM_MIN_IDLE = Duration.ofSeconds(60);
+	private static final Duration PERSISTED_BITMAP_TTL = Duration.ofDays(1);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+	private final ObjectMapper objectMapper;
+	private final ChatRoomSummaryUpdater chatRoomSummaryUpdater;
+	private final int batchSize;
+	private final Consumer consumer = Consumer.from(GROUP, "writer-" + UUID.randomUUID());
+
+	private final AtomicLong backlog = new AtomicLong();
+	private final Timer drainTimer;
+	private final Timer lagTimer;
+	private final Counter persistedCounter;
+
+	public ChatWriteBehindWorker(StringRedisTemplate redisTemplate, ChatMessageJdbcRepository chatMessageJdbcRepository,
+		ObjectMapper objectMapper, ChatRoomSummaryUpdater chatRoomSummaryUpdater, MeterRegistry meterRegistry,
+		@Value("${chat.write-behind.batch-size:200}") int batchSize) {
+		this.redisTemplate = redisTemplate;
+		this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+		this.objectMapper = objectMapper;
+		this.chatRoomSummaryUpdater = chatRoomSummaryUpdater;
+		this.batchSize = batchSize;
+
+		Gauge.builder("chat.writebehind.backlog", backlog, AtomicLong::get)
+			.description("스트림에 남아 있는 미저장 세션 메시지 수")
+			.register(meterRegistry);
+		this.drainTimer = Timer.builder("chat.writebehind.drain")
+			.description("배치 1회 DB 저장 + ACK 소요 시간")
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+		this.lagTimer = Timer.builder("chat.writebehind.lag")
+			.description("메시지 적재부터 DB 저장까지 걸린 시간")
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+		this.persistedCounter = Counter.builder("chat.writebehind.persisted").register(meterRegistry);
+	}
+
+	static String persistedKey(String sessionId) {
+		return "chat:session:" + sessionId + ":persisted";
+	}
+
+	@PostConstruct
+	void createGroup() {
+		try {
+			RedisStreams.createGroup(redisTemplate, STREAM_KEY, GROUP);
+		} catch (Exception e) {
+			// Redis 가 아직 떠 있지 않아도 부팅은 계속하고, 첫 읽기에서 NOGROUP 으로 다시 만듭니다.
+			log.warn("[write-behind] consumer group 생성 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * T ms 마다 스트림에서 최대 N건씩 읽어 저장합니다. 한 번에 N건이 가득 차면 남은 적재분을 이어서 처리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${chat.write-behind.interval-ms:500}")
+	public void drain() {
+		try {
+			List<MapRecord<String, Object, Object>> records;
+			do {
+				records = RedisStreams.retryOnNoGroup(redisTemplate, STREAM_KEY, GROUP,
+					() -> redisTemplate.opsForStream().read(consumer,
+						StreamReadOptions.empty().count(batchSize),
+						RedisStreams.lastConsumed(STREAM_KEY)));
+				if (records != null && !records.isEmpty()) {
+					persist(records);
+				}
+			} while (records != null && records.size() >= batchSize);
+
+			Long size = redisTemplate.opsForStream().size(STREAM_KEY);
+			backlog.set(size == null ? 0 : size);
+		} catch (Exception e) {
+			log.error("[write-behind] 스트림 처리 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 다른 consumer 가 가져간 뒤 오래 확인(ACK)되지 않은 메시지를 가져와 처리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${chat.write-behind.claim-interval-ms:30000}")
+	public void claimStale() {
+		try {
+			PendingMessages pending = redisTemplate.opsForStream()
+				.pending(STREAM_KEY, GROUP, Range.unbounded(), batchSize);
+			RecordId[] stale = pending.stream()
+				.filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(CLAIM_MIN_IDLE) >= 0)
+				.map(message -> message.getId())
+				.toArray(RecordId[]::new);
+			if (stale.length == 0) {
+				return;
+			}
+
+			List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+				.claim(STREAM_KEY, GROUP, consumer.getName(), CLAIM_MIN_IDLE, stale);
+			log.info("[write-behind] 미확인 메시지 {}건 재처리", claimed.size());
+			if (!claimed.isEmpty()) {
+				persist(claimed);
+			}
+		} catch (Exception e) {
+			log.error("[write-behind] 미확인 메시지 재처리 실패: {}", e.getMessage());
+		}
+	}
+
+	void persist(List<MapRecord<String, Object, Object>> records) {
+		long start = System.nanoTime();
+		List<ChatMessage> messages = new ArrayList<>(records.size());
+		List<String[]> persisted = new ArrayList<>(records.size());
+		for (MapRecord<String, Object, Object> record : records) {
+			Object sessionId = record.getValue().get("session");
+			Object index = record.getValue().get("index");
+			// seq 가 없는 항목(배포 이전에 적재됨)은 리스트 인덱스를 순번으로 사용
+			Object seq = record.getValue().getOrDefault("seq", index);
+			if (sessionId == null || index == null) {
+				log.warn("[write-behind] 형식이 잘못된 스트림 항목 무시: {}", record.getId());
+				continue;
+			}
+			try {
+				ChatSessionMessageReq request = objectMapper.readValue(
+					String.valueOf(record.getValue().get("payload")), ChatSessionMessageReq.class);
+				messages.add(ChatMessage.builder()
+					.roomId(request.getRoomId())
+					.senderId(request.getSenderId())
+					.content(request.getContent())
+					.messageType(request.getMessageType())
+					.sentAt(request.getSendAt() != null ? request.getSendAt() : LocalDateTime.now())
+					.sourceKey(ChatSessionFlusher.sourceKey(sessionId.toString(), Long.parseLong(seq.toString())))
+					.build());
+			} catch (JsonProcessingException e) {
+				log.warn("Redis → 객체 변환 실패: {}", e.getMessage());
+			}
+			persisted.add(new String[] {sessionId.toString(), index.toString()});
+		}
+
+		chatMessageJdbcRepository.batchInsertIgnoringDuplicates(messages);
+		chatRoomSummaryUpdater.onMessagesFlushed(messages);
+
+		RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			markPersisted(connection, persisted);
+			connection.streamCommands().xAck(RedisStreams.bytes(STREAM_KEY), GROUP, ids);
+			connection.streamCommands().xDel(RedisStreams.bytes(STREAM_KEY), ids);
+			return null;
+		});
+
+		long now = System.currentTimeMillis();
+		for (MapRecord<String, Object, Object> record : records) {
+			lagTimer.record(Math.max(0, now - record.getId().getTimestamp()), TimeUnit.MILLISECONDS);
+		}
+		persistedCounter.increment(messages.size());
+		drainTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+
+	private void markPersisted(RedisConnection connection, List<String[]> persisted) {
+		for (String[] entry : persisted) {
+			byte[] key = RedisStreams.bytes(persistedKey(entry[0]));
+			connection.stringCommands().setBit(key, Long.parseLong(entry[1]), true);
+			connection.keyCommands().expire(key, PERSISTED_BITMAP_TTL.getSeconds());
+		}
+	}
+}
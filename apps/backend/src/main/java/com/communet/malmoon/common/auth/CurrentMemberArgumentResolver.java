@@ -9,6 +9,7 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipal;
 import com.communet.malmoon.member.repository.MemberRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,13 @@ public class CurrentMemberArgumentResolver implements HandlerMethodArgumentResol
 			throw new IllegalStateException("인증 정보가 없습니다.");
 		}
 
+		// JWT 필터에서 붙여 둔 인증 주체가 있으면 이메일 대신 기본 키로 조회
+		// (지연 로딩 프록시는 트랜잭션 밖에서 필드에 접근하면 실패하므로 초기화된 엔티티를 반환)
+		if (authentication.getDetails() instanceof MemberPrincipal principal) {
+			return memberRepository.findById(principal.getMemberId())
+				.orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+		}
+
 		String email = authentication.getName();
 
 		return memberRepository.findByEmail(email)
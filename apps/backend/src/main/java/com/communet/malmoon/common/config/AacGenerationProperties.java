@@ -0,0 +1,31 @@
+package com.communet.malmoon.common.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "aac.generation")
+public class AacGenerationProperties {
+
+	/** AI 서버가 생성한 임시 이미지를 저장하는 디렉토리 (AI 서버의 static/temp 와 같은 경로를 지정) */
+	@NotNull
+	private Path tempImageDir = Path.of("apps/AI/static/temp");
+
+	/**
+	 * preview URL 또는 이미지 경로에서 파일 이름만 취해 임시 이미지 디렉토리 안의 경로로 바꿉니다.
+	 * 파일 이름만 사용하므로 요청 값으로 디렉토리 밖을 가리킬 수 없습니다.
+	 */
+	public Path resolveTempImage(String imageUrl) {
+		return tempImageDir.resolve(Path.of(imageUrl).getFileName().toString()).normalize();
+	}
+}
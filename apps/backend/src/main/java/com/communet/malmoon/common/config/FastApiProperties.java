@@ -1,8 +1,14 @@
 package com.communet.malmoon.common.config;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import com.communet.malmoon.external.fastapi.FastApiEndpoint;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -12,4 +18,59 @@ import lombok.Setter;
 @ConfigurationProperties(prefix = "external.fastapi")
 public class FastApiProperties {
 	private String url;
+
+	/** 커넥션 풀 설정 (모든 엔드포인트 공용) */
+	private Pool pool = new Pool();
+
+	/** 엔드포인트별 설정 (지정하지 않은 값은 {@link FastApiEndpoint} 기본값 사용) */
+	private Map<FastApiEndpoint, Endpoint> endpoints = new EnumMap<>(FastApiEndpoint.class);
+
+	/** 비동기 재시도 설정 ({@link com.communet.malmoon.external.fastapi.FastApiRetryExecutor}) */
+	private Retry retry = new Retry();
+
+	public Endpoint endpoint(FastApiEndpoint endpoint) {
+		return endpoints.getOrDefault(endpoint, new Endpoint());
+	}
+
+	@Getter
+	@Setter
+	public static class Pool {
+		private int maxTotal = 32;
+		private int maxPerRoute = 32;
+		private Duration connectTimeout = Duration.ofSeconds(2);
+		/** 풀에서 커넥션을 얻기까지 최대 대기 시간 */
+		private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+		/** 유휴 커넥션 유지 시간. uvicorn 기본 keep-alive(5초)보다 짧게 두어 서버가 먼저 끊은 커넥션을 재사용하지 않도록 함 */
+		private Duration keepAlive = Duration.ofSeconds(4);
+	}
+
+	@Getter
+	@Setter
+	public static class Endpoint {
+		private Duration connectTimeout;
+		private Duration readTimeout;
+		/** 동시 요청 한도 (bulkhead) */
+		private Integer maxConcurrent;
+		/** 동시 요청 한도 초과 시 자리를 기다리는 최대 시간 */
+		private Duration maxWait = Duration.ofMillis(500);
+		/** 연속 실패 횟수가 이 값에 도달하면 서킷을 엶 */
+		private int failureThreshold = 5;
+		/** 서킷이 열린 뒤 시험 요청을 허용하기까지의 시간 */
+		private Duration openDuration = Duration.ofSeconds(30);
+	}
+
+	@Getter
+	@Setter
+	public static class Retry {
+		/** 첫 재시도 대기 시간 상한. 재시도마다 2배씩 늘리고 0 ~ 상한 사이에서 무작위로 고름 (full jitter) */
+		private Duration baseDelay = Duration.ofMillis(400);
+		private Duration maxDelay = Duration.ofSeconds(5);
+		/** 재시도 예산: window 동안 재시도는 (요청 수 x budgetRatio)와 minRetriesPerWindow 중 큰 값까지만 허용 */
+		private Duration budgetWindow = Duration.ofSeconds(10);
+		private double budgetRatio = 0.2;
+		private int minRetriesPerWindow = 10;
+		/** FastAPI 호출을 실행하는 스레드 수와 대기열 크기 */
+		private int threads = 16;
+		private int queueCapacity = 200;
+	}
 }
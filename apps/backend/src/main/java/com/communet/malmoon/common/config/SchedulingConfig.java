@@ -0,0 +1,44 @@
+package com.communet.malmoon.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * {@code @Scheduled} 주기 작업 활성화 설정
+ *
+ * WebSocket 메시지 브로커도 TaskScheduler 빈(messageBrokerTaskScheduler)을 등록하므로,
+ * 이름을 taskScheduler 로 명시하여 주기 작업이 브로커 하트비트 스레드를 사용하지 않도록 합니다.
+ * spring.threads.virtual.enabled=true(Java 21+) 이면 주기 작업도 가상 스레드에서 실행합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+	private static final String THREAD_NAME_PREFIX = "scheduling-";
+
+	/**
+	 * 플랫폼 스레드 스케줄러. 주기 작업이 서로 막히지 않도록 4개 스레드를 사용합니다.
+	 */
+	@Bean(name = "taskScheduler")
+	@ConditionalOnThreading(Threading.PLATFORM)
+	public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+		return builder.poolSize(4).threadNamePrefix(THREAD_NAME_PREFIX).build();
+	}
+
+	/**
+	 * 가상 스레드 스케줄러. 실행마다 새 가상 스레드를 사용하므로
+	 * Redis/DB/FastAPI 호출에서 대기하는 작업이 다른 주기 작업을 막지 않습니다.
+	 */
+	@Bean(name = "taskScheduler")
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	public SimpleAsyncTaskScheduler virtualTaskScheduler(SimpleAsyncTaskSchedulerBuilder builder) {
+		return builder.virtualThreads(true).threadNamePrefix(THREAD_NAME_PREFIX).build();
+	}
+}
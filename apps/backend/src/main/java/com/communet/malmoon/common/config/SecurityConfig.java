@@ -14,6 +14,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 import com.communet.malmoon.member.jwt.auth.JwtAuthenticationFilter;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipalCache;
 import com.communet.malmoon.member.repository.MemberRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,11 @@ public class SecurityConfig {
 		return new BCryptPasswordEncoder();
 	}
 
+	@Bean
+	public MemberPrincipalCache memberPrincipalCache() {
+		return new MemberPrincipalCache(memberRepository);
+	}
+
 	@Bean
 	public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
 		return config.getAuthenticationManager();
@@ -45,7 +51,7 @@ public class SecurityConfig {
 			.csrf(AbstractHttpConfigurer::disable)
 			.httpBasic(AbstractHttpConfigurer::disable)
 			.cors(AbstractHttpConfigurer::disable)
-			.addFilter(new JwtAuthenticationFilter(authManager, memberRepository))
+			.addFilter(new JwtAuthenticationFilter(authManager, memberPrincipalCache()))
 			.authorizeHttpRequests(auth -> auth
 				//.requestMatchers("/api/v1/users/me").authenticated()
 				//.requestMatchers("/actuator/health", "/actuator/info").permitAll()
@@ -1,9 +1,11 @@
 package com.communet.malmoon.common.config;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -18,12 +20,21 @@ import org.springframework.web.servlet.config.annotation.CorsRegistry;
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+	/** 비동기 응답(CompletableFuture) 대기 한도. FastAPI 응답 타임아웃(최대 90초)과 재시도 대기를 고려해 넉넉히 설정 */
+	private static final Duration ASYNC_REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
 	private final MemberRepository memberRepository;
 
 	@Override
 	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
 		resolvers.add(new CurrentMemberArgumentResolver(memberRepository));
 	}
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setDefaultTimeout(ASYNC_REQUEST_TIMEOUT.toMillis());
+	}
+
 	  @Override
 	  public void addCorsMappings(CorsRegistry registry) {
 	      registry.addMapping("/**")
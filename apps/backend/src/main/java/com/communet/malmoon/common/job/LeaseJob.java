@@ -0,0 +1,21 @@
+package com.communet.malmoon.common.job;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 행의 상태로 관리하는 점유(lease) 방식 비동기 작업.
+ * PENDING → (점유) PROCESSING → COMPLETED / 재시도 대기 PENDING / FAILED(dead-letter) 로 진행합니다.
+ */
+public interface LeaseJob {
+
+	Long getId();
+
+	/** 점유할 때마다 1씩 늘어나는 시도 횟수 */
+	int getAttempts();
+
+	/** 실패한 작업을 nextAttemptAt 이후 다시 처리하도록 PENDING 으로 되돌림 */
+	void retryAt(LocalDateTime nextAttemptAt, String error);
+
+	/** 더 이상 재시도하지 않고 FAILED 로 종료 */
+	void fail(String error);
+}
@@ -0,0 +1,25 @@
+package com.communet.malmoon.common.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * {@link LeaseJobRunner}가 사용하는 작업 조회/점유 쿼리. 엔티티별 저장소에서 @Query 로 구현합니다.
+ */
+@NoRepositoryBean
+public interface LeaseJobRepository<T extends LeaseJob> extends CrudRepository<T, Long> {
+
+	/**
+	 * 처리할 차례가 된 작업 ID (대기가 끝난 PENDING, 점유가 만료된 PROCESSING)
+	 */
+	List<Long> findDueJobIds(LocalDateTime now, Pageable pageable);
+
+	/**
+	 * 작업을 점유합니다. 여러 워커/인스턴스 중 한 곳만 성공(1 반환)하며, 점유는 leaseUntil 까지 유효합니다.
+	 */
+	int claim(Long id, LocalDateTime now, LocalDateTime leaseUntil);
+}
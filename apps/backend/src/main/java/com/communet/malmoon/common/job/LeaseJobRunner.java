@@ -0,0 +1,159 @@
+package com.communet.malmoon.common.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.communet.malmoon.external.fastapi.FastApiRetryClassifier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 점유(lease) 방식 비동기 작업의 공통 실행 도우미.
+ * - 전용 풀에서 동시 처리 수(concurrency)를 제한하고, 풀 대기열에 여유가 있는 만큼만 처리할 작업을 가져옴
+ * - 점유한 작업은 lease 동안 다른 워커/인스턴스가 가져가지 않으며, 그 안에 끝나지 않으면 다시 처리 대상이 됨
+ * - 일시적 오류({@link FastApiRetryClassifier#isTransient})는 retryBaseDelay 부터 2배씩 늘려 재시도하고,
+ *   maxAttempts 에 도달하거나 재시도해도 소용없는 오류면 FAILED(dead-letter)로 남김
+ *
+ * 메트릭: {metricPrefix}.queue, {timerName}, {metricPrefix}.retried, {metricPrefix}.dead_letter
+ */
+@Slf4j
+public class LeaseJobRunner<T extends LeaseJob> {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final String name;
+	private final LeaseJobRepository<T> repository;
+	private final ThreadPoolTaskExecutor executor;
+	private final Duration lease;
+	private final Duration retryBaseDelay;
+	private final int maxAttempts;
+
+	private final Timer timer;
+	private final Counter retriedCounter;
+	private final Counter deadLetterCounter;
+
+	/**
+	 * @param name 로그와 스레드 이름에 쓰는 작업 이름 (예: stt)
+	 * @param metricPrefix 메트릭 이름 접두사 (예: speech.stt)
+	 * @param timerName 외부 요청 소요 시간 타이머 이름. 대시보드가 쓰는 기존 이름을 그대로 유지 (예: speech.stt.transcribe)
+	 */
+	@Builder
+	private LeaseJobRunner(String name, String metricPrefix, String timerName, LeaseJobRepository<T> repository,
+		MeterRegistry meterRegistry, int concurrency, int queueCapacity, Duration lease, Duration retryBaseDelay,
+		int maxAttempts) {
+		this.name = name;
+		this.repository = repository;
+		this.lease = lease;
+		this.retryBaseDelay = retryBaseDelay;
+		this.maxAttempts = maxAttempts;
+		this.executor = new ThreadPoolTaskExecutor();
+		this.executor.setCorePoolSize(concurrency);
+		this.executor.setMaxPoolSize(concurrency);
+		this.executor.setQueueCapacity(queueCapacity);
+		this.executor.setThreadNamePrefix(name + "-worker-");
+		this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		this.executor.setWaitForTasksToCompleteOnShutdown(true);
+		this.executor.setAwaitTerminationSeconds(30);
+		this.executor.initialize();
+
+		Gauge.builder(metricPrefix + ".queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+			.description("처리 대기 중인 작업 수")
+			.register(meterRegistry);
+		this.timer = Timer.builder(timerName)
+			.description("작업 1건의 외부 요청 소요 시간")
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+		this.retriedCounter = Counter.builder(metricPrefix + ".retried").register(meterRegistry);
+		this.deadLetterCounter = Counter.builder(metricPrefix + ".dead_letter").register(meterRegistry);
+	}
+
+	/**
+	 * 처리할 차례가 된 작업 ID를 풀 대기열의 여유만큼(최대 maxBatch) 조회합니다.
+	 */
+	public List<Long> findDueJobIds(int maxBatch) {
+		int free = executor.getThreadPoolExecutor().getQueue().remainingCapacity();
+		if (free == 0) {
+			return List.of();
+		}
+		return repository.findDueJobIds(LocalDateTime.now(), PageRequest.of(0, Math.min(free, maxBatch)));
+	}
+
+	/**
+	 * 작업을 lease 동안 점유합니다.
+	 *
+	 * @return 점유에 성공하면 true, 이미 처리되었거나 다른 워커가 점유 중이면 false
+	 */
+	public boolean claim(Long id) {
+		LocalDateTime now = LocalDateTime.now();
+		return repository.claim(id, now, now.plus(lease)) > 0;
+	}
+
+	/**
+	 * 작업을 풀에 제출합니다. 대기열이 가득 차면 제출하지 않으며, 다음 주기의 조회에서 다시 가져갑니다.
+	 *
+	 * @return 제출에 성공하면 true
+	 */
+	public boolean submit(Long id, Runnable task) {
+		try {
+			executor.execute(task);
+			return true;
+		} catch (TaskRejectedException e) {
+			log.warn("[{}] 작업 큐가 가득 차 다음 주기에 다시 처리합니다. id={}", name, id);
+			return false;
+		}
+	}
+
+	/**
+	 * 외부 요청 소요 시간을 기록하며 실행합니다.
+	 */
+	public <R> R record(Callable<R> call) throws Exception {
+		return timer.recordCallable(call);
+	}
+
+	/**
+	 * 실패한 작업을 일시적 오류면 백오프 후 재시도하도록 되돌리고, 아니면 FAILED 로 종료합니다.
+	 */
+	public void handleFailure(T job, Exception e) {
+		if (!FastApiRetryClassifier.isTransient(e) || job.getAttempts() >= maxAttempts) {
+			deadLetter(job, summarize(e));
+			return;
+		}
+		Duration delay = retryBaseDelay.multipliedBy(1L << (job.getAttempts() - 1));
+		job.retryAt(LocalDateTime.now().plus(delay), summarize(e));
+		repository.save(job);
+		retriedCounter.increment();
+		log.warn("[{}] 작업 실패, {}초 후 재시도 id={}, 시도={}, 원인={}",
+			name, delay.toSeconds(), job.getId(), job.getAttempts(), e.getMessage());
+	}
+
+	/**
+	 * 재시도하지 않고 FAILED 로 종료합니다.
+	 */
+	public void deadLetter(T job, String error) {
+		job.fail(error);
+		repository.save(job);
+		deadLetterCounter.increment();
+		log.error("[{}] 작업 실패로 종료합니다. id={}, 시도={}, 원인={}", name, job.getId(), job.getAttempts(), error);
+	}
+
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private String summarize(Exception e) {
+		String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+		return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+	}
+}
@@ -0,0 +1,104 @@
+package com.communet.malmoon.common.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 인스턴스가 함께 쓰는 Redis 캐시의 버전 키 관리 (적재와 무효화 사이의 경쟁 방지)
+ * - 캐시 항목은 하나 이상의 버전 키에 속하며, 무효화하는 쪽은 버전을 올린 뒤 캐시 키를 삭제
+ * - 적재하는 쪽은 DB 조회 전에 버전을 읽어 두고({@link #snapshot}),
+ *   저장 시 버전이 그대로일 때만 저장({@link #setIfUnchanged}, Lua 스크립트 1회)
+ *   → 조회 도중 어느 인스턴스에서든 무효화가 일어나면 무효화 이전에 읽은 결과는 저장되지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCacheVersions {
+
+	/**
+	 * KEYS: 캐시 키, 버전 키... / ARGV: 값, TTL(ms), 읽어 둔 버전...
+	 * 반환: 저장 여부(1|0)
+	 */
+	private static final RedisScript<Long> SET_IF_UNCHANGED = new DefaultRedisScript<>("""
+		for i = 2, #KEYS do
+			if (redis.call('GET', KEYS[i]) or '0') ~= ARGV[i + 1] then
+				return 0
+			end
+		end
+		redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+		return 1
+		""", Long.class);
+
+	/**
+	 * KEYS: 버전 키... / ARGV: 버전 키 TTL(ms)
+	 */
+	private static final RedisScript<Long> BUMP = new DefaultRedisScript<>("""
+		for _, key in ipairs(KEYS) do
+			redis.call('INCR', key)
+			redis.call('PEXPIRE', key, ARGV[1])
+		end
+		return #KEYS
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * DB 조회 전에 현재 버전을 읽어 둡니다. (없는 버전 키는 "0")
+	 */
+	public Snapshot snapshot(List<String> versionKeys) {
+		List<String> values = redisTemplate.opsForValue().multiGet(versionKeys);
+		List<String> versions = new ArrayList<>(versionKeys.size());
+		for (int i = 0; i < versionKeys.size(); i++) {
+			String value = values == null ? null : values.get(i);
+			versions.add(value == null ? "0" : value);
+		}
+		return new Snapshot(versionKeys, versions);
+	}
+
+	/**
+	 * 읽어 둔 이후 버전이 바뀌지 않았을 때만 값을 저장합니다.
+	 *
+	 * @return 저장 여부
+	 */
+	public boolean setIfUnchanged(String key, String value, Duration ttl, Snapshot snapshot) {
+		List<String> keys = new ArrayList<>(snapshot.getVersionKeys().size() + 1);
+		keys.add(key);
+		keys.addAll(snapshot.getVersionKeys());
+		Object[] args = new Object[snapshot.getVersions().size() + 2];
+		args[0] = value;
+		args[1] = String.valueOf(ttl.toMillis());
+		for (int i = 0; i < snapshot.getVersions().size(); i++) {
+			args[i + 2] = snapshot.getVersions().get(i);
+		}
+		Long stored = redisTemplate.execute(SET_IF_UNCHANGED, keys, args);
+		return stored != null && stored == 1L;
+	}
+
+	/**
+	 * 버전을 올립니다. 이후 캐시 키를 삭제하면 진행 중이던 적재는 이전 결과를 다시 저장하지 못합니다.
+	 *
+	 * @param ttl 버전 키 TTL (캐시 항목 TTL 보다 길게)
+	 */
+	public void bump(List<String> versionKeys, Duration ttl) {
+		if (versionKeys.isEmpty()) {
+			return;
+		}
+		redisTemplate.execute(BUMP, versionKeys, String.valueOf(ttl.toMillis()));
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Snapshot {
+		private final List<String> versionKeys;
+		private final List<String> versions;
+	}
+}
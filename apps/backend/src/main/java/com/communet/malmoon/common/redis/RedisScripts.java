@@ -0,0 +1,28 @@
+package com.communet.malmoon.common.redis;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Lua 스크립트 생성 도우미
+ */
+public final class RedisScripts {
+
+	private RedisScripts() {
+	}
+
+	/**
+	 * 배열을 반환하는 스크립트. {@link DefaultRedisScript} 는 결과 타입을 Class 로만 받으므로
+	 * 원소 타입 지정에 필요한 형변환을 이곳 한 군데에서만 함
+	 * (StringRedisTemplate 으로 실행하면 원소는 String)
+	 *
+	 * @param source Lua 스크립트
+	 * @param <E> 원소 타입
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static <E> RedisScript<List<E>> list(String source) {
+		return (RedisScript<List<E>>)(RedisScript)new DefaultRedisScript<>(source, List.class);
+	}
+}
@@ -0,0 +1,75 @@
+package com.communet.malmoon.common.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis Stream consumer group 워커 공통 도우미
+ */
+public final class RedisStreams {
+
+	private RedisStreams() {
+	}
+
+	/**
+	 * consumer group 을 처음 항목부터 읽도록 만듭니다. 스트림이 없으면 함께 만들고(MKSTREAM), group 이 이미 있으면(BUSYGROUP) 그대로 둡니다.
+	 * 연결 실패 등 그 밖의 오류는 그대로 던지므로, 시작 시 호출하는 쪽은 오류를 삼키고 {@link #retryOnNoGroup}으로 나중에 다시 만들도록 합니다.
+	 *
+	 * @return 새로 만들었으면 true
+	 */
+	public static boolean createGroup(StringRedisTemplate redisTemplate, String streamKey, String group) {
+		try {
+			redisTemplate.execute((RedisCallback<String>)connection -> connection.streamCommands()
+				.xGroupCreate(bytes(streamKey), group, ReadOffset.from("0"), true));
+			return true;
+		} catch (RuntimeException e) {
+			if (hasError(e, "BUSYGROUP")) {
+				return false;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * group 이 없어(NOGROUP: 시작 시 Redis 장애로 만들지 못했거나, 스트림 키가 삭제/만료됨) 실패하면
+	 * group 을 다시 만든 뒤 한 번 더 실행합니다.
+	 */
+	public static <T> T retryOnNoGroup(StringRedisTemplate redisTemplate, String streamKey, String group,
+		Supplier<T> command) {
+		try {
+			return command.get();
+		} catch (RuntimeException e) {
+			if (!hasError(e, "NOGROUP")) {
+				throw e;
+			}
+			createGroup(redisTemplate, streamKey, group);
+			return command.get();
+		}
+	}
+
+	/**
+	 * consumer group 에서 아직 전달되지 않은 항목부터 읽는 오프셋.
+	 * StreamOperations#read 의 제네릭 가변 인자에 그대로 넘길 수 있도록 배열로 반환
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static StreamOffset<String>[] lastConsumed(String streamKey) {
+		return new StreamOffset[] {StreamOffset.create(streamKey, ReadOffset.lastConsumed())};
+	}
+
+	public static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	// Lettuce 오류는 Spring 예외로 감싸지므로 가장 안쪽 원인의 메시지(예: "NOGROUP No such key ...")로 판단
+	private static boolean hasError(RuntimeException e, String code) {
+		Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+		return (cause.getMessage() != null && cause.getMessage().contains(code))
+			|| (e.getMessage() != null && e.getMessage().contains(code));
+	}
+}
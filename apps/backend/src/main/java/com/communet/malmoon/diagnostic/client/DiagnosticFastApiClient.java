@@ -1,84 +1,67 @@
 package com.communet.malmoon.diagnostic.client;
 
 import com.communet.malmoon.diagnostic.dto.*;
-import com.communet.malmoon.diagnostic.infra.MultipartInputResource;
+import com.communet.malmoon.external.fastapi.FastApiEndpoint;
+import com.communet.malmoon.external.fastapi.FastApiHttpClient;
+import com.communet.malmoon.external.fastapi.FastApiRetryExecutor;
+import com.communet.malmoon.file.service.AudioIngestService.StoredAudio;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.multipart.MultipartFile;
-import java.io.IOException;
 import java.util.Objects;
-import java.util.function.Supplier;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 /**
  * FastAPI 연동: STT, LLM 평가
+ * 호출과 재시도는 {@link FastApiRetryExecutor}에서 비동기로 실행되며, 요청 스레드는 결과를 기다리지 않습니다.
  */
 @Component
 @RequiredArgsConstructor
 public class DiagnosticFastApiClient {
 
-    @Value("${external.fastapi.url:http://localhost:8000}")
-    private String baseUrl;
+    private final FastApiHttpClient fastApiHttpClient;
+    private final FastApiRetryExecutor retryExecutor;
 
-
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    /** STT 호출 (multipart) + 지수 백오프 재시도 */
-    public String transcribe(MultipartFile file, int maxRetry) {
-        final String url = baseUrl + "/api/v1/stt/transcribe";
-        return executeWithRetry(() -> {
+    /** STT 호출 (multipart, 저장된 파일을 스트리밍) + 지터 백오프 비동기 재시도 */
+    public CompletableFuture<String> transcribe(StoredAudio audio, int maxRetry) {
+        return retryExecutor.execute(FastApiEndpoint.STT, maxRetry, () -> {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
+            // 재시도마다 파일을 새로 열어 보냄 (업로드 스트림은 다시 읽지 않음)
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            try {
-                body.add("file", new HttpEntity<>(new MultipartInputResource(file), createFileHeaders(file)));
-            } catch (IOException e) { throw new RuntimeException("Failed to wrap multipart file", e); }
+            body.add("file", new HttpEntity<>(new FileSystemResource(audio.path()), createFileHeaders(audio)));
 
-            ResponseEntity<TranscribeOut> resp = restTemplate.postForEntity(url, new HttpEntity<>(body, headers), TranscribeOut.class);
+            ResponseEntity<TranscribeOut> resp = fastApiHttpClient.post(FastApiEndpoint.STT, new HttpEntity<>(body, headers), TranscribeOut.class);
             if (!resp.getStatusCode().is2xxSuccessful() || resp.getBody() == null) throw new RuntimeException("STT failed");
             return Objects.requireNonNull(resp.getBody()).getText();
-        }, maxRetry);
+        });
     }
 
-    /** LLM 평가 호출 (JSON) + 지수 백오프 재시도 */
-    public FeedbackEvalResponseDto evaluateFeedback(List<WordsPair> dto, int maxRetry) {
-        final String url = baseUrl + "/api/v1/feedback/initial-eval";
-        return executeWithRetry(() -> {
+    /** LLM 평가 호출 (JSON) + 지터 백오프 비동기 재시도 */
+    public CompletableFuture<FeedbackEvalResponseDto> evaluateFeedback(List<WordsPair> dto, int maxRetry) {
+        return retryExecutor.execute(FastApiEndpoint.INITIAL_EVAL, maxRetry, () -> {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             ResponseEntity<FeedbackEvalResponseDto> resp =
-                    restTemplate.postForEntity(url, new HttpEntity<>(dto, headers), FeedbackEvalResponseDto.class);
+                    fastApiHttpClient.post(FastApiEndpoint.INITIAL_EVAL, new HttpEntity<>(dto, headers), FeedbackEvalResponseDto.class);
             if (!resp.getStatusCode().is2xxSuccessful() || resp.getBody() == null) throw new RuntimeException("Eval failed");
             return resp.getBody();
-        }, maxRetry);
+        });
     }
 
-    private HttpHeaders createFileHeaders(MultipartFile file) {
+    private HttpHeaders createFileHeaders(StoredAudio audio) {
         HttpHeaders partHeaders = new HttpHeaders();
         partHeaders.setContentType(MediaType.parseMediaType(
-                file.getContentType() != null ? file.getContentType() : "application/octet-stream"));
+                audio.contentType() != null ? audio.contentType() : "application/octet-stream"));
         ContentDisposition cd = ContentDisposition.builder("form-data")
                 .name("file")
-                .filename(file.getOriginalFilename() != null ? file.getOriginalFilename() : "file")
+                .filename(audio.originalFilename() != null ? audio.originalFilename() : "file")
                 .build();
         partHeaders.setContentDisposition(cd);
         return partHeaders;
     }
-
-    private <T> T executeWithRetry(Supplier<T> call, int maxRetry) {
-        int attempt = 0; long backoff = 400L;
-        while (true) {
-            try { return call.get(); }
-            catch (Exception e) {
-                if (++attempt > maxRetry) throw e;
-                try { Thread.sleep(backoff); } catch (InterruptedException ignored) {}
-                backoff *= 2;
-            }
-        }
-    }
-}
+}
\ No newline at end of file
@@ -8,9 +8,11 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 간이 진단 API 엔드포인트
+ * 문항 제출/종료는 FastAPI 응답을 비동기로 기다리므로 CompletableFuture 를 반환합니다. (MVC 비동기 처리)
  */
 @RestController
 @RequestMapping("/api/v1/diagnostic/attempts")
@@ -25,7 +27,7 @@ public class DiagnosticController {
     }
 
     @PostMapping(value = "/{attemptId}/items", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ItemSubmitResponse submitItem(@PathVariable UUID attemptId,
+    public CompletableFuture<ItemSubmitResponse> submitItem(@PathVariable UUID attemptId,
                                          @RequestParam("itemIndex") Integer itemIndex,
                                          @RequestParam("targetText") String targetText,
                                          @RequestPart("file") MultipartFile file) {
@@ -33,7 +35,7 @@ public class DiagnosticController {
     }
 
     @PostMapping("/{attemptId}/finish")
-    public FinishResponse finish(@PathVariable UUID attemptId) {
+    public CompletableFuture<FinishResponse> finish(@PathVariable UUID attemptId) {
         return diagnosticService.finishAttempt(attemptId);
     }
 
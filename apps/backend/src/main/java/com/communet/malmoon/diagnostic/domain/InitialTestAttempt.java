@@ -3,6 +3,7 @@ package com.communet.malmoon.diagnostic.domain;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.*;
@@ -13,7 +14,8 @@ import java.util.UUID;
  * 한 번의 간이 진단 세션(10문항)을 대표하는 엔티티
  */
 @Entity
-@Table(name = "initial_test_attempt")
+@Table(name = "initial_test_attempt",
+       indexes = @Index(name = "idx_initial_test_attempt_child_created", columnList = "child_id, created_at"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class InitialTestAttempt {
 
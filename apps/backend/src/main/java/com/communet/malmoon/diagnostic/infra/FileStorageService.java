@@ -1,5 +1,8 @@
 package com.communet.malmoon.diagnostic.infra;
 
+import com.communet.malmoon.file.service.AudioIngestService;
+import com.communet.malmoon.file.service.AudioIngestService.StoredAudio;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
@@ -9,22 +12,28 @@ import java.nio.file.*;
  * 오디오 파일을 로컬 디스크에 저장 (운영은 S3 권장)
  */
 @Service
+@RequiredArgsConstructor
 public class FileStorageService {
-    private static final String ROOT = "uploads/diag";
+    private static final Path ROOT = Paths.get("uploads/diag");
 
-    public String saveDiagnosticAudio(java.util.UUID attemptId, Integer itemIndex, MultipartFile file) {
+    private final AudioIngestService audioIngestService;
+
+    /** 업로드 스트림을 복사하지 않고 저장 위치로 옮김 → 저장된 파일로 STT 요청 */
+    public StoredAudio saveDiagnosticAudio(java.util.UUID attemptId, Integer itemIndex, MultipartFile file) {
         try {
-            Path dir = Paths.get(ROOT, attemptId.toString());
-            Files.createDirectories(dir);
+            Path dir = ROOT.resolve(attemptId.toString());
 
-            String original = file.getOriginalFilename();
-            String ext = (original != null && original.contains(".")) ? original.substring(original.lastIndexOf('.')) : ".dat";
+            // 원본 파일 이름은 클라이언트가 정하므로 허용된 음성 확장자만 사용
+            String ext = AudioIngestService.audioExtension(file.getOriginalFilename(), ".dat");
             Path target = dir.resolve("item-" + itemIndex + ext);
 
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-            return "/" + dir.resolve(target.getFileName()).toString().replace("\\","/");
+            return audioIngestService.store(file, ROOT, target);
         } catch (IOException e) {
             throw new RuntimeException("Failed to store audio file", e);
         }
     }
+
+    public static String toUrl(StoredAudio audio) {
+        return "/" + audio.path().toString().replace("\\","/");
+    }
 }
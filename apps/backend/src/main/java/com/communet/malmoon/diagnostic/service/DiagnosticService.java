@@ -8,16 +8,21 @@ import com.communet.malmoon.diagnostic.dto.*;
 import com.communet.malmoon.diagnostic.exception.NotFoundException;
 import com.communet.malmoon.diagnostic.infra.FileStorageService;
 import com.communet.malmoon.diagnostic.repository.*;
+import com.communet.malmoon.file.service.AudioIngestService.StoredAudio;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
  * 정확도/피드백은 LLM 결과만을 저장
+ * STT/LLM 호출은 비동기로 실행하고, 결과를 받은 뒤 짧은 트랜잭션으로 저장합니다.
+ * (FastAPI 응답을 기다리는 동안 요청 스레드와 DB 커넥션을 붙잡지 않음)
  */
 @Service
 @RequiredArgsConstructor
@@ -28,6 +33,7 @@ public class DiagnosticService {
     private final InitialTestResultRepository resultRepo;
     private final FileStorageService fileStorage;
     private final DiagnosticFastApiClient fastApiClient;
+    private final TransactionTemplate transactionTemplate;
 
     /** 시작 */
     @Transactional
@@ -40,30 +46,29 @@ public class DiagnosticService {
         return AttemptStartResponse.of(attempt.getAttemptId(), attempt.getAgeGroup(), attempt.getCreatedAt());
     }
 
-    /** 문항 제출: 파일 저장 → STT → upsert */
-    @Transactional
-    public ItemSubmitResponse submitItem(UUID attemptId, Integer itemIndex, String targetText, MultipartFile file) {
-        InitialTestAttempt attempt = attemptRepo.findById(attemptId)
-                .orElseThrow(() -> new NotFoundException("attempt"));
+    /** 문항 제출: 파일 저장 → STT(비동기) → upsert */
+    public CompletableFuture<ItemSubmitResponse> submitItem(UUID attemptId, Integer itemIndex, String targetText, MultipartFile file) {
+        if (!attemptRepo.existsById(attemptId)) throw new NotFoundException("attempt");
 
-        String audioUrl = fileStorage.saveDiagnosticAudio(attemptId, itemIndex, file);
-        String sttText  = fastApiClient.transcribe(file, 3);
+        StoredAudio audio = fileStorage.saveDiagnosticAudio(attemptId, itemIndex, file);
+        String audioUrl = FileStorageService.toUrl(audio);
 
-        InitialTestItem item = itemRepo.findByAttempt_AttemptIdAndItemIndex(attemptId, itemIndex)
-                .orElse(InitialTestItem.builder().attempt(attempt).itemIndex(itemIndex).build());
-        item.setTargetText(targetText);
-        item.setSttText(sttText);
-        item.setAudioUrl(audioUrl);
-        itemRepo.save(item);
+        return fastApiClient.transcribe(audio, 3)
+                .thenApply(sttText -> transactionTemplate.execute(status -> {
+                    InitialTestItem item = itemRepo.findByAttempt_AttemptIdAndItemIndex(attemptId, itemIndex)
+                            .orElseGet(() -> InitialTestItem.builder().attempt(attemptRepo.getReferenceById(attemptId)).itemIndex(itemIndex).build());
+                    item.setTargetText(targetText);
+                    item.setSttText(sttText);
+                    item.setAudioUrl(audioUrl);
+                    itemRepo.save(item);
 
-        return new ItemSubmitResponse(itemIndex, targetText, sttText, audioUrl);
+                    return new ItemSubmitResponse(itemIndex, targetText, sttText, audioUrl);
+                }));
     }
 
-    /** 종료: 10문항 모아 LLM 평가 → 결과 저장 */
-    @Transactional
-    public FinishResponse finishAttempt(UUID attemptId) {
-        InitialTestAttempt attempt = attemptRepo.findById(attemptId)
-                .orElseThrow(() -> new NotFoundException("attempt"));
+    /** 종료: 10문항 모아 LLM 평가(비동기) → 결과 저장 */
+    public CompletableFuture<FinishResponse> finishAttempt(UUID attemptId) {
+        if (!attemptRepo.existsById(attemptId)) throw new NotFoundException("attempt");
 
         List<InitialTestItem> items = itemRepo.findByAttempt_AttemptIdOrderByItemIndex(attemptId);
         if (items.size() < 10) throw new IllegalStateException("10문항이 모두 제출되지 않았습니다.");
@@ -76,10 +81,13 @@ public class DiagnosticService {
                 )
                 .toList();
 
-        FeedbackEvalResponseDto rsp = fastApiClient.evaluateFeedback(req, 3);
+        return fastApiClient.evaluateFeedback(req, 3)
+                .thenApply(rsp -> transactionTemplate.execute(status -> saveResult(attemptId, items, rsp)));
+    }
 
+    private FinishResponse saveResult(UUID attemptId, List<InitialTestItem> items, FeedbackEvalResponseDto rsp) {
         InitialTestResult result = InitialTestResult.builder()
-                .attempt(attempt)
+                .attempt(attemptRepo.getReferenceById(attemptId))
                 .accuracy(BigDecimal.valueOf(rsp.getAccuracy()))
                 .evaluation(rsp.getEvaluation())
                 .strengths(rsp.getStrengths())
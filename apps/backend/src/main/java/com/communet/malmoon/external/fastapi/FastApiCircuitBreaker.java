@@ -0,0 +1,68 @@
+package com.communet.malmoon.external.fastapi;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커.
+ * - CLOSED: 요청 허용, 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN: openDuration 동안 요청을 바로 거절하여 장애 중인 서버에 요청이 쌓이지 않도록 함
+ * - HALF_OPEN: 시험 요청 1건만 허용, 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+class FastApiCircuitBreaker {
+
+	enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openDurationNanos;
+	private final LongSupplier nanoClock;
+
+	private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+	private final AtomicBoolean probeInFlight = new AtomicBoolean();
+	private volatile long openedAt;
+
+	FastApiCircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+		this.failureThreshold = failureThreshold;
+		this.openDurationNanos = openDuration.toNanos();
+		this.nanoClock = nanoClock;
+	}
+
+	boolean tryAcquirePermission() {
+		State current = state.get();
+		if (current == State.CLOSED) {
+			return true;
+		}
+		if (current == State.OPEN) {
+			if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+				return false;
+			}
+			state.compareAndSet(State.OPEN, State.HALF_OPEN);
+		}
+		return probeInFlight.compareAndSet(false, true);
+	}
+
+	void onSuccess() {
+		consecutiveFailures.set(0);
+		state.set(State.CLOSED);
+		probeInFlight.set(false);
+	}
+
+	void onFailure() {
+		if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+			openedAt = nanoClock.getAsLong();
+			consecutiveFailures.set(0);
+			state.set(State.OPEN);
+		}
+		probeInFlight.set(false);
+	}
+
+	State getState() {
+		return state.get();
+	}
+}
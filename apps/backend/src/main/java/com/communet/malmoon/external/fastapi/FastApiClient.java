@@ -2,19 +2,16 @@ package com.communet.malmoon.external.fastapi;
 
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestTemplate;
 
 import com.communet.malmoon.aac.dto.request.AacCreateReq;
 import com.communet.malmoon.aac.exception.AacErrorCode;
 import com.communet.malmoon.aac.exception.AacException;
-import com.communet.malmoon.common.config.FastApiProperties;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import lombok.RequiredArgsConstructor;
@@ -27,8 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 public class FastApiClient {
-	private final FastApiProperties fastApiProperties;
-	private final RestTemplate restTemplate;
+	private final FastApiHttpClient fastApiHttpClient;
 
 	/**
 	 * FastAPI로 AAC 생성 요청을 보낸 후 preview 이미지 URL을 반환합니다.
@@ -37,19 +33,13 @@ public class FastApiClient {
 	 */
 	public String requestPreviewImage(AacCreateReq request) {
 		try {
-			String url = fastApiProperties.getUrl() + "/api/v1/aacs/generate";
-
 			HttpHeaders headers = new HttpHeaders();
 			headers.setContentType(MediaType.APPLICATION_JSON);
 
 			HttpEntity<AacCreateReq> entity = new HttpEntity<>(request, headers);
 
-			ResponseEntity<JsonNode> response = restTemplate.exchange(
-				url,
-				HttpMethod.POST,
-				entity,
-				JsonNode.class
-			);
+			ResponseEntity<JsonNode> response = fastApiHttpClient.post(FastApiEndpoint.AAC_GENERATE, entity,
+				JsonNode.class);
 
 			JsonNode body = response.getBody();
 			if (!response.getStatusCode().is2xxSuccessful() || body == null || body.get("preview_url") == null) {
@@ -65,6 +55,10 @@ public class FastApiClient {
 			log.error("FastAPI 서버 5xx 에러: {}", e.getResponseBodyAsString(), e);
 			throw new AacException(AacErrorCode.FASTAPI_SERVER_ERROR);
 
+		} catch (FastApiUnavailableException e) {
+			log.warn("FastAPI 요청 거절: {}", e.getMessage());
+			throw new AacException(AacErrorCode.FASTAPI_UNAVAILABLE);
+
 		} catch (ResourceAccessException e) {
 			log.error("FastAPI 네트워크 오류: {}", e.getMessage(), e);
 			throw new AacException(AacErrorCode.FASTAPI_TIMEOUT);
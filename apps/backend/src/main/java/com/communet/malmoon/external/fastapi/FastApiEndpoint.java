@@ -0,0 +1,34 @@
+package com.communet.malmoon.external.fastapi;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * FastAPI 엔드포인트 종류와 기본 설정.
+ * 엔드포인트마다 응답 시간과 서버 처리량이 다르므로 타임아웃, 동시 요청 수(bulkhead), 서킷 브레이커를 따로 둡니다.
+ * 기본값은 external.fastapi.endpoints.{이름}.* 설정으로 바꿀 수 있습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FastApiEndpoint {
+
+	/** Whisper 음성 인식 (GPU 처리량에 맞춰 동시 요청 수를 작게 유지) */
+	STT("stt", "/api/v1/stt/transcribe", Duration.ofSeconds(60), 4),
+
+	/** 동화 세션 종료 후 LLM 피드백 평가 */
+	FEEDBACK_EVAL("feedback-eval", "/api/v1/feedback/eval", Duration.ofSeconds(60), 8),
+
+	/** 초기 진단 LLM 평가 */
+	INITIAL_EVAL("initial-eval", "/api/v1/feedback/initial-eval", Duration.ofSeconds(60), 8),
+
+	/** AAC 이미지 생성 */
+	AAC_GENERATE("aacs-generate", "/api/v1/aacs/generate", Duration.ofSeconds(90), 8);
+
+	/** 메트릭 태그 값 */
+	private final String tagName;
+	private final String path;
+	private final Duration defaultReadTimeout;
+	private final int defaultMaxConcurrent;
+}
@@ -0,0 +1,154 @@
+package com.communet.malmoon.external.fastapi;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.communet.malmoon.common.config.FastApiProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 모든 FastAPI 호출이 거치는 공용 클라이언트.
+ * - 커넥션 풀({@link FastApiHttpConfig})을 공유하고, 엔드포인트별로 연결/응답 타임아웃을 따로 적용
+ * - bulkhead: 엔드포인트별 동시 요청 수 제한. 한 엔드포인트(예: STT)가 느려져도 다른 엔드포인트 호출은 영향받지 않음
+ * - 서킷 브레이커: 연속 실패 시 일정 시간 요청을 바로 거절 ({@link FastApiUnavailableException})
+ * - 엔드포인트별 지연 시간 히스토그램: fastapi.client.requests{endpoint, outcome}
+ *
+ * 4xx 응답은 서버가 정상 동작 중인 것으로 보고 서킷 실패로 집계하지 않습니다.
+ */
+@Component
+public class FastApiHttpClient {
+
+	private static final String METRIC_NAME = "fastapi.client.requests";
+
+	private final String baseUrl;
+	private final MeterRegistry meterRegistry;
+	private final Map<FastApiEndpoint, Route> routes = new EnumMap<>(FastApiEndpoint.class);
+
+	public FastApiHttpClient(FastApiProperties fastApiProperties, HttpClient fastApiPooledHttpClient,
+		RestTemplateBuilder restTemplateBuilder, MeterRegistry meterRegistry) {
+		this.baseUrl = fastApiProperties.getUrl();
+		this.meterRegistry = meterRegistry;
+		for (FastApiEndpoint endpoint : FastApiEndpoint.values()) {
+			routes.put(endpoint, createRoute(endpoint, fastApiProperties, fastApiPooledHttpClient, restTemplateBuilder));
+		}
+	}
+
+	private Route createRoute(FastApiEndpoint endpoint, FastApiProperties fastApiProperties, HttpClient httpClient,
+		RestTemplateBuilder restTemplateBuilder) {
+		FastApiProperties.Endpoint config = fastApiProperties.endpoint(endpoint);
+		Duration connectTimeout = config.getConnectTimeout() != null
+			? config.getConnectTimeout() : fastApiProperties.getPool().getConnectTimeout();
+		Duration readTimeout = config.getReadTimeout() != null
+			? config.getReadTimeout() : endpoint.getDefaultReadTimeout();
+		int maxConcurrent = config.getMaxConcurrent() != null
+			? config.getMaxConcurrent() : endpoint.getDefaultMaxConcurrent();
+
+		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+		requestFactory.setConnectTimeout(connectTimeout);
+		requestFactory.setReadTimeout(readTimeout);
+		requestFactory.setConnectionRequestTimeout(fastApiProperties.getPool().getConnectionRequestTimeout());
+
+		Route route = new Route(
+			restTemplateBuilder.requestFactory(() -> requestFactory).build(),
+			new Semaphore(maxConcurrent),
+			config.getMaxWait(),
+			new FastApiCircuitBreaker(config.getFailureThreshold(), config.getOpenDuration(), System::nanoTime));
+
+		Gauge.builder("fastapi.client.bulkhead.active", route.bulkhead, b -> maxConcurrent - b.availablePermits())
+			.tag("endpoint", endpoint.getTagName())
+			.description("진행 중인 FastAPI 요청 수")
+			.register(meterRegistry);
+		Gauge.builder("fastapi.client.circuit.state", route.circuitBreaker, c -> c.getState().ordinal())
+			.tag("endpoint", endpoint.getTagName())
+			.description("서킷 브레이커 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+			.register(meterRegistry);
+		return route;
+	}
+
+	/**
+	 * FastAPI 엔드포인트로 POST 요청을 보냅니다.
+	 *
+	 * @param endpoint     호출할 엔드포인트
+	 * @param request      요청 본문과 헤더
+	 * @param responseType 응답 타입
+	 * @return 응답
+	 * @throws FastApiUnavailableException 동시 요청 한도 초과 또는 서킷이 열려 호출하지 않은 경우
+	 * @throws org.springframework.web.client.RestClientException 호출 실패 시 (RestTemplate 예외 그대로 전달)
+	 */
+	public <T> ResponseEntity<T> post(FastApiEndpoint endpoint, HttpEntity<?> request, Class<T> responseType) {
+		Route route = routes.get(endpoint);
+		if (!acquire(route.bulkhead, route.maxWait)) {
+			record(endpoint, "REJECTED", 0);
+			throw new FastApiUnavailableException(endpoint, "동시 요청 한도 초과");
+		}
+		try {
+			if (!route.circuitBreaker.tryAcquirePermission()) {
+				record(endpoint, "REJECTED", 0);
+				throw new FastApiUnavailableException(endpoint, "서킷 브레이커 열림");
+			}
+			return execute(endpoint, route, request, responseType);
+		} finally {
+			route.bulkhead.release();
+		}
+	}
+
+	private <T> ResponseEntity<T> execute(FastApiEndpoint endpoint, Route route, HttpEntity<?> request,
+		Class<T> responseType) {
+		long start = System.nanoTime();
+		try {
+			ResponseEntity<T> response = route.restTemplate.postForEntity(baseUrl + endpoint.getPath(), request,
+				responseType);
+			route.circuitBreaker.onSuccess();
+			record(endpoint, "SUCCESS", System.nanoTime() - start);
+			return response;
+		} catch (HttpClientErrorException e) {
+			route.circuitBreaker.onSuccess();
+			record(endpoint, "CLIENT_ERROR", System.nanoTime() - start);
+			throw e;
+		} catch (RuntimeException e) {
+			route.circuitBreaker.onFailure();
+			String outcome = e instanceof HttpServerErrorException ? "SERVER_ERROR" : "IO_ERROR";
+			record(endpoint, outcome, System.nanoTime() - start);
+			throw e;
+		}
+	}
+
+	private boolean acquire(Semaphore bulkhead, Duration maxWait) {
+		try {
+			return bulkhead.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void record(FastApiEndpoint endpoint, String outcome, long nanos) {
+		Timer.builder(METRIC_NAME)
+			.description("FastAPI 엔드포인트별 호출 지연 시간")
+			.tag("endpoint", endpoint.getTagName())
+			.tag("outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	private record Route(RestTemplate restTemplate, Semaphore bulkhead, Duration maxWait,
+		FastApiCircuitBreaker circuitBreaker) {
+	}
+}
@@ -0,0 +1,50 @@
+package com.communet.malmoon.external.fastapi;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.communet.malmoon.common.config.FastApiProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * FastAPI 호출용 공용 HTTP 클라이언트 (Apache HttpClient 5 커넥션 풀)
+ * - HTTP/1.1 keep-alive 로 커넥션을 재사용하고, 서버가 끊기 전에 유휴 커넥션을 정리
+ * - 풀 사용량은 httpcomponents.httpclient.pool.* 메트릭으로 노출
+ */
+@Configuration
+public class FastApiHttpConfig {
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient fastApiPooledHttpClient(FastApiProperties fastApiProperties,
+		MeterRegistry meterRegistry) {
+		FastApiProperties.Pool pool = fastApiProperties.getPool();
+		TimeValue keepAlive = TimeValue.of(pool.getKeepAlive());
+
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(pool.getMaxTotal())
+			.setMaxConnPerRoute(pool.getMaxPerRoute())
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.of(pool.getConnectTimeout()))
+				.setValidateAfterInactivity(TimeValue.ofSeconds(1))
+				.build())
+			.build();
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "fastapi").bindTo(meterRegistry);
+
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setKeepAliveStrategy((response, context) -> keepAlive)
+			.evictIdleConnections(keepAlive)
+			.evictExpiredConnections()
+			.disableAutomaticRetries()
+			.build();
+	}
+}
@@ -0,0 +1,37 @@
+package com.communet.malmoon.external.fastapi;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * FastAPI 호출 오류의 재시도 여부 판단 기준 (호출 재시도와 작업 재시도가 같은 기준을 쓰도록 한곳에 둠)
+ * - 일시적 오류: 네트워크 오류/타임아웃, 5xx, 429, 클라이언트의 요청 거절(서킷 열림, 동시 요청 한도 초과)
+ * - 요청 거절은 일시적 오류지만 곧바로 다시 호출하면 장애 중인 서버에 재시도가 몰리므로,
+ *   수 초 안에 다시 부르는 호출 재시도({@link FastApiRetryExecutor})에서는 제외하고
+ *   서킷이 닫힐 만큼 기다린 뒤 다시 처리하는 작업 재시도(STT 변환, 피드백 평가 같은 점유 방식 작업)에서만 재시도
+ */
+public final class FastApiRetryClassifier {
+
+	private FastApiRetryClassifier() {
+	}
+
+	/**
+	 * 시간이 지나면 성공할 수 있는 오류인지 판단합니다. (작업 재시도 기준)
+	 */
+	public static boolean isTransient(Throwable e) {
+		if (e instanceof ResourceAccessException) {
+			return true;
+		}
+		return e instanceof HttpStatusCodeException statusError
+			&& (statusError.getStatusCode().is5xxServerError()
+			|| statusError.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS));
+	}
+
+	/**
+	 * 곧바로 다시 호출해도 되는 오류인지 판단합니다. (호출 재시도 기준)
+	 */
+	public static boolean isRetryableNow(Throwable e) {
+		return !(e instanceof FastApiUnavailableException) && isTransient(e);
+	}
+}
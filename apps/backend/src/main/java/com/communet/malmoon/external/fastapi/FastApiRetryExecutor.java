@@ -0,0 +1,221 @@
+package com.communet.malmoon.external.fastapi;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.communet.malmoon.common.config.FastApiProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FastAPI 호출을 비동기로 실행하고, 일시적 오류는 스레드를 붙잡지 않고 재시도하는 실행기.
+ * - 호출은 전용 풀(fastapi-call-)에서 실행하고 결과는 {@link CompletableFuture}로 돌려줌 (요청 스레드는 바로 반환)
+ * - 재시도 대기는 Thread.sleep 대신 taskScheduler 에 예약하므로 대기 중에는 어떤 스레드도 점유하지 않음
+ * - 대기 시간은 지수 백오프 + full jitter: 0 ~ min(maxDelay, baseDelay x 2^n) 사이 무작위
+ * - 재시도 대상은 {@link FastApiRetryClassifier#isRetryableNow}: 네트워크 오류/타임아웃, 5xx, 429.
+ *   4xx 와 클라이언트의 요청 거절(서킷 열림, 동시 요청 한도 초과)은 바로 실패
+ * - 엔드포인트별 재시도 예산: 장애 시 재시도가 부하를 몇 배로 늘리지 않도록 window 내 재시도 수를 요청 수에 비례해 제한
+ *
+ * 호출 함수는 시도마다 새로 실행되므로 요청 본문도 시도마다 다시 만들어야 합니다.
+ * (멀티파트는 업로드 스트림 대신 저장된 파일의 FileSystemResource 처럼 다시 읽을 수 있는 리소스를 사용)
+ *
+ * 메트릭: fastapi.client.retries{endpoint}, fastapi.client.calls{endpoint, outcome}
+ */
+@Slf4j
+@Component
+public class FastApiRetryExecutor {
+
+	private final TaskScheduler taskScheduler;
+	private final ThreadPoolTaskExecutor callExecutor;
+	private final MeterRegistry meterRegistry;
+	private final Duration baseDelay;
+	private final Duration maxDelay;
+	private final Map<FastApiEndpoint, RetryBudget> budgets = new EnumMap<>(FastApiEndpoint.class);
+	private final Map<FastApiEndpoint, Counter> retryCounters = new EnumMap<>(FastApiEndpoint.class);
+
+	public FastApiRetryExecutor(FastApiProperties fastApiProperties,
+		@Qualifier("taskScheduler") TaskScheduler taskScheduler, MeterRegistry meterRegistry) {
+		FastApiProperties.Retry retry = fastApiProperties.getRetry();
+		this.taskScheduler = taskScheduler;
+		this.meterRegistry = meterRegistry;
+		this.baseDelay = retry.getBaseDelay();
+		this.maxDelay = retry.getMaxDelay();
+
+		this.callExecutor = new ThreadPoolTaskExecutor();
+		this.callExecutor.setCorePoolSize(retry.getThreads());
+		this.callExecutor.setMaxPoolSize(retry.getThreads());
+		this.callExecutor.setQueueCapacity(retry.getQueueCapacity());
+		this.callExecutor.setThreadNamePrefix("fastapi-call-");
+		this.callExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		this.callExecutor.setWaitForTasksToCompleteOnShutdown(true);
+		this.callExecutor.setAwaitTerminationSeconds(30);
+		this.callExecutor.initialize();
+
+		for (FastApiEndpoint endpoint : FastApiEndpoint.values()) {
+			budgets.put(endpoint, new RetryBudget(retry.getBudgetWindow(), retry.getBudgetRatio(),
+				retry.getMinRetriesPerWindow()));
+			retryCounters.put(endpoint, Counter.builder("fastapi.client.retries")
+				.description("FastAPI 호출 재시도 횟수")
+				.tag("endpoint", endpoint.getTagName())
+				.register(meterRegistry));
+		}
+		Gauge.builder("fastapi.client.call.queue", callExecutor, e -> e.getThreadPoolExecutor().getQueue().size())
+			.description("실행 대기 중인 FastAPI 호출 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * FastAPI 호출을 비동기로 실행합니다. 일시적 오류는 최대 maxRetry 번 재시도합니다.
+	 *
+	 * @param endpoint 호출 대상 (재시도 예산/메트릭 구분용)
+	 * @param maxRetry 최대 재시도 횟수 (첫 시도 제외)
+	 * @param call     시도마다 실행할 호출. 요청 본문은 호출 안에서 새로 만들어야 함
+	 * @return 호출 결과. 실패 시 마지막 시도의 예외로 완료됨
+	 */
+	public <T> CompletableFuture<T> execute(FastApiEndpoint endpoint, int maxRetry, Supplier<T> call) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		budgets.get(endpoint).onRequest();
+		submit(new Attempt<>(endpoint, maxRetry, call, result), 0);
+		return result;
+	}
+
+	private <T> void submit(Attempt<T> attempt, int retry) {
+		try {
+			callExecutor.execute(() -> run(attempt, retry));
+		} catch (TaskRejectedException e) {
+			record(attempt.endpoint, "REJECTED");
+			attempt.result.completeExceptionally(new FastApiUnavailableException(attempt.endpoint, "호출 대기열 초과"));
+		}
+	}
+
+	private <T> void run(Attempt<T> attempt, int retry) {
+		T value;
+		try {
+			value = attempt.call.get();
+		} catch (RuntimeException e) {
+			onFailure(attempt, retry, e);
+			return;
+		} catch (Error e) {
+			attempt.result.completeExceptionally(e);
+			throw e;
+		}
+		record(attempt.endpoint, retry == 0 ? "SUCCESS" : "SUCCESS_AFTER_RETRY");
+		attempt.result.complete(value);
+	}
+
+	private <T> void onFailure(Attempt<T> attempt, int retry, RuntimeException e) {
+		FastApiEndpoint endpoint = attempt.endpoint;
+		String outcome = null;
+		if (!FastApiRetryClassifier.isRetryableNow(e)) {
+			outcome = "NON_RETRYABLE";
+		} else if (retry >= attempt.maxRetry) {
+			outcome = "EXHAUSTED";
+		} else if (!budgets.get(endpoint).tryAcquireRetry()) {
+			outcome = "BUDGET_EXHAUSTED";
+		}
+		if (outcome != null) {
+			record(endpoint, outcome);
+			attempt.result.completeExceptionally(e);
+			return;
+		}
+
+		Duration delay = backoff(retry);
+		retryCounters.get(endpoint).increment();
+		log.warn("[fastapi] {} 호출 실패, {}ms 후 재시도 ({}/{}) 원인={}",
+			endpoint.getTagName(), delay.toMillis(), retry + 1, attempt.maxRetry, e.getMessage());
+		try {
+			taskScheduler.schedule(() -> submit(attempt, retry + 1), Instant.now().plus(delay));
+		} catch (TaskRejectedException rejected) {
+			record(endpoint, "REJECTED");
+			attempt.result.completeExceptionally(e);
+		}
+	}
+
+	private Duration backoff(int retry) {
+		long cap = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(retry, 20));
+		return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+	}
+
+	private void record(FastApiEndpoint endpoint, String outcome) {
+		Counter.builder("fastapi.client.calls")
+			.description("재시도를 포함한 FastAPI 호출 최종 결과")
+			.tag("endpoint", endpoint.getTagName())
+			.tag("outcome", outcome)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		callExecutor.shutdown();
+	}
+
+	private record Attempt<T>(FastApiEndpoint endpoint, int maxRetry, Supplier<T> call, CompletableFuture<T> result) {
+	}
+
+	/**
+	 * 고정 window 재시도 예산. window 가 지나면 요청/재시도 수를 초기화합니다.
+	 * 초기화 경계에서 약간의 오차는 허용하고 락 없이 원자 변수만 사용합니다.
+	 */
+	private static final class RetryBudget {
+
+		private final long windowNanos;
+		private final double ratio;
+		private final int minRetries;
+		private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+		private final AtomicInteger requests = new AtomicInteger();
+		private final AtomicInteger retries = new AtomicInteger();
+
+		RetryBudget(Duration window, double ratio, int minRetries) {
+			this.windowNanos = window.toNanos();
+			this.ratio = ratio;
+			this.minRetries = minRetries;
+		}
+
+		void onRequest() {
+			rollWindow();
+			requests.incrementAndGet();
+		}
+
+		boolean tryAcquireRetry() {
+			rollWindow();
+			int limit = Math.max(minRetries, (int)(requests.get() * ratio));
+			while (true) {
+				int used = retries.get();
+				if (used >= limit) {
+					return false;
+				}
+				if (retries.compareAndSet(used, used + 1)) {
+					return true;
+				}
+			}
+		}
+
+		private void rollWindow() {
+			long start = windowStart.get();
+			long now = System.nanoTime();
+			if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+				requests.set(0);
+				retries.set(0);
+			}
+		}
+	}
+}
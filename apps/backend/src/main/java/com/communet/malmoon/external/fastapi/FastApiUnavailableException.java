@@ -0,0 +1,14 @@
+package com.communet.malmoon.external.fastapi;
+
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * FastAPI 를 호출하지 않고 거절된 요청 (동시 요청 한도 초과 또는 서킷 브레이커 열림).
+ * 연결 실패와 같은 일시적 장애로 취급되도록 {@link ResourceAccessException}을 상속합니다.
+ */
+public class FastApiUnavailableException extends ResourceAccessException {
+
+	public FastApiUnavailableException(FastApiEndpoint endpoint, String reason) {
+		super("FastAPI " + endpoint.getTagName() + " 요청 거절: " + reason);
+	}
+}
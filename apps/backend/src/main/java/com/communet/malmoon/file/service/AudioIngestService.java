@@ -0,0 +1,127 @@
+package com.communet.malmoon.file.service;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 음성 업로드 저장기
+ * - 업로드 파일을 임시 파일/메모리로 한 번 더 복사하지 않고 최종 저장 위치로 바로 옮깁니다.
+ *   (Tomcat 은 업로드를 임시 파일로 받아 두므로, 같은 파일시스템이면 rename 으로 끝나고 바이트 복사가 없습니다)
+ * - STT 요청은 저장된 파일을 FileSystemResource 로 열어 고정 크기 버퍼로 스트리밍하므로,
+ *   업로드 스트림을 두 번 읽지 않고 재시도 시에도 같은 파일을 다시 보낼 수 있습니다.
+ * - 업로드 1건당 저장 바이트 수와 처리 스레드의 힙 할당량을 기록합니다.
+ *   (audio.ingest.bytes, audio.ingest.allocated)
+ */
+@Component
+public class AudioIngestService {
+
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMxBean();
+	private static final Set<String> AUDIO_EXTENSIONS = Set.of("webm", "wav", "mp3", "m4a", "ogg", "aac", "flac");
+
+	private final Timer storeTimer;
+	private final DistributionSummary storedBytes;
+	private final DistributionSummary allocatedBytes;
+
+	public AudioIngestService(MeterRegistry meterRegistry) {
+		this.storeTimer = Timer.builder("audio.ingest.store")
+			.description("업로드 음성 파일 저장 소요 시간")
+			.register(meterRegistry);
+		this.storedBytes = DistributionSummary.builder("audio.ingest.bytes")
+			.description("업로드 1건당 저장된 바이트 수")
+			.baseUnit("bytes")
+			.register(meterRegistry);
+		this.allocatedBytes = DistributionSummary.builder("audio.ingest.allocated")
+			.description("업로드 1건 저장 중 할당된 힙 바이트 수")
+			.baseUnit("bytes")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 업로드 파일을 target 위치에 저장합니다. 상위 디렉터리가 없으면 생성합니다.
+	 *
+	 * @param file   업로드 파일
+	 * @param root   저장 위치 (target 은 이 디렉터리 아래여야 함)
+	 * @param target 저장 경로
+	 * @return 저장된 음성 파일 정보
+	 * @throws IOException 저장 실패 시
+	 * @throws IllegalArgumentException target 이 root 밖을 가리키는 경우 (예: 파일 이름에 "../" 포함)
+	 */
+	public StoredAudio store(MultipartFile file, Path root, Path target) throws IOException {
+		Path absolute = target.toAbsolutePath().normalize();
+		if (!absolute.startsWith(root.toAbsolutePath().normalize()) || absolute.getParent() == null) {
+			throw new IllegalArgumentException("저장 위치를 벗어난 경로입니다: " + target);
+		}
+		Files.createDirectories(absolute.getParent());
+
+		long allocatedBefore = currentThreadAllocatedBytes();
+		long start = System.nanoTime();
+		// File 대상 transferTo 는 Tomcat Part.write 로 위임되어 임시 파일을 rename 합니다.
+		// (Path 대상 transferTo 는 스트림 복사이므로 사용하지 않음)
+		file.transferTo(absolute.toFile());
+		storeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+		long allocatedAfter = currentThreadAllocatedBytes();
+		if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+			allocatedBytes.record(allocatedAfter - allocatedBefore);
+		}
+		long size = Files.size(absolute);
+		storedBytes.record(size);
+
+		return new StoredAudio(target, size, file.getOriginalFilename(), file.getContentType());
+	}
+
+	/**
+	 * 원본 파일 이름의 확장자가 허용된 음성 확장자이면 소문자로 바꾼 그 확장자를, 아니면 fallback 을 반환합니다.
+	 * 원본 파일 이름은 클라이언트가 정하므로 경로 구분자 등이 섞인 값을 저장 경로에 쓰지 않기 위함입니다.
+	 *
+	 * @param originalName 업로드 시 원본 파일 이름 (null 가능)
+	 * @param fallback     허용되지 않은 확장자일 때 쓸 확장자 (예: ".webm")
+	 */
+	public static String audioExtension(String originalName, String fallback) {
+		if (originalName != null) {
+			int dot = originalName.lastIndexOf('.');
+			if (dot != -1) {
+				String ext = originalName.substring(dot + 1).toLowerCase(Locale.ROOT);
+				if (AUDIO_EXTENSIONS.contains(ext)) {
+					return "." + ext;
+				}
+			}
+		}
+		return fallback;
+	}
+
+	private static long currentThreadAllocatedBytes() {
+		return THREAD_MX_BEAN == null ? -1 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+	}
+
+	private static com.sun.management.ThreadMXBean threadMxBean() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+			&& bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+			return bean;
+		}
+		return null;
+	}
+
+	/**
+	 * 저장된 음성 파일 정보
+	 *
+	 * @param path             저장 경로
+	 * @param size             파일 크기 (bytes)
+	 * @param originalFilename 업로드 시 원본 파일 이름
+	 * @param contentType      업로드 시 Content-Type
+	 */
+	public record StoredAudio(Path path, long size, String originalFilename, String contentType) {
+	}
+}
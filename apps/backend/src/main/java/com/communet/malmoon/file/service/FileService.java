@@ -1,5 +1,8 @@
 package com.communet.malmoon.file.service;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.springframework.web.multipart.MultipartFile;
 
 import com.communet.malmoon.file.dto.request.PresignPutReq;
@@ -38,6 +41,14 @@ public interface FileService {
 	 */
 	String getPresignedFileUrl(Long fileId);
 
+	/**
+	 * 여러 fileId의 presigned 이미지 URL을 한 번에 반환합니다.
+	 * File 조회는 IN 쿼리 1회로 처리되며, 서명된 URL은 만료 전까지 로컬 캐시에서 재사용됩니다.
+	 * @param fileIds 파일 테이블의 ID 목록
+	 * @return fileId → Presigned URL 매핑
+	 */
+	Map<Long, String> getPresignedFileUrls(Collection<Long> fileIds);
+
 	// 신규: Pre-Signed 방식
 	PresignPutRes presignPut(PresignPutReq req, Long uploaderId);
 	UploadConfirmRes confirmUpload(UploadConfirmReq req, Long uploaderId);
@@ -4,8 +4,15 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -19,6 +26,8 @@ import com.communet.malmoon.file.dto.response.FileUploadRes;
 import com.communet.malmoon.file.dto.response.PresignPutRes;
 import com.communet.malmoon.file.dto.response.UploadConfirmRes;
 import com.communet.malmoon.file.repository.FileRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,6 +51,17 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 @Slf4j
 public class FileServiceImpl implements FileService {
 
+	private static final Duration PRESIGNED_GET_DURATION = Duration.ofMinutes(10);
+	// 만료 직전의 URL이 내려가지 않도록 서명 유효기간보다 먼저 캐시에서 제거
+	private static final Duration PRESIGNED_GET_CACHE_TTL = Duration.ofMinutes(8);
+	private static final long PRESIGNED_GET_CACHE_MAX_SIZE = 10_000;
+
+	// key: fileId + ":" + S3 key → presigned GET URL
+	private final Cache<String, String> presignedUrlCache = CacheBuilder.newBuilder()
+		.expireAfterWrite(PRESIGNED_GET_CACHE_TTL)
+		.maximumSize(PRESIGNED_GET_CACHE_MAX_SIZE)
+		.build();
+
 	private final S3Presigner s3Presigner;
 	private final S3Client s3Client;
 	private final S3Uploader s3Uploader;
@@ -135,20 +155,40 @@ public class FileServiceImpl implements FileService {
 			throw new IllegalStateException("삭제된 파일입니다. ID=" + fileId);
 		}
 
-		String key = file.getFilename();
+		return cachedPresignedGetUrl(file);
+	}
 
-		GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-			.bucket(bucket)
-			.key(key)
-			.build();
+	@Override
+	public Map<Long, String> getPresignedFileUrls(Collection<Long> fileIds) {
+		Set<Long> ids = fileIds.stream()
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet());
+		if (ids.isEmpty()) {
+			return Map.of();
+		}
 
-		GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-			.signatureDuration(Duration.ofMinutes(10))
-			.getObjectRequest(getObjectRequest)
-			.build();
+		// IN 쿼리 1회로 File 일괄 조회
+		Map<Long, File> files = fileRepository.findAllById(ids).stream()
+			.collect(Collectors.toMap(File::getId, Function.identity()));
+
+		Map<Long, String> urls = new HashMap<>(ids.size());
+		for (Long fileId : ids) {
+			File file = files.get(fileId);
+			if (file == null) {
+				throw new IllegalArgumentException("해당 파일이 존재하지 않습니다. ID=" + fileId);
+			}
+			if (file.isDeleted()) {
+				throw new IllegalStateException("삭제된 파일입니다. ID=" + fileId);
+			}
+			urls.put(fileId, cachedPresignedGetUrl(file));
+		}
+		return urls;
+	}
 
-		PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-		return presignedRequest.url().toString();
+	private String cachedPresignedGetUrl(File file) {
+		String cacheKey = file.getId() + ":" + file.getFilename();
+		return presignedUrlCache.asMap().computeIfAbsent(cacheKey,
+			k -> presignGet(file.getFilename(), (int) PRESIGNED_GET_DURATION.toSeconds()));
 	}
 
 	@Override
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,4 +16,6 @@ public interface FilterRepository extends JpaRepository<Filter, Long> {
     @EntityGraph(attributePaths = {"owner"})
     @Query("SELECT f FROM Filter f WHERE f.status = :status AND (f.owner = :owner OR f.owner IS NULL)")
     List<Filter> findFiltersByStatusForOwnerOrGlobal(FilterStatusType status, Member owner);
+
+    long countByFilterIdIn(Collection<Long> filterIds);
 }
@@ -0,0 +1,38 @@
+package com.communet.malmoon.filter.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 필터 묶음 매핑(filter_set_info)의 일괄 쓰기를 담당하는 JDBC 리포지토리입니다.
+ * IDENTITY 전략 엔티티의 건별 insert 대신 JDBC batch 한 번으로 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FilterSetInfoJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO filter_set_info (filter_set_filter_set_id, filter_filter_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 필터 묶음에 필터들을 일괄 연결합니다.
+     *
+     * @param filterSetId 필터 묶음 ID
+     * @param filterIds 연결할 필터 ID 목록
+     */
+    public void batchInsert(Long filterSetId, List<Long> filterIds) {
+        if (filterIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, filterIds, filterIds.size(), (ps, filterId) -> {
+            ps.setLong(1, filterSetId);
+            ps.setLong(2, filterId);
+        });
+    }
+}
@@ -3,10 +3,25 @@ package com.communet.malmoon.filter.repository;
 import com.communet.malmoon.filter.domain.FilterSet;
 import com.communet.malmoon.filter.domain.FilterSetInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface FilterSetInfoRepository extends JpaRepository<FilterSetInfo, Long> {
     List<FilterSetInfo> findByFilterSet(FilterSet filterSet);
-    void deleteByFilterSet(FilterSet filterSet);
+
+    @Query("SELECT i.filter.filterId FROM FilterSetInfo i WHERE i.filterSet = :filterSet")
+    List<Long> findFilterIdsByFilterSet(@Param("filterSet") FilterSet filterSet);
+
+    @Modifying
+    @Query("DELETE FROM FilterSetInfo i WHERE i.filterSet = :filterSet")
+    void deleteByFilterSet(@Param("filterSet") FilterSet filterSet);
+
+    @Modifying
+    @Query("DELETE FROM FilterSetInfo i WHERE i.filterSet = :filterSet AND i.filter.filterId IN :filterIds")
+    void deleteByFilterSetAndFilterIdIn(@Param("filterSet") FilterSet filterSet,
+                                        @Param("filterIds") Collection<Long> filterIds);
 }
@@ -1,6 +1,5 @@
 package com.communet.malmoon.filter.service;
 
-import com.communet.malmoon.filter.domain.Filter;
 import com.communet.malmoon.filter.domain.FilterSet;
 import com.communet.malmoon.filter.domain.FilterSetInfo;
 import com.communet.malmoon.filter.dto.request.FilterSetCreateReq;
@@ -11,6 +10,7 @@ import com.communet.malmoon.filter.dto.response.FilterSetSimpleRes;
 import com.communet.malmoon.filter.exception.FilterErrorCode;
 import com.communet.malmoon.filter.exception.FilterException;
 import com.communet.malmoon.filter.repository.FilterRepository;
+import com.communet.malmoon.filter.repository.FilterSetInfoJdbcRepository;
 import com.communet.malmoon.filter.repository.FilterSetInfoRepository;
 import com.communet.malmoon.filter.repository.FilterSetRepository;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +28,7 @@ public class FilterSetService {
     private final FilterRepository filterRepository;
     private final FilterSetRepository filterSetRepository;
     private final FilterSetInfoRepository filterSetInfoRepository;
+    private final FilterSetInfoJdbcRepository filterSetInfoJdbcRepository;
 
     /**
      * 필터 묶음을 생성하고, 선택된 필터들을 묶음에 연결합니다.
@@ -38,14 +39,7 @@ public class FilterSetService {
      */
     @Transactional
     public FilterSetCreateRes createFilterSet(FilterSetCreateReq request, Long memberId) {
-        if (request.getFilterIds() == null || request.getFilterIds().isEmpty()) {
-            throw new FilterException(FilterErrorCode.REQUEST_FILTER_NOT_FOUND);
-        }
-
-        Set<Long> uniqueIds = new HashSet<>(request.getFilterIds());
-        if (uniqueIds.size() != request.getFilterIds().size()) {
-            throw new FilterException(FilterErrorCode.DUPLICATED_FILTER_IN_SET);
-        }
+        validateFilterIds(request.getFilterIds());
 
         // 1. FilterSet 생성
         FilterSet filterSet = filterSetRepository.save(
@@ -56,16 +50,8 @@ public class FilterSetService {
                         .build()
         );
 
-        // 2. FilterSetInfo 저장
-        for (Long filterId : request.getFilterIds()) {
-            Filter filter = filterRepository.findById(filterId)
-                    .orElseThrow(() -> new FilterException(FilterErrorCode.FILTER_NOT_FOUND));
-
-            filterSetInfoRepository.save(FilterSetInfo.builder()
-                    .filterSet(filterSet)
-                    .filter(filter)
-                    .build());
-        }
+        // 2. FilterSetInfo 일괄 저장
+        filterSetInfoJdbcRepository.batchInsert(filterSet.getFilterSetId(), request.getFilterIds());
 
         return FilterSetCreateRes.builder().filterSetId(filterSet.getFilterSetId()).build();
     }
@@ -102,6 +88,7 @@ public class FilterSetService {
 
     /**
      * 필터 묶음 수정 (이름, 설명, 포함된 필터 모두 갱신)
+     * 포함된 필터는 전체 삭제 후 재등록하지 않고 차이분만 반영합니다.
      */
     @Transactional
     public void updateFilterSet(Long filterSetId, FilterSetUpdateReq request, Long memberId) {
@@ -116,18 +103,34 @@ public class FilterSetService {
         filterSet.setName(request.getName());
         filterSet.setDescription(request.getDescription());
 
-        // 기존 매핑 삭제 후 재등록
-        filterSetInfoRepository.deleteByFilterSet(filterSet);
+        // 기존과 같이 존재하지 않는 필터만 거부 (빈 목록은 모든 필터 제거)
+        Set<Long> requested = new HashSet<>(request.getFilterIds());
+        if (!requested.isEmpty() && filterRepository.countByFilterIdIn(requested) != requested.size()) {
+            throw new FilterException(FilterErrorCode.FILTER_NOT_FOUND);
+        }
+
+        List<Long> currentIds = filterSetInfoRepository.findFilterIdsByFilterSet(filterSet);
+        Set<Long> current = new HashSet<>(currentIds);
+        if (current.size() != currentIds.size() || requested.size() != request.getFilterIds().size()) {
+            // 같은 필터가 여러 번 포함되면 차이를 계산할 수 없으므로 기존처럼 전체 교체
+            filterSetInfoRepository.deleteByFilterSet(filterSet);
+            filterSetInfoJdbcRepository.batchInsert(filterSet.getFilterSetId(), request.getFilterIds());
+            return;
+        }
 
-        for (Long filterId : request.getFilterIds()) {
-            Filter filter = filterRepository.findById(filterId)
-                    .orElseThrow(() -> new FilterException(FilterErrorCode.FILTER_NOT_FOUND));
+        // 기존 매핑과 비교하여 빠진 필터는 삭제, 새 필터만 추가
 
-            filterSetInfoRepository.save(FilterSetInfo.builder()
-                    .filterSet(filterSet)
-                    .filter(filter)
-                    .build());
+        List<Long> removed = current.stream()
+                .filter(filterId -> !requested.contains(filterId))
+                .toList();
+        List<Long> added = request.getFilterIds().stream()
+                .filter(filterId -> !current.contains(filterId))
+                .toList();
+
+        if (!removed.isEmpty()) {
+            filterSetInfoRepository.deleteByFilterSetAndFilterIdIn(filterSet, removed);
         }
+        filterSetInfoJdbcRepository.batchInsert(filterSet.getFilterSetId(), added);
     }
 
     /**
@@ -145,4 +148,22 @@ public class FilterSetService {
         filterSetInfoRepository.deleteByFilterSet(filterSet);
         filterSetRepository.delete(filterSet);
     }
+
+    /**
+     * 묶음에 포함할 필터 ID 목록을 검증합니다. (존재 여부는 IN 조건 count 쿼리 1회)
+     */
+    private void validateFilterIds(List<Long> filterIds) {
+        if (filterIds == null || filterIds.isEmpty()) {
+            throw new FilterException(FilterErrorCode.REQUEST_FILTER_NOT_FOUND);
+        }
+
+        Set<Long> uniqueIds = new HashSet<>(filterIds);
+        if (uniqueIds.size() != filterIds.size()) {
+            throw new FilterException(FilterErrorCode.DUPLICATED_FILTER_IN_SET);
+        }
+
+        if (filterRepository.countByFilterIdIn(uniqueIds) != uniqueIds.size()) {
+            throw new FilterException(FilterErrorCode.FILTER_NOT_FOUND);
+        }
+    }
 }
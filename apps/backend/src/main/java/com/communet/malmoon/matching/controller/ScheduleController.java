@@ -5,11 +5,13 @@ import com.communet.malmoon.matching.domain.StatusType;
 import com.communet.malmoon.matching.dto.request.ScheduleGetReq;
 import com.communet.malmoon.matching.dto.request.SchedulePostReq;
 import com.communet.malmoon.matching.dto.request.ScheduleUpdateReq;
+import com.communet.malmoon.matching.dto.request.TherapistSearchReq;
 import com.communet.malmoon.matching.dto.response.*;
 import com.communet.malmoon.matching.service.ScheduleService;
 import com.communet.malmoon.member.domain.Member;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -67,6 +69,14 @@ public class ScheduleController {
         return ResponseEntity.ok(scheduleService.getTherapists(member));
     }
 
+    // [GET] 조건(예약 가능 요일/시간, 최소 경력 연차, 지역)으로 매칭 가능한 치료사 페이지 조회
+    @GetMapping("/therapist/search")
+    public ResponseEntity<Page<TherapistRes>> searchTherapists(
+            @CurrentMember Member member,
+            @ModelAttribute TherapistSearchReq req) {
+        return ResponseEntity.ok(scheduleService.searchTherapists(member, req));
+    }
+
     @GetMapping("/me/therapist/accepted")
     public ResponseEntity<List<MyTherapistScheduleRes>> getMyTherapistsAccepted(@CurrentMember Member member) {
         return ResponseEntity.ok(scheduleService.getMyTherapists(member, StatusType.ACCEPTED));
@@ -5,7 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "day_time")
+@Table(name = "day_time", indexes = @Index(name = "idx_day_time_schedule", columnList = "schedule_id"))
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
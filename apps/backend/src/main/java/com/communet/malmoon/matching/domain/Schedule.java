@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "schedule")
+@Table(name = "schedule", indexes = {
+        // 치료사별 기간 겹침 + 상태 조회 (예약 가능 시간 계산)
+        @Index(name = "idx_schedule_therapist_period_status", columnList = "therapist_id, start_date, end_date, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
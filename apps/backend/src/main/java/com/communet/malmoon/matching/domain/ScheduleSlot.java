@@ -0,0 +1,39 @@
+package com.communet.malmoon.matching.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 치료사의 날짜별 확정(예약)된 시간 (슬롯 원장)
+ * - 치료사 1명의 하루를 한 행으로, 0~23시를 24비트 마스크(hours)로 표현
+ * - 예약/해제는 {@link com.communet.malmoon.matching.repository.ScheduleSlotRepository} 의 조건부 갱신으로만 수행
+ *   (겹치는 비트가 없을 때만 반영되므로 같은 시간을 두 번 예약할 수 없음)
+ */
+@Entity
+@Table(name = "schedule_slot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_schedule_slot_therapist_date", columnNames = {"therapist_id", "slot_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ScheduleSlot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long scheduleSlotId;
+
+    @Column(name = "therapist_id", nullable = false)
+    private Long therapistId;
+
+    @Column(name = "slot_date", nullable = false)
+    private LocalDate slotDate;
+
+    @Column(name = "hours", nullable = false)
+    private int hours;
+}
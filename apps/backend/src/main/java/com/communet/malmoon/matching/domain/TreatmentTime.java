@@ -5,7 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "treatment_time")
+@Table(name = "treatment_time", indexes = @Index(name = "idx_treatment_time_therapist", columnList = "therapist_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,65 @@
+package com.communet.malmoon.matching.domain;
+
+import com.communet.malmoon.matching.dto.request.DayTimeReq;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요일별 0~23시 예약 가능 여부를 24비트 마스크로 표현
+ * - 요일(DayType.ordinal())마다 int 하나, n번째 비트가 n시
+ * - 가능 시간 = 치료 시간 AND NOT 예약된 시간 (요일당 비트 연산 한 번)
+ */
+public final class WeeklyHourMask {
+
+    private static final int HOURS_PER_DAY = 24;
+    private static final DayType[] DAYS = DayType.values();
+
+    private final int[] masks = new int[DAYS.length];
+
+    public void set(DayType day, Integer hour) {
+        if (day == null || hour == null || hour < 0 || hour >= HOURS_PER_DAY) {
+            return;
+        }
+        masks[day.ordinal()] |= 1 << hour;
+    }
+
+    public boolean contains(DayType day, int hour) {
+        return hour >= 0 && hour < HOURS_PER_DAY && (masks[day.ordinal()] & (1 << hour)) != 0;
+    }
+
+    public int get(DayType day) {
+        return masks[day.ordinal()];
+    }
+
+    public boolean hasAny(DayType day) {
+        return masks[day.ordinal()] != 0;
+    }
+
+    /**
+     * 이 마스크에서 other 에 켜진 시간을 뺀 새 마스크를 반환
+     */
+    public WeeklyHourMask andNot(WeeklyHourMask other) {
+        WeeklyHourMask result = new WeeklyHourMask();
+        for (int i = 0; i < masks.length; i++) {
+            result.masks[i] = masks[i] & ~other.masks[i];
+        }
+        return result;
+    }
+
+    /**
+     * 켜진 비트를 요일, 시간 오름차순의 DayTimeReq 목록으로 변환
+     */
+    public List<DayTimeReq> toDayTimes() {
+        List<DayTimeReq> dayTimes = new ArrayList<>();
+        for (DayType day : DAYS) {
+            int mask = masks[day.ordinal()];
+            while (mask != 0) {
+                int hour = Integer.numberOfTrailingZeros(mask);
+                dayTimes.add(new DayTimeReq(day, hour));
+                mask &= mask - 1;
+            }
+        }
+        return dayTimes;
+    }
+}
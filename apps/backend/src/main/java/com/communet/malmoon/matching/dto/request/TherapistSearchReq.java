@@ -0,0 +1,31 @@
+package com.communet.malmoon.matching.dto.request;
+
+import com.communet.malmoon.matching.domain.DayType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 매칭 치료사 목록 검색 요청 DTO
+ * 모든 조건은 선택이며, 지정한 조건을 모두 만족하는 치료사만 조회
+ */
+@Data
+public class TherapistSearchReq {
+
+    @Schema(description = "예약 가능한 요일", example = "MONDAY")
+    private DayType day;
+
+    @Schema(description = "예약 가능한 시간 (0~23, day 와 함께 사용)", example = "10")
+    private Integer time;
+
+    @Schema(description = "최소 경력 연차", example = "3")
+    private Integer minCareerYears;
+
+    @Schema(description = "활동 지역 (구)", example = "강남구")
+    private String district;
+
+    @Schema(description = "페이지 번호", example = "0")
+    private int page;
+
+    @Schema(description = "페이지당 개수", example = "10")
+    private int size = 10;
+}
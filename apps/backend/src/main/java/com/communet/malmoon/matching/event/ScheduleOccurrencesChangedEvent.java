@@ -0,0 +1,25 @@
+package com.communet.malmoon.matching.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 수락된 스케줄이 생기거나 없어져 치료사/회원의 날짜별 수업 목록이 바뀌었음을 알리는 도메인 이벤트입니다.
+ * 날짜별 수업 색인(Redis)에서 영향받는 날짜의 항목만 무효화하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleOccurrencesChangedEvent {
+
+    /** 치료사 ID (= 치료사 회원 ID) */
+    private final Long therapistId;
+
+    /** 스케줄을 요청한 회원 ID (nullable) */
+    private final Long memberId;
+
+    /** 수업이 있는(요일이 일치하는) 날짜 */
+    private final Set<LocalDate> dates;
+}
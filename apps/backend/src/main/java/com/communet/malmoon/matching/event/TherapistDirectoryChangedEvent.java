@@ -0,0 +1,16 @@
+package com.communet.malmoon.matching.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 매칭 목록에 노출되는 치료사 정보(프로필, 경력, 치료 시간, 예약 현황)가 변경되었음을 알리는 도메인 이벤트입니다.
+ * 치료사 디렉터리(메모리 스냅샷)의 해당 치료사 항목 갱신에 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class TherapistDirectoryChangedEvent {
+
+    /** 변경된 치료사 ID (= 치료사 회원 ID) */
+    private final Long therapistId;
+}
@@ -0,0 +1,26 @@
+package com.communet.malmoon.matching.exception;
+
+import com.communet.malmoon.common.exception.ApiErrorRes;
+import com.communet.malmoon.common.exception.ExceptionResponseUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+
+// 전역 처리기(Exception 전체 처리)보다 먼저 적용되어야 409 로 응답
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice(basePackages = "com.communet.malmoon.matching")
+public class MatchingExceptionHandler {
+
+    @ExceptionHandler(ScheduleSlotConflictException.class)
+    public ResponseEntity<ApiErrorRes> slotConflict(ScheduleSlotConflictException e, WebRequest request) {
+        log.warn("ScheduleSlotConflictException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ExceptionResponseUtils.build(HttpStatus.CONFLICT, e.getMessage(), request));
+    }
+}
@@ -0,0 +1,20 @@
+package com.communet.malmoon.matching.exception;
+
+import java.time.LocalDate;
+
+/**
+ * 요청/수락하려는 요일·시간이 같은 치료사의 이미 확정된 스케줄과 겹칠 때 발생 (409)
+ */
+public class ScheduleSlotConflictException extends RuntimeException {
+
+    private final LocalDate conflictDate;
+
+    public ScheduleSlotConflictException(LocalDate conflictDate) {
+        super(conflictDate + " 에 이미 예약된 시간이 포함되어 있습니다.");
+        this.conflictDate = conflictDate;
+    }
+
+    public LocalDate getConflictDate() {
+        return conflictDate;
+    }
+}
@@ -0,0 +1,29 @@
+package com.communet.malmoon.matching.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 치료사가 받은 대기 중 스케줄 요청 한 행 (조회 전용 프로젝션)
+ * 요청한 회원 정보와 회원의 가장 최근 간이 진단 결과를 함께 담음 (진단 결과가 없으면 null)
+ */
+public interface PendingScheduleView {
+    Long getScheduleId();
+
+    Long getMemberId();
+
+    String getName();
+
+    String getEmail();
+
+    String getTelephone();
+
+    LocalDateTime getCreateDate();
+
+    String getEvaluation();
+
+    String getImprovements();
+
+    String getRecommendations();
+
+    String getStrengths();
+}
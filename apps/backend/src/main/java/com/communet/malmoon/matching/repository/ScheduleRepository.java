@@ -1,7 +1,12 @@
 package com.communet.malmoon.matching.repository;
 
+import com.communet.malmoon.matching.domain.DayType;
 import com.communet.malmoon.matching.domain.Schedule;
 import com.communet.malmoon.matching.domain.StatusType;
+import com.communet.malmoon.matching.dto.request.DayTimeReq;
+import com.communet.malmoon.matching.dto.response.MemberScheduleRes;
+import com.communet.malmoon.matching.dto.response.TherapistScheduleRes;
+import com.communet.malmoon.matching.service.directory.TherapistDayTime;
 import com.communet.malmoon.member.domain.Member;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,48 +25,149 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             LocalDate startDate
     );
 
+    /**
+     * 기간이 겹치는 치료사의 스케줄에 잡힌 요일/시간만 한 번의 조회로 가져옴
+     * (schedule(therapist_id, start_date, end_date, status), day_time(schedule_id) 인덱스 사용)
+     */
+    @Query("""
+    SELECT new com.communet.malmoon.matching.dto.request.DayTimeReq(dt.day, dt.time)
+    FROM DayTime dt
+    JOIN dt.schedule s
+    WHERE s.therapist.memberId = :therapistId
+    AND s.startDate <= :endDate
+    AND s.endDate >= :startDate
+    AND s.status IN :statuses
+    """)
+    List<DayTimeReq> findBusyDayTimes(
+            @Param("therapistId") Long therapistId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("statuses") List<StatusType> statuses
+    );
+
+    /**
+     * 기준일 이후에도 유효한 스케줄에 잡힌 치료사별 요일/시간 (치료사 디렉터리 전체 적재용)
+     */
+    @Query("""
+    SELECT new com.communet.malmoon.matching.service.directory.TherapistDayTime(s.therapist.memberId, dt.day, dt.time)
+    FROM DayTime dt
+    JOIN dt.schedule s
+    WHERE s.endDate >= :date
+    AND s.status IN :statuses
+    """)
+    List<TherapistDayTime> findOccupiedDayTimesFrom(
+            @Param("date") LocalDate date,
+            @Param("statuses") List<StatusType> statuses
+    );
+
+    /**
+     * 기준일 이후에도 유효한 치료사 스케줄에 잡힌 요일/시간 (치료사 디렉터리 개별 갱신용)
+     */
+    @Query("""
+    SELECT new com.communet.malmoon.matching.dto.request.DayTimeReq(dt.day, dt.time)
+    FROM DayTime dt
+    JOIN dt.schedule s
+    WHERE s.therapist.memberId = :therapistId
+    AND s.endDate >= :date
+    AND s.status IN :statuses
+    """)
+    List<DayTimeReq> findOccupiedDayTimesByTherapistFrom(
+            @Param("therapistId") Long therapistId,
+            @Param("date") LocalDate date,
+            @Param("statuses") List<StatusType> statuses
+    );
+
     List<Schedule> findAllByTherapist_MemberIdAndStatus(
             Long therapistId,
             StatusType status
     );
 
+    /**
+     * 치료사가 받은 대기 중 요청을 요청 회원, 회원의 가장 최근 간이 진단 결과와 함께 한 번에 조회
+     * 진단 결과는 결과가 있는 시도 중 가장 최근 것 1건만 LATERAL 조인 (initial_test_attempt(child_id, created_at) 인덱스 사용)
+     */
+    @Query(value = """
+    SELECT s.schedule_id AS scheduleId,
+           m.member_id AS memberId,
+           m.name AS name,
+           m.email AS email,
+           m.tel1 AS telephone,
+           s.created_at AS createDate,
+           r.evaluation AS evaluation,
+           r.improvements AS improvements,
+           r.recommendations AS recommendations,
+           r.strengths AS strengths
+    FROM schedule s
+    JOIN member m ON m.member_id = s.member_id
+    LEFT JOIN LATERAL (
+        SELECT tr.evaluation, tr.improvements, tr.recommendations, tr.strengths
+        FROM initial_test_attempt ta
+        JOIN initial_test_result tr ON tr.attempt_id = ta.attempt_id
+        WHERE ta.child_id = m.member_id
+        ORDER BY ta.created_at DESC
+        LIMIT 1
+    ) r ON true
+    WHERE s.therapist_id = :therapistId
+    AND s.status = 'PENDING'
+    ORDER BY s.created_at, s.schedule_id
+    """, nativeQuery = true)
+    List<PendingScheduleView> findPendingWithLatestDiagnostic(@Param("therapistId") Long therapistId);
+
     @Query("select s.therapist.memberId from Schedule s " +
             "where s.member.memberId = :memberId and s.status in :statuses")
     Set<Long> findTherapistIdsByMemberAndStatuses(@Param("memberId") Long memberId,
                                                   @Param("statuses") List<StatusType> statuses);
 
+    @Query("select s.member.memberId from Schedule s " +
+            "where s.therapist.memberId = :therapistId and s.status in :statuses")
+    Set<Long> findMemberIdsByTherapistAndStatuses(@Param("therapistId") Long therapistId,
+                                                  @Param("statuses") List<StatusType> statuses);
+
     List<Schedule> findByMemberAndStatus(Member member, StatusType status);
 
     void deleteByScheduleIdAndMember(Long scheduleId, Member member);
 
     List<Schedule> findByTherapistAndStatus(Member therapist, StatusType status);
 
+    /**
+     * 회원의 특정 날짜 수업(요일이 일치하는 수락 스케줄의 시간) 목록
+     */
     @Query("""
-    SELECT s FROM Schedule s
-    JOIN FETCH s.member m
-    JOIN FETCH s.therapist
-    LEFT JOIN FETCH s.dayTimes
-    WHERE m.memberId = :memberId
+    SELECT new com.communet.malmoon.matching.dto.response.MemberScheduleRes(t.memberId, t.name, dt.time)
+    FROM Schedule s
+    JOIN s.therapist t
+    JOIN s.dayTimes dt
+    WHERE s.member.memberId = :memberId
     AND s.status = :status
     AND :date BETWEEN s.startDate AND s.endDate
+    AND dt.day = :day
+    ORDER BY dt.time, t.memberId
     """)
-    List<Schedule> findAcceptedSchedulesByMemberIdAndDate(
+    List<MemberScheduleRes> findMemberOccurrences(
             @Param("memberId") Long memberId,
             @Param("status") StatusType status,
-            @Param("date") LocalDate date
+            @Param("date") LocalDate date,
+            @Param("day") DayType day
     );
 
+    /**
+     * 치료사의 특정 날짜 수업(요일이 일치하는 수락 스케줄의 시간) 목록
+     */
     @Query("""
-    SELECT s FROM Schedule s
-    JOIN FETCH s.therapist t
-    LEFT JOIN FETCH s.dayTimes
-    WHERE s.status = :status
+    SELECT new com.communet.malmoon.matching.dto.response.TherapistScheduleRes(m.memberId, m.name, dt.time)
+    FROM Schedule s
+    JOIN s.member m
+    JOIN s.dayTimes dt
+    WHERE s.therapist.memberId = :therapistId
+    AND s.status = :status
     AND :date BETWEEN s.startDate AND s.endDate
-    AND t.memberId = :therapistId
+    AND dt.day = :day
+    ORDER BY dt.time, m.memberId
     """)
-    List<Schedule> findAcceptedSchedulesByTherapistIdAndDate(
+    List<TherapistScheduleRes> findTherapistOccurrences(
             @Param("therapistId") Long therapistId,
             @Param("status") StatusType status,
-            @Param("date") LocalDate date
+            @Param("date") LocalDate date,
+            @Param("day") DayType day
     );
 }
@@ -0,0 +1,62 @@
+package com.communet.malmoon.matching.repository;
+
+import com.communet.malmoon.matching.domain.ScheduleSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ScheduleSlotRepository extends JpaRepository<ScheduleSlot, Long> {
+
+    /**
+     * 해당 날짜의 시간(mask)을 예약. 이미 예약된 시간과 겹치면 반영하지 않음
+     * 행이 없으면 만들고, 있으면 겹침 검사와 비트 설정을 한 문장으로 처리하므로 읽고-쓰기 사이의 경쟁이 없음
+     * 단, 반영된 행(치료사, 날짜)은 호출 트랜잭션이 끝날 때까지 행 잠금이 유지되어
+     * 같은 날짜를 예약하려는 다른 트랜잭션은 시간이 겹치지 않아도 커밋/롤백까지 기다린 뒤 조건을 다시 평가함
+     *
+     * @return 예약되었으면 1, 겹쳐서 거절되었으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT INTO schedule_slot (therapist_id, slot_date, hours) "
+            + "VALUES (:therapistId, :slotDate, :mask) "
+            + "ON CONFLICT (therapist_id, slot_date) DO UPDATE "
+            + "SET hours = schedule_slot.hours | EXCLUDED.hours "
+            + "WHERE (schedule_slot.hours & EXCLUDED.hours) = 0", nativeQuery = true)
+    int reserve(@Param("therapistId") Long therapistId, @Param("slotDate") LocalDate slotDate, @Param("mask") int mask);
+
+    /**
+     * 해당 날짜의 시간(mask) 예약을 해제
+     */
+    @Modifying
+    @Query(value = "UPDATE schedule_slot SET hours = hours & ~(:mask) "
+            + "WHERE therapist_id = :therapistId AND slot_date = :slotDate", nativeQuery = true)
+    int release(@Param("therapistId") Long therapistId, @Param("slotDate") LocalDate slotDate, @Param("mask") int mask);
+
+    List<ScheduleSlot> findAllByTherapistIdAndSlotDateBetween(Long therapistId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 원장 도입 이전에 수락된 스케줄 중 오늘 이후 날짜를 원장에 채움 (이미 있는 비트와 합침, 여러 번 실행해도 결과 동일)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO schedule_slot (therapist_id, slot_date, hours) "
+            + "SELECT s.therapist_id, d.slot_date, bit_or(1 << dt.time) "
+            + "FROM schedule s "
+            + "JOIN day_time dt ON dt.schedule_id = s.schedule_id "
+            + "CROSS JOIN LATERAL (SELECT g::date AS slot_date FROM generate_series("
+            + "GREATEST(s.start_date, CURRENT_DATE), s.end_date, interval '1 day') g) d "
+            + "WHERE s.status = 'ACCEPTED' AND s.end_date >= CURRENT_DATE "
+            + "AND dt.time BETWEEN 0 AND 23 "
+            + "AND dt.day = trim(to_char(d.slot_date, 'FMDAY')) "
+            + "GROUP BY s.therapist_id, d.slot_date "
+            + "ON CONFLICT (therapist_id, slot_date) DO UPDATE "
+            + "SET hours = schedule_slot.hours | EXCLUDED.hours "
+            + "WHERE (schedule_slot.hours | EXCLUDED.hours) <> schedule_slot.hours", nativeQuery = true)
+    int backfillAccepted();
+}
@@ -1,11 +1,27 @@
 package com.communet.malmoon.matching.repository;
 
 import com.communet.malmoon.matching.domain.TreatmentTime;
+import com.communet.malmoon.matching.dto.request.DayTimeReq;
+import com.communet.malmoon.matching.service.directory.TherapistDayTime;
 import com.communet.malmoon.member.domain.Therapist;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TreatmentTimeRepository extends JpaRepository<TreatmentTime, Long> {
     void deleteByTherapist(Therapist therapist);
+
+    // 치료사 엔티티(및 연관 엔티티)를 읽지 않고 요일/시간만 조회
+    @Query("SELECT new com.communet.malmoon.matching.dto.request.DayTimeReq(t.day, t.time) "
+            + "FROM TreatmentTime t WHERE t.therapist.therapistId = :therapistId")
+    List<DayTimeReq> findDayTimesByTherapistId(@Param("therapistId") Long therapistId);
+
+    // 치료사 디렉터리 전체 적재용
+    @Query("SELECT new com.communet.malmoon.matching.service.directory.TherapistDayTime(t.therapist.therapistId, t.day, t.time) "
+            + "FROM TreatmentTime t")
+    List<TherapistDayTime> findAllTherapistDayTimes();
 }
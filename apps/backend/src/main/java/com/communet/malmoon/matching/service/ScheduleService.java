@@ -1,17 +1,19 @@
 package com.communet.malmoon.matching.service;
 
-import com.communet.malmoon.diagnostic.domain.InitialTestAttempt;
-import com.communet.malmoon.diagnostic.domain.InitialTestResult;
-import com.communet.malmoon.diagnostic.repository.InitialTestAttemptRepository;
-import com.communet.malmoon.diagnostic.repository.InitialTestResultRepository;
 import com.communet.malmoon.matching.domain.*;
-import com.communet.malmoon.matching.dto.request.DayTimeReq;
 import com.communet.malmoon.matching.dto.request.SchedulePostReq;
 import com.communet.malmoon.matching.dto.request.ScheduleUpdateReq;
+import com.communet.malmoon.matching.dto.request.TherapistSearchReq;
 import com.communet.malmoon.matching.dto.response.*;
 import com.communet.malmoon.matching.repository.ScheduleRepository;
+import com.communet.malmoon.matching.event.ScheduleOccurrencesChangedEvent;
+import com.communet.malmoon.matching.event.TherapistDirectoryChangedEvent;
+import com.communet.malmoon.matching.exception.ScheduleSlotConflictException;
+import com.communet.malmoon.matching.repository.TreatmentTimeRepository;
+import com.communet.malmoon.matching.service.daily.DailyScheduleIndex;
+import com.communet.malmoon.matching.service.directory.TherapistDirectory;
+import com.communet.malmoon.matching.service.reservation.ScheduleSlotReservation;
 import com.communet.malmoon.member.domain.Member;
-import com.communet.malmoon.member.domain.MemberType;
 import com.communet.malmoon.member.domain.Therapist;
 import com.communet.malmoon.member.dto.response.CareerRes;
 import com.communet.malmoon.member.dto.response.MemberMeRes;
@@ -19,11 +21,12 @@ import com.communet.malmoon.member.repository.MemberRepository;
 import com.communet.malmoon.member.repository.TherapistRepository;
 import jakarta.persistence.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.*;
@@ -36,59 +39,51 @@ public class ScheduleService {
 
     private final MemberRepository memberRepository;
     private final TherapistRepository therapistRepository;
-    private final TreatmentTimeService treatmentTimeService;
+    private final TreatmentTimeRepository treatmentTimeRepository;
     private final ScheduleRepository scheduleRepository;
-    private final InitialTestAttemptRepository initialTestAttemptRepository;
-    private final InitialTestResultRepository initialTestResultRepository;
+    private final TherapistDirectory therapistDirectory;
+    private final ScheduleSlotReservation slotReservation;
+    private final DailyScheduleIndex dailyScheduleIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 예약 가능 시간 계산 시 이미 잡힌 것으로 보는 스케줄 상태 (거절된 요청은 제외)
+    private static final List<StatusType> OCCUPYING_STATUSES = List.of(StatusType.PENDING, StatusType.ACCEPTED);
+
+    // 한 번에 요청할 수 있는 스케줄 기간 (기간의 날짜마다 슬롯을 확인/예약하므로 상한을 둠)
+    private static final Period MAX_SCHEDULE_PERIOD = Period.ofYears(1);
 
     /**
-     * 치료사 ID와 기간을 기준으로 겹치는 스케줄 목록을 조회
-     * 스케줄 안의 dayTime 리스트를 평탄화(flatMap)하여 모두 반환
+     * 치료사 ID와 기간을 기준으로 예약 가능한 요일/시간 목록을 조회
+     * 치료 시간과 기간이 겹치는 스케줄의 시간을 각각 한 번의 조회로 읽어
+     * 요일별 24비트 마스크로 만든 뒤 (치료 시간 AND NOT 예약 시간) 으로 계산
      */
+    @Transactional(readOnly = true)
     public ScheduleGetRes getSchedules(Long therapistId, LocalDate startDate, LocalDate endDate) {
         if (!memberRepository.existsById(therapistId)) {
             throw new EntityNotFoundException("해당 치료사가 존재하지 않습니다.");
         }
 
-        Map<DayType, List<Integer>> treatmentTimes = treatmentTimeService.getTreatmentTime(therapistId).getTreatmentTimes();
+        WeeklyHourMask treatmentMask = new WeeklyHourMask();
+        treatmentTimeRepository.findDayTimesByTherapistId(therapistId)
+                .forEach(dt -> treatmentMask.set(dt.getDay(), dt.getTime()));
 
-        List<Schedule> schedules =
-                scheduleRepository.findAllByTherapist_MemberIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                        therapistId,
-                        endDate,
-                        startDate);
-
-        List<DayTimeReq> busyList = schedules.stream()
-                .flatMap(schedule -> schedule.getDayTimes().stream())
-                .map(dt -> new DayTimeReq(dt.getDay(), dt.getTime()))
-                .toList();
-
-        // DayType 별로 busy 시간을 Set으로 그룹화
-        Map<DayType, Set<Integer>> busyMap = busyList.stream()
-                .collect(Collectors.groupingBy(
-                        DayTimeReq::getDay,
-                        Collectors.mapping(DayTimeReq::getTime, Collectors.toSet())
-                ));
-
-        List<DayTimeReq> availableList = treatmentTimes.entrySet().stream()
-                .flatMap(entry -> {
-                    DayType day = entry.getKey();
-                    Set<Integer> busy = busyMap.getOrDefault(day, Set.of());
-                    return entry.getValue().stream()
-                            .filter(hour -> !busy.contains(hour))
-                            .map(hour -> new DayTimeReq(day, hour));
-                })
-                .toList();
+        WeeklyHourMask busyMask = new WeeklyHourMask();
+        scheduleRepository.findBusyDayTimes(therapistId, startDate, endDate, OCCUPYING_STATUSES)
+                .forEach(dt -> busyMask.set(dt.getDay(), dt.getTime()));
 
         // ScheduleGetRes 에 담아서 반환
-        return new ScheduleGetRes(availableList);
+        return new ScheduleGetRes(treatmentMask.andNot(busyMask).toDayTimes());
     }
 
     /**
      * 치료 대상자가 치료사에게 스케줄 요청을 보냄
      * 요청에 포함된 요일/시간 리스트를 DayTime 엔티티로 변환해 Schedule에 연결
+     * 이미 수락된 스케줄과 겹치는 요청은 저장하지 않고 거절
+     * 기간이 비었거나 거꾸로 되었거나 1년을 넘으면 거절
      */
     public void requestSchedule(Member member, SchedulePostReq schedulePostReq) {
+        validatePeriod(schedulePostReq.getStartDate(), schedulePostReq.getEndDate());
+
         Optional<Member> memberOptional = memberRepository.findById(schedulePostReq.getTherapistId());
 
         if (memberOptional.isEmpty()) {
@@ -112,13 +107,28 @@ public class ScheduleService {
 
         schedule.addAllDayTimes(dayTimes);
 
+        if (slotReservation.conflicts(schedule)) {
+            throw new ScheduleSlotConflictException(schedule.getStartDate());
+        }
+
         scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new TherapistDirectoryChangedEvent(schedule.getTherapist().getMemberId()));
+    }
+
+    private void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("스케줄 기간이 올바르지 않습니다.");
+        }
+        if (endDate.isAfter(startDate.plus(MAX_SCHEDULE_PERIOD))) {
+            throw new IllegalArgumentException("스케줄 기간은 최대 1년까지 요청할 수 있습니다.");
+        }
     }
 
     /**
      * 치료사가 스케줄 상태(PENDING → ACCEPTED/REJECTED) 변경
      * - 치료사 본인만 해당 스케줄 수정 가능
      * - 이미 처리된 스케줄은 수정 불가
+     * - 수락 시 슬롯을 원자적으로 예약하며, 다른 수락 스케줄과 겹치면 상태를 바꾸지 않고 거절
      */
     @Transactional
     public void updateStatus(Member member, ScheduleUpdateReq scheduleUpdateReq) {
@@ -135,114 +145,58 @@ public class ScheduleService {
             throw new IllegalStateException("이미 처리된 스케줄입니다.");
         }
 
+        if (scheduleUpdateReq.getStatus() == StatusType.ACCEPTED) {
+            slotReservation.reserve(schedule);
+            publishOccurrencesChanged(schedule);
+        }
         schedule.setStatus(scheduleUpdateReq.getStatus());
+        eventPublisher.publishEvent(new TherapistDirectoryChangedEvent(schedule.getTherapist().getMemberId()));
     }
 
+    /**
+     * 치료사가 받은 대기 중 스케줄 요청 목록
+     * 요청 회원과 회원의 가장 최근 간이 진단 결과를 한 번의 조회로 함께 가져옴
+     */
+    @Transactional(readOnly = true)
     public List<MemberPendingRes> getPendingSchedules(Long therapistId) {
-
-        List<Schedule> schedules = scheduleRepository.findAllByTherapist_MemberIdAndStatus(therapistId, StatusType.PENDING);
-
-
-
-        return schedules.stream()
-                .map(schedule -> {
-                    Member member = schedule.getMember();
-
-                    if (member == null) {
-                        return null;
-                    }
-
-                    List<InitialTestAttempt> initialTestAttemptList = initialTestAttemptRepository.findByChildId(member.getMemberId());
-                    if (initialTestAttemptList.isEmpty()) {
-                        return MemberPendingRes.builder()
-                                .scheduleId(schedule.getScheduleId())
-                                .memberId(member.getMemberId())
-                                .name(member.getName())
-                                .email(member.getEmail())
-                                .telephone(member.getTel1())
-                                .createDate(schedule.getCreatedAt())
-                                .build();
-                    }
-
-                    Optional<InitialTestResult> initialTestResultOptional = initialTestResultRepository.findById(initialTestAttemptList.get(0).getAttemptId());
-                    if (initialTestResultOptional.isEmpty()) {
-                        return MemberPendingRes.builder()
-                                .scheduleId(schedule.getScheduleId())
-                                .memberId(member.getMemberId())
-                                .name(member.getName())
-                                .email(member.getEmail())
-                                .telephone(member.getTel1())
-                                .createDate(schedule.getCreatedAt())
-                                .build();
-                    }
-                    InitialTestResult initialTestResult = initialTestResultOptional.get();
-
-                    return MemberPendingRes.builder()
-                            .scheduleId(schedule.getScheduleId())
-                            .memberId(member.getMemberId())
-                            .name(member.getName())
-                            .email(member.getEmail())
-                            .telephone(member.getTel1())
-                            .createDate(schedule.getCreatedAt())
-                            .evaluation(initialTestResult.getEvaluation())
-                            .improvements(initialTestResult.getImprovements())
-                            .recommendations(initialTestResult.getRecommendations())
-                            .strengths(initialTestResult.getStrengths())
-                            .build();
-                })
-                .filter(Objects::nonNull)
+        return scheduleRepository.findPendingWithLatestDiagnostic(therapistId).stream()
+                .map(view -> MemberPendingRes.builder()
+                        .scheduleId(view.getScheduleId())
+                        .memberId(view.getMemberId())
+                        .name(view.getName())
+                        .email(view.getEmail())
+                        .telephone(view.getTelephone())
+                        .createDate(view.getCreateDate())
+                        .evaluation(view.getEvaluation())
+                        .improvements(view.getImprovements())
+                        .recommendations(view.getRecommendations())
+                        .strengths(view.getStrengths())
+                        .build())
                 .toList();
     }
 
     // 윤지훈: 사용자와 이미 연결된 치료사를 제외하고 반환하도록 로직 수정
+    // 치료사 목록은 치료사 디렉터리(메모리)에서 읽고, 제외 대상만 요청마다 조회
     @Transactional(readOnly = true)
     public List<TherapistRes> getTherapists(Member member) {
-        // 1) 제외할 therapist id 집합 조회
+        return therapistDirectory.findAll(findExcludedTherapistIds(member));
+    }
+
+    /**
+     * 예약 가능 시간, 경력 연차, 지역 조건으로 매칭 가능한 치료사를 페이지 단위로 조회
+     * 이미 요청했거나 매칭된 치료사는 제외
+     */
+    @Transactional(readOnly = true)
+    public Page<TherapistRes> searchTherapists(Member member, TherapistSearchReq req) {
+        return therapistDirectory.search(req, findExcludedTherapistIds(member));
+    }
+
+    private Set<Long> findExcludedTherapistIds(Member member) {
         Set<Long> excludedTherapistIds = scheduleRepository.findTherapistIdsByMemberAndStatuses(
                 member.getMemberId(),
                 List.of(StatusType.PENDING, StatusType.ACCEPTED)
         );
-
-        if (excludedTherapistIds == null) {
-            excludedTherapistIds = Collections.emptySet();
-        }
-
-        // 2) excludedIds가 비어있으면 별도 메서드 호출 (IN 빈 컬렉션 회피)
-        List<Therapist> therapists;
-        if (excludedTherapistIds.isEmpty()) {
-            therapists = therapistRepository.findAllByMember_role(MemberType.ROLE_THERAPIST);
-        } else {
-            therapists = therapistRepository.findAllByMember_roleAndMember_MemberIdNotIn(
-                    MemberType.ROLE_THERAPIST,
-                    excludedTherapistIds
-            );
-        }
-
-        // 3) DTO 매핑 — therapist.getMember()로 Member 정보 사용
-        return therapists.stream()
-                .map(therapist -> {
-                    Member therapistMember = therapist.getMember(); // 1:1 매핑된 Member
-                    List<CareerRes> careerResList = therapist.getCareers().stream()
-                            .map(career -> CareerRes.builder()
-                                    .company(career.getCompany())
-                                    .position(career.getPosition())
-                                    .startDate(career.getStartDate())
-                                    .endDate(career.getEndDate())
-                                    .build())
-                            .toList();
-
-                    return new TherapistRes(
-                            therapistMember.getMemberId(),
-                            therapistMember.getName(),
-                            therapistMember.getEmail(),
-                            therapistMember.getTel1(),
-                            therapistMember.getBirthDate(),
-                            therapistMember.getProfile(),
-                            therapist.getCareerYears(),
-                            careerResList
-                    );
-                })
-                .toList();
+        return excludedTherapistIds == null ? Collections.emptySet() : excludedTherapistIds;
     }
 
     public List<MyTherapistScheduleRes> getMyTherapists(Member member, StatusType status) {
@@ -301,52 +255,43 @@ public class ScheduleService {
                 .toList();
     }
 
+    @Transactional
     public void deleteSchedule(Member member, Long scheduleId) {
+        // 수락된 스케줄이면 예약한 슬롯도 함께 해제
+        scheduleRepository.findById(scheduleId)
+                .filter(schedule -> schedule.getMember() != null
+                        && Objects.equals(schedule.getMember().getMemberId(), member.getMemberId()))
+                .ifPresent(schedule -> {
+                    if (schedule.getStatus() == StatusType.ACCEPTED) {
+                        slotReservation.release(schedule);
+                        publishOccurrencesChanged(schedule);
+                    }
+                    eventPublisher.publishEvent(new TherapistDirectoryChangedEvent(schedule.getTherapist().getMemberId()));
+                });
         scheduleRepository.deleteByScheduleIdAndMember(scheduleId, member);
     }
 
+    /**
+     * 회원의 오늘 수업 목록 (날짜별 수업 색인에서 조회)
+     */
     public List<MemberScheduleRes> getMemberSchedules(Long memberId) {
-        LocalDate today = LocalDate.now();
-        DayOfWeek dayOfWeek = today.getDayOfWeek();
-        String day = dayOfWeek.toString();
-        List<Schedule> schedules = scheduleRepository.findAcceptedSchedulesByMemberIdAndDate(
-                memberId, StatusType.ACCEPTED, today
-        );
-
-        return schedules.stream()
-                .flatMap(schedule ->
-                        schedule.getDayTimes().stream()
-                                .filter(dt -> dt.getDay().toString().equals(day))
-                                .map(dt -> new MemberScheduleRes(
-                                        schedule.getTherapist().getMemberId(),
-                                        schedule.getTherapist().getName(),
-                                        dt.getTime()
-                                ))
-                )
-                .toList();
+        return dailyScheduleIndex.getMemberSchedules(memberId, LocalDate.now());
     }
 
+    /**
+     * 치료사의 해당 날짜 수업 목록 (날짜별 수업 색인에서 조회)
+     */
     public List<TherapistScheduleRes> getTherapistSchedules(Long therapistId, LocalDate date) {
-        DayOfWeek dayOfWeek = date.getDayOfWeek();
-        String day = dayOfWeek.toString();
-        List<Schedule> schedules = scheduleRepository.findAcceptedSchedulesByTherapistIdAndDate(
-                therapistId, StatusType.ACCEPTED, date
-        );
+        return dailyScheduleIndex.getTherapistSchedules(therapistId, date);
+    }
 
-        return schedules.stream()
-                .filter(schedule -> schedule.getMember() != null && schedule.getMember().getMemberId() != null) // 윤지훈: member 및 memberId가 null이 아닌 경우만 필터링
-                .flatMap(schedule ->
-                        schedule.getDayTimes().stream()
-                                .filter(dt -> dt.getDay().toString().equals(day))
-                                .map(dt -> {
-                                    return new TherapistScheduleRes(
-                                            schedule.getMember().getMemberId(),
-                                            schedule.getMember().getName(),
-                                            dt.getTime()
-                                    );
-                                })
-                )
-                .toList();
+    // 수락 스케줄의 수업 날짜를 날짜별 수업 색인에 알림 (커밋 이후 무효화)
+    private void publishOccurrencesChanged(Schedule schedule) {
+        Long memberId = schedule.getMember() == null ? null : schedule.getMember().getMemberId();
+        eventPublisher.publishEvent(new ScheduleOccurrencesChangedEvent(
+                schedule.getTherapist().getMemberId(),
+                memberId,
+                Set.copyOf(ScheduleSlotReservation.plan(schedule).keySet())));
     }
 
     public ClientTherapistRes getClientTherapist(Member member) {
@@ -4,11 +4,13 @@ import com.communet.malmoon.matching.domain.DayType;
 import com.communet.malmoon.matching.domain.TreatmentTime;
 import com.communet.malmoon.matching.dto.request.TreatmentTimeReq;
 import com.communet.malmoon.matching.dto.response.TreatmentTimeRes;
+import com.communet.malmoon.matching.event.TherapistDirectoryChangedEvent;
 import com.communet.malmoon.matching.repository.TreatmentTimeRepository;
 import com.communet.malmoon.member.domain.Therapist;
 import com.communet.malmoon.member.repository.TherapistRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class TreatmentTimeService {
 
     private final TherapistRepository therapistRepository;
     private final TreatmentTimeRepository treatmentTimeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TreatmentTimeRes getTreatmentTime(Long therapistId) {
         Therapist therapist = therapistRepository.findByTherapistId(therapistId)
@@ -50,6 +53,7 @@ public class TreatmentTimeService {
         List<TreatmentTime> treatmentTimes = reqToTreatmentTimes(req, therapist);
 
         treatmentTimeRepository.saveAll(treatmentTimes);
+        eventPublisher.publishEvent(new TherapistDirectoryChangedEvent(therapist.getTherapistId()));
     }
 
     @Transactional
@@ -64,6 +68,7 @@ public class TreatmentTimeService {
         List<TreatmentTime> newTreatmentTimes = reqToTreatmentTimes(req, therapist);
 
         treatmentTimeRepository.saveAll(newTreatmentTimes);
+        eventPublisher.publishEvent(new TherapistDirectoryChangedEvent(therapist.getTherapistId()));
     }
 
     private List<TreatmentTime> reqToTreatmentTimes(TreatmentTimeReq req, Therapist therapist) {
@@ -0,0 +1,217 @@
+package com.communet.malmoon.matching.service.daily;
+
+import com.communet.malmoon.common.redis.RedisCacheVersions;
+import com.communet.malmoon.matching.domain.DayType;
+import com.communet.malmoon.matching.domain.StatusType;
+import com.communet.malmoon.matching.dto.response.MemberScheduleRes;
+import com.communet.malmoon.matching.dto.response.TherapistScheduleRes;
+import com.communet.malmoon.matching.event.ScheduleOccurrencesChangedEvent;
+import com.communet.malmoon.matching.repository.ScheduleRepository;
+import com.communet.malmoon.member.event.MemberProfileChangedEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 날짜별 수업 색인 (홈 화면의 "오늘의 수업" 조회용)
+ * - (날짜, 치료사), (날짜, 회원) 단위로 그날의 수업 목록을 Redis에 보관하여 조회를 키 하나로 처리
+ * - 색인에 없는 날짜는 요일까지 DB에서 거른 결과로 채우고, 하루 TTL로 지난 날짜의 항목은 자연히 정리
+ * - 스케줄 수락/삭제 시 {@link ScheduleOccurrencesChangedEvent} 를 커밋 이후에 받아
+ *   해당 스케줄의 수업 날짜 항목만 무효화 (종료일이 지난 스케줄은 이후 날짜 항목에 포함된 적이 없으므로 처리 불필요)
+ * - 회원 정보 변경 시 {@link MemberProfileChangedEvent} 를 받아 그 회원이 표시되는 상대방(수락 스케줄의 치료사/회원)의 항목을 모두 무효화
+ * - 항목은 (날짜, 치료사/회원) 버전과 치료사/회원 버전에 속하며, 무효화는 버전을 올린 뒤 삭제하고
+ *   적재는 조회 전에 읽어 둔 버전이 그대로일 때만 저장 ({@link RedisCacheVersions}) → 여러 인스턴스에서도 무효화 이전 결과가 다시 저장되지 않음
+ * - Redis 장애 시에는 DB 조회로 대체하며 요청을 실패시키지 않음
+ */
+@Slf4j
+@Component
+public class DailyScheduleIndex {
+
+    private static final String KEY_PREFIX = "schedule:daily:";
+    private static final String THERAPIST_KEY_PREFIX = KEY_PREFIX + "therapist:";
+    private static final String MEMBER_KEY_PREFIX = KEY_PREFIX + "member:";
+    private static final String VERSION_PREFIX = "schedule:daily-version:";
+    private static final Duration DAY_TTL = Duration.ofDays(1);
+    // 버전 키는 항목보다 오래 남아야 함 (먼저 만료되면 진행 중인 적재가 이전 결과를 저장할 수 있음)
+    private static final Duration VERSION_TTL = Duration.ofDays(2);
+    private static final long SCAN_COUNT = 500;
+
+    private static final TypeReference<List<TherapistScheduleRes>> THERAPIST_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<MemberScheduleRes>> MEMBER_TYPE = new TypeReference<>() {
+    };
+
+    private final ScheduleRepository scheduleRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisCacheVersions cacheVersions;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public DailyScheduleIndex(ScheduleRepository scheduleRepository, StringRedisTemplate redisTemplate,
+                              ObjectMapper objectMapper, RedisCacheVersions cacheVersions, MeterRegistry meterRegistry) {
+        this.scheduleRepository = scheduleRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheVersions = cacheVersions;
+        this.hits = Counter.builder("schedule.daily.index.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("schedule.daily.index.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("schedule.daily.index.evictions").register(meterRegistry);
+    }
+
+    /**
+     * 치료사의 해당 날짜 수업 목록 (시간 순)
+     */
+    public List<TherapistScheduleRes> getTherapistSchedules(Long therapistId, LocalDate date) {
+        return get(THERAPIST_KEY_PREFIX, therapistId, date, THERAPIST_TYPE,
+                () -> scheduleRepository.findTherapistOccurrences(therapistId, StatusType.ACCEPTED, date, dayOf(date)));
+    }
+
+    /**
+     * 회원의 해당 날짜 수업 목록 (시간 순)
+     */
+    public List<MemberScheduleRes> getMemberSchedules(Long memberId, LocalDate date) {
+        return get(MEMBER_KEY_PREFIX, memberId, date, MEMBER_TYPE,
+                () -> scheduleRepository.findMemberOccurrences(memberId, StatusType.ACCEPTED, date, dayOf(date)));
+    }
+
+    /**
+     * 수락 스케줄 변경을 커밋 이후에 받아 영향받는 날짜의 치료사/회원 항목을 무효화합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOccurrencesChanged(ScheduleOccurrencesChangedEvent event) {
+        List<String> keys = new ArrayList<>();
+        for (LocalDate date : event.getDates()) {
+            keys.add(THERAPIST_KEY_PREFIX + event.getTherapistId() + ":" + date);
+            if (event.getMemberId() != null) {
+                keys.add(MEMBER_KEY_PREFIX + event.getMemberId() + ":" + date);
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            // 버전을 먼저 올려 진행 중인 적재가 삭제 이후에 이전 목록을 다시 저장하지 못하도록 함
+            cacheVersions.bump(keys.stream().map(this::versionKey).toList(), VERSION_TTL);
+            Long deleted = redisTemplate.delete(keys);
+            evictions.increment(deleted == null ? 0 : deleted);
+        } catch (Exception e) {
+            log.warn("[DailyScheduleIndex] 색인 무효화 실패 (TTL 만료까지 유지됨): therapistId={}, memberId={}, error={}",
+                    event.getTherapistId(), event.getMemberId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 회원 정보 변경을 커밋 이후에 받아, 그 회원이 수업 목록에 표시되는 상대방의 항목을 날짜와 관계없이 무효화합니다.
+     * (회원이면 수락 스케줄의 치료사들, 치료사면 수락 스케줄의 회원들)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberProfileChanged(MemberProfileChangedEvent event) {
+        List<StatusType> accepted = List.of(StatusType.ACCEPTED);
+        List<String> ownerPrefixes = new ArrayList<>();
+        for (Long therapistId : scheduleRepository.findTherapistIdsByMemberAndStatuses(event.getMemberId(), accepted)) {
+            ownerPrefixes.add(THERAPIST_KEY_PREFIX + therapistId);
+        }
+        for (Long memberId : scheduleRepository.findMemberIdsByTherapistAndStatuses(event.getMemberId(), accepted)) {
+            ownerPrefixes.add(MEMBER_KEY_PREFIX + memberId);
+        }
+        if (ownerPrefixes.isEmpty()) {
+            return;
+        }
+        try {
+            cacheVersions.bump(ownerPrefixes.stream().map(this::versionKey).toList(), VERSION_TTL);
+            long deleted = 0;
+            for (String prefix : ownerPrefixes) {
+                deleted += evictOwner(prefix);
+            }
+            evictions.increment(deleted);
+        } catch (Exception e) {
+            log.warn("[DailyScheduleIndex] 색인 무효화 실패 (TTL 만료까지 유지됨): changedMemberId={}, error={}",
+                    event.getMemberId(), e.getMessage());
+        }
+    }
+
+    private long evictOwner(String ownerPrefix) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(ownerPrefix + ":*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = redisTemplate.delete(keys);
+        return deleted == null ? 0 : deleted;
+    }
+
+    private <T> List<T> get(String keyPrefix, Long ownerId, LocalDate date, TypeReference<List<T>> type,
+                            Supplier<List<T>> loader) {
+        String ownerPrefix = keyPrefix + ownerId;
+        String key = ownerPrefix + ":" + date;
+        List<T> cached = read(key, type);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        RedisCacheVersions.Snapshot snapshot = snapshot(List.of(versionKey(key), versionKey(ownerPrefix)));
+        List<T> loaded = loader.get();
+        if (snapshot != null) {
+            write(key, loaded, snapshot);
+        }
+        return loaded;
+    }
+
+    private RedisCacheVersions.Snapshot snapshot(List<String> versionKeys) {
+        try {
+            return cacheVersions.snapshot(versionKeys);
+        } catch (Exception e) {
+            log.warn("[DailyScheduleIndex] 버전 조회 실패, 색인에 저장하지 않음: error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> List<T> read(String key, TypeReference<List<T>> type) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            log.warn("[DailyScheduleIndex] 색인 조회 실패, DB로 대체: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(String key, List<?> occurrences, RedisCacheVersions.Snapshot snapshot) {
+        try {
+            // 조회 도중 어느 인스턴스에서든 무효화가 있었으면 저장하지 않음
+            cacheVersions.setIfUnchanged(key, objectMapper.writeValueAsString(occurrences), DAY_TTL, snapshot);
+        } catch (Exception e) {
+            log.warn("[DailyScheduleIndex] 색인 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    // schedule:daily:therapist:1:2025-09-01 → schedule:daily-version:therapist:1:2025-09-01 (항목 SCAN 패턴과 겹치지 않음)
+    private String versionKey(String key) {
+        return VERSION_PREFIX + key.substring(KEY_PREFIX.length());
+    }
+
+    private DayType dayOf(LocalDate date) {
+        return DayType.valueOf(date.getDayOfWeek().name());
+    }
+}
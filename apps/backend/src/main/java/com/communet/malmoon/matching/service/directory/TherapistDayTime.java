@@ -0,0 +1,16 @@
+package com.communet.malmoon.matching.service.directory;
+
+import com.communet.malmoon.matching.domain.DayType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 치료사 디렉터리 적재용 조회 결과 (치료사 ID, 요일, 시간)
+ */
+@Getter
+@AllArgsConstructor
+public class TherapistDayTime {
+    private Long therapistId;
+    private DayType day;
+    private Integer time;
+}
@@ -0,0 +1,247 @@
+package com.communet.malmoon.matching.service.directory;
+
+import com.communet.malmoon.matching.dto.request.TherapistSearchReq;
+import com.communet.malmoon.matching.dto.response.TherapistRes;
+import com.communet.malmoon.matching.event.TherapistDirectoryChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매칭 화면의 치료사 목록을 메모리에서 제공하는 읽기 모델(치료사 디렉터리)
+ * - 치료사별 프로필/경력 응답과 요일별 예약 가능 시간 비트마스크를 미리 만들어 치료사 ID 순으로 보관
+ * - 조회 시 DB 접근 없이 조건(예약 가능 시간, 경력 연차, 지역) 필터와 페이지 계산만 수행
+ *   요청자별 제외 대상(이미 요청/매칭된 치료사)은 조회 시점에 적용
+ * - {@link TherapistDirectoryChangedEvent} 수신 시(커밋 이후) 해당 치료사 항목만 다시 적재하고,
+ *   Redis pub/sub으로 다른 인스턴스에도 같은 치료사 갱신을 알림
+ * - 스케줄 종료일 경과 등 이벤트 없이 바뀌는 값은 주기적인 전체 재적재로 반영
+ */
+@Slf4j
+@Component
+public class TherapistDirectory {
+
+    private static final String REFRESH_CHANNEL = "therapist-directory-refresh";
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TherapistDirectoryLoader loader;
+    private final StringRedisTemplate redisTemplate;
+
+    private volatile ConcurrentSkipListMap<Long, TherapistDirectoryEntry> entries = new ConcurrentSkipListMap<>();
+    private volatile boolean loaded;
+
+    // 항목 교체와 전체 재적재 결과 반영 사이의 순서를 맞추기 위한 락
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // 전체 재적재는 한 번에 하나만 실행
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 전체 재적재 중 개별 갱신된 치료사 ID. 재적재 결과보다 최신이므로 덮어쓰지 않음
+    private volatile Set<Long> refreshedDuringRebuild;
+
+    private final Counter refreshes;
+    private final Counter rebuilds;
+
+    public TherapistDirectory(TherapistDirectoryLoader loader, StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry, RedisMessageListenerContainer listenerContainer) {
+        this.loader = loader;
+        this.redisTemplate = redisTemplate;
+
+        Gauge.builder("therapist.directory.size", this, directory -> directory.entries.size())
+                .description("치료사 디렉터리에 적재된 치료사 수")
+                .register(meterRegistry);
+        this.refreshes = Counter.builder("therapist.directory.refreshes").tag("type", "incremental").register(meterRegistry);
+        this.rebuilds = Counter.builder("therapist.directory.refreshes").tag("type", "rebuild").register(meterRegistry);
+
+        // 다른 인스턴스에서 변경된 치료사 → 이 인스턴스의 항목만 다시 적재
+        listenerContainer.addMessageListener(
+                (message, pattern) -> refreshQuietly(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(REFRESH_CHANNEL));
+    }
+
+    /**
+     * 제외 대상을 뺀 전체 치료사 목록 (치료사 ID 순)
+     */
+    public List<TherapistRes> findAll(Set<Long> excludedTherapistIds) {
+        ensureLoaded();
+        List<TherapistRes> result = new ArrayList<>();
+        for (TherapistDirectoryEntry entry : entries.values()) {
+            if (!excludedTherapistIds.contains(entry.getTherapistId())) {
+                result.add(entry.getProfile());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 조건에 맞는 치료사 목록을 페이지 단위로 조회 (치료사 ID 순)
+     *
+     * @param req 예약 가능 요일/시간, 최소 경력 연차, 지역, 페이지 정보
+     * @param excludedTherapistIds 요청자에게 보여주지 않을 치료사 ID
+     */
+    public Page<TherapistRes> search(TherapistSearchReq req, Set<Long> excludedTherapistIds) {
+        ensureLoaded();
+        int size = req.getSize() <= 0 ? DEFAULT_PAGE_SIZE : Math.min(req.getSize(), MAX_PAGE_SIZE);
+        int page = Math.max(req.getPage(), 0);
+        long offset = (long) page * size;
+
+        List<TherapistRes> content = new ArrayList<>(size);
+        long total = 0;
+        for (TherapistDirectoryEntry entry : entries.values()) {
+            if (excludedTherapistIds.contains(entry.getTherapistId()) || !entry.matches(req)) {
+                continue;
+            }
+            if (total >= offset && content.size() < size) {
+                content.add(entry.getProfile());
+            }
+            total++;
+        }
+        return new PageImpl<>(content, PageRequest.of(page, size), total);
+    }
+
+    /**
+     * 치료사 정보 변경을 커밋 이후에 받아 해당 항목을 다시 적재하고 다른 인스턴스에 알립니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTherapistChanged(TherapistDirectoryChangedEvent event) {
+        refreshQuietly(event.getTherapistId());
+        try {
+            redisTemplate.convertAndSend(REFRESH_CHANNEL, String.valueOf(event.getTherapistId()));
+        } catch (Exception e) {
+            log.warn("[TherapistDirectory] 갱신 전파 실패 (다음 전체 재적재까지 다른 인스턴스는 이전 값 유지): therapistId={}, error={}",
+                    event.getTherapistId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 치료사 1명의 항목을 다시 적재합니다. 치료사가 아니거나 삭제되었으면 디렉터리에서 제거합니다.
+     */
+    public void refresh(Long therapistId) {
+        if (!loaded && refreshedDuringRebuild == null) {
+            // 아직 전체 적재 전이면 첫 조회 시 전체 적재에 포함됨
+            return;
+        }
+        Optional<TherapistDirectoryEntry> entry = loader.load(therapistId, LocalDate.now());
+        writeLock.lock();
+        try {
+            if (entry.isPresent()) {
+                entries.put(therapistId, entry.get());
+            } else {
+                entries.remove(therapistId);
+            }
+            if (refreshedDuringRebuild != null) {
+                refreshedDuringRebuild.add(therapistId);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        refreshes.increment();
+    }
+
+    /**
+     * 전체 치료사를 다시 적재해 스냅샷을 교체합니다. 이미 재적재 중이면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${therapist.directory.rebuild-interval-ms:600000}",
+            initialDelayString = "${therapist.directory.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            rebuildLocked();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        writeLock.lock();
+        try {
+            refreshedDuringRebuild = ConcurrentHashMap.newKeySet();
+        } finally {
+            writeLock.unlock();
+        }
+
+        ConcurrentSkipListMap<Long, TherapistDirectoryEntry> next = new ConcurrentSkipListMap<>();
+        try {
+            for (TherapistDirectoryEntry entry : loader.loadAll(LocalDate.now())) {
+                next.put(entry.getTherapistId(), entry);
+            }
+        } catch (RuntimeException e) {
+            refreshedDuringRebuild = null;
+            throw e;
+        }
+
+        writeLock.lock();
+        try {
+            for (Long therapistId : refreshedDuringRebuild) {
+                TherapistDirectoryEntry refreshed = entries.get(therapistId);
+                if (refreshed != null) {
+                    next.put(therapistId, refreshed);
+                } else {
+                    next.remove(therapistId);
+                }
+            }
+            entries = next;
+            loaded = true;
+        } finally {
+            refreshedDuringRebuild = null;
+            writeLock.unlock();
+        }
+        rebuilds.increment();
+        log.info("[TherapistDirectory] 치료사 디렉터리 적재 완료: {}명", next.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("[TherapistDirectory] 시작 시 적재 실패, 첫 조회 시 다시 적재: {}", e.getMessage());
+        }
+    }
+
+    // 첫 조회가 시작 시 적재보다 먼저 오면 적재가 끝날 때까지 기다림
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            if (!loaded) {
+                rebuildLocked();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void refreshQuietly(Long therapistId) {
+        try {
+            refresh(therapistId);
+        } catch (Exception e) {
+            log.warn("[TherapistDirectory] 치료사 항목 갱신 실패 (다음 전체 재적재 시 반영): therapistId={}, error={}",
+                    therapistId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.communet.malmoon.matching.service.directory;
+
+import com.communet.malmoon.matching.domain.WeeklyHourMask;
+import com.communet.malmoon.matching.dto.request.TherapistSearchReq;
+import com.communet.malmoon.matching.dto.response.TherapistRes;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 치료사 디렉터리의 치료사 1명 항목
+ * - profile: 응답으로 그대로 내보내는 프로필/경력 (적재 시점에 미리 만들어 둠)
+ * - available: 현재 유효한 스케줄을 뺀 요일별 예약 가능 시간 (요일당 24비트)
+ * 적재 후에는 변경하지 않고, 갱신 시 항목을 통째로 교체
+ */
+@Getter
+@AllArgsConstructor
+public class TherapistDirectoryEntry {
+
+    private final TherapistRes profile;
+    private final String district;
+    private final int careerYears;
+    private final WeeklyHourMask available;
+
+    public Long getTherapistId() {
+        return profile.getTherapistId();
+    }
+
+    boolean matches(TherapistSearchReq req) {
+        if (req.getMinCareerYears() != null && careerYears < req.getMinCareerYears()) {
+            return false;
+        }
+        if (req.getDistrict() != null && !req.getDistrict().isBlank() && !req.getDistrict().equals(district)) {
+            return false;
+        }
+        if (req.getDay() == null) {
+            return true;
+        }
+        return req.getTime() == null
+                ? available.hasAny(req.getDay())
+                : available.contains(req.getDay(), req.getTime());
+    }
+}
@@ -0,0 +1,106 @@
+package com.communet.malmoon.matching.service.directory;
+
+import com.communet.malmoon.matching.domain.StatusType;
+import com.communet.malmoon.matching.domain.WeeklyHourMask;
+import com.communet.malmoon.matching.dto.response.TherapistRes;
+import com.communet.malmoon.matching.repository.ScheduleRepository;
+import com.communet.malmoon.matching.repository.TreatmentTimeRepository;
+import com.communet.malmoon.member.domain.Address;
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.domain.Therapist;
+import com.communet.malmoon.member.dto.response.CareerRes;
+import com.communet.malmoon.member.repository.TherapistRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 치료사 디렉터리 항목을 DB에서 적재
+ * 전체 적재는 치료사 수와 관계없이 3번의 조회(프로필+경력, 치료 시간, 예약된 시간)로 끝남
+ * 커밋 이후(AFTER_COMMIT) 이벤트에서도 호출되므로 항상 새 읽기 전용 트랜잭션에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+public class TherapistDirectoryLoader {
+
+    // 예약 가능 시간 계산 시 이미 잡힌 것으로 보는 스케줄 상태 (ScheduleService 와 동일)
+    private static final List<StatusType> OCCUPYING_STATUSES = List.of(StatusType.PENDING, StatusType.ACCEPTED);
+
+    private final TherapistRepository therapistRepository;
+    private final TreatmentTimeRepository treatmentTimeRepository;
+    private final ScheduleRepository scheduleRepository;
+
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public List<TherapistDirectoryEntry> loadAll(LocalDate today) {
+        List<Therapist> therapists = therapistRepository.findAllWithProfileByMember_role(MemberType.ROLE_THERAPIST);
+
+        Map<Long, WeeklyHourMask> treatmentMasks = new HashMap<>();
+        for (TherapistDayTime dt : treatmentTimeRepository.findAllTherapistDayTimes()) {
+            treatmentMasks.computeIfAbsent(dt.getTherapistId(), id -> new WeeklyHourMask()).set(dt.getDay(), dt.getTime());
+        }
+        Map<Long, WeeklyHourMask> busyMasks = new HashMap<>();
+        for (TherapistDayTime dt : scheduleRepository.findOccupiedDayTimesFrom(today, OCCUPYING_STATUSES)) {
+            busyMasks.computeIfAbsent(dt.getTherapistId(), id -> new WeeklyHourMask()).set(dt.getDay(), dt.getTime());
+        }
+
+        return therapists.stream()
+                .map(therapist -> toEntry(therapist,
+                        treatmentMasks.getOrDefault(therapist.getTherapistId(), new WeeklyHourMask()),
+                        busyMasks.getOrDefault(therapist.getMember().getMemberId(), new WeeklyHourMask())))
+                .toList();
+    }
+
+    /**
+     * 치료사 1명의 항목을 적재. 치료사가 아니거나 존재하지 않으면 빈 값
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public Optional<TherapistDirectoryEntry> load(Long therapistId, LocalDate today) {
+        return therapistRepository.findWithProfileByTherapistIdAndMember_role(therapistId, MemberType.ROLE_THERAPIST)
+                .map(therapist -> {
+                    WeeklyHourMask treatmentMask = new WeeklyHourMask();
+                    treatmentTimeRepository.findDayTimesByTherapistId(therapist.getTherapistId())
+                            .forEach(dt -> treatmentMask.set(dt.getDay(), dt.getTime()));
+                    WeeklyHourMask busyMask = new WeeklyHourMask();
+                    scheduleRepository.findOccupiedDayTimesByTherapistFrom(
+                                    therapist.getMember().getMemberId(), today, OCCUPYING_STATUSES)
+                            .forEach(dt -> busyMask.set(dt.getDay(), dt.getTime()));
+                    return toEntry(therapist, treatmentMask, busyMask);
+                });
+    }
+
+    private TherapistDirectoryEntry toEntry(Therapist therapist, WeeklyHourMask treatmentMask, WeeklyHourMask busyMask) {
+        Member member = therapist.getMember();
+        List<CareerRes> careers = therapist.getCareers().stream()
+                .map(career -> CareerRes.builder()
+                        .company(career.getCompany())
+                        .position(career.getPosition())
+                        .startDate(career.getStartDate())
+                        .endDate(career.getEndDate())
+                        .build())
+                .toList();
+
+        TherapistRes profile = new TherapistRes(
+                member.getMemberId(),
+                member.getName(),
+                member.getEmail(),
+                member.getTel1(),
+                member.getBirthDate(),
+                member.getProfile(),
+                therapist.getCareerYears(),
+                careers
+        );
+        Address address = member.getAddress();
+        int careerYears = therapist.getCareerYears() == null ? 0 : therapist.getCareerYears();
+
+        return new TherapistDirectoryEntry(profile, address == null ? null : address.getDistrict(), careerYears,
+                treatmentMask.andNot(busyMask));
+    }
+}
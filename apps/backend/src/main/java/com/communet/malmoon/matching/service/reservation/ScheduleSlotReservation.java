@@ -0,0 +1,148 @@
+package com.communet.malmoon.matching.service.reservation;
+
+import com.communet.malmoon.matching.domain.DayTime;
+import com.communet.malmoon.matching.domain.DayType;
+import com.communet.malmoon.matching.domain.Schedule;
+import com.communet.malmoon.matching.domain.ScheduleSlot;
+import com.communet.malmoon.matching.domain.WeeklyHourMask;
+import com.communet.malmoon.matching.exception.ScheduleSlotConflictException;
+import com.communet.malmoon.matching.repository.ScheduleSlotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 치료사 스케줄의 요일·시간 슬롯 예약 엔진
+ * - 스케줄(기간 + 요일/시간 목록)을 날짜별 24비트 마스크로 펼쳐 슬롯 원장(schedule_slot)에 예약
+ * - 날짜마다 "겹치는 비트가 없을 때만 설정" 하는 조건부 upsert 한 문장으로 예약하므로
+ *   애플리케이션 락 없이 겹치는 예약만 거절되고, 다른 치료사나 겹치지 않는 날짜의 예약은 서로 기다리지 않음
+ * - 잠금 비용: upsert 한 (치료사, 날짜) 행은 호출 트랜잭션(스케줄 수락)이 커밋될 때까지 행 잠금이 유지됨
+ *   - 같은 치료사의 같은 날짜를 예약하는 수락은 시간이 겹치지 않아도 앞선 트랜잭션이 끝날 때까지 직렬화됨
+ *   - 1년짜리 주 2회 스케줄이면 약 100개 날짜 행을 트랜잭션 동안 잠그므로, 수락 트랜잭션에서 느린 작업을 하지 않아야 함
+ * - 날짜는 오름차순으로 예약하여 같은 날짜를 함께 예약하는 두 요청이 교착되지 않도록 함
+ * - 중간 날짜에서 겹치면 앞서 예약한 날짜를 되돌리고 {@link ScheduleSlotConflictException} 발생
+ *   (호출 트랜잭션도 롤백되므로 일부 날짜만 예약된 상태가 남지 않음)
+ */
+@Slf4j
+@Component
+public class ScheduleSlotReservation {
+
+    private final ScheduleSlotRepository slotRepository;
+    private final Counter reservedCounter;
+    private final Counter conflictCounter;
+
+    public ScheduleSlotReservation(ScheduleSlotRepository slotRepository, MeterRegistry meterRegistry) {
+        this.slotRepository = slotRepository;
+        this.reservedCounter = Counter.builder("schedule.slot.reservations").tag("result", "reserved").register(meterRegistry);
+        this.conflictCounter = Counter.builder("schedule.slot.reservations").tag("result", "conflict").register(meterRegistry);
+    }
+
+    /**
+     * 스케줄의 슬롯이 이미 예약된 슬롯과 겹치는지 확인 (예약하지 않음)
+     * 요청 단계에서 빠르게 거절하기 위한 용도이며, 최종 판단은 {@link #reserve(Schedule)} 에서 함
+     */
+    @Transactional(readOnly = true)
+    public boolean conflicts(Schedule schedule) {
+        NavigableMap<LocalDate, Integer> plan = plan(schedule);
+        if (plan.isEmpty()) {
+            return false;
+        }
+        List<ScheduleSlot> slots = slotRepository.findAllByTherapistIdAndSlotDateBetween(
+                therapistId(schedule), plan.firstKey(), plan.lastKey());
+        for (ScheduleSlot slot : slots) {
+            Integer mask = plan.get(slot.getSlotDate());
+            if (mask != null && (slot.getHours() & mask) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 스케줄의 모든 슬롯을 예약. 하나라도 겹치면 아무것도 예약하지 않고 예외 발생
+     *
+     * @throws ScheduleSlotConflictException 이미 예약된 슬롯과 겹치는 경우
+     */
+    @Transactional
+    public void reserve(Schedule schedule) {
+        Long therapistId = therapistId(schedule);
+        List<Map.Entry<LocalDate, Integer>> reserved = new ArrayList<>();
+        for (Map.Entry<LocalDate, Integer> slot : plan(schedule).entrySet()) {
+            if (slotRepository.reserve(therapistId, slot.getKey(), slot.getValue()) == 0) {
+                for (Map.Entry<LocalDate, Integer> done : reserved) {
+                    slotRepository.release(therapistId, done.getKey(), done.getValue());
+                }
+                conflictCounter.increment();
+                throw new ScheduleSlotConflictException(slot.getKey());
+            }
+            reserved.add(slot);
+        }
+        reservedCounter.increment();
+    }
+
+    /**
+     * 스케줄의 모든 슬롯 예약을 해제
+     */
+    @Transactional
+    public void release(Schedule schedule) {
+        Long therapistId = therapistId(schedule);
+        for (Map.Entry<LocalDate, Integer> slot : plan(schedule).entrySet()) {
+            slotRepository.release(therapistId, slot.getKey(), slot.getValue());
+        }
+    }
+
+    /**
+     * 슬롯 원장 도입 이전에 수락된 스케줄을 원장에 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int filled = slotRepository.backfillAccepted();
+            if (filled > 0) {
+                log.info("[schedule-slot] 기존 수락 스케줄의 슬롯 {}일치 반영", filled);
+            }
+        } catch (Exception e) {
+            log.warn("[schedule-slot] 슬롯 원장 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스케줄 기간의 날짜 중 요청한 요일에 해당하는 날짜별 시간 마스크 (날짜 오름차순)
+     */
+    public static NavigableMap<LocalDate, Integer> plan(Schedule schedule) {
+        LocalDate startDate = schedule.getStartDate();
+        LocalDate endDate = schedule.getEndDate();
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("스케줄 기간이 올바르지 않습니다.");
+        }
+
+        WeeklyHourMask weekly = new WeeklyHourMask();
+        for (DayTime dayTime : schedule.getDayTimes()) {
+            weekly.set(dayTime.getDay(), dayTime.getTime());
+        }
+
+        NavigableMap<LocalDate, Integer> plan = new TreeMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            int mask = weekly.get(DayType.valueOf(date.getDayOfWeek().name()));
+            if (mask != 0) {
+                plan.put(date, mask);
+            }
+        }
+        return plan;
+    }
+
+    private Long therapistId(Schedule schedule) {
+        return schedule.getTherapist().getMemberId();
+    }
+}
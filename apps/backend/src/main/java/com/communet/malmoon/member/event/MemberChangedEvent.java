@@ -0,0 +1,16 @@
+package com.communet.malmoon.member.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 정보(상태, 비밀번호, 개인정보)가 변경되었음을 알리는 도메인 이벤트입니다.
+ * 인증 주체 캐시 무효화에 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class MemberChangedEvent {
+
+	/** 변경된 회원의 이메일 (JWT subject) */
+	private final String email;
+}
@@ -0,0 +1,16 @@
+package com.communet.malmoon.member.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 다른 회원의 화면에 함께 표시되는 회원 정보(이름, 닉네임, 프로필 등)가 변경되었음을 알리는 도메인 이벤트입니다.
+ * 상대 회원의 날짜별 수업 색인처럼 이 회원의 정보를 담아 둔 캐시를 무효화하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class MemberProfileChangedEvent {
+
+	/** 변경된 회원 ID */
+	private final Long memberId;
+}
@@ -14,13 +14,9 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.interfaces.DecodedJWT;
-import com.communet.malmoon.member.domain.Member;
 import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
-import com.communet.malmoon.member.repository.MemberRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 
@@ -39,11 +35,12 @@ import jakarta.servlet.http.HttpServletResponse;
  */
 public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
-	private final MemberRepository memberRepository;
+	private final MemberPrincipalCache memberPrincipalCache;
 
-	public JwtAuthenticationFilter(AuthenticationManager authenticationManager, MemberRepository memberRepository) {
+	public JwtAuthenticationFilter(AuthenticationManager authenticationManager,
+		MemberPrincipalCache memberPrincipalCache) {
 		super(authenticationManager);
-		this.memberRepository = memberRepository;
+		this.memberPrincipalCache = memberPrincipalCache;
 	}
 
 	/**
@@ -86,26 +83,24 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
 	/**
 	 * JWT 토큰에서 사용자 정보를 추출하여 Authentication 객체 생성
+	 * - 토큰 검증은 1회, 회원 정보는 인증 주체 캐시에서 조회 (캐시 적중 시 쿼리 없음)
 	 */
-	@Transactional(readOnly = true)
 	public Authentication getAuthentication(HttpServletRequest request) throws Exception {
 		String token = request.getHeader(JwtTokenUtil.HEADER_STRING);
 		if (token != null) {
-			JWTVerifier verifier = JwtTokenUtil.getVerifier();
-			JwtTokenUtil.handleError(token);
-			DecodedJWT decodedJWT = verifier.verify(token.replace(JwtTokenUtil.TOKEN_PREFIX, ""));
+			DecodedJWT decodedJWT = JwtTokenUtil.verify(token);
 			String email = decodedJWT.getSubject();
 
 			if (email != null) {
-				Optional<Member> member = memberRepository.getByEmail(email);
+				Optional<MemberPrincipal> member = memberPrincipalCache.get(email);
 				if(member.isPresent()) {
 					String role = decodedJWT.getClaim("role").asString();
 					Collection<? extends GrantedAuthority> authorities =
 							List.of(new SimpleGrantedAuthority(role));
-					MemberDetails userDetails = new MemberDetails(member.get());
+					MemberPrincipal principal = member.get();
 					UsernamePasswordAuthenticationToken jwtAuthentication = new UsernamePasswordAuthenticationToken(email,
 						null, authorities);
-					jwtAuthentication.setDetails(userDetails);
+					jwtAuthentication.setDetails(principal);
 					return jwtAuthentication;
 				}
 			}
@@ -0,0 +1,25 @@
+package com.communet.malmoon.member.jwt.auth;
+
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.domain.MemberType;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 인증 경로에서 사용하는 불변 인증 주체입니다.
+ * 여러 요청 스레드가 캐시된 값을 공유하므로 엔티티 대신 식별 정보만 복사해 둡니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemberPrincipal {
+
+	private final Long memberId;
+	private final String email;
+	private final MemberType role;
+
+	public static MemberPrincipal from(Member member) {
+		return new MemberPrincipal(member.getMemberId(), member.getEmail(), member.getRole());
+	}
+}
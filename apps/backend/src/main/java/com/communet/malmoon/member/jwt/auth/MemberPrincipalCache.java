@@ -0,0 +1,81 @@
+package com.communet.malmoon.member.jwt.auth;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.communet.malmoon.member.domain.MemberStatusType;
+import com.communet.malmoon.member.event.MemberChangedEvent;
+import com.communet.malmoon.member.repository.MemberRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT subject(이메일) → 인증 주체({@link MemberPrincipal}) 로컬 캐시입니다.
+ * 유효한 토큰으로 반복 요청 시 인증 경로에서 회원 조회 쿼리를 생략합니다.
+ *
+ * - 크기 제한 + TTL 기반이며, 회원 변경 이벤트(정보 수정, 비밀번호 변경, 탈퇴) 커밋 후 해당 회원 항목을 제거합니다.
+ * - 다른 인스턴스의 캐시는 {@link MemberPrincipalCacheBroadcaster}가 Redis pub/sub으로 함께 무효화합니다.
+ * - 요청 스레드 간에 공유되므로 엔티티가 아닌 불변 식별 정보(ID, 이메일, 역할)만 캐시합니다.
+ */
+@Slf4j
+public class MemberPrincipalCache {
+
+	private static final Duration TTL = Duration.ofMinutes(5);
+	private static final long MAX_SIZE = 10_000;
+
+	private final MemberRepository memberRepository;
+	private final Cache<String, MemberPrincipal> cache = CacheBuilder.newBuilder()
+		.maximumSize(MAX_SIZE)
+		.expireAfterWrite(TTL)
+		.build();
+
+	public MemberPrincipalCache(MemberRepository memberRepository) {
+		this.memberRepository = memberRepository;
+	}
+
+	/**
+	 * 이메일로 인증 주체를 조회합니다. 캐시에 없으면 DB에서 조회 후 저장합니다.
+	 * 존재하지 않거나 탈퇴한 회원은 캐시하지 않고 빈 값을 반환합니다.
+	 *
+	 * @param email JWT subject
+	 * @return 인증 주체
+	 */
+	public Optional<MemberPrincipal> get(String email) {
+		MemberPrincipal cached = cache.getIfPresent(email);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		return memberRepository.getByEmail(email)
+			.filter(member -> member.getStatus() != MemberStatusType.WITHDRAWN)
+			.map(member -> {
+				MemberPrincipal principal = MemberPrincipal.from(member);
+				cache.put(email, principal);
+				return principal;
+			});
+	}
+
+	/**
+	 * 회원 변경 이벤트를 커밋 이후에 받아 해당 회원의 캐시 항목을 제거합니다.
+	 *
+	 * @param event 회원 변경 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMemberChanged(MemberChangedEvent event) {
+		evict(event.getEmail());
+	}
+
+	/**
+	 * 해당 회원의 캐시 항목을 제거합니다.
+	 *
+	 * @param email JWT subject
+	 */
+	public void evict(String email) {
+		cache.invalidate(email);
+		log.debug("인증 주체 캐시 무효화: {}", email);
+	}
+}
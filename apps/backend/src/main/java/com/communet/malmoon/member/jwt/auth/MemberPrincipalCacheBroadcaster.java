@@ -0,0 +1,52 @@
+package com.communet.malmoon.member.jwt.auth;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.communet.malmoon.member.event.MemberChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 주체 캐시 무효화를 Redis pub/sub으로 다른 인스턴스에 전파합니다.
+ * - 회원 변경 이벤트 커밋 후 변경된 회원의 이메일을 발행
+ * - 다른 인스턴스(자기 자신 포함)에서 발행한 이메일을 받아 로컬 캐시 항목 제거
+ * - Redis 장애 시에는 발행을 생략하며, 다른 인스턴스에는 캐시 TTL 만큼 이전 상태가 남음
+ */
+@Component
+@Slf4j
+public class MemberPrincipalCacheBroadcaster {
+
+	private static final String INVALIDATE_CHANNEL = "member-principal-invalidate";
+
+	private final StringRedisTemplate redisTemplate;
+
+	public MemberPrincipalCacheBroadcaster(MemberPrincipalCache memberPrincipalCache,
+		StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+		this.redisTemplate = redisTemplate;
+
+		listenerContainer.addMessageListener(
+			(message, pattern) -> memberPrincipalCache.evict(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(INVALIDATE_CHANNEL));
+	}
+
+	/**
+	 * 회원 변경 이벤트를 커밋 이후에 받아 다른 인스턴스에 무효화를 요청합니다.
+	 *
+	 * @param event 회원 변경 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMemberChanged(MemberChangedEvent event) {
+		try {
+			redisTemplate.convertAndSend(INVALIDATE_CHANNEL, event.getEmail());
+		} catch (Exception e) {
+			log.warn("[MemberPrincipalCache] 무효화 전파 실패 (TTL 만료까지 유지됨): email={}, error={}",
+				event.getEmail(), e.getMessage());
+		}
+	}
+}
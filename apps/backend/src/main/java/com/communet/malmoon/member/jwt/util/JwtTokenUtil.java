@@ -12,6 +12,7 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.*;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.communet.malmoon.member.domain.MemberType;
 
 import jakarta.annotation.PostConstruct;
@@ -32,10 +33,19 @@ public class JwtTokenUtil {
 	public static String secretKey; // static 필드
 	public static int expirationTime;
 
+	// Algorithm, JWTVerifier 는 불변·thread-safe 이므로 기동 시 한 번만 생성하여 재사용
+	private static Algorithm algorithm;
+	private static JWTVerifier verifier;
+
 	@PostConstruct
 	public void init() {
 		secretKey = secret;
 		expirationTime = expiration;
+		algorithm = Algorithm.HMAC512(secretKey.getBytes());
+		verifier = JWT
+			.require(algorithm)
+			.withIssuer(ISSUER)
+			.build();
 	}
 
 	public static final String TOKEN_PREFIX = "Bearer ";
@@ -43,15 +53,22 @@ public class JwtTokenUtil {
 	public static final String ISSUER = "malmoon.communet.com";
 
 	/**
-	 * JWTVerifier 생성
-	 * - 토큰 검증 시 사용하는 객체
+	 * JWTVerifier 조회
+	 * - 토큰 검증 시 사용하는 객체 (기동 시 생성된 단일 인스턴스)
 	 * @return JWTVerifier 인스턴스
 	 */
 	public static JWTVerifier getVerifier() {
-		return JWT
-			.require(Algorithm.HMAC512(secretKey.getBytes()))
-			.withIssuer(ISSUER)
-			.build();
+		return verifier;
+	}
+
+	/**
+	 * JWT 토큰 검증 후 디코딩된 토큰 반환
+	 * @param token 검증할 JWT 토큰 문자열 (Bearer 접두어 포함 가능)
+	 * @return 검증된 DecodedJWT
+	 * @throws JWTVerificationException 검증 실패 시
+	 */
+	public static DecodedJWT verify(String token) {
+		return verifier.verify(token.replace(TOKEN_PREFIX, ""));
 	}
 
 	/**
@@ -68,7 +85,7 @@ public class JwtTokenUtil {
 			.withExpiresAt(expires)
 			.withIssuer(ISSUER)
 			.withIssuedAt(Date.from(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant()))
-			.sign(Algorithm.HMAC512(secretKey.getBytes()));
+			.sign(algorithm);
 	}
 
 	/**
@@ -87,13 +104,8 @@ public class JwtTokenUtil {
 	 * @throws JWTVerificationException 검증 실패 시 각종 예외 던짐
 	 */
 	public static void handleError(String token) {
-		JWTVerifier verifier = JWT
-			.require(Algorithm.HMAC512(secretKey.getBytes()))
-			.withIssuer(ISSUER)
-			.build();
-
 		try {
-			verifier.verify(token.replace(TOKEN_PREFIX, ""));
+			verify(token);
 		} catch (AlgorithmMismatchException ex) {
 			throw ex;
 		} catch (InvalidClaimException ex) {
@@ -19,4 +19,11 @@ public interface TherapistRepository extends JpaRepository<Therapist, Long> {
 
     @EntityGraph(attributePaths = {"member", "careers"})
     List<Therapist> findAllByMember_roleAndMember_MemberIdNotIn(MemberType role, Set<Long> excludedIds);
+
+    // 치료사 디렉터리 적재용 (회원, 주소, 경력을 한 번에 조회)
+    @EntityGraph(attributePaths = {"member", "member.address", "careers"})
+    List<Therapist> findAllWithProfileByMember_role(MemberType role);
+
+    @EntityGraph(attributePaths = {"member", "member.address", "careers"})
+    Optional<Therapist> findWithProfileByTherapistIdAndMember_role(Long therapistId, MemberType role);
 }
@@ -3,6 +3,7 @@ package com.communet.malmoon.member.service;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -10,6 +11,7 @@ import org.springframework.web.multipart.MultipartFile;
 import com.communet.malmoon.file.domain.FileType;
 import com.communet.malmoon.file.dto.response.FileUploadRes;
 import com.communet.malmoon.file.service.FileService;
+import com.communet.malmoon.matching.event.TherapistDirectoryChangedEvent;
 import com.communet.malmoon.member.domain.Address;
 import com.communet.malmoon.member.domain.Career;
 import com.communet.malmoon.member.domain.Member;
@@ -23,6 +25,8 @@ import com.communet.malmoon.member.dto.request.MemberPasswordChangeReq;
 import com.communet.malmoon.member.dto.request.TherapistJoinReq;
 import com.communet.malmoon.member.dto.response.CareerRes;
 import com.communet.malmoon.member.dto.response.MemberMeRes;
+import com.communet.malmoon.member.event.MemberChangedEvent;
+import com.communet.malmoon.member.event.MemberProfileChangedEvent;
 import com.communet.malmoon.member.exception.DuplicateEmailException;
 import com.communet.malmoon.member.repository.CareerRepository;
 import com.communet.malmoon.member.repository.MemberRepository;
@@ -42,6 +46,7 @@ public class MemberService {
 	private final TherapistRepository therapistRepository;
 	private final CareerRepository careerRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 일반 회원 가입 처리
@@ -138,6 +143,7 @@ public class MemberService {
 		}
 
 		therapistRepository.save(therapist);
+		eventPublisher.publishEvent(new TherapistDirectoryChangedEvent(therapist.getTherapistId()));
 	}
 
 	/**
@@ -156,6 +162,7 @@ public class MemberService {
 	@Transactional
 	public void withdraw(Member member) {
 		member.setStatus(MemberStatusType.WITHDRAWN);
+		eventPublisher.publishEvent(new MemberChangedEvent(member.getEmail()));
 	}
 
 	/**
@@ -196,7 +203,10 @@ public class MemberService {
 		Optional<Therapist> therapist = therapistRepository.findById(member.getMemberId());
 		String fileUrl = "";
 		if (therapist.isPresent()) {
-			fileUrl = fileService.getPresignedFileUrl(therapist.get().getFileId());
+			Long fileId = therapist.get().getFileId();
+			if (fileId != null) {
+				fileUrl = fileService.getPresignedFileUrls(List.of(fileId)).getOrDefault(fileId, "");
+			}
 		}
 
 		return MemberMeRes.builder()
@@ -276,6 +286,12 @@ public class MemberService {
 			}
 			therapistRepository.save(therapist);
 		}
+
+		eventPublisher.publishEvent(new MemberChangedEvent(member.getEmail()));
+		eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getMemberId()));
+		if (member.getRole() == MemberType.ROLE_THERAPIST) {
+			eventPublisher.publishEvent(new TherapistDirectoryChangedEvent(member.getMemberId()));
+		}
 	}
 
 	public void changePassword(MemberPasswordChangeReq req, Member member) {
@@ -293,6 +309,7 @@ public class MemberService {
 		String encodedNewPassword = passwordEncoder.encode(req.getNewPassword());
 		member.setPassword(encodedNewPassword);
 		memberRepository.save(member);
+		eventPublisher.publishEvent(new MemberChangedEvent(member.getEmail()));
 	}
 
 	public String getNicknameById(Long opponentId) {
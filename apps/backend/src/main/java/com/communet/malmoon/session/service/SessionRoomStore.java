@@ -0,0 +1,199 @@
+package com.communet.malmoon.session.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.communet.malmoon.common.redis.RedisScripts;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 화상 세션 방 상태를 Redis에 저장/조회/삭제하는 저장소입니다.
+ * 생성·참여·종료 각각을 Lua 스크립트 1회 호출(= Redis 왕복 1회)로 원자적으로 처리합니다.
+ *
+ * 키 구조 (문자열 직렬화)
+ * - session:room:{roomName}      : Hash (therapist, client, createdAt)
+ * - user:therapist:{email}       : 치료사가 생성한 roomName
+ * - user:client:{email}          : 클라이언트가 참여할 roomName
+ * - chat:session:{roomName}      : 세션 채팅방 ID
+ *
+ * roomName 에 따라 결정되는 키는 스크립트 안에서 접두어로 조합하므로 단일 노드(standalone) Redis 를 전제로 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionRoomStore {
+
+	static final String ROOM_PREFIX = "session:room:";
+	static final String THERAPIST_PREFIX = "user:therapist:";
+	static final String CLIENT_PREFIX = "user:client:";
+	static final String CHAT_ROOM_PREFIX = "chat:session:";
+
+	/**
+	 * 방 예약. 치료사 키를 SET NX 로 선점한 요청만 방 정보를 저장하며,
+	 * 이미 방이 있으면(재입장, 더블 클릭 등 동시 요청) 기존 roomName 과 채팅방 ID 를 반환합니다.
+	 * KEYS: therapist, room, client / ARGV: roomName, therapistEmail, clientEmail, createdAt, chatPrefix
+	 * 반환: {created(1|0), roomName, chatRoomId('' 이면 없음)}
+	 */
+	private static final RedisScript<List<String>> RESERVE = RedisScripts.list("""
+		if redis.call('SET', KEYS[1], ARGV[1], 'NX') then
+			redis.call('HSET', KEYS[2], 'therapist', ARGV[2], 'client', ARGV[3], 'createdAt', ARGV[4])
+			redis.call('SET', KEYS[3], ARGV[1])
+			return {'1', ARGV[1], ''}
+		end
+		local room = redis.call('GET', KEYS[1])
+		return {'0', room, redis.call('GET', ARGV[5] .. room) or ''}
+		""");
+
+	/**
+	 * 클라이언트 참여 방 조회.
+	 * KEYS: client / ARGV: chatPrefix
+	 * 반환: {roomName, chatRoomId} 또는 빈 리스트
+	 */
+	private static final RedisScript<List<String>> FIND_CLIENT_ROOM = RedisScripts.list("""
+		local room = redis.call('GET', KEYS[1])
+		if not room then
+			return {}
+		end
+		return {room, redis.call('GET', ARGV[1] .. room) or ''}
+		""");
+
+	/**
+	 * 방 종료. 치료사 키가 가리키는 방의 모든 키를 한 번에 삭제합니다.
+	 * 클라이언트 키는 여전히 같은 방을 가리킬 때만 삭제합니다.
+	 * KEYS: therapist / ARGV: roomPrefix, clientPrefix, chatPrefix
+	 * 반환: {roomName, chatRoomId} 또는 빈 리스트(이미 종료됨)
+	 */
+	private static final RedisScript<List<String>> RELEASE = RedisScripts.list("""
+		local room = redis.call('GET', KEYS[1])
+		if not room then
+			return {}
+		end
+		local roomKey = ARGV[1] .. room
+		local chatKey = ARGV[3] .. room
+		local client = redis.call('HGET', roomKey, 'client')
+		local chatRoomId = redis.call('GET', chatKey) or ''
+		redis.call('DEL', KEYS[1], roomKey, chatKey)
+		if client and redis.call('GET', ARGV[2] .. client) == room then
+			redis.call('DEL', ARGV[2] .. client)
+		end
+		return {room, chatRoomId}
+		""");
+
+	/** 동시 요청 중 진 쪽이 이긴 쪽의 채팅방 매핑을 기다리는 최대 시간과 조회 간격 */
+	static final Duration CHAT_ROOM_BIND_TIMEOUT = Duration.ofSeconds(3);
+	static final Duration CHAT_ROOM_BIND_POLL_INTERVAL = Duration.ofMillis(50);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 치료사의 세션 방을 예약합니다.
+	 *
+	 * @param therapistEmail 치료사 이메일
+	 * @param clientEmail 클라이언트 이메일
+	 * @param roomName 새로 만들 roomName (이미 방이 있으면 사용되지 않음)
+	 * @param createdAt 생성 시각 문자열
+	 * @return created=true 면 새로 예약된 방, false 면 기존 방
+	 */
+	public SessionRoom reserve(String therapistEmail, String clientEmail, String roomName, String createdAt) {
+		List<String> result = execute(RESERVE,
+			List.of(THERAPIST_PREFIX + therapistEmail, ROOM_PREFIX + roomName, CLIENT_PREFIX + clientEmail),
+			roomName, therapistEmail, clientEmail, createdAt, CHAT_ROOM_PREFIX);
+		return new SessionRoom("1".equals(result.get(0)), result.get(1), parseChatRoomId(result.get(2)));
+	}
+
+	/**
+	 * 세션 방과 채팅방 ID 매핑을 저장합니다.
+	 *
+	 * @param roomName 세션 방 이름
+	 * @param chatRoomId 채팅방 ID
+	 */
+	public void bindChatRoom(String roomName, Long chatRoomId) {
+		redisTemplate.opsForValue().set(CHAT_ROOM_PREFIX + roomName, chatRoomId.toString());
+	}
+
+	/**
+	 * 세션 방의 채팅방 ID 매핑이 저장될 때까지 잠시 기다립니다.
+	 * 더블 클릭처럼 동시에 들어온 요청 중 예약에서 진 요청은, 이긴 요청이 채팅방을 만들고
+	 * {@link #bindChatRoom} 을 호출하기 전에 기존 방을 받을 수 있으므로 매핑을 짧게 다시 조회합니다.
+	 *
+	 * @param roomName 세션 방 이름
+	 * @return 채팅방 ID (제한 시간 안에 매핑되지 않으면(채팅방 생성 실패로 방이 회수된 경우 등) null)
+	 */
+	public Long awaitChatRoomId(String roomName) {
+		long deadline = System.nanoTime() + CHAT_ROOM_BIND_TIMEOUT.toNanos();
+		while (true) {
+			Long chatRoomId = parseChatRoomId(redisTemplate.opsForValue().get(CHAT_ROOM_PREFIX + roomName));
+			if (chatRoomId != null || System.nanoTime() >= deadline) {
+				return chatRoomId;
+			}
+			try {
+				Thread.sleep(CHAT_ROOM_BIND_POLL_INTERVAL.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * 클라이언트가 참여할 세션 방을 조회합니다.
+	 *
+	 * @param clientEmail 클라이언트 이메일
+	 * @return 세션 방 (없으면 empty)
+	 */
+	public Optional<SessionRoom> findClientRoom(String clientEmail) {
+		List<String> result = execute(FIND_CLIENT_ROOM, List.of(CLIENT_PREFIX + clientEmail), CHAT_ROOM_PREFIX);
+		return toRoom(result);
+	}
+
+	/**
+	 * 치료사의 세션 방 정보를 모두 삭제합니다. 여러 번 호출해도 안전합니다.
+	 *
+	 * @param therapistEmail 치료사 이메일
+	 * @return 삭제된 세션 방 (이미 없으면 empty)
+	 */
+	public Optional<SessionRoom> release(String therapistEmail) {
+		List<String> result = execute(RELEASE, List.of(THERAPIST_PREFIX + therapistEmail),
+			ROOM_PREFIX, CLIENT_PREFIX, CHAT_ROOM_PREFIX);
+		return toRoom(result);
+	}
+
+	private List<String> execute(RedisScript<List<String>> script, List<String> keys, String... args) {
+		List<String> result = redisTemplate.execute(script, keys, (Object[])args);
+		return result == null ? List.of() : result;
+	}
+
+	private Optional<SessionRoom> toRoom(List<String> result) {
+		if (result.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(new SessionRoom(false, result.get(0), parseChatRoomId(result.get(1))));
+	}
+
+	private Long parseChatRoomId(String value) {
+		return value == null || value.isBlank() ? null : Long.valueOf(value);
+	}
+
+	/**
+	 * Redis 에 저장된 세션 방 정보
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class SessionRoom {
+
+		/** 이번 호출로 새로 생성되었는지 여부 */
+		private final boolean created;
+
+		private final String roomName;
+
+		/** 세션 채팅방 ID (아직 매핑 전이면 null) */
+		private final Long chatRoomId;
+	}
+}
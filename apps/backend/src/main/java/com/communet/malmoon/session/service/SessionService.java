@@ -2,16 +2,11 @@ package com.communet.malmoon.session.service;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +25,7 @@ import com.communet.malmoon.member.domain.Member;
 import com.communet.malmoon.member.repository.MemberRepository;
 import com.communet.malmoon.session.config.LiveKitConfig;
 import com.communet.malmoon.session.dto.response.SessionTokenRes;
+import com.communet.malmoon.session.service.SessionRoomStore.SessionRoom;
 import com.communet.malmoon.session.service.retry.FailedRoomDeletionQueue;
 
 import io.livekit.server.AccessToken;
@@ -53,14 +49,8 @@ import retrofit2.Response;
 @Service
 public class SessionService {
 
-	private final String REDIS_ROOM_PREFIX = "session:room:";
-	private final String REDIS_THERAPIST_PREFIX = "user:therapist:";
-	private final String REDIS_CLIENT_PREFIX = "user:client:";
-	private final String REDIS_CHAT_ROOM_PREFIX = "chat:session:";
-
 	private final LiveKitConfig liveKitConfig;
-	private final RedisTemplate<String, Object> redisTemplate;
-	private final HashOperations<String, Object, Object> hashOps;
+	private final SessionRoomStore sessionRoomStore;
 	private final MemberRepository memberRepository;
 	private final RoomServiceClient roomServiceClient;
 
@@ -71,7 +61,7 @@ public class SessionService {
 	private final FailedRoomDeletionQueue failedRoomDeletionQueue;
 
 	public SessionService(
-		@Qualifier("redisTemplate0") RedisTemplate<String, Object> redisTemplate,
+		SessionRoomStore sessionRoomStore,
 		MemberRepository memberRepository,
 		LiveKitConfig liveKitConfig,
 		RoomServiceClient roomServiceClient,
@@ -80,8 +70,7 @@ public class SessionService {
 		ChatMessageRepository chatMessageRepository,
 		FailedRoomDeletionQueue failedRoomDeletionQueue) {
 		this.liveKitConfig = liveKitConfig;
-		this.redisTemplate = redisTemplate;
-		this.hashOps = redisTemplate.opsForHash();
+		this.sessionRoomStore = sessionRoomStore;
 		this.memberRepository = memberRepository;
 		this.roomServiceClient = roomServiceClient;
 		this.chatRoomService = chatRoomService;
@@ -94,7 +83,7 @@ public class SessionService {
 	 * 치료사가 세션 방을 생성하고, Redis에 관련 정보 저장 후 토큰 반환
 	 * - 기존 세션이 있으면 재접속
 	 * - 랜덤 UUID로 room 생성
-	 * - Redis에 therapist, client, 생성 시간 저장
+	 * - Redis에 therapist, client, 생성 시간 저장 (SET NX 로 치료사당 1개 방만 생성, 왕복 1회)
 	 * - 채팅방 자동 생성 및 세션 Id < - > ChatRoomId 매핑 저장
 	 *
 	 * @param therapist 현재 로그인한 치료사
@@ -103,52 +92,42 @@ public class SessionService {
 	 */
 	@Transactional
 	public SessionTokenRes storeRoomInfo(Member therapist, Long clientId) { // 여기 수정함
+		String clientEmail = getClientEmail(clientId);
+		String newRoomName = UUID.randomUUID().toString();
+		String now = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
 
-		// 이미 생성한 세션이 있으면 재입장
-		if (redisTemplate.hasKey(REDIS_THERAPIST_PREFIX + therapist.getEmail())) {
-			String roomName = Objects.requireNonNull(
-					redisTemplate.opsForValue().get(REDIS_THERAPIST_PREFIX + therapist.getEmail()), "생성한 세션이 없습니다.")
-				.toString();
-
-			String chatRoomIdStr = (String)redisTemplate.opsForValue().get(REDIS_CHAT_ROOM_PREFIX + roomName);
+		SessionRoom room = sessionRoomStore.reserve(therapist.getEmail(), clientEmail, newRoomName, now);
 
-			if (chatRoomIdStr == null || chatRoomIdStr.isBlank()) {
+		// 이미 생성한 세션이 있으면 재입장 (동시 생성 요청도 같은 방으로 수렴)
+		if (!room.isCreated()) {
+			// 동시 요청에서 진 경우 이긴 요청이 아직 채팅방을 매핑하기 전일 수 있으므로 잠시 기다림
+			Long chatRoomId = room.getChatRoomId() != null
+				? room.getChatRoomId()
+				: sessionRoomStore.awaitChatRoomId(room.getRoomName());
+			if (chatRoomId == null) {
 				throw new ChatException(ChatErrorCode.INVALID_ROOM_ID);
 			}
 
-			Long chatRoomId = Long.valueOf(chatRoomIdStr);
-
 			return SessionTokenRes.builder()
-				.token(generateAccessToken(therapist, roomName))
+				.token(generateAccessToken(therapist, room.getRoomName()))
 				.chatRoomId(chatRoomId)
 				.build();
 		}
 
-		// roomName 생성 & Redis Hash에 방 정보 저장
-		String roomName = UUID.randomUUID().toString();
-		String clientEmail = getClientEmail(clientId);
-		String sessionKey = REDIS_ROOM_PREFIX + roomName;
-		String now = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-
-		// Redis Hash에 방 정보 저장
-		Map<String, Object> sessionData = new HashMap<>();
-		sessionData.put("therapist", therapist.getEmail());
-		sessionData.put("client", clientEmail);
-		sessionData.put("createdAt", now);
-		hashOps.putAll(sessionKey, sessionData);
-
-		// 채팅방 자동 생성
-		ChatRoomCreateRes createdRoom = createSessionChatRoom(roomName, therapist.getMemberId(), clientId);
-
-		// Redis String에 therapist/client → roomName 매핑 저장
-		redisTemplate.opsForValue().set(REDIS_THERAPIST_PREFIX + therapist.getEmail(), roomName);
-		redisTemplate.opsForValue().set(REDIS_CLIENT_PREFIX + clientEmail, roomName);
+		// 채팅방 자동 생성 (실패 시 예약한 방 정보 회수)
+		ChatRoomCreateRes createdRoom;
+		try {
+			createdRoom = createSessionChatRoom(newRoomName, therapist.getMemberId(), clientId);
+		} catch (RuntimeException e) {
+			sessionRoomStore.release(therapist.getEmail());
+			throw e;
+		}
 
-		chatRedisService.saveToRedis(enterMessage(roomName, createdRoom.getRoomId(), therapist));
+		chatRedisService.saveToRedis(enterMessage(newRoomName, createdRoom.getRoomId(), therapist));
 
 		// 여기 추가함
 		return SessionTokenRes.builder()
-			.token(generateAccessToken(therapist, roomName))
+			.token(generateAccessToken(therapist, newRoomName))
 			.chatRoomId(createdRoom.getRoomId())
 			.build();
 	}
@@ -165,10 +144,7 @@ public class SessionService {
 				.participantIds(List.of(therapistId, clientId))
 				.build(), therapistId);
 
-		redisTemplate.opsForValue().set(
-			REDIS_CHAT_ROOM_PREFIX + roomName,
-			createdRoom.getRoomId().toString()
-		);
+		sessionRoomStore.bindChatRoom(roomName, createdRoom.getRoomId());
 
 		return createdRoom; // 여기 추가함
 	}
@@ -187,20 +163,16 @@ public class SessionService {
 	}
 
 	/**
-	 * 치료사의 세션 방 정보를 Redis에서 삭제
+	 * 치료사의 세션 방 정보를 Redis에서 삭제 (방/치료사/클라이언트/채팅방 매핑을 왕복 1회로 삭제)
 	 * @param therapistEmail 삭제 대상 치료사 이메일
 	 */
 	@Transactional
 	public void deleteRoomInfo(String therapistEmail) {
-		String roomName = Objects.requireNonNull(
-			redisTemplate.opsForValue().get(REDIS_THERAPIST_PREFIX + therapistEmail), "생성한 세션이 없습니다.").toString();
-		String clientEmail = Objects.requireNonNull(hashOps.get(REDIS_ROOM_PREFIX + roomName, "client")).toString();
+		SessionRoom room = Objects.requireNonNull(
+			sessionRoomStore.release(therapistEmail).orElse(null), "생성한 세션이 없습니다.");
+		String roomName = room.getRoomName();
 
-		redisTemplate.delete(REDIS_ROOM_PREFIX + roomName);
-		redisTemplate.delete(REDIS_THERAPIST_PREFIX + therapistEmail);
-		redisTemplate.delete(REDIS_CLIENT_PREFIX + clientEmail);
-
-		handleChatRoomOnSessionEnd(therapistEmail, roomName);
+		handleChatRoomOnSessionEnd(therapistEmail, roomName, room.getChatRoomId());
 
 		roomServiceClient.deleteRoom(roomName).enqueue(new Callback<Void>() {
 			@Override
@@ -229,18 +201,15 @@ public class SessionService {
 	 *
 	 * @param therapistEmail 치료사 이메일
 	 * @param roomName       세션 이름 (roomName)
+	 * @param chatRoomId     세션 채팅방 ID (매핑이 없었으면 null)
 	 */
-	private void handleChatRoomOnSessionEnd(String therapistEmail, String roomName) {
+	private void handleChatRoomOnSessionEnd(String therapistEmail, String roomName, Long chatRoomId) {
 		Member member = memberRepository.getMemberInfoByEmail(therapistEmail);
 		if (member == null) {
 			throw new ChatException(ChatErrorCode.NOT_FOUND_MEMBER);
 		}
 
-		String chatRoomIdStr = (String)redisTemplate.opsForValue().get(REDIS_CHAT_ROOM_PREFIX + roomName);
-
-		if (chatRoomIdStr != null && !chatRoomIdStr.isBlank()) {
-			Long chatRoomId = Long.valueOf(chatRoomIdStr);
-
+		if (chatRoomId != null) {
 			ChatMessage leaveMessage = ChatMessage.builder()
 				.roomId(chatRoomId)
 				.senderId(member.getMemberId())
@@ -255,9 +224,6 @@ public class SessionService {
 
 			// flush: 메시지 없어도 예외 없음
 			chatRedisService.flushSessionMessagesToDb(roomName);
-
-			// 세션 매핑 제거
-			redisTemplate.delete(REDIS_CHAT_ROOM_PREFIX + roomName);
 		}
 	}
 
@@ -267,44 +233,18 @@ public class SessionService {
 	 * @return JWT 기반 LiveKit 세션 접속 토큰
 	 */
 	public SessionTokenRes getJoinRoomName(Member client) { // 여기 수정함
-		String key = REDIS_CLIENT_PREFIX + client.getEmail();
-		if (redisTemplate.hasKey(key)) {
-			String roomName = Objects.requireNonNull(
-				redisTemplate.opsForValue().get(key), "참여할 수 있는 세션이 없습니다.").toString();
+		SessionRoom room = Objects.requireNonNull(
+			sessionRoomStore.findClientRoom(client.getEmail()).orElse(null), "참여할 수 있는 세션이 없습니다.");
 
-			String chatRoomIdStr = (String)redisTemplate.opsForValue().get(REDIS_CHAT_ROOM_PREFIX + roomName);
-
-			if (chatRoomIdStr == null || chatRoomIdStr.isBlank()) {
-				throw new ChatException(ChatErrorCode.INVALID_ROOM_ID);
-			}
-
-			Long chatRoomId = Long.valueOf(chatRoomIdStr);
-
-			chatRedisService.saveToRedis(enterMessage(roomName, chatRoomId, client));
-
-			return SessionTokenRes.builder()
-				.token(generateAccessToken(client, roomName))
-				.chatRoomId(chatRoomId)
-				.build();
-		}
-
-		String roomName = Objects.requireNonNull(
-			redisTemplate.opsForValue().get(REDIS_CLIENT_PREFIX + client.getEmail()), "참여할 수 있는 세션이 없습니다.").toString();
-
-		// 여기 추가함
-		String chatRoomIdStr = (String)redisTemplate.opsForValue().get(REDIS_CHAT_ROOM_PREFIX + roomName);
-
-		if (chatRoomIdStr == null || chatRoomIdStr.isBlank()) {
+		if (room.getChatRoomId() == null) {
 			throw new ChatException(ChatErrorCode.INVALID_ROOM_ID);
 		}
 
-		Long chatRoomId = Long.valueOf(chatRoomIdStr);
-
-		chatRedisService.saveToRedis(enterMessage(roomName, chatRoomId, client));
+		chatRedisService.saveToRedis(enterMessage(room.getRoomName(), room.getChatRoomId(), client));
 
 		return SessionTokenRes.builder()
-			.token(generateAccessToken(client, roomName))
-			.chatRoomId(chatRoomId)
+			.token(generateAccessToken(client, room.getRoomName()))
+			.chatRoomId(room.getChatRoomId())
 			.build();
 	}
 
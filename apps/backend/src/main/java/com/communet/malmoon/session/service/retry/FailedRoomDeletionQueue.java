@@ -1,39 +1,233 @@
 package com.communet.malmoon.session.service.retry;
 
+import com.communet.malmoon.common.redis.RedisScripts;
+import com.communet.malmoon.common.redis.RedisStreams;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LiveKit 방 삭제 재시도 큐 (Redis Stream + consumer group)
+ * - 실패한 삭제는 재시도 시각을 점수로 하는 ZSET(session:room-deletion:delayed)에 넣고,
+ *   시각이 된 항목만 스트림(session:room-deletion:stream)으로 옮겨 워커가 consumer group 으로 읽음
+ * - 처리 결과가 정해진 뒤에만 XACK/XDEL 하므로 읽은 직후 인스턴스가 죽어도 항목이 사라지지 않고,
+ *   오래 확인되지 않은 항목은 XAUTOCLAIM 으로 다른 consumer 가 가져감
+ * - 같은 방을 두 번 삭제해도 결과가 같으므로(이미 없는 방은 성공으로 처리) 재처리로 인한 중복은 허용
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class FailedRoomDeletionQueue {
 
-    private final String RETRY_QUEUE_KEY = "failedRoomDeletionQueue";
+    static final String STREAM_KEY = "session:room-deletion:stream";
+    static final String DELAYED_KEY = "session:room-deletion:delayed";
+    static final String GROUP = "room-deleter";
+    // 스트림 도입 이전의 LIST 큐. 시작 시 남은 항목을 ZSET 으로 옮김
+    private static final String LEGACY_QUEUE_KEY = "failedRoomDeletionQueue";
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(15);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    /**
+     * 재시도 시각이 된 항목을 ZSET 에서 꺼내 스트림에 추가. 여러 인스턴스가 동시에 실행해도 한 번만 옮겨짐
+     * KEYS: delayed, stream / ARGV: now(ms), limit
+     * 반환: 옮긴 항목 수
+     */
+    private static final RedisScript<Long> PROMOTE_DUE = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for _, item in ipairs(due) do
+                redis.call('ZREM', KEYS[1], item)
+                redis.call('XADD', KEYS[2], '*', 'payload', item)
+            end
+            return #due
+            """, Long.class);
+
+    /**
+     * 다른 consumer 가 가져간 뒤 min-idle 이상 확인되지 않은 항목을 가져옴
+     * KEYS: stream / ARGV: group, consumer, minIdle(ms), count
+     * 반환: {id1, payload1, id2, payload2, ...} (payload 가 없는 항목은 '')
+     */
+    private static final RedisScript<List<String>> RECLAIM = RedisScripts.list("""
+            local claimed = redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], '0-0', 'COUNT', tonumber(ARGV[4]))
+            local result = {}
+            for _, entry in ipairs(claimed[2]) do
+                if type(entry) == 'table' then
+                    local payload = ''
+                    local fields = entry[2] or {}
+                    for i = 1, #fields, 2 do
+                        if fields[i] == 'payload' then
+                            payload = fields[i + 1]
+                        end
+                    end
+                    table.insert(result, entry[1])
+                    table.insert(result, payload)
+                end
+            end
+            return result
+            """);
+
+    /**
+     * KEYS: legacy list, delayed / ARGV: now(ms)
+     */
+    private static final RedisScript<Long> MIGRATE_LEGACY = new DefaultRedisScript<>("""
+            local items = redis.call('LRANGE', KEYS[1], 0, -1)
+            for _, item in ipairs(items) do
+                redis.call('ZADD', KEYS[2], ARGV[1], item)
+            end
+            redis.call('DEL', KEYS[1])
+            return #items
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
 
+    @PostConstruct
+    void init() {
+        try {
+            RedisStreams.createGroup(redisTemplate, STREAM_KEY, GROUP);
+        } catch (Exception e) {
+            // Redis 연결 실패 등으로 만들지 못해도 부팅은 계속하고, read/reclaim 의 NOGROUP 처리에서 다시 만듦
+            log.warn("[room-deletion] consumer group 생성 실패: {}", e.getMessage());
+        }
+        try {
+            Long migrated = redisTemplate.execute(MIGRATE_LEGACY, List.of(LEGACY_QUEUE_KEY, DELAYED_KEY),
+                    String.valueOf(System.currentTimeMillis()));
+            if (migrated != null && migrated > 0) {
+                log.info("[room-deletion] 이전 재시도 큐 항목 {}건 이관", migrated);
+            }
+        } catch (Exception e) {
+            log.warn("[room-deletion] 이전 재시도 큐 이관 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제 실패한 방을 재시도 큐에 등록. 실패 횟수에 따른 대기 시간 후 재시도됨
+     *
+     * @param roomName 삭제할 방 이름
+     * @param retryCount 지금까지 실패한 횟수 (1부터)
+     */
     public void add(String roomName, int retryCount) {
+        schedule(new RetryItem(roomName, retryCount, System.currentTimeMillis()));
+    }
+
+    /**
+     * 항목을 실패 횟수에 따른 대기 시간 후에 재시도하도록 등록
+     */
+    public void schedule(RetryItem item) {
         try {
-            String json = objectMapper.writeValueAsString(new RetryItem(roomName, retryCount));
-            redisTemplate.opsForList().rightPush(RETRY_QUEUE_KEY, json);
+            long dueAt = System.currentTimeMillis() + backoff(item.getRetryCount()).toMillis();
+            redisTemplate.opsForZSet().add(DELAYED_KEY, objectMapper.writeValueAsString(item), dueAt);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize retry item", e);
         }
     }
 
-    public RetryItem poll() {
-        String json = redisTemplate.opsForList().leftPop(RETRY_QUEUE_KEY);
-        if (json == null) return null;
+    /**
+     * 재시도 시각이 된 항목을 최대 limit 건 스트림으로 옮김
+     */
+    public long promoteDue(int limit) {
+        Long promoted = redisTemplate.execute(PROMOTE_DUE, List.of(DELAYED_KEY, STREAM_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(limit));
+        return promoted == null ? 0 : promoted;
+    }
+
+    /**
+     * 이 consumer 에게 아직 전달되지 않은 항목을 최대 count 건 읽음 (대기하지 않음)
+     * group 이 없으면(NOGROUP) 다시 만든 뒤 한 번 더 읽음
+     */
+    public List<Delivery> read(String consumerName, int count) {
+        List<MapRecord<String, Object, Object>> records = RedisStreams.retryOnNoGroup(redisTemplate, STREAM_KEY, GROUP,
+                () -> redisTemplate.opsForStream().read(
+                        Consumer.from(GROUP, consumerName),
+                        StreamReadOptions.empty().count(count),
+                        RedisStreams.lastConsumed(STREAM_KEY)));
+        List<Delivery> deliveries = new ArrayList<>();
+        if (records == null) {
+            return deliveries;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            Object payload = record.getValue().get("payload");
+            toDelivery(record.getId().getValue(), payload == null ? "" : payload.toString(), deliveries);
+        }
+        return deliveries;
+    }
 
+    /**
+     * 다른 consumer 가 가져간 뒤 minIdle 이상 확인되지 않은 항목을 최대 count 건 가져옴
+     * group 이 없으면(NOGROUP) 다시 만든 뒤 한 번 더 가져옴
+     */
+    public List<Delivery> reclaim(String consumerName, Duration minIdle, int count) {
+        List<String> claimed = RedisStreams.retryOnNoGroup(redisTemplate, STREAM_KEY, GROUP,
+                () -> redisTemplate.execute(RECLAIM, List.of(STREAM_KEY),
+                        GROUP, consumerName, String.valueOf(minIdle.toMillis()), String.valueOf(count)));
+        List<Delivery> deliveries = new ArrayList<>();
+        if (claimed == null) {
+            return deliveries;
+        }
+        for (int i = 0; i + 1 < claimed.size(); i += 2) {
+            toDelivery(claimed.get(i), claimed.get(i + 1), deliveries);
+        }
+        return deliveries;
+    }
+
+    /**
+     * 처리 결과가 정해진 항목을 확인(XACK)하고 스트림에서 제거
+     */
+    public void complete(String recordId) {
+        RecordId id = RecordId.of(recordId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.streamCommands().xAck(RedisStreams.bytes(STREAM_KEY), GROUP, id);
+            connection.streamCommands().xDel(RedisStreams.bytes(STREAM_KEY), id);
+            return null;
+        });
+    }
+
+    /**
+     * 지금 처리 가능한(스트림에 있는) 항목 수
+     */
+    public long readyDepth() {
+        Long size = redisTemplate.opsForStream().size(STREAM_KEY);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 재시도 시각을 기다리는 항목 수
+     */
+    public long delayedDepth() {
+        Long size = redisTemplate.opsForZSet().zCard(DELAYED_KEY);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 실패 횟수에 따른 재시도 대기 시간 (15초부터 2배씩, 최대 10분)
+     */
+    static Duration backoff(int retryCount) {
+        int exponent = Math.min(Math.max(retryCount, 1) - 1, 16);
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << exponent);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private void toDelivery(String recordId, String payload, List<Delivery> deliveries) {
         try {
-            return objectMapper.readValue(json, RetryItem.class);
+            deliveries.add(new Delivery(recordId, objectMapper.readValue(payload, RetryItem.class)));
         } catch (JsonProcessingException e) {
-            log.error("Redis 큐에서 역직렬화 실패: {}, 데이터: {}", e.getMessage(), json);
-            return null;
+            log.error("Redis 큐에서 역직렬화 실패: {}, 데이터: {}", e.getMessage(), payload);
+            complete(recordId);
         }
     }
 
@@ -44,5 +238,17 @@ public class FailedRoomDeletionQueue {
     public static class RetryItem {
         private String roomName;
         private int retryCount;
+        // 처음 삭제에 실패한 시각 (epoch ms, 이전 큐에서 이관된 항목은 0)
+        private long firstFailedAt;
+    }
+
+    /**
+     * 스트림에서 전달받은 항목 (확인 시 사용할 레코드 ID 포함)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Delivery {
+        private final String recordId;
+        private final RetryItem item;
     }
-}
\ No newline at end of file
+}
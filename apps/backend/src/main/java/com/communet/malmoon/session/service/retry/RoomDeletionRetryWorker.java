@@ -0,0 +1,202 @@
+package com.communet.malmoon.session.service.retry;
+
+import io.livekit.server.RoomServiceClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LiveKit 방 삭제 재시도 워커
+ * - 재시도 시각이 된 항목을 스트림으로 옮긴 뒤, 동시에 진행 중인 삭제 요청이 상한(max-concurrency)을 넘지 않는 만큼만 읽어
+ *   비동기(enqueue)로 삭제 요청
+ * - 성공하거나 방이 이미 없으면(404) 완료, 실패하면 실패 횟수에 따른 대기 후 재시도하도록 다시 등록하고,
+ *   최대 횟수에 도달하면 포기
+ * - 읽은 뒤 결과를 확인하지 못하고 죽은 consumer 의 항목은 일정 시간 후 다른 consumer 가 가져와 처리
+ */
+@Component
+@Slf4j
+public class RoomDeletionRetryWorker {
+
+    private static final int MAX_RETRY_COUNT = 5;
+    private static final int PROMOTE_BATCH_SIZE = 100;
+    private static final Duration CLAIM_MIN_IDLE = Duration.ofMinutes(2);
+
+    private final FailedRoomDeletionQueue retryQueue;
+    private final RoomServiceClient roomServiceClient;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final String consumerName = "deleter-" + UUID.randomUUID();
+
+    private final AtomicLong readyDepth = new AtomicLong();
+    private final AtomicLong delayedDepth = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Counter retriedCounter;
+    private final Counter gaveUpCounter;
+    private final Timer retryAgeTimer;
+
+    public RoomDeletionRetryWorker(FailedRoomDeletionQueue retryQueue, RoomServiceClient roomServiceClient,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${session.room-deletion.max-concurrency:8}") int maxConcurrency) {
+        this.retryQueue = retryQueue;
+        this.roomServiceClient = roomServiceClient;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+
+        Gauge.builder("session.room.deletion.queue", readyDepth, AtomicLong::get)
+                .tag("state", "ready")
+                .description("재시도 시각이 되어 처리를 기다리는 방 삭제 수")
+                .register(meterRegistry);
+        Gauge.builder("session.room.deletion.queue", delayedDepth, AtomicLong::get)
+                .tag("state", "delayed")
+                .description("재시도 시각을 기다리는 방 삭제 수")
+                .register(meterRegistry);
+        Gauge.builder("session.room.deletion.inflight", this, worker -> worker.inFlight())
+                .description("진행 중인 방 삭제 요청 수")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("session.room.deletion.retries").tag("result", "deleted").register(meterRegistry);
+        this.retriedCounter = Counter.builder("session.room.deletion.retries").tag("result", "retried").register(meterRegistry);
+        this.gaveUpCounter = Counter.builder("session.room.deletion.retries").tag("result", "gave_up").register(meterRegistry);
+        this.retryAgeTimer = Timer.builder("session.room.deletion.retry.age")
+                .description("처음 삭제에 실패한 시각부터 삭제 성공 또는 포기까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재시도 시각이 된 항목을 옮기고, 남은 동시 처리 여유만큼 읽어 삭제를 요청합니다.
+     */
+    @Scheduled(fixedDelayString = "${session.room-deletion.poll-interval-ms:1000}")
+    public void drain() {
+        try {
+            retryQueue.promoteDue(PROMOTE_BATCH_SIZE);
+            int free = permits.availablePermits();
+            if (free > 0) {
+                dispatchAll(retryQueue.read(consumerName, free));
+            }
+            readyDepth.set(retryQueue.readyDepth());
+            delayedDepth.set(retryQueue.delayedDepth());
+        } catch (Exception e) {
+            log.error("[room-deletion] 재시도 큐 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 consumer 가 가져간 뒤 오래 확인되지 않은 항목을 가져와 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${session.room-deletion.claim-interval-ms:60000}")
+    public void reclaimStale() {
+        try {
+            int free = permits.availablePermits();
+            if (free == 0) {
+                return;
+            }
+            List<FailedRoomDeletionQueue.Delivery> claimed = retryQueue.reclaim(consumerName, CLAIM_MIN_IDLE, free);
+            if (!claimed.isEmpty()) {
+                log.info("[room-deletion] 미확인 삭제 요청 {}건 재처리", claimed.size());
+                dispatchAll(claimed);
+            }
+        } catch (Exception e) {
+            log.error("[room-deletion] 미확인 삭제 요청 재처리 실패: {}", e.getMessage());
+        }
+    }
+
+    int inFlight() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    private void dispatchAll(List<FailedRoomDeletionQueue.Delivery> deliveries) {
+        for (FailedRoomDeletionQueue.Delivery delivery : deliveries) {
+            if (!permits.tryAcquire()) {
+                // 확인하지 않은 항목은 pending 으로 남아 이후 재처리됨
+                return;
+            }
+            dispatch(delivery);
+        }
+    }
+
+    private void dispatch(FailedRoomDeletionQueue.Delivery delivery) {
+        String roomName = delivery.getItem().getRoomName();
+        try {
+            roomServiceClient.deleteRoom(roomName).enqueue(new Callback<Void>() {
+                @Override
+                public void onResponse(Call<Void> call, Response<Void> response) {
+                    try {
+                        if (response.isSuccessful() || response.code() == 404) {
+                            onDeleted(delivery);
+                        } else {
+                            onFailed(delivery, "코드: " + response.code());
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                }
+
+                @Override
+                public void onFailure(Call<Void> call, Throwable t) {
+                    try {
+                        onFailed(delivery, t.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                }
+            });
+        } catch (Exception e) {
+            permits.release();
+            onFailed(delivery, e.getMessage());
+        }
+    }
+
+    private void onDeleted(FailedRoomDeletionQueue.Delivery delivery) {
+        FailedRoomDeletionQueue.RetryItem item = delivery.getItem();
+        try {
+            retryQueue.complete(delivery.getRecordId());
+            deletedCounter.increment();
+            recordAge(item);
+            log.info("재시도: {} 방 삭제 성공", item.getRoomName());
+        } catch (Exception e) {
+            log.warn("[room-deletion] {} 방 삭제 완료 처리 실패 (재처리 예정): {}", item.getRoomName(), e.getMessage());
+        }
+    }
+
+    private void onFailed(FailedRoomDeletionQueue.Delivery delivery, String reason) {
+        FailedRoomDeletionQueue.RetryItem item = delivery.getItem();
+        log.warn("재시도: {} 방 삭제 실패, {}", item.getRoomName(), reason);
+        try {
+            // 다음 재시도를 먼저 등록한 뒤 확인하여, 중간에 죽어도 항목이 사라지지 않도록 함
+            if (item.getRetryCount() < MAX_RETRY_COUNT) {
+                retryQueue.schedule(new FailedRoomDeletionQueue.RetryItem(
+                        item.getRoomName(), item.getRetryCount() + 1, item.getFirstFailedAt()));
+                retriedCounter.increment();
+                log.info("{} 재시도 횟수 증가: {}", item.getRoomName(), item.getRetryCount() + 1);
+            } else {
+                gaveUpCounter.increment();
+                recordAge(item);
+                log.error("{} 최대 재시도 횟수 도달, 더 이상 재시도하지 않음", item.getRoomName());
+            }
+            retryQueue.complete(delivery.getRecordId());
+        } catch (Exception e) {
+            log.warn("[room-deletion] {} 재시도 등록 실패 (재처리 예정): {}", item.getRoomName(), e.getMessage());
+        }
+    }
+
+    private void recordAge(FailedRoomDeletionQueue.RetryItem item) {
+        if (item.getFirstFailedAt() > 0) {
+            retryAgeTimer.record(Math.max(0, System.currentTimeMillis() - item.getFirstFailedAt()), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.communet.malmoon.storybook.controller;
 
+import com.communet.malmoon.storybook.domain.SessionFeedbackStatus;
+import com.communet.malmoon.storybook.dto.SessionFeedbackJobResponseDto;
 import com.communet.malmoon.storybook.dto.SessionFeedbackRequestDto;
 import com.communet.malmoon.storybook.dto.FeedbackDetailResponseDto;
 import com.communet.malmoon.storybook.service.SessionFeedbackService;
@@ -8,6 +10,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -19,12 +22,21 @@ public class SessionFeedbackController {
 
     private final SessionFeedbackService sessionFeedbackService;
     // 피드백 생성 엔드포인트
+    // 평가 완료를 기다리지 않고 202 와 작업 ID 를 반환하며, 상태는 GET /api/v1/session-feedback/jobs/{id} 로 조회
     @PostMapping("/end")
-    public ResponseEntity<String> endSessionAndGenerateFeedback(
+    public ResponseEntity<SessionFeedbackJobResponseDto> endSessionAndGenerateFeedback(
             @RequestBody SessionFeedbackRequestDto requestDto
     ) {
-        sessionFeedbackService.processFeedbackAfterLesson(requestDto);
-        return ResponseEntity.ok("세션 종료 및 피드백 생성 완료");
+        Long jobId = sessionFeedbackService.requestFeedbackAfterLesson(requestDto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/session-feedback/jobs/" + jobId))
+                .body(new SessionFeedbackJobResponseDto(jobId, SessionFeedbackStatus.PENDING, null));
+    }
+
+    // 피드백 평가 작업 상태 조회 (PENDING → PROCESSING → COMPLETED | FAILED)
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<SessionFeedbackJobResponseDto> getFeedbackJob(@PathVariable Long id) {
+        return ResponseEntity.ok(sessionFeedbackService.getFeedbackJob(id));
     }
 
     // 1. 피드백 날짜 목록 조회
@@ -1,14 +1,21 @@
 package com.communet.malmoon.storybook.controller;
 
 import java.io.IOException;
+import java.net.URI;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.communet.malmoon.common.auth.CurrentMember;
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.storybook.domain.SpeechResultStatus;
+import com.communet.malmoon.storybook.dto.SpeechJobResponseDto;
 import com.communet.malmoon.storybook.service.SpeechResultService;
 
 import lombok.RequiredArgsConstructor;
@@ -20,8 +27,12 @@ public class SpeechResultController {
 
 	private final SpeechResultService speechResultService;
 
+	/**
+	 * 음성 파일을 업로드하고 STT 변환 작업을 등록합니다.
+	 * 변환 완료를 기다리지 않고 202 와 작업 ID 를 반환하며, 결과는 GET /api/v1/speech/{id} 로 조회합니다.
+	 */
 	@PostMapping
-	public ResponseEntity<Void> uploadAudio(@RequestParam Long childId,
+	public ResponseEntity<SpeechJobResponseDto> uploadAudio(@RequestParam Long childId,
 		@RequestParam Long sentenceId,
 		@RequestParam String srcTextId,
 		@RequestParam int page,
@@ -37,20 +48,21 @@ public class SpeechResultController {
 			return ResponseEntity.badRequest().build(); // 필요 시 커스텀 에러 바디로 교체
 		}
 
-		// 1) 원본 확장자 유지
-		String originalName = audioFile.getOriginalFilename();
-		String ext = (originalName != null && originalName.lastIndexOf('.') != -1)
-			? originalName.substring(originalName.lastIndexOf('.'))
-			: ".bin";
-
-		// 2) 안전한 임시 파일로 즉시 복사
-		java.nio.file.Path temp = java.nio.file.Files.createTempFile("uploaded-", ext);
-		audioFile.transferTo(temp.toFile()); // File 객체로 변환
-		//System.out.println("🟢 [Spring] 안전 보관 경로: " + temp.toAbsolutePath());
-
-		// 3) 서비스에는 MultipartFile 대신 '안전 경로' 또는 '바이트' 전달
-		// 권장 A: 경로 전달
-		speechResultService.handleSpeechUpload(childId, sentenceId, srcTextId, page, temp);
-		return ResponseEntity.ok().build();
+		// 업로드 파일을 임시 복사 없이 저장 위치로 바로 옮김 (서비스에서 처리)
+		Long jobId = speechResultService.handleSpeechUpload(childId, sentenceId, srcTextId, page, audioFile);
+		return ResponseEntity.accepted()
+			.location(URI.create("/api/v1/speech/" + jobId))
+			.body(new SpeechJobResponseDto(jobId, SpeechResultStatus.PENDING, null, null));
+	}
+
+	/**
+	 * STT 변환 작업 상태를 조회합니다. (PENDING → PROCESSING → COMPLETED | FAILED)
+	 * 해당 아동 본인이나 담당 치료사가 아니면 작업이 없는 것과 같이 404 를 반환합니다.
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<SpeechJobResponseDto> getSpeechJob(@PathVariable Long id, @CurrentMember Member member) {
+		return speechResultService.findSpeechJob(id, member)
+			.map(ResponseEntity::ok)
+			.orElseGet(() -> ResponseEntity.notFound().build());
 	}
 }
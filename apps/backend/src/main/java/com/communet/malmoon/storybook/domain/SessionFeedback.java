@@ -5,11 +5,15 @@ import lombok.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.communet.malmoon.common.job.LeaseJob;
 import com.communet.malmoon.member.domain.Member;
 
 @Entity
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
-public class SessionFeedback {
+@Table(indexes = @Index(name = "idx_session_feedback_status_next", columnList = "status, next_attempt_at"))
+public class SessionFeedback implements LeaseJob {
 
 	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -41,5 +45,55 @@ public class SessionFeedback {
 	@Column(nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
+	// 평가 작업 상태 (기존 데이터는 동기 처리로 이미 완료된 피드백)
+	@Enumerated(EnumType.STRING)
+	@ColumnDefault("'COMPLETED'")
+	@Column(nullable = false, length = 20)
+	@Builder.Default
+	private SessionFeedbackStatus status = SessionFeedbackStatus.PENDING;
+
+	// 평가 시도 횟수
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private int attempts;
+
+	// 다음 시도 가능 시각 (PENDING: 평가/재시도 대기, PROCESSING: 작업 점유 만료 시각)
+	private LocalDateTime nextAttemptAt;
+
+	// 마지막 실패 원인
+	@Column(length = 500)
+	private String lastError;
+
 	@PrePersist void onCreate() { this.createdAt = LocalDateTime.now(); }
+
+	public void complete(double accuracy, String evaluation, String strengths, String improvements,
+			String recommendations) {
+		this.accuracy = accuracy;
+		this.evaluation = evaluation;
+		this.strengths = strengths;
+		this.improvements = improvements;
+		this.recommendations = recommendations;
+		this.status = SessionFeedbackStatus.COMPLETED;
+		this.nextAttemptAt = null;
+		this.lastError = null;
+	}
+
+	public void retryAt(LocalDateTime nextAttemptAt, String error) {
+		this.status = SessionFeedbackStatus.PENDING;
+		this.nextAttemptAt = nextAttemptAt;
+		this.lastError = error;
+	}
+
+	// STT 변환이 끝나기를 기다리는 대기는 시도 횟수에 포함하지 않음
+	public void waitUntil(LocalDateTime nextAttemptAt) {
+		this.status = SessionFeedbackStatus.PENDING;
+		this.nextAttemptAt = nextAttemptAt;
+		this.attempts = Math.max(0, this.attempts - 1);
+	}
+
+	public void fail(String error) {
+		this.status = SessionFeedbackStatus.FAILED;
+		this.nextAttemptAt = null;
+		this.lastError = error;
+	}
 }
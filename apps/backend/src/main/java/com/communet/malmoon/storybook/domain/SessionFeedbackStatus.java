@@ -0,0 +1,15 @@
+package com.communet.malmoon.storybook.domain;
+
+/**
+ * 세션 피드백(LLM 평가) 작업 상태
+ */
+public enum SessionFeedbackStatus {
+    /** 수업 종료 요청 접수, 평가 대기 (재시도 대기 포함) */
+    PENDING,
+    /** 스케줄러가 평가 중 */
+    PROCESSING,
+    /** 평가 완료, 피드백 열람 가능 */
+    COMPLETED,
+    /** 재시도 한도 초과 또는 재시도 불가 오류 (dead-letter) */
+    FAILED
+}
@@ -5,6 +5,9 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.communet.malmoon.common.job.LeaseJob;
 import com.communet.malmoon.member.domain.Member;
 
 @Entity
@@ -12,7 +15,8 @@ import com.communet.malmoon.member.domain.Member;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class SpeechResult {
+@Table(indexes = @Index(name = "idx_speech_result_status_next", columnList = "status, next_attempt_at"))
+public class SpeechResult implements LeaseJob {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,4 +38,42 @@ public class SpeechResult {
     private String audioUrl; // 음성 파일 저장 경로
 
     private LocalDateTime createdAt;
+
+    // STT 작업 상태 (기존 데이터는 동기 처리로 이미 완료된 결과)
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'COMPLETED'")
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private SpeechResultStatus status = SpeechResultStatus.PENDING;
+
+    // 변환 시도 횟수
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 시도 가능 시각 (PENDING: 재시도 대기, PROCESSING: 작업 점유 만료 시각)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막 실패 원인
+    @Column(length = 500)
+    private String lastError;
+
+    public void complete(String sttText) {
+        this.sttText = sttText;
+        this.status = SpeechResultStatus.COMPLETED;
+        this.nextAttemptAt = null;
+        this.lastError = null;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = SpeechResultStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error;
+    }
+
+    public void fail(String error) {
+        this.status = SpeechResultStatus.FAILED;
+        this.nextAttemptAt = null;
+        this.lastError = error;
+    }
 }
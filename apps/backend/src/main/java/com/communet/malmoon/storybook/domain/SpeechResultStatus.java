@@ -0,0 +1,15 @@
+package com.communet.malmoon.storybook.domain;
+
+/**
+ * STT 변환 작업 상태
+ */
+public enum SpeechResultStatus {
+    /** 업로드 완료, 변환 대기 (재시도 대기 포함) */
+    PENDING,
+    /** 워커가 변환 중 */
+    PROCESSING,
+    /** 변환 완료 */
+    COMPLETED,
+    /** 재시도 한도 초과 또는 재시도 불가 오류 (dead-letter) */
+    FAILED
+}
@@ -0,0 +1,28 @@
+package com.communet.malmoon.storybook.dto;
+
+import com.communet.malmoon.storybook.domain.SessionFeedback;
+import com.communet.malmoon.storybook.domain.SessionFeedbackStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 세션 피드백 평가 작업 상태 응답 DTO
+ * 예시 응답: { "id": 3, "status": "COMPLETED", "error": null }
+ * COMPLETED 이후 상세 내용은 GET /api/v1/session-feedback/detail 로 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionFeedbackJobResponseDto {
+    private Long id;
+    private SessionFeedbackStatus status;
+    private String error;    // FAILED 일 때 실패 원인
+
+    public static SessionFeedbackJobResponseDto from(SessionFeedback feedback) {
+        return new SessionFeedbackJobResponseDto(
+                feedback.getId(),
+                feedback.getStatus(),
+                feedback.getStatus() == SessionFeedbackStatus.FAILED ? feedback.getLastError() : null
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.communet.malmoon.storybook.dto;
+
+import com.communet.malmoon.storybook.domain.SpeechResult;
+import com.communet.malmoon.storybook.domain.SpeechResultStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * STT 작업 상태 응답 DTO
+ * 예시 응답: { "id": 12, "status": "COMPLETED", "sttText": "...", "error": null }
+ */
+@Getter
+@AllArgsConstructor
+public class SpeechJobResponseDto {
+    private Long id;
+    private SpeechResultStatus status;
+    private String sttText;  // COMPLETED 일 때만 값 있음
+    private String error;    // FAILED 일 때 실패 원인
+
+    public static SpeechJobResponseDto from(SpeechResult result) {
+        return new SpeechJobResponseDto(
+                result.getId(),
+                result.getStatus(),
+                result.getSttText(),
+                result.getStatus() == SpeechResultStatus.FAILED ? result.getLastError() : null
+        );
+    }
+}
@@ -1,19 +1,54 @@
 package com.communet.malmoon.storybook.repository;
 
+import com.communet.malmoon.common.job.LeaseJobRepository;
 import com.communet.malmoon.storybook.domain.SessionFeedback;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface SessionFeedbackRepository extends JpaRepository<SessionFeedback, Long> {
+public interface SessionFeedbackRepository extends JpaRepository<SessionFeedback, Long>,
+        LeaseJobRepository<SessionFeedback> {
     // 📌 1. 피드백 받은 날짜 목록 조회
-    @Query("SELECT DISTINCT sf.date FROM SessionFeedback sf WHERE sf.child.memberId = :childId")
+    //    (평가가 끝난 피드백만 열람 대상)
+    @Query("SELECT DISTINCT sf.date FROM SessionFeedback sf WHERE sf.child.memberId = :childId " +
+            "AND sf.status = com.communet.malmoon.storybook.domain.SessionFeedbackStatus.COMPLETED")
     List<LocalDate> findDistinctDatesByChildId(@Param("childId") Long childId);
 
     // 📌 2. 특정 날짜 피드백 상세 조회
-    Optional<SessionFeedback> findByChild_MemberIdAndDate(Long childId, LocalDate date);
+    @Query("SELECT sf FROM SessionFeedback sf WHERE sf.child.memberId = :childId AND sf.date = :date " +
+            "AND sf.status = com.communet.malmoon.storybook.domain.SessionFeedbackStatus.COMPLETED")
+    Optional<SessionFeedback> findByChild_MemberIdAndDate(@Param("childId") Long childId, @Param("date") LocalDate date);
+
+    /**
+     * 평가할 차례가 된 피드백 작업 ID (대기가 끝난 PENDING, 점유가 만료된 PROCESSING)
+     */
+    @Query("SELECT sf.id FROM SessionFeedback sf " +
+            "WHERE sf.status IN (com.communet.malmoon.storybook.domain.SessionFeedbackStatus.PENDING, " +
+            "com.communet.malmoon.storybook.domain.SessionFeedbackStatus.PROCESSING) " +
+            "AND sf.nextAttemptAt <= :now " +
+            "ORDER BY sf.nextAttemptAt")
+    List<Long> findDueJobIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 피드백 작업을 점유합니다. 여러 스케줄러/인스턴스 중 한 곳만 성공(1 반환)합니다.
+     * 점유는 leaseUntil 까지 유효하며, 그 전에 완료되지 않으면 다른 스케줄러가 다시 가져갑니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SessionFeedback sf " +
+            "SET sf.status = com.communet.malmoon.storybook.domain.SessionFeedbackStatus.PROCESSING, " +
+            "sf.attempts = sf.attempts + 1, sf.nextAttemptAt = :leaseUntil " +
+            "WHERE sf.id = :id " +
+            "AND sf.status IN (com.communet.malmoon.storybook.domain.SessionFeedbackStatus.PENDING, " +
+            "com.communet.malmoon.storybook.domain.SessionFeedbackStatus.PROCESSING) " +
+            "AND sf.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
 }
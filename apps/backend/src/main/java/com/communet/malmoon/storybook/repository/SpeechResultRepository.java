@@ -1,14 +1,19 @@
 package com.communet.malmoon.storybook.repository;
 
+import com.communet.malmoon.common.job.LeaseJobRepository;
 import com.communet.malmoon.storybook.domain.SpeechResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 // SpeechResultRepository.java
-public interface SpeechResultRepository extends JpaRepository<SpeechResult, Long> {
+public interface SpeechResultRepository extends JpaRepository<SpeechResult, Long>,
+        LeaseJobRepository<SpeechResult> {
 
     @Query("SELECT s FROM SpeechResult s WHERE s.child.memberId = :childId AND s.createdAt BETWEEN :start AND :end")
     List<SpeechResult> findByChildIdAndCreatedAtBetween(
@@ -17,14 +22,53 @@ public interface SpeechResultRepository extends JpaRepository<SpeechResult, Long
             @Param("end") LocalDateTime end
     );
 
+    // 피드백 평가에는 STT 변환이 끝난 결과만 사용
     @Query("SELECT sr FROM SpeechResult sr " +
             "JOIN FETCH sr.sentence s " +
             "WHERE sr.child.memberId = :childId " +
-            "AND sr.createdAt BETWEEN :start AND :end")
+            "AND sr.createdAt BETWEEN :start AND :end " +
+            "AND sr.status = com.communet.malmoon.storybook.domain.SpeechResultStatus.COMPLETED")
     List<SpeechResult> findWithSentenceByChildIdAndCreatedAtBetween(
             @Param("childId") Long childId,
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
 
+    // 아직 STT 변환이 끝나지 않은(대기/진행 중) 결과가 있는지 확인
+    @Query("SELECT COUNT(sr) > 0 FROM SpeechResult sr " +
+            "WHERE sr.child.memberId = :childId " +
+            "AND sr.createdAt BETWEEN :start AND :end " +
+            "AND sr.status IN (com.communet.malmoon.storybook.domain.SpeechResultStatus.PENDING, " +
+            "com.communet.malmoon.storybook.domain.SpeechResultStatus.PROCESSING)")
+    boolean existsUnfinishedByChildIdAndCreatedAtBetween(
+            @Param("childId") Long childId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    /**
+     * 처리할 차례가 된 STT 작업 ID (재시도 대기가 끝난 PENDING, 점유가 만료된 PROCESSING)
+     */
+    @Query("SELECT sr.id FROM SpeechResult sr " +
+            "WHERE sr.status IN (com.communet.malmoon.storybook.domain.SpeechResultStatus.PENDING, " +
+            "com.communet.malmoon.storybook.domain.SpeechResultStatus.PROCESSING) " +
+            "AND sr.nextAttemptAt <= :now " +
+            "ORDER BY sr.nextAttemptAt")
+    List<Long> findDueJobIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * STT 작업을 점유합니다. 여러 워커/인스턴스 중 한 곳만 성공(1 반환)합니다.
+     * 점유는 leaseUntil 까지 유효하며, 그 전에 완료되지 않으면 다른 워커가 다시 가져갑니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SpeechResult sr " +
+            "SET sr.status = com.communet.malmoon.storybook.domain.SpeechResultStatus.PROCESSING, " +
+            "sr.attempts = sr.attempts + 1, sr.nextAttemptAt = :leaseUntil " +
+            "WHERE sr.id = :id " +
+            "AND sr.status IN (com.communet.malmoon.storybook.domain.SpeechResultStatus.PENDING, " +
+            "com.communet.malmoon.storybook.domain.SpeechResultStatus.PROCESSING) " +
+            "AND sr.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
 }
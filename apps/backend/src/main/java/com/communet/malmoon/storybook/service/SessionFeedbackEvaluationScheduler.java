@@ -0,0 +1,188 @@
+package com.communet.malmoon.storybook.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.communet.malmoon.common.job.LeaseJobRunner;
+import com.communet.malmoon.external.fastapi.FastApiEndpoint;
+import com.communet.malmoon.external.fastapi.FastApiHttpClient;
+import com.communet.malmoon.storybook.domain.SessionFeedback;
+import com.communet.malmoon.storybook.domain.SpeechResult;
+import com.communet.malmoon.storybook.dto.FeedbackEvalResponseDto;
+import com.communet.malmoon.storybook.dto.SentencePairDto;
+import com.communet.malmoon.storybook.repository.SessionFeedbackRepository;
+import com.communet.malmoon.storybook.repository.SpeechResultRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수업 종료 후 세션 피드백(LLM 평가)을 모아서 처리하는 스케줄러.
+ * - 수업 종료 요청은 PENDING 상태의 SessionFeedback 만 저장하고 바로 반환 (아동/동화책 조회도 요청 시점에 끝냄)
+ * - 일정 주기(feedback.eval.flush-interval-ms)마다 쌓인 요청을 한 묶음(최대 feedback.eval.batch-size)으로 점유하여
+ *   전용 풀에서 동시 평가 수(feedback.eval.concurrency)를 제한해 FastAPI 로 보냄
+ * - 평가 결과가 오면 같은 행에 결과를 채우고 COMPLETED 로 변경. 클라이언트는 작업 상태를 조회(polling)
+ * - 해당 날짜의 STT 변환이 아직 끝나지 않았으면 잠시 뒤로 미룸 (최대 STT_WAIT_LIMIT)
+ * - 점유/재시도/dead-letter 처리는 {@link LeaseJobRunner} 공통 규칙을 따름
+ */
+@Slf4j
+@Component
+public class SessionFeedbackEvaluationScheduler {
+
+	static final int MAX_ATTEMPTS = 3;
+	private static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(30);
+	private static final Duration LEASE = Duration.ofMinutes(5);
+	private static final Duration STT_WAIT_DELAY = Duration.ofSeconds(10);
+	private static final Duration STT_WAIT_LIMIT = Duration.ofMinutes(10);
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final SessionFeedbackRepository sessionFeedbackRepository;
+	private final SpeechResultRepository speechResultRepository;
+	private final FastApiHttpClient fastApiHttpClient;
+	private final LeaseJobRunner<SessionFeedback> jobs;
+	private final int batchSize;
+
+	private final DistributionSummary batchSizeSummary;
+
+	public SessionFeedbackEvaluationScheduler(SessionFeedbackRepository sessionFeedbackRepository,
+		SpeechResultRepository speechResultRepository, FastApiHttpClient fastApiHttpClient,
+		MeterRegistry meterRegistry,
+		@Value("${feedback.eval.concurrency:4}") int concurrency,
+		@Value("${feedback.eval.batch-size:16}") int batchSize) {
+		this.sessionFeedbackRepository = sessionFeedbackRepository;
+		this.speechResultRepository = speechResultRepository;
+		this.fastApiHttpClient = fastApiHttpClient;
+		this.batchSize = batchSize;
+		this.jobs = LeaseJobRunner.<SessionFeedback>builder()
+			.name("feedback")
+			.metricPrefix("feedback.eval")
+			.timerName("feedback.eval.evaluate")
+			.repository(sessionFeedbackRepository)
+			.meterRegistry(meterRegistry)
+			.concurrency(concurrency)
+			.queueCapacity(batchSize)
+			.lease(LEASE)
+			.retryBaseDelay(RETRY_BASE_DELAY)
+			.maxAttempts(MAX_ATTEMPTS)
+			.build();
+
+		this.batchSizeSummary = DistributionSummary.builder("feedback.eval.batch.size")
+			.description("한 번에 점유한 피드백 작업 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 평가할 차례가 된 피드백 작업을 한 묶음 점유하여 평가 풀에 제출합니다.
+	 * 풀의 대기열에 여유가 있는 만큼만 가져오며, 점유한 작업은 점유 만료 전까지 다른 인스턴스가 가져가지 않습니다.
+	 */
+	@Scheduled(fixedDelayString = "${feedback.eval.flush-interval-ms:2000}")
+	public void flush() {
+		int claimed = 0;
+		for (Long id : jobs.findDueJobIds(batchSize)) {
+			// 제출하지 못한 작업은 점유 만료 후 다음 주기에 다시 가져감
+			if (jobs.claim(id) && jobs.submit(id, () -> process(id))) {
+				claimed++;
+			}
+		}
+		if (claimed > 0) {
+			batchSizeSummary.record(claimed);
+			log.info("[feedback] 피드백 평가 {}건 제출", claimed);
+		}
+	}
+
+	void process(Long feedbackId) {
+		SessionFeedback feedback = sessionFeedbackRepository.findById(feedbackId).orElse(null);
+		if (feedback == null) {
+			return;
+		}
+
+		try {
+			Long childId = feedback.getChild().getMemberId();
+			LocalDate date = feedback.getDate();
+			LocalDateTime start = date.atStartOfDay();
+			LocalDateTime end = date.atTime(LocalTime.MAX);
+
+			if (speechResultRepository.existsUnfinishedByChildIdAndCreatedAtBetween(childId, start, end)
+				&& feedback.getCreatedAt().plus(STT_WAIT_LIMIT).isAfter(LocalDateTime.now())) {
+				feedback.waitUntil(LocalDateTime.now().plus(STT_WAIT_DELAY));
+				sessionFeedbackRepository.save(feedback);
+				log.debug("[feedback] STT 변환 대기 중이라 평가를 미룹니다. id={}", feedbackId);
+				return;
+			}
+
+			List<SpeechResult> results =
+				speechResultRepository.findWithSentenceByChildIdAndCreatedAtBetween(childId, start, end);
+			if (results.isEmpty()) {
+				jobs.deadLetter(feedback, "해당 날짜의 STT 결과가 없습니다.");
+				return;
+			}
+
+			FeedbackEvalResponseDto res = jobs.record(() -> requestEvaluation(toSentencePairs(results)));
+			feedback.complete(res.getAccuracy(), res.getEvaluation(), res.getStrengths(), res.getImprovements(),
+				res.getRecommendations());
+			sessionFeedbackRepository.save(feedback);
+			log.info("[feedback] SessionFeedback 평가 완료 id={}, childId={}, date={}", feedbackId, childId, date);
+		} catch (Exception e) {
+			jobs.handleFailure(feedback, e);
+		}
+	}
+
+	private List<SentencePairDto> toSentencePairs(List<SpeechResult> results) {
+		List<SentencePairDto> sentencePairs = new ArrayList<>();
+		for (SpeechResult result : results) {
+			SentencePairDto pair = new SentencePairDto();
+			pair.setSentenceId(result.getSentence().getId());
+			pair.setOriginal(result.getSentence().getSentence());
+			pair.setStt(safeExtractText(result.getSttText()));        // JSON/문자열 혼용 보정
+			sentencePairs.add(pair);
+		}
+		return sentencePairs;
+	}
+
+	private FeedbackEvalResponseDto requestEvaluation(List<SentencePairDto> sentencePairs) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+
+		ResponseEntity<FeedbackEvalResponseDto> response = fastApiHttpClient.post(
+			FastApiEndpoint.FEEDBACK_EVAL, new HttpEntity<>(sentencePairs, headers), FeedbackEvalResponseDto.class);
+		if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+			throw new IllegalStateException("FastAPI 응답 실패 또는 본문 없음. status=" + response.getStatusCode());
+		}
+		return response.getBody();
+	}
+
+	// STT 결과가 {"text":"..."} 같은 JSON 문자열일 수도 있는 경우 안전 추출
+	private String safeExtractText(String raw) {
+		if (raw == null) return "";
+		String s = raw.trim();
+		try {
+			JsonNode node = OBJECT_MAPPER.readTree(s);
+			if (node.has("text")) return node.get("text").asText("");
+		} catch (Exception ignore) {
+			// JSON이 아니면 그대로 사용
+		}
+		return s;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		jobs.shutdown();
+	}
+}
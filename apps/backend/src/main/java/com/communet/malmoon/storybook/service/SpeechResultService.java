@@ -1,32 +1,29 @@
 package com.communet.malmoon.storybook.service;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.communet.malmoon.file.service.AudioIngestService;
+import com.communet.malmoon.matching.domain.StatusType;
+import com.communet.malmoon.matching.repository.ScheduleRepository;
 import com.communet.malmoon.member.domain.Member;
 import com.communet.malmoon.member.repository.MemberRepository;
 import com.communet.malmoon.storybook.domain.SpeechResult;
+import com.communet.malmoon.storybook.domain.SpeechResultStatus;
 import com.communet.malmoon.storybook.domain.StorybookSentence;
+import com.communet.malmoon.storybook.dto.SpeechJobResponseDto;
 import com.communet.malmoon.storybook.repository.SpeechResultRepository;
 import com.communet.malmoon.storybook.repository.StorybookSentenceRepository;
 
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,81 +31,78 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class SpeechResultService {
+	private static final Path AUDIO_ROOT = Paths.get("uploads/audio");
+	private static final String DEFAULT_AUDIO_EXTENSION = ".webm";
+
 	private final SpeechResultRepository speechResultRepository;
 	private final MemberRepository memberRepository;
 	private final StorybookSentenceRepository sentenceRepository;
-
-	private final RestTemplate restTemplate = new RestTemplate();
-
-	@Value("${external.fastapi.url}")
-	private String fastApiBaseUrl;
-
-	@PostConstruct
-	void logBaseUrl() {
-		log.info("[FastAPI Base URL] {}", fastApiBaseUrl);
-	}
-
-	public void handleSpeechUpload(Long childId, Long sentenceId, String srcTextId, int page, Path audioPath) throws
+	private final SpeechTranscriptionWorker speechTranscriptionWorker;
+	private final AudioIngestService audioIngestService;
+	private final ScheduleRepository scheduleRepository;
+
+	/**
+	 * 음성 파일을 저장하고 STT 변환 작업을 등록합니다.
+	 * 변환은 {@link SpeechTranscriptionWorker}가 비동기로 처리하며, 결과는 {@link #findSpeechJob(Long, Member)}으로 조회합니다.
+	 *
+	 * @return 등록된 작업(SpeechResult) ID
+	 */
+	public Long handleSpeechUpload(Long childId, Long sentenceId, String srcTextId, int page, MultipartFile audioFile) throws
 		IOException {
 		Member child = memberRepository.findById(childId)
 			.orElseThrow(() -> new IllegalArgumentException("아동 정보 없음"));
 		StorybookSentence sentence = sentenceRepository.findById(sentenceId)
 			.orElseThrow(() -> new IllegalArgumentException("문장 정보 없음"));
 
-		// 1. 파일 이름은 UUID 기반으로만 생성 (원래 이름 알 수 없으므로)
-		String filename = UUID.randomUUID() + ".webm"; // 또는 ".mp3" 등
-
-		// 2. 저장 경로
-		Path savePath = Paths.get("uploads/audio", filename);
-		Files.createDirectories(savePath.getParent());
-
-		// 3. audioPath → 바이트 복사
-		Files.copy(audioPath, savePath, StandardCopyOption.REPLACE_EXISTING);
-
-		// FastAPI로 전송 전 디버깅 로그
-		File audio = savePath.toFile();
-		// System.out.println("🟡 [Spring → FastAPI] 보내는 파일 경로: " + audio.getAbsolutePath());
-		// System.out.println("🟡 [Spring → FastAPI] 파일 존재 여부: " + audio.exists());
-		// System.out.println("🟡 [Spring → FastAPI] 파일 크기(bytes): " + audio.length());
-		// System.out.println("🟡 [Spring → FastAPI] 파일 이름: " + audio.getName());
-		// System.out.println("🟡 [Spring → FastAPI] 파일 MIME Type: " + Files.probeContentType(savePath));
+		// 1. 파일 이름은 UUID 기반으로 생성하고, 허용된 음성 확장자만 유지
+		String ext = audioExtension(audioFile.getOriginalFilename());
 
-		//2. FastAPI로 전송
-		HttpHeaders headers = new HttpHeaders();
-		headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+		// 2. 업로드 파일을 저장 경로로 바로 옮김 (임시 파일 → 저장 경로 복사 없음)
+		Path savePath = AUDIO_ROOT.resolve(UUID.randomUUID() + ext);
+		audioIngestService.store(audioFile, AUDIO_ROOT, savePath);
 
-		MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-		body.add("file", new FileSystemResource(savePath)); // FastAPI에서 field명이 "file"인지 확인
-
-		HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-		String sttText = restTemplate.postForObject(
-			fastApiBaseUrl + "/api/v1/stt/transcribe",
-			requestEntity,
-			String.class
-		);
-
-		// ✅ FastAPI 응답 디버깅 로그
-		// System.out.println("🟢 [Spring] Whisper(FastAPI)로부터 받은 STT 텍스트:");
-		// System.out.println("     " + sttText);
-
-		// if (sttText == null || sttText.trim().isEmpty()) {
-		// 	System.out.println("🔴 [Spring] STT 결과가 비어있거나 null입니다!");
-		// } else {
-		// 	System.out.println("🟢 [Spring] STT 결과 길이: " + sttText.length());
-		// }
-
-		//3. DB 저장
+		// 3. 변환 대기 상태로 저장 후 워커에 작업 제출
+		LocalDateTime now = LocalDateTime.now();
 		SpeechResult result = SpeechResult.builder()
 			.child(child)
 			.sentence(sentence)
-			.sttText(sttText)
 			.srcTextId(srcTextId)
 			.page(page)
 			.audioUrl(savePath.toString())
-			.createdAt(LocalDateTime.now())
+			.createdAt(now)
+			.status(SpeechResultStatus.PENDING)
+			.nextAttemptAt(now)
 			.build();
 
-		speechResultRepository.save(result);
+		Long id = speechResultRepository.save(result).getId();
+		speechTranscriptionWorker.submit(id);
+		return id;
+	}
+
+	/**
+	 * 원본 파일 이름의 확장자가 허용된 음성 확장자이면 그 확장자를, 아니면 ".webm" 을 반환합니다.
+	 */
+	static String audioExtension(String originalName) {
+		return AudioIngestService.audioExtension(originalName, DEFAULT_AUDIO_EXTENSION);
+	}
+
+	/**
+	 * STT 작업 상태를 조회합니다.
+	 * 변환 결과는 아동의 발화 내용이므로 해당 아동 본인 또는 수락된 스케줄로 연결된 치료사만 조회할 수 있습니다.
+	 *
+	 * @param id 작업(SpeechResult) ID
+	 * @param member 요청자
+	 * @return 상태 및 변환 결과. 작업이 없거나 조회 권한이 없으면 empty (작업 존재 여부를 드러내지 않음)
+	 */
+	public Optional<SpeechJobResponseDto> findSpeechJob(Long id, Member member) {
+		return speechResultRepository.findById(id)
+			.filter(result -> canView(result.getChild().getMemberId(), member.getMemberId()))
+			.map(SpeechJobResponseDto::from);
+	}
 
+	private boolean canView(Long childId, Long memberId) {
+		return Objects.equals(childId, memberId)
+			|| scheduleRepository.findTherapistIdsByMemberAndStatuses(childId, List.of(StatusType.ACCEPTED))
+			.contains(memberId);
 	}
 }
@@ -0,0 +1,130 @@
+package com.communet.malmoon.storybook.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import com.communet.malmoon.common.job.LeaseJobRunner;
+import com.communet.malmoon.external.fastapi.FastApiEndpoint;
+import com.communet.malmoon.external.fastapi.FastApiHttpClient;
+import com.communet.malmoon.storybook.domain.SpeechResult;
+import com.communet.malmoon.storybook.repository.SpeechResultRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 음성 업로드의 STT(Whisper) 변환 작업을 처리하는 워커.
+ * - 업로드 요청은 PENDING 상태의 SpeechResult 만 저장하고 바로 반환하며, 변환은 이 워커의 전용 풀에서 실행
+ * - 동시 변환 수는 STT 서버 처리량에 맞춰 제한(speech.stt.concurrency)하고, 초과분은 큐에서 대기
+ * - 큐가 가득 차거나 서버가 중단되어 남은 작업은 DB 상태를 기준으로 주기 작업이 다시 제출
+ * - 점유/재시도/dead-letter 처리는 {@link LeaseJobRunner} 공통 규칙을 따름
+ */
+@Slf4j
+@Component
+public class SpeechTranscriptionWorker {
+
+	static final int MAX_ATTEMPTS = 3;
+	private static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(15);
+	private static final Duration LEASE = Duration.ofMinutes(5);
+	private static final int RESUME_BATCH_SIZE = 100;
+
+	private final SpeechResultRepository speechResultRepository;
+	private final FastApiHttpClient fastApiHttpClient;
+	private final LeaseJobRunner<SpeechResult> jobs;
+
+	public SpeechTranscriptionWorker(SpeechResultRepository speechResultRepository,
+		FastApiHttpClient fastApiHttpClient, MeterRegistry meterRegistry,
+		@Value("${speech.stt.concurrency:2}") int concurrency,
+		@Value("${speech.stt.queue-capacity:500}") int queueCapacity) {
+		this.speechResultRepository = speechResultRepository;
+		this.fastApiHttpClient = fastApiHttpClient;
+		this.jobs = LeaseJobRunner.<SpeechResult>builder()
+			.name("stt")
+			.metricPrefix("speech.stt")
+			.timerName("speech.stt.transcribe")
+			.repository(speechResultRepository)
+			.meterRegistry(meterRegistry)
+			.concurrency(concurrency)
+			.queueCapacity(queueCapacity)
+			.lease(LEASE)
+			.retryBaseDelay(RETRY_BASE_DELAY)
+			.maxAttempts(MAX_ATTEMPTS)
+			.build();
+	}
+
+	/**
+	 * 변환 작업을 제출합니다. 즉시 반환하며, 큐가 가득 차면 주기 작업이 다시 제출합니다.
+	 *
+	 * @param speechResultId PENDING 상태로 저장된 SpeechResult ID
+	 */
+	public void submit(Long speechResultId) {
+		jobs.submit(speechResultId, () -> process(speechResultId));
+	}
+
+	/**
+	 * 처리할 차례가 된 작업(큐 거절, 재시도 대기 종료, 중단된 작업)을 다시 제출합니다.
+	 * 큐에 여유가 있을 때만 가져오므로 같은 작업이 큐에 과도하게 쌓이지 않으며, 중복 제출은 점유 단계에서 걸러집니다.
+	 */
+	@Scheduled(fixedDelayString = "${speech.stt.resume-interval-ms:15000}", initialDelay = 30_000)
+	public void resumeDue() {
+		List<Long> due = jobs.findDueJobIds(RESUME_BATCH_SIZE);
+		if (!due.isEmpty()) {
+			log.info("[stt] 대기 작업 {}개 재제출", due.size());
+			due.forEach(this::submit);
+		}
+	}
+
+	void process(Long speechResultId) {
+		if (!jobs.claim(speechResultId)) {
+			log.debug("[stt] 이미 처리되었거나 다른 워커가 처리 중인 작업입니다. id={}", speechResultId);
+			return;
+		}
+		SpeechResult result = speechResultRepository.findById(speechResultId).orElse(null);
+		if (result == null) {
+			return;
+		}
+
+		try {
+			Path audio = Paths.get(result.getAudioUrl());
+			if (!Files.exists(audio)) {
+				jobs.deadLetter(result, "음성 파일 없음: " + audio);
+				return;
+			}
+			String sttText = jobs.record(() -> requestTranscription(audio));
+			result.complete(sttText);
+			speechResultRepository.save(result);
+			log.info("[stt] 변환 완료 id={}, 시도={}", speechResultId, result.getAttempts());
+		} catch (Exception e) {
+			jobs.handleFailure(result, e);
+		}
+	}
+
+	private String requestTranscription(Path audio) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+		MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+		body.add("file", new FileSystemResource(audio));
+
+		return fastApiHttpClient.post(FastApiEndpoint.STT, new HttpEntity<>(body, headers), String.class).getBody();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		jobs.shutdown();
+	}
+}
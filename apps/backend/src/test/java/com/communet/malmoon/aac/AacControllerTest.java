@@ -137,7 +137,7 @@ public class AacControllerTest {
 			.emotion("행복")
 			.action("웃기")
 			.description("생일 선물을 받아 기쁜 상황")
-			.fileId("https://s3.amazonaws.com/bucket/image.png")
+			.fileUrl("https://s3.amazonaws.com/bucket/image.png")
 			.status(AacStatus.PUBLIC)
 			.build();
 
@@ -141,6 +141,7 @@ public class AacSetControllerTest {
 			.orderNo(2)
 			.build();
 
+		given(aacSetService.getAacSetETag(eq(1L), eq(1L))).willReturn("0123abcd");
 		given(aacSetService.getAacInset(eq(1L), eq(1L)))
 			.willReturn(List.of(detail1, detail2));
 
@@ -151,7 +152,38 @@ public class AacSetControllerTest {
 			.andExpect(jsonPath("$[0].name").value("도와줘"))
 			.andExpect(jsonPath("$[0].orderNo").value(1))
 			.andExpect(jsonPath("$[1].name").value("괜찮아"))
-			.andExpect(jsonPath("$[1].orderNo").value(2));
+			.andExpect(jsonPath("$[1].orderNo").value(2))
+			.andExpect(header().string("ETag", "\"0123abcd\""));
+	}
+
+	@Test
+	@DisplayName("특정 AAC 묶음 상세 조회 - If-None-Match 일치 시 304 반환")
+	void getAacItemsInSet_notModified() throws Exception {
+		// given
+		AacSetDetailRes detail = AacSetDetailRes.builder()
+			.id(1L)
+			.name("도와줘")
+			.fileId(101L)
+			.fileUrl("https://s3.amazonaws.com/bucket/AAC/a.png")
+			.orderNo(1)
+			.build();
+		given(aacSetService.getAacSetETag(eq(1L), eq(1L))).willReturn("0123abcd");
+		given(aacSetService.getAacInset(eq(1L), eq(1L))).willReturn(List.of(detail));
+
+		String eTag = mockMvc.perform(get("/api/v1/aacs/sets/my/1"))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader("ETag");
+
+		// when & then
+		clearInvocations(aacSetService);
+		mockMvc.perform(get("/api/v1/aacs/sets/my/1").header("If-None-Match", eTag))
+			.andExpect(status().isNotModified())
+			.andExpect(content().string(""));
+		// 304 응답에서는 항목 조회와 이미지 URL 발급을 하지 않음
+		verify(aacSetService, never()).getAacInset(any(), any());
+
+		mockMvc.perform(get("/api/v1/aacs/sets/my/1").header("If-None-Match", "\"stale\""))
+			.andExpect(status().isOk());
 	}
 
 	@Test
@@ -0,0 +1,38 @@
+package com.communet.malmoon.aac.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.communet.malmoon.aac.exception.AacErrorCode;
+import com.communet.malmoon.aac.exception.AacException;
+
+class AacCursorTest {
+
+	@Test
+	@DisplayName("커서 인코딩/디코딩 시 (created_at, id)가 그대로 복원됨")
+	void encodeDecode_roundTrip() {
+		// given
+		LocalDateTime createdAt = LocalDateTime.of(2025, 8, 1, 12, 30, 15, 123_456_000);
+		AacCursor cursor = new AacCursor(createdAt, 42L);
+
+		// when
+		AacCursor decoded = AacCursor.decode(cursor.encode());
+
+		// then
+		assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+		assertThat(decoded.getId()).isEqualTo(42L);
+	}
+
+	@Test
+	@DisplayName("변조된 커서는 INVALID_CURSOR 예외 발생")
+	void decode_invalidToken_throws() {
+		assertThatThrownBy(() -> AacCursor.decode("not-a-cursor"))
+			.isInstanceOf(AacException.class)
+			.extracting(e -> ((AacException)e).getErrorCode())
+			.isEqualTo(AacErrorCode.INVALID_CURSOR);
+	}
+}
@@ -5,17 +5,22 @@ import static org.mockito.BDDMockito.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -28,7 +33,11 @@ import com.communet.malmoon.aac.dto.request.AacConfirmReq;
 import com.communet.malmoon.aac.dto.request.AacCreateReq;
 import com.communet.malmoon.aac.dto.request.AacGetReq;
 import com.communet.malmoon.aac.dto.response.AacGetRes;
+import com.communet.malmoon.aac.event.AacCatalogChangedEvent;
 import com.communet.malmoon.aac.repository.AacRepository;
+import com.communet.malmoon.aac.service.cache.AacCatalogCache;
+import com.communet.malmoon.aac.service.cache.AacPreviewCache;
+import com.communet.malmoon.common.config.AacGenerationProperties;
 import com.communet.malmoon.external.fastapi.FastApiClient;
 import com.communet.malmoon.file.domain.FileType;
 import com.communet.malmoon.file.dto.response.FileUploadRes;
@@ -50,6 +59,27 @@ class AacServiceTest {
 	@Mock
 	private FastApiClient fastApiClient;
 
+	@Mock
+	private AacCatalogCache aacCatalogCache;
+
+	@Mock
+	private AacPreviewCache aacPreviewCache;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Spy
+	private AacGenerationProperties generationProperties = new AacGenerationProperties();
+
+	@TempDir
+	Path tempImageDir;
+
+	@SuppressWarnings("unchecked")
+	private void givenCatalogCacheMiss() {
+		given(aacCatalogCache.getPage(any(AacGetReq.class), any(), any(Pageable.class), any(Supplier.class)))
+			.willAnswer(invocation -> ((Supplier<Page<Aac>>)invocation.getArgument(3)).get());
+	}
+
 	@Test
 	@DisplayName("AAC 목록 전체 조회 성공 - 필터 조건 없이 페이징만 전달")
 	void getAacList_success() {
@@ -68,10 +98,11 @@ class AacServiceTest {
 		PageRequest pageRequest = PageRequest.of(0, 10);
 		Page<Aac> page = new PageImpl<>(List.of(mockAac), pageRequest, 1);
 
-		given(fileService.getFileUrl(100L)).willReturn("https://s3.amazonaws.com/bucket/image.png");
+		given(fileService.getPresignedFileUrls(List.of(100L)))
+			.willReturn(Map.of(100L, "https://s3.amazonaws.com/bucket/image.png"));
 		given(aacRepository.findAll(any(Specification.class), any(Pageable.class)))
 			.willReturn(page);
-		;
+		givenCatalogCacheMiss();
 
 		AacGetReq req = AacGetReq.builder()
 			.page(0)
@@ -87,7 +118,7 @@ class AacServiceTest {
 		AacGetRes res = result.getContent().get(0);
 		assertThat(res.getId()).isEqualTo(1L);
 		assertThat(res.getName()).isEqualTo("도와줘");
-		assertThat(res.getFileId()).isEqualTo("https://s3.amazonaws.com/bucket/image.png");
+		assertThat(res.getFileUrl()).isEqualTo("https://s3.amazonaws.com/bucket/image.png");
 	}
 
 	@Test
@@ -108,9 +139,11 @@ class AacServiceTest {
 		PageRequest pageRequest = PageRequest.of(0, 10);
 		Page<Aac> page = new PageImpl<>(List.of(mockAac), pageRequest, 1);
 
-		given(fileService.getFileUrl(101L)).willReturn("https://s3.amazonaws.com/bucket/angry.png");
+		given(fileService.getPresignedFileUrls(List.of(101L)))
+			.willReturn(Map.of(101L, "https://s3.amazonaws.com/bucket/angry.png"));
 		given(aacRepository.findAll(any(Specification.class), any(Pageable.class)))
 			.willReturn(page);
+		givenCatalogCacheMiss();
 
 		AacGetReq req = AacGetReq.builder()
 			.situation("놀림")
@@ -128,7 +161,7 @@ class AacServiceTest {
 		AacGetRes res = result.getContent().get(0);
 		assertThat(res.getId()).isEqualTo(2L);
 		assertThat(res.getName()).isEqualTo("화났어");
-		assertThat(res.getFileId()).isEqualTo("https://s3.amazonaws.com/bucket/angry.png");
+		assertThat(res.getFileUrl()).isEqualTo("https://s3.amazonaws.com/bucket/angry.png");
 	}
 
 	@Test
@@ -147,7 +180,7 @@ class AacServiceTest {
 			.build();
 
 		given(aacRepository.findById(1L)).willReturn(Optional.of(mockAac));
-		given(fileService.getFileUrl(100L)).willReturn("https://s3.amazonaws.com/bucket/slump.png");
+		given(fileService.getPresignedFileUrl(100L)).willReturn("https://s3.amazonaws.com/bucket/slump.png");
 
 		// when
 		AacGetRes result = aacService.getAacDetail(1L);
@@ -156,7 +189,7 @@ class AacServiceTest {
 		assertThat(result).isNotNull();
 		assertThat(result.getId()).isEqualTo(1L);
 		assertThat(result.getName()).isEqualTo("슬픔");
-		assertThat(result.getFileId()).isEqualTo("https://s3.amazonaws.com/bucket/slump.png");
+		assertThat(result.getFileUrl()).isEqualTo("https://s3.amazonaws.com/bucket/slump.png");
 	}
 
 	@Test
@@ -167,6 +200,8 @@ class AacServiceTest {
 
 		String expectedUrl = "https://fastapi.com/preview/school.png";
 		given(fastApiClient.requestPreviewImage(req)).willReturn(expectedUrl);
+		given(aacPreviewCache.getOrGenerate(eq(req), any()))
+			.willAnswer(invocation -> invocation.<Supplier<String>>getArgument(1).get());
 
 		// when
 		String result = aacService.requestPreviewFromFastApi(req);
@@ -179,15 +214,8 @@ class AacServiceTest {
 	@DisplayName("AAC 생성 확정 성공 - 파일 저장 및 AAC 저장")
 	void confirmAndSaveAac_success() throws IOException {
 		// given
-		String tempFileName = "test-image.jpg";
-		Path tempFilePath = Paths.get("apps/AI/static/temp", tempFileName);
-		java.io.File tempFile = tempFilePath.toFile();
-
-		// 테스트용 더미 임시 파일 생성
-		if (!tempFile.getParentFile().exists()) {
-			tempFile.getParentFile().mkdirs();
-		}
-		tempFile.createNewFile();
+		generationProperties.setTempImageDir(tempImageDir);
+		Path tempFilePath = Files.createFile(tempImageDir.resolve("test-image.jpg"));
 
 		AacConfirmReq req = AacConfirmReq.builder()
 			.name("기쁨")
@@ -216,11 +244,35 @@ class AacServiceTest {
 		// then
 		verify(fileService).uploadFile(eq("AAC"), any(File.class));
 		verify(aacRepository).save(any(Aac.class));
+		assertThat(tempFilePath).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("AAC 생성 확정 - 미리보기 캐시가 참조 중인 임시 이미지는 지우지 않음")
+	void confirmAndSaveAac_cachedPreview_keepsTempImage() throws IOException {
+		// given
+		generationProperties.setTempImageDir(tempImageDir);
+		Path tempFilePath = Files.createFile(tempImageDir.resolve("shared-image.jpg"));
 
-		// 정리
-		if (tempFile.exists()) {
-			tempFile.delete(); // 테스트 후 파일 제거
-		}
+		AacConfirmReq req = AacConfirmReq.builder()
+			.name("기쁨")
+			.situation("생일")
+			.action("웃기")
+			.emotion("행복")
+			.imagePath(tempFilePath.toString())
+			.status(AacStatus.PRIVATE)
+			.build();
+
+		given(aacPreviewCache.isReferenced(tempFilePath.toString())).willReturn(true);
+		given(fileService.uploadFile(eq(String.valueOf(FileType.AAC)), any(File.class)))
+			.willReturn(FileUploadRes.builder().fileId(124L).build());
+
+		// when
+		aacService.confirmAndSaveAac(req, 10L);
+
+		// then
+		verify(aacRepository).save(any(Aac.class));
+		assertThat(tempFilePath).exists();
 	}
 
 	@Test
@@ -245,6 +297,7 @@ class AacServiceTest {
 		// then
 		assertThat(aac.getStatus()).isEqualTo(AacStatus.DELETED);
 		verify(aacRepository).save(aac);
+		verify(eventPublisher).publishEvent(any(AacCatalogChangedEvent.class));
 	}
 
 }
@@ -5,16 +5,23 @@ import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.communet.malmoon.aac.domain.Aac;
 import com.communet.malmoon.aac.domain.AacItemSet;
 import com.communet.malmoon.aac.domain.AacSet;
 import com.communet.malmoon.aac.dto.request.AacSetCreateReq;
@@ -22,9 +29,14 @@ import com.communet.malmoon.aac.dto.request.AacSetUpdateReq;
 import com.communet.malmoon.aac.dto.response.AacSetCreateRes;
 import com.communet.malmoon.aac.dto.response.AacSetDetailRes;
 import com.communet.malmoon.aac.dto.response.AacSetSimpleRes;
+import com.communet.malmoon.aac.exception.AacErrorCode;
+import com.communet.malmoon.aac.exception.AacException;
+import com.communet.malmoon.aac.repository.AacItemSetJdbcRepository;
 import com.communet.malmoon.aac.repository.AacItemSetRepository;
 import com.communet.malmoon.aac.repository.AacRepository;
+import com.communet.malmoon.aac.repository.AacSetItemView;
 import com.communet.malmoon.aac.repository.AacSetRepository;
+import com.communet.malmoon.file.service.FileService;
 
 @ExtendWith(MockitoExtension.class)
 class AacSetServiceUnitTest {
@@ -38,6 +50,12 @@ class AacSetServiceUnitTest {
 	AacItemSetRepository aacItemSetRepository;
 	@Mock
 	AacRepository aacRepository;
+	@Mock
+	AacItemSetJdbcRepository aacItemSetJdbcRepository;
+	@Mock
+	FileService fileService;
+	@Captor
+	ArgumentCaptor<List<AacItemSet>> itemsCaptor;
 
 	@Test
 	@DisplayName("AAC 묶음 생성 성공")
@@ -54,6 +72,7 @@ class AacSetServiceUnitTest {
 			.createdAt(LocalDateTime.now())
 			.build();
 
+		given(aacRepository.countByIdIn(Set.of(1L, 2L, 3L))).willReturn(3L);
 		given(aacSetRepository.save(any(AacSet.class))).willReturn(savedSet);
 
 		// when
@@ -62,7 +81,25 @@ class AacSetServiceUnitTest {
 		// then
 		assertThat(res).isNotNull();
 		assertThat(res.getAacSetId()).isEqualTo(10L);
-		verify(aacItemSetRepository, times(3)).save(any(AacItemSet.class));
+		verify(aacItemSetJdbcRepository).batchInsert(itemsCaptor.capture());
+		assertThat(itemsCaptor.getValue())
+			.extracting(AacItemSet::getAacItemId, AacItemSet::getOrderNo)
+			.containsExactly(tuple(1L, 1), tuple(2L, 2), tuple(3L, 3));
+		verify(aacItemSetRepository, never()).save(any(AacItemSet.class));
+	}
+
+	@Test
+	@DisplayName("AAC 묶음 생성 실패 - 존재하지 않는 AAC 항목 포함")
+	void createAacSet_unknownItem_fails() {
+		// given
+		AacSetCreateReq req = new AacSetCreateReq("감정 묶음", "기본 감정들", List.of(1L, 2L, 999L));
+		given(aacRepository.countByIdIn(Set.of(1L, 2L, 999L))).willReturn(2L);
+
+		// when & then
+		assertThatThrownBy(() -> aacSetService.createAacSet(req, 1L))
+			.isInstanceOf(AacException.class)
+			.hasMessage(AacErrorCode.AAC_ITEM_NOT_FOUND.getMessage());
+		verify(aacSetRepository, never()).save(any(AacSet.class));
 	}
 
 	@Test
@@ -95,20 +132,78 @@ class AacSetServiceUnitTest {
 		Long therapistId = 1L;
 
 		AacSet aacSet = AacSet.builder().id(aacSetId).therapistId(therapistId).build();
-		AacItemSet mapping = AacItemSet.builder().aacItemId(200L).orderNo(1).build();
-		Aac aac = Aac.builder().id(200L).name("슬픔").build();
+		AacSetItemView first = itemView(200L, "슬픔", 300L, 1);
+		AacSetItemView second = itemView(201L, "기쁨", 301L, 2);
 
 		given(aacSetRepository.findById(aacSetId)).willReturn(Optional.of(aacSet));
-		given(aacItemSetRepository.findByAacSetIdOrderByOrderNo(aacSetId)).willReturn(List.of(mapping));
-		given(aacRepository.findById(200L)).willReturn(Optional.of(aac));
+		given(aacItemSetRepository.findItemViewsByAacSetId(aacSetId)).willReturn(List.of(first, second));
+		given(fileService.getPresignedFileUrls(List.of(300L, 301L)))
+			.willReturn(Map.of(300L, "https://url/300", 301L, "https://url/301"));
 
 		// when
 		List<AacSetDetailRes> res = aacSetService.getAacInset(aacSetId, therapistId);
 
 		// then
-		assertThat(res).hasSize(1);
-		assertThat(res.get(0).getId()).isEqualTo(200L);
-		assertThat(res.get(0).getOrderNo()).isEqualTo(1);
+		assertThat(res).extracting(AacSetDetailRes::getId, AacSetDetailRes::getOrderNo, AacSetDetailRes::getFileUrl)
+			.containsExactly(tuple(200L, 1, "https://url/300"), tuple(201L, 2, "https://url/301"));
+		verify(aacRepository, never()).findById(any());
+		verify(aacItemSetRepository, never()).findByAacSetIdOrderByOrderNo(any());
+	}
+
+	@Test
+	@DisplayName("특정 AAC 묶음 상세 조회 실패 - 묶음에 존재하지 않는 AAC 항목이 연결됨")
+	void getAacInset_missingItem_fails() {
+		// given: LEFT JOIN 결과 연결된 AAC 항목이 없는 행은 id 가 null
+		Long aacSetId = 100L;
+		AacSet aacSet = AacSet.builder().id(aacSetId).therapistId(1L).build();
+		AacSetItemView missing = mock(AacSetItemView.class);
+		given(missing.getId()).willReturn(null);
+
+		given(aacSetRepository.findById(aacSetId)).willReturn(Optional.of(aacSet));
+		given(aacItemSetRepository.findItemViewsByAacSetId(aacSetId)).willReturn(List.of(missing));
+
+		// when & then
+		assertThatThrownBy(() -> aacSetService.getAacInset(aacSetId, 1L))
+			.isInstanceOf(AacException.class)
+			.hasMessage(AacErrorCode.AAC_ITEM_NOT_FOUND.getMessage());
+		verify(fileService, never()).getPresignedFileUrls(any());
+	}
+
+	@Test
+	@DisplayName("AAC 묶음 ETag - 묶음 ID 와 변경 시각으로 계산되어 수정 시에만 바뀜")
+	void getAacSetETag_changesOnlyWhenSetIsUpdated() {
+		// given
+		Long aacSetId = 100L;
+		AacSet aacSet = AacSet.builder()
+			.id(aacSetId)
+			.therapistId(1L)
+			.createdAt(LocalDateTime.of(2025, 8, 1, 10, 0))
+			.build();
+		given(aacSetRepository.findById(aacSetId)).willReturn(Optional.of(aacSet));
+
+		// when
+		String first = aacSetService.getAacSetETag(aacSetId, 1L);
+		String again = aacSetService.getAacSetETag(aacSetId, 1L);
+		aacSet.update("새 이름", "새 설명");
+		String updated = aacSetService.getAacSetETag(aacSetId, 1L);
+
+		// then
+		assertThat(again).isEqualTo(first);
+		assertThat(updated).isNotEqualTo(first);
+		verifyNoInteractions(aacItemSetRepository, fileService);
+	}
+
+	@Test
+	@DisplayName("AAC 묶음 ETag - 다른 치료사의 묶음이면 거절")
+	void getAacSetETag_otherTherapist_fails() {
+		// given
+		AacSet aacSet = AacSet.builder().id(100L).therapistId(1L).build();
+		given(aacSetRepository.findById(100L)).willReturn(Optional.of(aacSet));
+
+		// when & then
+		assertThatThrownBy(() -> aacSetService.getAacSetETag(100L, 2L))
+			.isInstanceOf(AacException.class)
+			.hasMessage(AacErrorCode.UNAUTHORIZED_ACCESS.getMessage());
 	}
 
 	@Test
@@ -119,16 +214,129 @@ class AacSetServiceUnitTest {
 		Long therapistId = 1L;
 		AacSet set = AacSet.builder().id(setId).therapistId(therapistId).build();
 
-		AacSetUpdateReq req = new AacSetUpdateReq("업데이트된 묶음", "변경된 설명", List.of(1L, 2L));
+		// 기존: [3, 1, 2] → 요청: [1, 2, 4]  (3 삭제, 1/2 순서 변경, 4 추가)
+		AacSetUpdateReq req = new AacSetUpdateReq("업데이트된 묶음", "변경된 설명", List.of(1L, 2L, 4L));
 
 		given(aacSetRepository.findById(setId)).willReturn(Optional.of(set));
+		given(aacItemSetRepository.findByAacSetIdOrderByOrderNo(setId)).willReturn(List.of(
+			AacItemSet.builder().aacSetId(setId).aacItemId(3L).orderNo(1).build(),
+			AacItemSet.builder().aacSetId(setId).aacItemId(1L).orderNo(2).build(),
+			AacItemSet.builder().aacSetId(setId).aacItemId(2L).orderNo(3).build()));
 
 		// when
 		aacSetService.updateAacSet(setId, req, therapistId);
 
+		// then
+		verify(aacItemSetRepository, never()).deleteByAacSetId(setId);
+		verify(aacItemSetRepository).deleteByAacSetIdAndAacItemIdIn(setId, List.of(3L));
+
+		verify(aacItemSetJdbcRepository).batchUpdateOrderNo(itemsCaptor.capture());
+		assertThat(itemsCaptor.getValue())
+			.extracting(AacItemSet::getAacItemId, AacItemSet::getOrderNo)
+			.containsExactly(tuple(1L, 1), tuple(2L, 2));
+
+		verify(aacItemSetJdbcRepository).batchInsert(itemsCaptor.capture());
+		assertThat(itemsCaptor.getValue())
+			.extracting(AacItemSet::getAacItemId, AacItemSet::getOrderNo)
+			.containsExactly(tuple(4L, 3));
+	}
+
+	@Test
+	@DisplayName("AAC 묶음 수정 - 빈 목록이면 기존과 같이 모든 항목을 제거")
+	void updateAacSet_emptyItems_removesAll() {
+		// given
+		Long setId = 10L;
+		Long therapistId = 1L;
+		AacSet set = AacSet.builder().id(setId).therapistId(therapistId).build();
+
+		given(aacSetRepository.findById(setId)).willReturn(Optional.of(set));
+		given(aacItemSetRepository.findByAacSetIdOrderByOrderNo(setId)).willReturn(List.of(
+			AacItemSet.builder().aacSetId(setId).aacItemId(1L).orderNo(1).build(),
+			AacItemSet.builder().aacSetId(setId).aacItemId(2L).orderNo(2).build()));
+
+		// when
+		aacSetService.updateAacSet(setId, new AacSetUpdateReq("묶음", "설명", List.of()), therapistId);
+
+		// then
+		verify(aacItemSetRepository).deleteByAacSetIdAndAacItemIdIn(eq(setId), argThat(ids ->
+			ids.size() == 2 && ids.containsAll(List.of(1L, 2L))));
+		verify(aacItemSetJdbcRepository).batchInsert(List.of());
+		verifyNoInteractions(aacRepository);
+	}
+
+	@Test
+	@DisplayName("AAC 묶음 수정 - 같은 항목이 중복되면 기존과 같이 전체 교체")
+	void updateAacSet_duplicatedItems_replacesAll() {
+		// given
+		Long setId = 10L;
+		Long therapistId = 1L;
+		AacSet set = AacSet.builder().id(setId).therapistId(therapistId).build();
+
+		given(aacSetRepository.findById(setId)).willReturn(Optional.of(set));
+		given(aacItemSetRepository.findByAacSetIdOrderByOrderNo(setId)).willReturn(List.of(
+			AacItemSet.builder().aacSetId(setId).aacItemId(1L).orderNo(1).build()));
+
+		// when
+		aacSetService.updateAacSet(setId, new AacSetUpdateReq("묶음", "설명", List.of(1L, 2L, 1L)), therapistId);
+
 		// then
 		verify(aacItemSetRepository).deleteByAacSetId(setId);
-		verify(aacItemSetRepository, times(2)).save(any(AacItemSet.class));
+		verify(aacItemSetJdbcRepository).batchInsert(itemsCaptor.capture());
+		assertThat(itemsCaptor.getValue())
+			.extracting(AacItemSet::getAacItemId, AacItemSet::getOrderNo)
+			.containsExactly(tuple(1L, 1), tuple(2L, 2), tuple(1L, 3));
+		verify(aacItemSetJdbcRepository, never()).batchUpdateOrderNo(any());
+	}
+
+	/**
+	 * 묶음 크기별 리포지토리 호출 수를 세는 단위 테스트.
+	 * 모의 객체 호출 횟수만 확인하며 실제 DB 지연은 재지 않습니다. 리포지토리 호출 1회가 쿼리(또는 JDBC batch) 1회에 대응하므로,
+	 * 크기와 무관하게 일정하면 항목 수만큼 쿼리가 늘지 않는다는 뜻입니다. (기존 구현: 생성 2 + N회, 수정 2 + 2N회 이상)
+	 */
+	@ParameterizedTest(name = "묶음 크기 {0}")
+	@ValueSource(ints = {1, 10, 50, 200})
+	@DisplayName("AAC 묶음 생성/수정 리포지토리 호출 수는 묶음 크기와 무관")
+	void aacSetWrites_repositoryCallsIndependentOfSetSize(int setSize) {
+		// given
+		Long setId = 10L;
+		Long therapistId = 1L;
+		List<Long> ids = LongStream.rangeClosed(1, setSize).boxed().toList();
+		List<Long> reversed = LongStream.rangeClosed(1, setSize).map(i -> setSize + 1 - i).boxed().toList();
+		AacSet set = AacSet.builder().id(setId).therapistId(therapistId).build();
+
+		given(aacRepository.countByIdIn(any())).willReturn((long)setSize);
+		given(aacSetRepository.save(any(AacSet.class))).willReturn(set);
+		given(aacSetRepository.findById(setId)).willReturn(Optional.of(set));
+		given(aacItemSetRepository.findByAacSetIdOrderByOrderNo(setId)).willReturn(ids.stream()
+			.map(id -> AacItemSet.builder().aacSetId(setId).aacItemId(id).orderNo(id.intValue()).build())
+			.toList());
+
+		// when
+		aacSetService.createAacSet(new AacSetCreateReq("묶음", "설명", ids), therapistId);
+		int createCalls = repositoryCalls();
+		clearInvocations(aacRepository, aacSetRepository, aacItemSetRepository, aacItemSetJdbcRepository);
+
+		aacSetService.updateAacSet(setId, new AacSetUpdateReq("묶음", "설명", reversed), therapistId);
+		int updateCalls = repositoryCalls();
+
+		// then
+		assertThat(createCalls).isEqualTo(3);   // count, set insert, item batch insert
+		assertThat(updateCalls).isEqualTo(4);   // set select, item select, order batch update, insert batch(빈 배치)
+	}
+
+	private AacSetItemView itemView(Long id, String name, Long fileId, int orderNo) {
+		AacSetItemView view = mock(AacSetItemView.class);
+		given(view.getId()).willReturn(id);
+		given(view.getName()).willReturn(name);
+		given(view.getFileId()).willReturn(fileId);
+		given(view.getOrderNo()).willReturn(orderNo);
+		return view;
+	}
+
+	private int repositoryCalls() {
+		return Stream.of(aacRepository, aacSetRepository, aacItemSetRepository, aacItemSetJdbcRepository)
+			.mapToInt(mock -> mockingDetails(mock).getInvocations().size())
+			.sum();
 	}
 
 	@Test
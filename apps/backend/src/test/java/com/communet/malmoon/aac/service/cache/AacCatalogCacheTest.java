@@ -0,0 +1,172 @@
+package com.communet.malmoon.aac.service.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.communet.malmoon.aac.domain.Aac;
+import com.communet.malmoon.aac.domain.AacStatus;
+import com.communet.malmoon.aac.dto.request.AacGetReq;
+import com.communet.malmoon.aac.event.AacCatalogChangedEvent;
+import com.communet.malmoon.common.redis.RedisCacheVersions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AacCatalogCacheTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOps;
+
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	@Mock
+	private Cursor<String> cursor;
+
+	@Mock
+	private RedisCacheVersions cacheVersions;
+
+	private AacCatalogCache cache;
+
+	private final PageRequest pageable = PageRequest.of(0, 10);
+	private final AacGetReq req = AacGetReq.builder().situation("식사").page(0).size(10).build();
+
+	@BeforeEach
+	void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		cache = new AacCatalogCache(redisTemplate, objectMapper, cacheVersions, new SimpleMeterRegistry(),
+			listenerContainer);
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOps);
+	}
+
+	@Test
+	@DisplayName("같은 조건 재조회 시 로컬 캐시에서 반환하고 DB를 다시 조회하지 않음")
+	void getPage_nearCacheHit_skipsLoader() {
+		// given
+		AtomicInteger loads = new AtomicInteger();
+		Page<Aac> dbPage = new PageImpl<>(List.of(aac(1L)), pageable, 1);
+
+		// when
+		cache.getPage(req, 7L, pageable, () -> {
+			loads.incrementAndGet();
+			return dbPage;
+		});
+		Page<Aac> second = cache.getPage(req, 7L, pageable, () -> {
+			loads.incrementAndGet();
+			return dbPage;
+		});
+
+		// then
+		assertThat(loads).hasValue(1);
+		assertThat(second.getTotalElements()).isEqualTo(1);
+		assertThat(second.getContent()).extracting(Aac::getId).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("PRIVATE 변경 이벤트는 해당 치료사 범위만 무효화")
+	void onCatalogChanged_private_evictsOnlyTherapistScope() {
+		// given
+		AtomicInteger loads = new AtomicInteger();
+		Page<Aac> dbPage = new PageImpl<>(List.of(aac(1L)), pageable, 1);
+		cache.getPage(req, 7L, pageable, () -> {
+			loads.incrementAndGet();
+			return dbPage;
+		});
+		cache.getPage(req, 8L, pageable, () -> {
+			loads.incrementAndGet();
+			return dbPage;
+		});
+		given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+
+		// when
+		cache.onCatalogChanged(new AacCatalogChangedEvent(7L, AacStatus.PRIVATE));
+		cache.getPage(req, 7L, pageable, () -> {
+			loads.incrementAndGet();
+			return dbPage;
+		});
+		cache.getPage(req, 8L, pageable, () -> {
+			loads.incrementAndGet();
+			return dbPage;
+		});
+
+		// then
+		assertThat(loads).hasValue(3);
+		verify(redisTemplate).convertAndSend("aac-catalog-invalidate", "aac:catalog:therapist:7:");
+	}
+
+	@Test
+	@DisplayName("Redis 적재는 DB 조회 전에 읽어 둔 버전(전체 + 치료사 범위)이 그대로일 때만 저장")
+	void getPage_redisMiss_writesOnlyIfVersionUnchanged() {
+		// given
+		RedisCacheVersions.Snapshot snapshot = new RedisCacheVersions.Snapshot(
+			List.of("aac:catalog-version:global", "aac:catalog-version:therapist:7"), List.of("3", "1"));
+		given(cacheVersions.snapshot(snapshot.getVersionKeys())).willReturn(snapshot);
+		AtomicInteger loads = new AtomicInteger();
+
+		// when
+		cache.getPage(req, 7L, pageable, () -> {
+			verify(cacheVersions).snapshot(anyList());
+			loads.incrementAndGet();
+			return new PageImpl<>(List.of(aac(1L)), pageable, 1);
+		});
+
+		// then
+		assertThat(loads).hasValue(1);
+		verify(cacheVersions).setIfUnchanged(startsWith("aac:catalog:therapist:7:"), anyString(),
+			eq(Duration.ofMinutes(10)), eq(snapshot));
+		verify(valueOps, never()).set(anyString(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("전체 무효화 시 전체 버전을 올린 뒤 캐시 키 삭제")
+	void onCatalogChanged_public_bumpsGlobalVersionBeforeDelete() {
+		// given
+		given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+
+		// when
+		cache.onCatalogChanged(new AacCatalogChangedEvent(7L, AacStatus.PUBLIC));
+
+		// then
+		InOrder inOrder = inOrder(cacheVersions, redisTemplate);
+		inOrder.verify(cacheVersions).bump(eq(List.of("aac:catalog-version:global")), any(Duration.class));
+		inOrder.verify(redisTemplate).scan(any(ScanOptions.class));
+	}
+
+	private Aac aac(Long id) {
+		return Aac.builder()
+			.id(id)
+			.name("배고파")
+			.situation("식사")
+			.action("요청")
+			.description("밥 먹고 싶을 때")
+			.fileId(100L)
+			.therapistId(7L)
+			.status(AacStatus.PUBLIC)
+			.build();
+	}
+}
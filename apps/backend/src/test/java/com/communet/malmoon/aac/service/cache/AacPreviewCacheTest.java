@@ -0,0 +1,218 @@
+package com.communet.malmoon.aac.service.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.communet.malmoon.aac.dto.request.AacCreateReq;
+import com.communet.malmoon.aac.exception.AacGenerationRejectedException;
+import com.communet.malmoon.common.config.AacGenerationProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AacPreviewCacheTest {
+
+	private static final String PREVIEW_URL = "http://localhost:8000/static/temp/abc123.png";
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOps;
+
+	@TempDir
+	Path tempImageDir;
+
+	private final AacCreateReq req = new AacCreateReq("학교", "도와줘", "당황", null);
+
+	@BeforeEach
+	void setUp() {
+		// 재생성 요청은 Redis를 조회하지 않음
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOps);
+	}
+
+	@Test
+	@DisplayName("같은 프롬프트의 생성 결과가 캐시에 있고 임시 이미지가 남아 있으면 생성하지 않음")
+	void getOrGenerate_cacheHit_skipsGenerator() throws Exception {
+		// given
+		AacPreviewCache cache = cache(4, 16);
+		Files.createFile(tempImageDir.resolve("abc123.png"));
+		given(valueOps.get(startsWith("aac:preview:"))).willReturn(PREVIEW_URL);
+
+		// when
+		String url = cache.getOrGenerate(req, () -> {
+			throw new AssertionError("생성하면 안 됨");
+		});
+
+		// then
+		assertThat(url).isEqualTo(PREVIEW_URL);
+	}
+
+	@Test
+	@DisplayName("캐시된 임시 이미지가 사라졌으면 다시 생성하고 캐시를 갱신")
+	void getOrGenerate_staleImage_regenerates() {
+		// given
+		AacPreviewCache cache = cache(4, 16);
+		given(valueOps.get(startsWith("aac:preview:"))).willReturn(PREVIEW_URL);
+
+		// when
+		String url = cache.getOrGenerate(req, () -> "http://localhost:8000/static/temp/new.png");
+
+		// then
+		assertThat(url).endsWith("new.png");
+		verify(redisTemplate, atLeastOnce()).delete(startsWith("aac:preview:"));
+		verify(valueOps).set(startsWith("aac:preview:"), eq(url), eq(Duration.ofHours(6)));
+	}
+
+	@Test
+	@DisplayName("생성 결과를 캐시에 적재할 때 임시 이미지에 같은 TTL 의 참조 표시를 남김")
+	void getOrGenerate_miss_marksImageReferenced() {
+		// given
+		AacPreviewCache cache = cache(4, 16);
+		given(redisTemplate.hasKey("aac:preview:ref:abc123.png")).willReturn(true);
+
+		// when
+		cache.getOrGenerate(req, () -> PREVIEW_URL);
+
+		// then
+		verify(valueOps).set("aac:preview:ref:abc123.png", "1", Duration.ofHours(6));
+		assertThat(cache.isReferenced("abc123.png")).isTrue();
+		assertThat(cache.isReferenced("other.png")).isFalse();
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시에는 임시 이미지를 참조 중으로 보고 지우지 않도록 함")
+	void isReferenced_redisDown_keepsImage() {
+		// given
+		AacPreviewCache cache = cache(4, 16);
+		given(redisTemplate.hasKey(anyString())).willThrow(new RedisConnectionFailureException("down"));
+
+		// when & then
+		assertThat(cache.isReferenced(PREVIEW_URL)).isTrue();
+	}
+
+	@Test
+	@DisplayName("같은 프롬프트의 동시 요청은 생성 1건의 결과를 함께 받음")
+	void getOrGenerate_concurrentSamePrompt_coalesces() throws Exception {
+		// given
+		AacPreviewCache cache = cache(4, 16);
+		AtomicInteger generations = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(5);
+
+		// when
+		List<CompletableFuture<String>> results = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			results.add(CompletableFuture.supplyAsync(() -> cache.getOrGenerate(
+				new AacCreateReq(" 학교", "도와줘 ", "당황", null), () -> {
+					generations.incrementAndGet();
+					await(release);
+					return PREVIEW_URL;
+				}), pool));
+		}
+		Thread.sleep(200);
+		release.countDown();
+
+		// then
+		for (CompletableFuture<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(PREVIEW_URL);
+		}
+		assertThat(generations).hasValue(1);
+		pool.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("생성 대기열이 가득 차면 Retry-After 와 함께 거절")
+	void getOrGenerate_queueFull_rejects() throws Exception {
+		// given: 동시 생성 1건, 대기열 0
+		AacPreviewCache cache = cache(1, 0);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.getOrGenerate(req, () -> {
+			started.countDown();
+			await(release);
+			return PREVIEW_URL;
+		}));
+		started.await(5, TimeUnit.SECONDS);
+
+		// when & then
+		assertThatThrownBy(() -> cache.getOrGenerate(new AacCreateReq("식당", "주세요", null, null), () -> "x"))
+			.isInstanceOfSatisfying(AacGenerationRejectedException.class,
+				e -> assertThat(e.getRetryAfterSeconds()).isPositive());
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(PREVIEW_URL);
+	}
+
+	@Test
+	@DisplayName("재생성 이유가 있으면 캐시를 보지 않고 새로 생성")
+	void getOrGenerate_withReason_bypassesCache() {
+		// given
+		AacPreviewCache cache = cache(4, 16);
+
+		// when
+		String url = cache.getOrGenerate(new AacCreateReq("학교", "도와줘", "당황", "좀 더 귀엽게"),
+			() -> PREVIEW_URL);
+
+		// then
+		assertThat(url).isEqualTo(PREVIEW_URL);
+		verifyNoInteractions(valueOps);
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시에도 생성 결과를 반환")
+	void getOrGenerate_redisDown_generates() {
+		// given
+		AacPreviewCache cache = cache(4, 16);
+		given(valueOps.get(anyString())).willThrow(new RedisConnectionFailureException("down"));
+		willThrow(new RedisConnectionFailureException("down")).given(valueOps)
+			.set(anyString(), anyString(), any(Duration.class));
+
+		// when
+		String url = cache.getOrGenerate(req, () -> PREVIEW_URL);
+
+		// then
+		assertThat(url).isEqualTo(PREVIEW_URL);
+	}
+
+	private AacPreviewCache cache(int concurrency, int queueCapacity) {
+		return new AacPreviewCache(redisTemplate, new SimpleMeterRegistry(), Duration.ofHours(6), concurrency,
+			queueCapacity, Duration.ofMillis(100), generationProperties());
+	}
+
+	private AacGenerationProperties generationProperties() {
+		AacGenerationProperties properties = new AacGenerationProperties();
+		properties.setTempImageDir(tempImageDir);
+		return properties;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.communet.malmoon.chat.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.communet.malmoon.chat.exception.ChatException;
+import com.communet.malmoon.chat.repository.ChatRoomParticipantRepository;
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.domain.MemberStatusType;
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.jwt.auth.MemberPrincipalCache;
+import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
+import com.communet.malmoon.member.repository.MemberRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ChatStompInterceptorTest {
+
+	private static final String EMAIL = "therapist@example.com";
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private ChatRoomParticipantRepository participantRepository;
+
+	@Mock
+	private MessageChannel channel;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final Map<String, Object> sessionAttributes = new HashMap<>();
+	private ChatStompInterceptor interceptor;
+	private StompHeaderAccessor connected;
+
+	@BeforeEach
+	void setUp() {
+		JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+		ReflectionTestUtils.setField(jwtTokenUtil, "secret", "test-secret-key-for-chat-stomp-interceptor");
+		ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 60_000);
+		jwtTokenUtil.init();
+
+		interceptor = new ChatStompInterceptor(new MemberPrincipalCache(memberRepository), participantRepository,
+			meterRegistry, 20);
+		given(memberRepository.getByEmail(EMAIL)).willReturn(Optional.of(Member.builder()
+			.memberId(1L)
+			.email(EMAIL)
+			.role(MemberType.ROLE_THERAPIST)
+			.status(MemberStatusType.ACTIVE)
+			.build()));
+
+		StompHeaderAccessor connect = frame(StompCommand.CONNECT, null);
+		connect.addNativeHeader(JwtTokenUtil.HEADER_STRING,
+			JwtTokenUtil.TOKEN_PREFIX + JwtTokenUtil.getToken(EMAIL, MemberType.ROLE_THERAPIST));
+		interceptor.preSend(message(connect), channel);
+		connected = connect;
+	}
+
+	@Test
+	@DisplayName("CONNECT - JWT 검증 후 연결 사용자 설정")
+	void connect_setsUser() {
+		assertThat(ChatStompInterceptor.memberId(connected.getUser())).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("CONNECT - 토큰이 없으면 연결 거부")
+	void connect_withoutToken_rejects() {
+		assertThatThrownBy(() -> interceptor.preSend(message(frame(StompCommand.CONNECT, null)), channel))
+			.isInstanceOf(ChatException.class);
+	}
+
+	@Test
+	@DisplayName("SUBSCRIBE - 참여자 확인은 연결마다 채팅방별 1번만 수행하고, 비참여 채팅방은 거부")
+	void subscribe_checksMembershipOncePerRoom() {
+		// given
+		given(participantRepository.existsByRoomIdAndMemberIdAndLeftAtIsNull(7L, 1L)).willReturn(true);
+		given(participantRepository.existsByRoomIdAndMemberIdAndLeftAtIsNull(8L, 1L)).willReturn(false);
+
+		// when
+		interceptor.preSend(message(frame(StompCommand.SUBSCRIBE, "/topic/chat/room/7")), channel);
+		interceptor.preSend(message(frame(StompCommand.SEND, "/app/chat/room/7")), channel);
+
+		// then
+		verify(participantRepository, times(1)).existsByRoomIdAndMemberIdAndLeftAtIsNull(7L, 1L);
+		assertThatThrownBy(() -> interceptor.preSend(message(frame(StompCommand.SUBSCRIBE, "/topic/chat/room/8")), channel))
+			.isInstanceOf(ChatException.class);
+		assertThatThrownBy(() -> interceptor.preSend(message(frame(StompCommand.SUBSCRIBE, "/topic/other")), channel))
+			.isInstanceOf(ChatException.class);
+	}
+
+	@Test
+	@DisplayName("SUBSCRIBE - 사용자 전용 오류 큐는 채팅방 확인 없이 허용, 브로커 큐 직접 구독과 미인증 구독은 거부")
+	void subscribe_userErrorQueue_allowed() {
+		// when
+		Message<?> subscribed = interceptor.preSend(message(frame(StompCommand.SUBSCRIBE, "/user/queue/errors")), channel);
+
+		// then
+		assertThat(subscribed).isNotNull();
+		verifyNoInteractions(participantRepository);
+		assertThatThrownBy(() -> interceptor.preSend(message(frame(StompCommand.SUBSCRIBE, "/queue/errors")), channel))
+			.isInstanceOf(ChatException.class);
+		StompHeaderAccessor anonymous = frame(StompCommand.SUBSCRIBE, "/user/queue/errors");
+		anonymous.setUser(null);
+		assertThatThrownBy(() -> interceptor.preSend(message(anonymous), channel))
+			.isInstanceOf(ChatException.class);
+	}
+
+	@Test
+	@DisplayName("SEND - 연결당 전송 한도를 넘는 메시지는 버림")
+	void send_overRateLimit_drops() {
+		// given
+		given(participantRepository.existsByRoomIdAndMemberIdAndLeftAtIsNull(7L, 1L)).willReturn(true);
+
+		// when
+		int accepted = 0;
+		for (int i = 0; i < 100; i++) {
+			if (interceptor.preSend(message(frame(StompCommand.SEND, "/app/chat/room/7")), channel) != null) {
+				accepted++;
+			}
+		}
+
+		// then
+		assertThat(accepted).isLessThan(100);
+		assertThat(meterRegistry.get("chat.ws.inbound.dropped").counter().count()).isEqualTo(100 - accepted);
+	}
+
+	private StompHeaderAccessor frame(StompCommand command, String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+		accessor.setSessionId("ws-1");
+		accessor.setSessionAttributes(sessionAttributes);
+		accessor.setDestination(destination);
+		if (connected != null) {
+			accessor.setUser(connected.getUser());
+		}
+		accessor.setLeaveMutable(true);
+		return accessor;
+	}
+
+	private Message<byte[]> message(StompHeaderAccessor accessor) {
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}
@@ -0,0 +1,182 @@
+package com.communet.malmoon.chat.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.dto.request.ChatMessageReq;
+import com.communet.malmoon.chat.dto.response.ChatMessageRes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * STOMP 채팅 부하 측정 하니스.
+ * 실행 중인 서버에 유휴 연결 N개(하트비트만 주고받음)와 구독 연결 S개를 연 뒤,
+ * 발행 연결 P개에서 메시지 M개를 쉬지 않고 보내 초당 전달 메시지 수와 전달 지연(p50/p99)을 출력합니다.
+ * 처리량은 첫 발행부터 마지막 전달까지의 시간으로 계산하므로, 하니스가 일부러 기다리는 시간은 들어가지 않습니다.
+ * 발행과 수신이 같은 JVM 이므로 지연은 nanoTime 기준(저장 + Redis pub/sub + 브로커 전달 포함)입니다.
+ *
+ * 서버의 연결당 전송 한도(chat.ws.messages-per-second, 기본 초당 20건)를 넘는 메시지는 버려지므로,
+ * 측정 대상 서버는 한도를 충분히 높여 실행해야 합니다. (예: --chat.ws.messages-per-second=1000000)
+ * 한도가 낮으면 버려진 메시지 때문에 completed=false 로 실패합니다.
+ *
+ * 실행:
+ * CHAT_WS_BENCH_URL=ws://localhost:8080/ws/chat CHAT_WS_BENCH_TOKEN='Bearer ...' CHAT_WS_BENCH_ROOM=1 \
+ * [CHAT_WS_BENCH_IDLE=2000] [CHAT_WS_BENCH_SUBSCRIBERS=20] [CHAT_WS_BENCH_MESSAGES=2000] \
+ * [CHAT_WS_BENCH_PUBLISHERS=4] ./gradlew test --tests '*ChatWebSocketLoadTest'
+ * (토큰 사용자는 대상 채팅방의 참여자여야 하며, 측정 메시지는 실제로 저장됩니다.)
+ */
+@EnabledIfEnvironmentVariable(named = "CHAT_WS_BENCH_URL", matches = ".+")
+class ChatWebSocketLoadTest {
+
+	private static final String URL = System.getenv("CHAT_WS_BENCH_URL");
+	private static final String TOKEN = System.getenv("CHAT_WS_BENCH_TOKEN");
+	private static final long ROOM_ID = Long.parseLong(System.getenv().getOrDefault("CHAT_WS_BENCH_ROOM", "1"));
+	private static final int IDLE = intEnv("CHAT_WS_BENCH_IDLE", 2000);
+	private static final int SUBSCRIBERS = intEnv("CHAT_WS_BENCH_SUBSCRIBERS", 20);
+	private static final int MESSAGES = intEnv("CHAT_WS_BENCH_MESSAGES", 2000);
+	private static final int PUBLISHERS = intEnv("CHAT_WS_BENCH_PUBLISHERS", 4);
+	private static final String MARKER = "bench:";
+
+	private final List<StompSession> sessions = new ArrayList<>();
+	private ThreadPoolTaskScheduler heartbeatScheduler;
+
+	@AfterEach
+	void tearDown() {
+		sessions.forEach(session -> {
+			if (session.isConnected()) {
+				session.disconnect();
+			}
+		});
+		if (heartbeatScheduler != null) {
+			heartbeatScheduler.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("유휴 연결 다수 상태에서 채팅 메시지 처리량과 전달 지연 측정")
+	void throughputAndDeliveryLatency() throws Exception {
+		WebSocketStompClient client = client();
+
+		for (int i = 0; i < IDLE; i++) {
+			sessions.add(connect(client));
+		}
+
+		Map<Integer, Long> sentAt = new ConcurrentHashMap<>();
+		ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+		AtomicLong lastDeliveredAt = new AtomicLong();
+		CountDownLatch delivered = new CountDownLatch(MESSAGES * SUBSCRIBERS);
+		for (int i = 0; i < SUBSCRIBERS; i++) {
+			StompSession subscriber = connect(client);
+			sessions.add(subscriber);
+			subscriber.subscribe("/topic/chat/room/" + ROOM_ID, new StompFrameHandler() {
+				@Override
+				public Type getPayloadType(StompHeaders headers) {
+					return ChatMessageRes.class;
+				}
+
+				@Override
+				public void handleFrame(StompHeaders headers, Object payload) {
+					String content = ((ChatMessageRes)payload).getContent();
+					if (content == null || !content.startsWith(MARKER)) {
+						return;
+					}
+					Long start = sentAt.get(Integer.valueOf(content.substring(MARKER.length())));
+					if (start != null) {
+						long now = System.nanoTime();
+						latencies.add(now - start);
+						lastDeliveredAt.accumulateAndGet(now, Math::max);
+						delivered.countDown();
+					}
+				}
+			});
+		}
+
+		List<StompSession> publishers = new ArrayList<>();
+		for (int i = 0; i < PUBLISHERS; i++) {
+			StompSession publisher = connect(client);
+			sessions.add(publisher);
+			publishers.add(publisher);
+		}
+		// 구독 등록 대기
+		Thread.sleep(1_000);
+
+		long begin = System.nanoTime();
+		for (int seq = 0; seq < MESSAGES; seq++) {
+			sentAt.put(seq, System.nanoTime());
+			publishers.get(seq % PUBLISHERS).send("/app/chat/room/" + ROOM_ID, ChatMessageReq.builder()
+				.content(MARKER + seq)
+				.messageType(ChatMessageType.TALK)
+				.build());
+		}
+		long sendElapsed = System.nanoTime() - begin;
+		boolean completed = delivered.await(2, TimeUnit.MINUTES);
+		long deliveryElapsed = Math.max(1, lastDeliveredAt.get() - begin);
+
+		long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+		System.out.printf("[stomp] idle=%d subscribers=%d publishers=%d messages=%d sendRate=%.1f msg/s "
+				+ "deliveries=%d throughput=%.1f deliveries/s p50=%.2fms p99=%.2fms max=%.2fms completed=%s%n",
+			IDLE, SUBSCRIBERS, PUBLISHERS, MESSAGES, MESSAGES / (sendElapsed / 1_000_000_000.0),
+			sorted.length, sorted.length / (deliveryElapsed / 1_000_000_000.0),
+			percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99), percentileMillis(sorted, 1.0), completed);
+
+		assertThat(sessions).allMatch(StompSession::isConnected);
+		assertThat(completed).isTrue();
+	}
+
+	private WebSocketStompClient client() {
+		heartbeatScheduler = new ThreadPoolTaskScheduler();
+		heartbeatScheduler.setPoolSize(4);
+		heartbeatScheduler.initialize();
+
+		WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+		MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+		converter.setObjectMapper(new ObjectMapper().registerModule(new JavaTimeModule()));
+		client.setMessageConverter(converter);
+		client.setTaskScheduler(heartbeatScheduler);
+		client.setDefaultHeartbeat(new long[] {10_000, 10_000});
+		return client;
+	}
+
+	private StompSession connect(WebSocketStompClient client) throws Exception {
+		StompHeaders connectHeaders = new StompHeaders();
+		connectHeaders.add("Authorization", TOKEN);
+		return client.connectAsync(URL, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+		}).get(10, TimeUnit.SECONDS);
+	}
+
+	private static double percentileMillis(long[] sorted, double p) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int)Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+		return sorted[Math.max(index, 0)] / 1_000_000.0;
+	}
+
+	private static int intEnv(String name, int defaultValue) {
+		return Integer.parseInt(System.getenv().getOrDefault(name, String.valueOf(defaultValue)));
+	}
+}
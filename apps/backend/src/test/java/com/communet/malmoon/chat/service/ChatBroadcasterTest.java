@@ -0,0 +1,80 @@
+package com.communet.malmoon.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.dto.response.ChatMessageRes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ChatBroadcasterTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private SimpMessagingTemplate messagingTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private ChatBroadcaster broadcaster;
+
+	@BeforeEach
+	void setUp() {
+		broadcaster = new ChatBroadcaster(redisTemplate, objectMapper, messagingTemplate, listenerContainer,
+			new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("발행한 메시지를 수신하면 JSON 을 다시 직렬화하지 않고 채팅방 토픽으로 전달")
+	void publishThenDeliver_forwardsJsonToRoomTopic() throws Exception {
+		// given
+		ChatMessageRes message = ChatMessageRes.builder()
+			.messageId(10L)
+			.roomId(7L)
+			.senderId(1L)
+			.content("안녕하세요")
+			.messageType(ChatMessageType.TALK)
+			.sentAt(LocalDateTime.of(2025, 8, 5, 10, 0))
+			.build();
+		ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+
+		// when
+		broadcaster.publish(message);
+		verify(redisTemplate).convertAndSend(eq(ChatBroadcaster.CHANNEL), published.capture());
+		broadcaster.deliver(published.getValue().getBytes(StandardCharsets.UTF_8));
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Message<byte[]>> delivered = ArgumentCaptor.forClass(Message.class);
+		verify(messagingTemplate).send(eq("/topic/chat/room/7"), delivered.capture());
+		assertThat(delivered.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE))
+			.isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+		ChatMessageRes received = objectMapper.readValue(delivered.getValue().getPayload(), ChatMessageRes.class);
+		assertThat(received.getMessageId()).isEqualTo(10L);
+		assertThat(received.getContent()).isEqualTo("안녕하세요");
+	}
+}
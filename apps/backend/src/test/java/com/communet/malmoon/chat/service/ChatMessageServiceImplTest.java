@@ -0,0 +1,191 @@
+package com.communet.malmoon.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.dto.request.ChatMessageReq;
+import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
+import com.communet.malmoon.chat.dto.response.ChatMessageCursorRes;
+import com.communet.malmoon.chat.dto.response.ChatMessageRes;
+import com.communet.malmoon.chat.exception.ChatException;
+import com.communet.malmoon.chat.repository.ChatMessageRepository;
+import com.communet.malmoon.chat.repository.ChatMessageView;
+import com.communet.malmoon.chat.repository.ChatRoomRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageServiceImplTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 8, 5, 10, 0);
+
+	@InjectMocks
+	private ChatMessageServiceImpl chatMessageService;
+
+	@Mock
+	private ChatMessageRepository chatMessageRepository;
+
+	@Mock
+	private ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	private ChatRedisService chatRedisService;
+
+	@Mock
+	private ChatRoomSummaryUpdater chatRoomSummaryUpdater;
+
+	@Test
+	@DisplayName("일반 메시지 저장 - 채팅방 요약(마지막 메시지, 안 읽은 수)을 함께 갱신")
+	void saveToDatabase_updatesRoomSummary() {
+		// given
+		ChatMessageReq req = ChatMessageReq.builder()
+			.roomId(ROOM_ID)
+			.senderId(2L)
+			.content("안녕하세요")
+			.messageType(ChatMessageType.TALK)
+			.sendAt(BASE)
+			.build();
+		given(chatMessageRepository.save(any(ChatMessage.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		chatMessageService.saveToDatabase(req);
+
+		// then
+		verify(chatRoomSummaryUpdater).onMessageSaved(argThat(message ->
+			message.getRoomId().equals(ROOM_ID) && message.getContent().equals("안녕하세요")));
+	}
+
+	@Test
+	@DisplayName("대화 기록 첫 페이지 - size + 1 건만 조회하고 오래된 순으로 반환하며 다음 커서 발급")
+	void getMessageHistory_firstPage_limitsAndReturnsCursor() {
+		// given
+		given(chatRoomRepository.findSessionIdByRoomId(ROOM_ID)).willReturn(Optional.empty());
+		given(chatMessageRepository.findLatestViews(ROOM_ID, PageRequest.of(0, 3)))
+			.willReturn(List.of(view(30L, 3, null), view(20L, 2, null), view(10L, 1, null)));
+
+		// when
+		ChatMessageCursorRes res = chatMessageService.getMessageHistory(ROOM_ID, null, 2);
+
+		// then
+		assertThat(res.getContent()).extracting(ChatMessageRes::getMessageId).containsExactly(20L, 30L);
+		assertThat(res.isHasNext()).isTrue();
+		assertThat(ChatCursor.decode(res.getNextCursor()).getMessageId()).isEqualTo(20L);
+		verify(chatRedisService, never()).getPendingSessionMessages(any());
+	}
+
+	@Test
+	@DisplayName("대화 기록 - 미저장 세션 메시지를 병합하고 그 사이 DB에 저장된 메시지는 중복 제거")
+	void getMessageHistory_mergesPendingSessionMessages() {
+		// given: 인덱스 5는 조회 도중 DB에 저장되어 양쪽에 모두 존재
+		Map<Long, ChatSessionMessageReq> pending = new LinkedHashMap<>();
+		pending.put(5L, pendingMessage(2, "저장됨"));
+		pending.put(6L, pendingMessage(4, "미저장"));
+		given(chatRoomRepository.findSessionIdByRoomId(ROOM_ID)).willReturn(Optional.of("room-1"));
+		given(chatRedisService.getPendingSessionMessages("room-1")).willReturn(pending);
+		given(chatMessageRepository.findLatestViews(eq(ROOM_ID), any(Pageable.class)))
+			.willReturn(List.of(view(31L, 3, null), view(30L, 2, "session:room-1:5"), view(10L, 1, null)));
+
+		// when
+		ChatMessageCursorRes res = chatMessageService.getMessageHistory(ROOM_ID, null, 10);
+
+		// then
+		assertThat(res.getContent())
+			.extracting(ChatMessageRes::getMessageId, ChatMessageRes::getContent)
+			.containsExactly(
+				tuple(10L, "db-1"),
+				tuple(30L, "db-2"),
+				tuple(31L, "db-3"),
+				tuple(null, "미저장"));
+		assertThat(res.isHasNext()).isFalse();
+		assertThat(res.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("대화 기록 다음 페이지 - 커서 이전의 DB/미저장 메시지만 조회")
+	void getMessageHistory_withCursor_seeksBefore() {
+		// given
+		ChatCursor cursor = new ChatCursor(BASE.plusMinutes(3), 31L);
+		Map<Long, ChatSessionMessageReq> pending = new LinkedHashMap<>();
+		pending.put(6L, pendingMessage(4, "커서 이후"));
+		pending.put(2L, pendingMessage(1, "커서 이전"));
+		given(chatRoomRepository.findSessionIdByRoomId(ROOM_ID)).willReturn(Optional.of("room-1"));
+		given(chatRedisService.getPendingSessionMessages("room-1")).willReturn(pending);
+		given(chatMessageRepository.findViewsBefore(eq(ROOM_ID), eq(BASE.plusMinutes(3)), eq(31L), any(Pageable.class)))
+			.willReturn(List.of(view(30L, 2, null)));
+
+		// when
+		ChatMessageCursorRes res = chatMessageService.getMessageHistory(ROOM_ID, cursor.encode(), 10);
+
+		// then
+		assertThat(res.getContent()).extracting(ChatMessageRes::getContent).containsExactly("커서 이전", "db-2");
+	}
+
+	@Test
+	@DisplayName("대화 기록 - 잘못된 커서면 예외 발생")
+	void getMessageHistory_invalidCursor_throws() {
+		assertThatThrownBy(() -> chatMessageService.getMessageHistory(ROOM_ID, "not-a-cursor", 10))
+			.isInstanceOf(ChatException.class);
+	}
+
+	private ChatMessageView view(Long id, int minute, String sourceKey) {
+		return new TestView(id, ROOM_ID, 2L, "db-" + minute, ChatMessageType.TALK, BASE.plusMinutes(minute), sourceKey);
+	}
+
+	private ChatSessionMessageReq pendingMessage(int minute, String content) {
+		return ChatSessionMessageReq.builder()
+			.sessionId("room-1")
+			.roomId(ROOM_ID)
+			.senderId(2L)
+			.messageType(ChatMessageType.TALK)
+			.content(content)
+			.sendAt(BASE.plusMinutes(minute))
+			.build();
+	}
+
+	private record TestView(Long messageId, Long roomId, Long senderId, String content, ChatMessageType messageType,
+							LocalDateTime sentAt, String sourceKey) implements ChatMessageView {
+		public Long getMessageId() {
+			return messageId;
+		}
+
+		public Long getRoomId() {
+			return roomId;
+		}
+
+		public Long getSenderId() {
+			return senderId;
+		}
+
+		public String getContent() {
+			return content;
+		}
+
+		public ChatMessageType getMessageType() {
+			return messageType;
+		}
+
+		public LocalDateTime getSentAt() {
+			return sentAt;
+		}
+
+		public String getSourceKey() {
+			return sourceKey;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.communet.malmoon.chat.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.repository.ChatRoomParticipantRepository;
+import com.communet.malmoon.chat.repository.ChatRoomSummaryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSummaryUpdaterTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 8, 5, 10, 0);
+
+	@InjectMocks
+	private ChatRoomSummaryUpdater updater;
+
+	@Mock
+	private ChatRoomSummaryRepository chatRoomSummaryRepository;
+
+	@Mock
+	private ChatRoomParticipantRepository participantRepository;
+
+	@Test
+	@DisplayName("일반 메시지 - 마지막 메시지 갱신 및 보낸 사람 외 참여자의 안 읽은 수 증가")
+	void onMessageSaved_updatesLastMessageAndUnread() {
+		// when
+		updater.onMessageSaved(message(1L, 2L, "안녕", 0));
+
+		// then
+		verify(chatRoomSummaryRepository).upsertLastMessage(1L, "안녕", BASE);
+		verify(participantRepository).incrementUnreadExcept(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("세션 메시지 묶음 - 채팅방마다 가장 최근 메시지로 1번만 갱신하고 안 읽은 수는 유지")
+	void onMessagesFlushed_upsertsLatestPerRoom() {
+		// when
+		updater.onMessagesFlushed(List.of(
+			message(1L, 2L, "첫 번째", 0),
+			message(1L, 3L, "마지막", 5),
+			message(1L, 2L, "중간", 3),
+			message(9L, 2L, "다른 방", 1)));
+
+		// then
+		verify(chatRoomSummaryRepository).upsertLastMessage(1L, "마지막", BASE.plusMinutes(5));
+		verify(chatRoomSummaryRepository).upsertLastMessage(9L, "다른 방", BASE.plusMinutes(1));
+		verifyNoMoreInteractions(chatRoomSummaryRepository);
+		verifyNoInteractions(participantRepository);
+	}
+
+	private ChatMessage message(Long roomId, Long senderId, String content, int minute) {
+		return ChatMessage.builder()
+			.roomId(roomId)
+			.senderId(senderId)
+			.content(content)
+			.messageType(ChatMessageType.TALK)
+			.sentAt(BASE.plusMinutes(minute))
+			.build();
+	}
+}
@@ -0,0 +1,219 @@
+package com.communet.malmoon.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
+import com.communet.malmoon.chat.repository.ChatMessageJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSessionFlusherTest {
+
+	private static final String SESSION_ID = "room-1";
+	private static final String LIST_KEY = "chat:session:room-1:messages";
+	private static final String CHECKPOINT_KEY = "chat:session:room-1:flushed";
+	private static final String BASE_KEY = "chat:session:room-1:base";
+	private static final String LOCK_KEY = "chat:flush:lock:room-1";
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOps;
+
+	@Mock
+	private ListOperations<String, String> listOps;
+
+	@Mock
+	private ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+	@Mock
+	private ChatRoomSummaryUpdater chatRoomSummaryUpdater;
+
+	@Captor
+	private ArgumentCaptor<List<ChatMessage>> messagesCaptor;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private ChatSessionFlusher flusher;
+
+	@BeforeEach
+	void setUp() {
+		flusher = new ChatSessionFlusher(redisTemplate, chatMessageJdbcRepository, objectMapper, chatRoomSummaryUpdater);
+		given(redisTemplate.opsForValue()).willReturn(valueOps);
+		lenient().when(redisTemplate.opsForList()).thenReturn(listOps);
+		// write-behind 저장 완료 비트맵 없음, 이전에 정리된 메시지 없음
+		lenient().when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(0L);
+		lenient().when(valueOps.get(BASE_KEY)).thenReturn(null);
+	}
+
+	@AfterEach
+	void tearDown() {
+		flusher.shutdown();
+	}
+
+	@Test
+	@DisplayName("flush - 전체를 한 번에 읽지 않고 청크 단위로 저장하며 체크포인트 기록")
+	void flush_streamsInChunks() throws Exception {
+		// given: 메시지 1200개
+		given(valueOps.setIfAbsent(eq(LOCK_KEY), eq("1"), any(Duration.class))).willReturn(true);
+		given(valueOps.get(CHECKPOINT_KEY)).willReturn(null);
+		given(listOps.range(LIST_KEY, 0, 499)).willReturn(messages(500));
+		given(listOps.range(LIST_KEY, 500, 999)).willReturn(messages(500));
+		given(listOps.range(LIST_KEY, 1000, 1499)).willReturn(messages(200));
+		given(listOps.range(LIST_KEY, 1200, 1699)).willReturn(List.of());
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(1L);
+
+		// when
+		int flushed = flusher.flush(SESSION_ID);
+
+		// then
+		assertThat(flushed).isEqualTo(1200);
+		verify(listOps, never()).range(LIST_KEY, 0, -1);
+		verify(chatMessageJdbcRepository, times(3)).batchInsertIgnoringDuplicates(anyList());
+		verify(valueOps).set(CHECKPOINT_KEY, "500");
+		verify(valueOps).set(CHECKPOINT_KEY, "1000");
+		verify(valueOps).set(CHECKPOINT_KEY, "1200");
+		verify(redisTemplate).delete(LOCK_KEY);
+	}
+
+	@Test
+	@DisplayName("flush - 중단 후 재실행 시 체크포인트부터 이어서 저장하고 source_key 는 리스트 인덱스 기준")
+	void flush_resumesFromCheckpoint() throws Exception {
+		// given
+		given(valueOps.setIfAbsent(eq(LOCK_KEY), eq("1"), any(Duration.class))).willReturn(true);
+		given(valueOps.get(CHECKPOINT_KEY)).willReturn("500");
+		given(listOps.range(LIST_KEY, 500, 999)).willReturn(messages(2));
+		given(listOps.range(LIST_KEY, 502, 1001)).willReturn(List.of());
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(1L);
+
+		// when
+		flusher.flush(SESSION_ID);
+
+		// then
+		verify(chatMessageJdbcRepository).batchInsertIgnoringDuplicates(messagesCaptor.capture());
+		assertThat(messagesCaptor.getValue())
+			.extracting(ChatMessage::getSourceKey)
+			.containsExactly("session:room-1:500", "session:room-1:501");
+		verify(valueOps).set(CHECKPOINT_KEY, "502");
+	}
+
+	@Test
+	@DisplayName("flush - 정리 후 늦게 도착해 인덱스 0부터 다시 쌓인 메시지는 base 를 더한 순번으로 저장")
+	void flush_afterFinish_continuesSequenceFromBase() {
+		// given: 앞서 120개가 저장·정리된 뒤 늦은 메시지 2개가 새 리스트에 쌓임
+		given(valueOps.setIfAbsent(eq(LOCK_KEY), eq("1"), any(Duration.class))).willReturn(true);
+		given(valueOps.get(CHECKPOINT_KEY)).willReturn(null);
+		given(valueOps.get(BASE_KEY)).willReturn("120");
+		given(listOps.range(LIST_KEY, 0, 499)).willReturn(messages(2));
+		given(listOps.range(LIST_KEY, 2, 501)).willReturn(List.of());
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(1L);
+
+		// when
+		flusher.flush(SESSION_ID);
+
+		// then
+		verify(chatMessageJdbcRepository).batchInsertIgnoringDuplicates(messagesCaptor.capture());
+		assertThat(messagesCaptor.getValue())
+			.extracting(ChatMessage::getSourceKey)
+			.containsExactly("session:room-1:120", "session:room-1:121");
+		verify(redisTemplate).execute(any(RedisScript.class), argThat((List<String> keys) -> keys.contains(BASE_KEY)),
+			eq("2"), eq(SESSION_ID), anyString());
+	}
+
+	@Test
+	@DisplayName("flush - write-behind 로 이미 저장된 연속 구간은 읽지 않고 건너뜀")
+	void flush_skipsPersistedPrefix() {
+		// given: 1000개는 세션 중 저장 완료, 3개만 남음
+		given(valueOps.setIfAbsent(eq(LOCK_KEY), eq("1"), any(Duration.class))).willReturn(true);
+		given(valueOps.get(CHECKPOINT_KEY)).willReturn(null);
+		given(redisTemplate.execute(any(RedisCallback.class))).willReturn(1000L);
+		given(listOps.range(LIST_KEY, 1000, 1499)).willReturn(messages(3));
+		given(listOps.range(LIST_KEY, 1003, 1502)).willReturn(List.of());
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(1L);
+
+		// when
+		int flushed = flusher.flush(SESSION_ID);
+
+		// then
+		assertThat(flushed).isEqualTo(3);
+		verify(listOps, never()).range(eq(LIST_KEY), eq(0L), anyLong());
+		verify(chatMessageJdbcRepository, times(1)).batchInsertIgnoringDuplicates(anyList());
+	}
+
+	@Test
+	@DisplayName("flush - DB 저장 실패 시 체크포인트를 올리지 않고 키도 정리하지 않음")
+	void flush_dbFailure_keepsCheckpoint() throws Exception {
+		// given
+		given(valueOps.setIfAbsent(eq(LOCK_KEY), eq("1"), any(Duration.class))).willReturn(true);
+		given(valueOps.get(CHECKPOINT_KEY)).willReturn(null);
+		given(listOps.range(LIST_KEY, 0, 499)).willReturn(messages(3));
+		willThrow(new DataAccessResourceFailureException("down"))
+			.given(chatMessageJdbcRepository).batchInsertIgnoringDuplicates(anyList());
+
+		// when
+		flusher.flush(SESSION_ID);
+
+		// then
+		verify(valueOps, never()).set(eq(CHECKPOINT_KEY), anyString());
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+		verify(redisTemplate).delete(LOCK_KEY);
+	}
+
+	@Test
+	@DisplayName("flush - 다른 작업이 처리 중이면 건너뜀")
+	void flush_locked_skips() {
+		// given
+		given(valueOps.setIfAbsent(eq(LOCK_KEY), eq("1"), any(Duration.class))).willReturn(false);
+
+		// when
+		int flushed = flusher.flush(SESSION_ID);
+
+		// then
+		assertThat(flushed).isEqualTo(-1);
+		verifyNoInteractions(listOps, chatMessageJdbcRepository);
+	}
+
+	private List<String> messages(int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> {
+				try {
+					return objectMapper.writeValueAsString(ChatSessionMessageReq.builder()
+						.sessionId(SESSION_ID)
+						.roomId(1L)
+						.senderId(2L)
+						.messageType(ChatMessageType.TALK)
+						.content("메시지 " + i)
+						.sendAt(LocalDateTime.of(2025, 8, 1, 10, 0))
+						.build());
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			})
+			.toList();
+	}
+}
@@ -0,0 +1,128 @@
+package com.communet.malmoon.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.communet.malmoon.chat.domain.ChatMessage;
+import com.communet.malmoon.chat.domain.ChatMessageType;
+import com.communet.malmoon.chat.dto.request.ChatSessionMessageReq;
+import com.communet.malmoon.chat.repository.ChatMessageJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ChatWriteBehindWorkerTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+	@Mock
+	private ChatRoomSummaryUpdater chatRoomSummaryUpdater;
+
+	@Captor
+	private ArgumentCaptor<List<ChatMessage>> messagesCaptor;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ChatWriteBehindWorker worker;
+
+	@BeforeEach
+	void setUp() {
+		worker = new ChatWriteBehindWorker(redisTemplate, chatMessageJdbcRepository, objectMapper, chatRoomSummaryUpdater,
+			meterRegistry, 200);
+	}
+
+	@Test
+	@DisplayName("스트림 배치 저장 - 리스트 인덱스 기반 source_key 로 일괄 저장 후 ACK 는 파이프라인 1회")
+	void persist_batchInsertsAndAcksInOnePipeline() throws Exception {
+		// given
+		List<MapRecord<String, Object, Object>> records = List.of(
+			record("1700000000000-0", "room-1", 0, "안녕하세요"),
+			record("1700000000000-1", "room-1", 1, "반갑습니다"),
+			record("1700000000001-0", "room-2", 0, "시작할게요"));
+
+		// when
+		worker.persist(records);
+
+		// then
+		verify(chatMessageJdbcRepository).batchInsertIgnoringDuplicates(messagesCaptor.capture());
+		assertThat(messagesCaptor.getValue())
+			.extracting(ChatMessage::getSourceKey, ChatMessage::getContent)
+			.containsExactly(
+				tuple("session:room-1:0", "안녕하세요"),
+				tuple("session:room-1:1", "반갑습니다"),
+				tuple("session:room-2:0", "시작할게요"));
+		verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+		verify(chatRoomSummaryUpdater).onMessagesFlushed(messagesCaptor.getValue());
+		assertThat(meterRegistry.get("chat.writebehind.persisted").counter().count()).isEqualTo(3);
+		assertThat(meterRegistry.get("chat.writebehind.drain").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("스트림 배치 저장 - 순번(seq)이 있으면 리스트 인덱스 대신 순번으로 source_key 생성")
+	void persist_usesSequenceForSourceKey() throws Exception {
+		// given: 세션 정리 후 새 리스트의 0번에 쌓인 메시지 (앞서 120개가 정리됨)
+		MapRecord<String, Object, Object> late = record("1700000000000-0", "room-1", 0, "늦은 메시지");
+		Map<Object, Object> fields = new HashMap<>(late.getValue());
+		fields.put("seq", "120");
+
+		// when
+		worker.persist(List.of(MapRecord.create(ChatWriteBehindWorker.STREAM_KEY, fields).withId(late.getId())));
+
+		// then
+		verify(chatMessageJdbcRepository).batchInsertIgnoringDuplicates(messagesCaptor.capture());
+		assertThat(messagesCaptor.getValue())
+			.extracting(ChatMessage::getSourceKey)
+			.containsExactly("session:room-1:120");
+	}
+
+	@Test
+	@DisplayName("스트림 배치 저장 - DB 저장 실패 시 ACK 하지 않아 다른 consumer 가 재처리 가능")
+	void persist_dbFailure_doesNotAck() throws Exception {
+		// given
+		willThrow(new IllegalStateException("down"))
+			.given(chatMessageJdbcRepository).batchInsertIgnoringDuplicates(anyList());
+
+		// when & then
+		assertThatThrownBy(() -> worker.persist(List.of(record("1700000000000-0", "room-1", 0, "안녕"))))
+			.isInstanceOf(IllegalStateException.class);
+		verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+	}
+
+	private MapRecord<String, Object, Object> record(String id, String sessionId, int index, String content)
+		throws Exception {
+		String payload = objectMapper.writeValueAsString(ChatSessionMessageReq.builder()
+			.sessionId(sessionId)
+			.roomId(1L)
+			.senderId(2L)
+			.messageType(ChatMessageType.TALK)
+			.content(content)
+			.sendAt(LocalDateTime.of(2025, 8, 1, 10, 0))
+			.build());
+		Map<Object, Object> fields = Map.of("session", sessionId, "index", String.valueOf(index), "payload", payload);
+		return MapRecord.create(ChatWriteBehindWorker.STREAM_KEY, fields).withId(RecordId.of(id));
+	}
+}
@@ -0,0 +1,221 @@
+package com.communet.malmoon.external.fastapi;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.communet.malmoon.common.config.FastApiProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로컬 대역 서버(JDK HttpServer)를 상대로 FastAPI 공용 클라이언트의 풀/타임아웃/bulkhead/서킷 브레이커를 검증합니다.
+ */
+class FastApiHttpClientTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AtomicInteger hits = new AtomicInteger();
+	private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+	private final AtomicLong delayMillis = new AtomicLong();
+	private final AtomicInteger status = new AtomicInteger(200);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private volatile boolean blockUntilReleased;
+
+	private HttpServer server;
+	private CloseableHttpClient httpClient;
+
+	@AfterEach
+	void tearDown() throws IOException {
+		release.countDown();
+		if (httpClient != null) {
+			httpClient.close();
+		}
+		if (server != null) {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	@DisplayName("post - HTTP/1.1 keep-alive 로 커넥션을 재사용하고 엔드포인트별 지연 시간을 기록")
+	void post_reusesConnectionAndRecordsLatency() throws Exception {
+		// given
+		FastApiHttpClient client = client(Map.of());
+
+		// when
+		ResponseEntity<String> first = client.post(FastApiEndpoint.AAC_GENERATE, json(), String.class);
+		ResponseEntity<String> second = client.post(FastApiEndpoint.AAC_GENERATE, json(), String.class);
+
+		// then
+		assertThat(first.getBody()).contains("preview_url");
+		assertThat(second.getStatusCode().is2xxSuccessful()).isTrue();
+		assertThat(clientPorts).hasSize(2);
+		assertThat(clientPorts.get(0)).isEqualTo(clientPorts.get(1));
+		assertThat(meterRegistry.get("fastapi.client.requests")
+			.tags("endpoint", "aacs-generate", "outcome", "SUCCESS")
+			.timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("post - 응답 타임아웃이 연속되면 서킷이 열리고 이후 요청은 서버로 보내지 않음")
+	void post_readTimeouts_openCircuit() throws Exception {
+		// given
+		FastApiProperties.Endpoint stt = new FastApiProperties.Endpoint();
+		stt.setReadTimeout(Duration.ofMillis(200));
+		stt.setFailureThreshold(2);
+		FastApiHttpClient client = client(Map.of(FastApiEndpoint.STT, stt));
+		delayMillis.set(1_000);
+
+		// when
+		assertThatThrownBy(() -> client.post(FastApiEndpoint.STT, json(), String.class))
+			.isInstanceOf(ResourceAccessException.class);
+		assertThatThrownBy(() -> client.post(FastApiEndpoint.STT, json(), String.class))
+			.isInstanceOf(ResourceAccessException.class);
+
+		// then
+		assertThatThrownBy(() -> client.post(FastApiEndpoint.STT, json(), String.class))
+			.isInstanceOf(FastApiUnavailableException.class);
+		assertThat(hits).hasValue(2);
+		// 다른 엔드포인트는 영향 없음
+		delayMillis.set(0);
+		assertThat(client.post(FastApiEndpoint.FEEDBACK_EVAL, json(), String.class).getStatusCode().value())
+			.isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("post - 4xx 응답은 서킷 실패로 집계하지 않음")
+	void post_clientErrors_keepCircuitClosed() throws Exception {
+		// given
+		FastApiProperties.Endpoint eval = new FastApiProperties.Endpoint();
+		eval.setFailureThreshold(2);
+		FastApiHttpClient client = client(Map.of(FastApiEndpoint.INITIAL_EVAL, eval));
+		status.set(422);
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			assertThatThrownBy(() -> client.post(FastApiEndpoint.INITIAL_EVAL, json(), String.class))
+				.isInstanceOf(HttpClientErrorException.class);
+		}
+
+		// then
+		assertThat(hits).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("post - 동시 요청 한도를 넘으면 대기 후 바로 거절 (bulkhead)")
+	void post_bulkheadFull_rejects() throws Exception {
+		// given
+		FastApiProperties.Endpoint stt = new FastApiProperties.Endpoint();
+		stt.setMaxConcurrent(1);
+		stt.setMaxWait(Duration.ofMillis(50));
+		FastApiHttpClient client = client(Map.of(FastApiEndpoint.STT, stt));
+		blockUntilReleased = true;
+		CompletableFuture<ResponseEntity<String>> inFlight =
+			CompletableFuture.supplyAsync(() -> client.post(FastApiEndpoint.STT, json(), String.class));
+		awaitHits(1);
+
+		// when & then
+		assertThatThrownBy(() -> client.post(FastApiEndpoint.STT, json(), String.class))
+			.isInstanceOf(FastApiUnavailableException.class)
+			.hasMessageContaining("동시 요청 한도");
+		release.countDown();
+		assertThat(inFlight.get(5, TimeUnit.SECONDS).getStatusCode().value()).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("circuitBreaker - OPEN 시간이 지나면 시험 요청 1건만 허용하고 성공 시 CLOSED")
+	void circuitBreaker_halfOpenProbe() {
+		// given
+		AtomicLong now = new AtomicLong();
+		FastApiCircuitBreaker breaker = new FastApiCircuitBreaker(1, Duration.ofSeconds(30), now::get);
+		breaker.onFailure();
+
+		// when & then
+		assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquirePermission()).isFalse();
+
+		now.set(Duration.ofSeconds(31).toNanos());
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+		assertThat(breaker.tryAcquirePermission()).isFalse();
+
+		breaker.onSuccess();
+		assertThat(breaker.getState()).isEqualTo(FastApiCircuitBreaker.State.CLOSED);
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+	}
+
+	private FastApiHttpClient client(Map<FastApiEndpoint, FastApiProperties.Endpoint> endpoints) throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/", this::handle);
+		server.start();
+
+		FastApiProperties properties = new FastApiProperties();
+		properties.setUrl("http://127.0.0.1:" + server.getAddress().getPort());
+		properties.getEndpoints().putAll(endpoints);
+		httpClient = new FastApiHttpConfig().fastApiPooledHttpClient(properties, meterRegistry);
+		return new FastApiHttpClient(properties, httpClient, new RestTemplateBuilder(), meterRegistry);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		hits.incrementAndGet();
+		clientPorts.add(exchange.getRemoteAddress().getPort());
+		exchange.getRequestBody().readAllBytes();
+		try {
+			if (blockUntilReleased) {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			Thread.sleep(delayMillis.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		byte[] body = "{\"preview_url\":\"https://example.com/a.png\"}".getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		try {
+			exchange.sendResponseHeaders(status.get(), body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		} catch (IOException e) {
+			// 클라이언트가 타임아웃으로 먼저 끊은 경우
+		}
+	}
+
+	private HttpEntity<String> json() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		return new HttpEntity<>("{\"situation\":\"식사\"}", headers);
+	}
+
+	private void awaitHits(int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (hits.get() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.communet.malmoon.external.fastapi;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class FastApiRetryClassifierTest {
+
+	@Test
+	@DisplayName("네트워크 오류, 5xx, 429 는 일시적 오류이며 곧바로 재시도해도 됨")
+	void transientErrors_retryableNow() {
+		// given
+		Exception[] errors = {
+			new ResourceAccessException("timeout"),
+			new HttpServerErrorException(HttpStatus.BAD_GATEWAY),
+			new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)
+		};
+
+		// when & then
+		for (Exception error : errors) {
+			assertThat(FastApiRetryClassifier.isTransient(error)).isTrue();
+			assertThat(FastApiRetryClassifier.isRetryableNow(error)).isTrue();
+		}
+	}
+
+	@Test
+	@DisplayName("클라이언트의 요청 거절(서킷 열림)은 일시적 오류지만 곧바로 재시도하지 않음")
+	void unavailable_transientButNotRetryableNow() {
+		// given
+		FastApiUnavailableException error = new FastApiUnavailableException(FastApiEndpoint.STT, "서킷 브레이커 열림");
+
+		// when & then
+		assertThat(FastApiRetryClassifier.isTransient(error)).isTrue();
+		assertThat(FastApiRetryClassifier.isRetryableNow(error)).isFalse();
+	}
+
+	@Test
+	@DisplayName("429 외의 4xx 와 그 밖의 오류는 재시도하지 않음")
+	void otherErrors_notRetryable() {
+		// given
+		Exception[] errors = {
+			new HttpClientErrorException(HttpStatus.UNPROCESSABLE_ENTITY),
+			new IllegalStateException("본문 없음")
+		};
+
+		// when & then
+		for (Exception error : errors) {
+			assertThat(FastApiRetryClassifier.isTransient(error)).isFalse();
+			assertThat(FastApiRetryClassifier.isRetryableNow(error)).isFalse();
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.communet.malmoon.external.fastapi;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import com.communet.malmoon.common.config.FastApiProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FastApiRetryExecutorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+	private FastApiRetryExecutor retryExecutor;
+
+	@AfterEach
+	void tearDown() {
+		retryExecutor.shutdown();
+		taskScheduler.shutdown();
+	}
+
+	@Test
+	@DisplayName("execute - 5xx 는 백오프 후 재시도하여 성공")
+	void execute_serverError_retriesAndSucceeds() throws Exception {
+		// given
+		retryExecutor = executor(retry(Duration.ofMillis(20), 2));
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		String result = retryExecutor.execute(FastApiEndpoint.STT, 3, () -> {
+			if (calls.incrementAndGet() < 3) {
+				throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+			}
+			return "안녕";
+		}).get(5, TimeUnit.SECONDS);
+
+		// then
+		assertThat(result).isEqualTo("안녕");
+		assertThat(calls).hasValue(3);
+		assertThat(meterRegistry.counter("fastapi.client.retries", "endpoint", "stt").count()).isEqualTo(2);
+		assertThat(outcome("stt", "SUCCESS_AFTER_RETRY")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("execute - 4xx 와 서킷 열림 거절은 재시도하지 않음")
+	void execute_nonRetryable_failsImmediately() {
+		// given
+		retryExecutor = executor(retry(Duration.ofMillis(20), 2));
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		CompletableFuture<String> clientError = retryExecutor.execute(FastApiEndpoint.INITIAL_EVAL, 3, () -> {
+			calls.incrementAndGet();
+			throw new HttpClientErrorException(HttpStatus.UNPROCESSABLE_ENTITY);
+		});
+		CompletableFuture<String> circuitOpen = retryExecutor.execute(FastApiEndpoint.INITIAL_EVAL, 3, () -> {
+			calls.incrementAndGet();
+			throw new FastApiUnavailableException(FastApiEndpoint.INITIAL_EVAL, "서킷 브레이커 열림");
+		});
+
+		// then
+		assertThatThrownBy(() -> clientError.get(5, TimeUnit.SECONDS))
+			.hasCauseInstanceOf(HttpClientErrorException.class);
+		assertThatThrownBy(() -> circuitOpen.get(5, TimeUnit.SECONDS))
+			.hasCauseInstanceOf(FastApiUnavailableException.class);
+		assertThat(calls).hasValue(2);
+		assertThat(outcome("initial-eval", "NON_RETRYABLE")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("execute - 재시도 예산을 다 쓰면 더 이상 재시도하지 않음")
+	void execute_budgetExhausted_stopsRetrying() {
+		// given
+		FastApiProperties.Retry retry = retry(Duration.ofMillis(10), 2);
+		retry.setBudgetRatio(0);
+		retry.setMinRetriesPerWindow(1);
+		retryExecutor = executor(retry);
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		CompletableFuture<String> first = retryExecutor.execute(FastApiEndpoint.STT, 3, () -> {
+			calls.incrementAndGet();
+			throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+		});
+
+		// then
+		assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+			.hasCauseInstanceOf(HttpServerErrorException.class);
+		assertThat(calls).hasValue(2);
+		assertThat(outcome("stt", "BUDGET_EXHAUSTED")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("execute - 재시도 대기 중에는 호출 스레드를 점유하지 않음")
+	void execute_backoff_doesNotHoldThread() throws Exception {
+		// given: 호출 스레드 1개, 재시도 대기 최대 10초
+		retryExecutor = executor(retry(Duration.ofSeconds(10), 1));
+		retryExecutor.execute(FastApiEndpoint.STT, 1, () -> {
+			throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+		});
+		waitUntil(() -> meterRegistry.counter("fastapi.client.retries", "endpoint", "stt").count() >= 1);
+
+		// when: 첫 호출이 재시도를 기다리는 동안 다른 호출 실행
+		CompletableFuture<String> other = retryExecutor.execute(FastApiEndpoint.STT, 0, () -> "다른 요청");
+
+		// then: 대기 중인 재시도가 스레드를 잡고 있지 않으므로 바로 처리됨
+		assertThat(other.get(1, TimeUnit.SECONDS)).isEqualTo("다른 요청");
+	}
+
+	private FastApiRetryExecutor executor(FastApiProperties.Retry retry) {
+		taskScheduler.initialize();
+		FastApiProperties properties = new FastApiProperties();
+		properties.setRetry(retry);
+		return new FastApiRetryExecutor(properties, taskScheduler, meterRegistry);
+	}
+
+	private FastApiProperties.Retry retry(Duration baseDelay, int threads) {
+		FastApiProperties.Retry retry = new FastApiProperties.Retry();
+		retry.setBaseDelay(baseDelay);
+		retry.setMaxDelay(baseDelay.multipliedBy(4));
+		retry.setThreads(threads);
+		return retry;
+	}
+
+	private double outcome(String endpoint, String outcome) {
+		return meterRegistry.counter("fastapi.client.calls", "endpoint", endpoint, "outcome", outcome).count();
+	}
+
+	private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+	}
+}
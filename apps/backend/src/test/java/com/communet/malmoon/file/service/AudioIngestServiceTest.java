@@ -0,0 +1,206 @@
+package com.communet.malmoon.file.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.communet.malmoon.file.service.AudioIngestService.StoredAudio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AudioIngestServiceTest {
+
+	private static final int AUDIO_SIZE = 1024 * 1024;
+
+	@TempDir
+	Path tempDir;
+
+	private SimpleMeterRegistry meterRegistry;
+	private AudioIngestService audioIngestService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		audioIngestService = new AudioIngestService(meterRegistry);
+	}
+
+	@Test
+	@DisplayName("store - 디스크에 받아 둔 업로드는 스트림으로 다시 읽지 않고 저장 위치로 옮김")
+	void store_diskBackedUpload_movesWithoutCopy() throws Exception {
+		// given
+		DiskBackedUpload upload = new DiskBackedUpload(tempFile(AUDIO_SIZE));
+		Path target = tempDir.resolve("uploads/audio/a.webm");
+
+		// when
+		StoredAudio stored = audioIngestService.store(upload, tempDir.resolve("uploads/audio"), target);
+
+		// then
+		assertThat(stored.size()).isEqualTo(AUDIO_SIZE);
+		assertThat(stored.originalFilename()).isEqualTo("a.webm");
+		assertThat(Files.size(target)).isEqualTo(AUDIO_SIZE);
+		assertThat(upload.bytesRead).hasValue(0);
+		assertThat(meterRegistry.summary("audio.ingest.bytes").totalAmount()).isEqualTo(AUDIO_SIZE);
+	}
+
+	@Test
+	@DisplayName("store - 메모리 업로드도 저장 위치에 한 번만 기록")
+	void store_inMemoryUpload_writesOnce() throws Exception {
+		// given
+		MockMultipartFile upload = new MockMultipartFile("audioFile", "b.webm", "audio/webm", new byte[6000]);
+		Path target = tempDir.resolve("uploads/diag/item-1.webm");
+
+		// when
+		StoredAudio stored = audioIngestService.store(upload, tempDir.resolve("uploads/diag"), target);
+
+		// then
+		assertThat(stored.path()).isEqualTo(target);
+		assertThat(stored.contentType()).isEqualTo("audio/webm");
+		assertThat(Files.size(target)).isEqualTo(6000);
+	}
+
+	@Test
+	@DisplayName("store - 저장 위치 밖을 가리키는 경로는 디렉터리를 만들지 않고 거절")
+	void store_pathOutsideRoot_rejected() {
+		// given
+		MockMultipartFile upload = new MockMultipartFile("audioFile", "a./../../../x", "audio/webm", new byte[10]);
+		Path root = tempDir.resolve("uploads/diag");
+		Path target = root.resolve("attempt").resolve("item-1./../../../x");
+
+		// when & then
+		assertThatThrownBy(() -> audioIngestService.store(upload, root, target))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(tempDir.resolve("uploads/x")).doesNotExist();
+		assertThat(tempDir.resolve("uploads")).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("audioExtension - 허용된 음성 확장자만 유지하고 나머지는 fallback 사용")
+	void audioExtension_onlyWhitelisted() {
+		assertThat(AudioIngestService.audioExtension("item.MP3", ".dat")).isEqualTo(".mp3");
+		assertThat(AudioIngestService.audioExtension("a./../../x", ".dat")).isEqualTo(".dat");
+		assertThat(AudioIngestService.audioExtension(null, ".dat")).isEqualTo(".dat");
+	}
+
+	/**
+	 * 변경 전/후 저장 경로의 업로드 1건당 복사 바이트 수와 힙 할당량 비교 (AUDIO_INGEST_BENCH=true 일 때만 실행)
+	 * - 변경 전: 임시 파일 → 저장 경로 복사(Files.copy) + STT 전송용으로 업로드 스트림 재읽기
+	 * - 변경 후: 저장 경로로 이동 + STT 전송은 저장 파일을 한 번 스트리밍
+	 * 업로드는 Tomcat 의 임시 파일 rename 을 흉내 낸 {@link DiskBackedUpload} 이므로,
+	 * 출력 값은 두 코드 경로의 상대 비교용 시뮬레이션 수치이며 실제 서버에서 측정한 결과가 아닙니다.
+	 */
+	@Test
+	@EnabledIfEnvironmentVariable(named = "AUDIO_INGEST_BENCH", matches = "true")
+	@DisplayName("simulation - 업로드 저장 + STT 전송 경로의 복사량/할당량 비교 (모의 업로드 기준)")
+	void simulation_copiedBytesAndAllocation() throws Exception {
+		int rounds = 200;
+		long[] before = measure(rounds, this::legacyIngest);
+		long[] after = measure(rounds, this::ingest);
+
+		System.out.printf("[audio-ingest][simulated] before: copied=%d B/upload, allocated=%d B/upload%n",
+			before[0] / rounds, before[1] / rounds);
+		System.out.printf("[audio-ingest][simulated] after : copied=%d B/upload, allocated=%d B/upload%n",
+			after[0] / rounds, after[1] / rounds);
+		assertThat(after[0]).isLessThan(before[0]);
+	}
+
+	private long legacyIngest(DiskBackedUpload upload, int round) throws IOException {
+		Path temp = tempDir.resolve("legacy-temp-" + round);
+		upload.transferTo(temp.toFile());
+		Path saved = tempDir.resolve("legacy-saved-" + round);
+		long copied;
+		try (InputStream in = Files.newInputStream(temp)) {
+			copied = Files.copy(in, saved, StandardCopyOption.REPLACE_EXISTING);
+		}
+		try (InputStream in = Files.newInputStream(saved)) {
+			copied += in.transferTo(OutputStream.nullOutputStream());
+		}
+		return copied;
+	}
+
+	private long ingest(DiskBackedUpload upload, int round) throws IOException {
+		StoredAudio stored = audioIngestService.store(upload, tempDir, tempDir.resolve("saved-" + round));
+		try (InputStream in = Files.newInputStream(stored.path())) {
+			return upload.bytesRead.get() + in.transferTo(OutputStream.nullOutputStream());
+		}
+	}
+
+	private long[] measure(int rounds, IngestPath path) throws IOException {
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long copied = 0;
+		long allocated = 0;
+		for (int i = 0; i < rounds; i++) {
+			DiskBackedUpload upload = new DiskBackedUpload(tempFile(AUDIO_SIZE));
+			long start = bean.getCurrentThreadAllocatedBytes();
+			copied += path.run(upload, i);
+			allocated += bean.getCurrentThreadAllocatedBytes() - start;
+		}
+		return new long[] {copied, allocated};
+	}
+
+	private Path tempFile(int size) throws IOException {
+		return Files.write(Files.createTempFile(tempDir, "upload-", ".part"), new byte[size]);
+	}
+
+	@FunctionalInterface
+	private interface IngestPath {
+		long run(DiskBackedUpload upload, int round) throws IOException;
+	}
+
+	/**
+	 * Tomcat 처럼 업로드를 임시 파일로 받아 두고 transferTo(File) 시 rename 하는 업로드
+	 */
+	private static class DiskBackedUpload extends MockMultipartFile {
+
+		private final Path part;
+		private final AtomicLong bytesRead = new AtomicLong();
+
+		DiskBackedUpload(Path part) throws IOException {
+			super("audioFile", "a.webm", "audio/webm", new byte[0]);
+			this.part = part;
+		}
+
+		@Override
+		public long getSize() {
+			try {
+				return Files.size(part);
+			} catch (IOException e) {
+				return 0;
+			}
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return new FilterInputStream(Files.newInputStream(part)) {
+				@Override
+				public int read(byte[] b, int off, int len) throws IOException {
+					int n = super.read(b, off, len);
+					if (n > 0) {
+						bytesRead.addAndGet(n);
+					}
+					return n;
+				}
+			};
+		}
+
+		@Override
+		public void transferTo(File dest) throws IOException {
+			Files.move(part, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.communet.malmoon.file.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.communet.malmoon.file.domain.File;
+import com.communet.malmoon.file.domain.FileType;
+import com.communet.malmoon.file.repository.FileRepository;
+
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+@ExtendWith(MockitoExtension.class)
+class FileServiceImplTest {
+
+	@InjectMocks
+	private FileServiceImpl fileService;
+
+	@Mock
+	private S3Presigner s3Presigner;
+
+	@Mock
+	private S3Client s3Client;
+
+	@Mock
+	private S3Uploader s3Uploader;
+
+	@Mock
+	private FileRepository fileRepository;
+
+	@Mock
+	private PresignedGetObjectRequest presigned;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ReflectionTestUtils.setField(fileService, "bucket", "test-bucket");
+		lenient().when(presigned.url()).thenReturn(new URL("https://s3.amazonaws.com/test-bucket/signed"));
+		lenient().when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presigned);
+	}
+
+	@Test
+	@DisplayName("presigned URL 일괄 조회 - File은 한 번에 조회하고 서명은 캐시에서 재사용")
+	void getPresignedFileUrls_batchesLookupAndCachesSignature() {
+		// given
+		File a = File.builder().id(1L).fileType(FileType.AAC).filename("AAC/a.png").isDeleted(false).build();
+		File b = File.builder().id(2L).fileType(FileType.AAC).filename("AAC/b.png").isDeleted(false).build();
+		given(fileRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(a, b));
+
+		// when
+		Map<Long, String> first = fileService.getPresignedFileUrls(List.of(1L, 2L, 1L));
+		Map<Long, String> second = fileService.getPresignedFileUrls(List.of(2L, 1L));
+
+		// then
+		assertThat(first).containsOnlyKeys(1L, 2L);
+		assertThat(second).isEqualTo(first);
+		verify(fileRepository, times(2)).findAllById(Set.of(1L, 2L));
+		verify(fileRepository, never()).findById(any());
+		verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+	}
+
+	@Test
+	@DisplayName("presigned URL 일괄 조회 - 삭제된 파일이 포함되면 예외 발생")
+	void getPresignedFileUrls_deletedFile_throws() {
+		// given
+		File deleted = File.builder().id(3L).fileType(FileType.AAC).filename("AAC/c.png").isDeleted(true).build();
+		given(fileRepository.findAllById(Set.of(3L))).willReturn(List.of(deleted));
+
+		// when & then
+		assertThatThrownBy(() -> fileService.getPresignedFileUrls(List.of(3L)))
+			.isInstanceOf(IllegalStateException.class);
+	}
+}
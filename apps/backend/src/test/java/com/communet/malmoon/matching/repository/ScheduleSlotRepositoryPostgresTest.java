@@ -0,0 +1,280 @@
+package com.communet.malmoon.matching.repository;
+
+import com.communet.malmoon.matching.domain.DayTime;
+import com.communet.malmoon.matching.domain.DayType;
+import com.communet.malmoon.matching.domain.Schedule;
+import com.communet.malmoon.matching.domain.ScheduleSlot;
+import com.communet.malmoon.matching.domain.StatusType;
+import com.communet.malmoon.matching.exception.ScheduleSlotConflictException;
+import com.communet.malmoon.matching.service.reservation.ScheduleSlotReservation;
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.domain.MemberStatusType;
+import com.communet.malmoon.member.domain.MemberType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 Postgres 에서 schedule_slot 의 조건부 upsert/해제와 backfillAccepted 네이티브 SQL 을 실행하는 동시성 테스트.
+ * 여러 스레드가 각자의 트랜잭션으로 ScheduleSlotReservation#reserve 를 호출해 같은 슬롯이 두 번 예약되지 않는지,
+ * 교착 없이 끝나는지, 같은 날짜의 겹치지 않는 예약이 앞선 트랜잭션의 커밋까지 기다리는지 확인합니다.
+ * 실행: SCHEDULE_SLOT_PG_URL=jdbc:postgresql://localhost:5432/malmoon_test [SCHEDULE_SLOT_PG_USER=postgres]
+ *       [SCHEDULE_SLOT_PG_PASSWORD=...] ./gradlew test --tests '*ScheduleSlotRepositoryPostgresTest'
+ * (엔티티 테이블을 만들고 끝나면 삭제하므로(create-drop) 테스트 전용 DB 를 지정해야 합니다.)
+ */
+@EnabledIfEnvironmentVariable(named = "SCHEDULE_SLOT_PG_URL", matches = ".+")
+class ScheduleSlotRepositoryPostgresTest {
+
+    private static final int THREADS = 32;
+    private static final int BOOKINGS = 400;
+    private static final int THERAPISTS = 3;
+    private static final int WEEKS = 4;
+    // 2025-09-01 은 월요일
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 1);
+
+    private LocalContainerEntityManagerFactoryBean emfBean;
+    private TransactionTemplate tx;
+    private EntityManager entityManager;
+    private ScheduleSlotRepository slotRepository;
+    private ScheduleSlotReservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getenv("SCHEDULE_SLOT_PG_URL"),
+                System.getenv().getOrDefault("SCHEDULE_SLOT_PG_USER", "postgres"),
+                System.getenv().getOrDefault("SCHEDULE_SLOT_PG_PASSWORD", ""));
+        dataSource.setDriverClassName("org.postgresql.Driver");
+
+        emfBean = new LocalContainerEntityManagerFactoryBean();
+        emfBean.setDataSource(dataSource);
+        emfBean.setPackagesToScan("com.communet.malmoon");
+        emfBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        emfBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                // 스프링 부트 기본 명명 규칙과 같게 맞춰 네이티브 SQL 의 컬럼명(therapist_id, schedule_id 등)과 일치시킴
+                "hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                "hibernate.implicit_naming_strategy",
+                "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy"));
+        emfBean.afterPropertiesSet();
+
+        tx = new TransactionTemplate(new JpaTransactionManager(emfBean.getObject()));
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(emfBean.getObject());
+        slotRepository = new JpaRepositoryFactory(entityManager).getRepository(ScheduleSlotRepository.class);
+        reservation = new ScheduleSlotReservation(slotRepository, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        emfBean.destroy();
+    }
+
+    @Test
+    void concurrentReservations_NeverDoubleBookAndNeverDeadlock() throws Exception {
+        Random random = new Random(22);
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            schedules.add(randomSchedule(random));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Schedule> accepted = new ArrayList<>();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<Schedule>> futures = new ArrayList<>();
+        for (Schedule schedule : schedules) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    tx.executeWithoutResult(status -> reservation.reserve(schedule));
+                    return schedule;
+                } catch (ScheduleSlotConflictException e) {
+                    conflicts.incrementAndGet();
+                    return null;
+                }
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<Schedule> future : futures) {
+            // 교착이나 직렬화 오류는 여기서 ExecutionException 으로 드러남
+            Schedule schedule = future.get(60, TimeUnit.SECONDS);
+            if (schedule != null) {
+                accepted.add(schedule);
+            }
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        pool.shutdown();
+
+        // 수락된 스케줄끼리 같은 (치료사, 날짜, 시간)을 가지지 않고, 원장은 수락된 스케줄의 합과 정확히 같아야 함
+        Map<Long, Map<LocalDate, Integer>> expected = new HashMap<>();
+        for (Schedule schedule : accepted) {
+            Map<LocalDate, Integer> byDate = expected.computeIfAbsent(
+                    schedule.getTherapist().getMemberId(), k -> new HashMap<>());
+            for (Map.Entry<LocalDate, Integer> slot : ScheduleSlotReservation.plan(schedule).entrySet()) {
+                int current = byDate.getOrDefault(slot.getKey(), 0);
+                assertEquals(0, current & slot.getValue(), "double-booked " + slot.getKey());
+                byDate.put(slot.getKey(), current | slot.getValue());
+            }
+        }
+        for (long therapistId = 1; therapistId <= THERAPISTS; therapistId++) {
+            assertEquals(expected.getOrDefault(therapistId, Map.of()), ledger(therapistId));
+        }
+        assertEquals(BOOKINGS, accepted.size() + conflicts.get());
+        assertFalse(accepted.isEmpty());
+        assertTrue(conflicts.get() > 0);
+
+        System.out.printf("[schedule-slot/postgres] bookings=%d threads=%d accepted=%d conflicts=%d elapsed=%dms%n",
+                BOOKINGS, THREADS, accepted.size(), conflicts.get(), elapsedMillis);
+    }
+
+    @Test
+    void sameDateDisjointHours_WaitsForEarlierTransactionToCommit() throws Exception {
+        Schedule first = schedule(1L, MONDAY, MONDAY, dayTime(DayType.MONDAY, 10));
+        Schedule second = schedule(1L, MONDAY, MONDAY, dayTime(DayType.MONDAY, 11));
+        CountDownLatch firstReserved = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        Future<?> firstTx = pool.submit(() -> tx.executeWithoutResult(status -> {
+            reservation.reserve(first);
+            firstReserved.countDown();
+            await(commitFirst);
+        }));
+        assertTrue(firstReserved.await(10, TimeUnit.SECONDS));
+        Future<?> secondTx = pool.submit(() -> tx.executeWithoutResult(status -> reservation.reserve(second)));
+
+        // 시간이 겹치지 않아도 같은 (치료사, 날짜) 행이 잠겨 있으므로 앞선 트랜잭션이 끝날 때까지 대기
+        assertThrows(TimeoutException.class, () -> secondTx.get(500, TimeUnit.MILLISECONDS));
+        commitFirst.countDown();
+        firstTx.get(10, TimeUnit.SECONDS);
+        secondTx.get(10, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertEquals(Map.of(MONDAY, (1 << 10) | (1 << 11)), ledger(1L));
+    }
+
+    @Test
+    void backfillAccepted_FillsFutureAcceptedSlotsOnce() {
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        Schedule schedule = tx.execute(status -> {
+            Member therapist = member("therapist@ex.com", MemberType.ROLE_THERAPIST);
+            Member client = member("client@ex.com", MemberType.ROLE_CLIENT);
+            Schedule accepted = Schedule.builder()
+                    .startDate(startDate)
+                    .endDate(startDate.plusDays(13))
+                    .status(StatusType.ACCEPTED)
+                    .therapist(therapist)
+                    .member(client)
+                    .build();
+            accepted.setCreatedAt(LocalDateTime.now());
+            accepted.addDayTime(dayTime(DayType.MONDAY, 10));
+            accepted.addDayTime(dayTime(DayType.WEDNESDAY, 15));
+            entityManager.persist(accepted);
+            return accepted;
+        });
+        Long therapistId = schedule.getTherapist().getMemberId();
+
+        int filled = tx.execute(status -> slotRepository.backfillAccepted());
+        int refilled = tx.execute(status -> slotRepository.backfillAccepted());
+
+        NavigableMap<LocalDate, Integer> plan = ScheduleSlotReservation.plan(schedule);
+        assertEquals(plan.size(), filled);
+        assertEquals(0, refilled);
+        assertEquals(plan, ledger(therapistId));
+    }
+
+    private Map<LocalDate, Integer> ledger(Long therapistId) {
+        Map<LocalDate, Integer> ledger = new HashMap<>();
+        List<ScheduleSlot> slots = tx.execute(status -> slotRepository.findAllByTherapistIdAndSlotDateBetween(
+                therapistId, LocalDate.of(2000, 1, 1), LocalDate.of(2100, 1, 1)));
+        for (ScheduleSlot slot : slots) {
+            if (slot.getHours() != 0) {
+                ledger.put(slot.getSlotDate(), slot.getHours());
+            }
+        }
+        return ledger;
+    }
+
+    private Schedule randomSchedule(Random random) {
+        LocalDate startDate = MONDAY.plusDays(random.nextInt(7 * WEEKS));
+        LocalDate endDate = startDate.plusDays(random.nextInt(14));
+        DayType[] days = DayType.values();
+        DayTime[] dayTimes = new DayTime[1 + random.nextInt(3)];
+        for (int i = 0; i < dayTimes.length; i++) {
+            dayTimes[i] = dayTime(days[random.nextInt(days.length)], 9 + random.nextInt(10));
+        }
+        return schedule(1L + random.nextInt(THERAPISTS), startDate, endDate, dayTimes);
+    }
+
+    private Schedule schedule(Long therapistId, LocalDate startDate, LocalDate endDate, DayTime... dayTimes) {
+        Schedule schedule = Schedule.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .therapist(Member.builder().memberId(therapistId).build())
+                .build();
+        for (DayTime dayTime : dayTimes) {
+            schedule.addDayTime(dayTime);
+        }
+        return schedule;
+    }
+
+    private DayTime dayTime(DayType day, int time) {
+        return DayTime.builder().day(day).time(time).build();
+    }
+
+    private Member member(String email, MemberType role) {
+        Member member = Member.builder()
+                .email(email)
+                .password("password")
+                .name("이름")
+                .nickname("닉네임")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .tel1("010-0000-0000")
+                .role(role)
+                .status(MemberStatusType.ACTIVE)
+                .build();
+        member.setCreatedAt(LocalDateTime.now());
+        entityManager.persist(member);
+        return member;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -8,8 +8,17 @@ import com.communet.malmoon.matching.dto.request.DayTimeReq;
 import com.communet.malmoon.matching.dto.request.ScheduleGetReq;
 import com.communet.malmoon.matching.dto.request.SchedulePostReq;
 import com.communet.malmoon.matching.dto.request.ScheduleUpdateReq;
+import com.communet.malmoon.matching.dto.response.MemberPendingRes;
 import com.communet.malmoon.matching.dto.response.ScheduleGetRes;
+import com.communet.malmoon.matching.event.ScheduleOccurrencesChangedEvent;
+import com.communet.malmoon.matching.event.TherapistDirectoryChangedEvent;
+import com.communet.malmoon.matching.repository.PendingScheduleView;
 import com.communet.malmoon.matching.repository.ScheduleRepository;
+import com.communet.malmoon.matching.repository.TreatmentTimeRepository;
+import com.communet.malmoon.matching.exception.ScheduleSlotConflictException;
+import com.communet.malmoon.matching.service.daily.DailyScheduleIndex;
+import com.communet.malmoon.matching.service.directory.TherapistDirectory;
+import com.communet.malmoon.matching.service.reservation.ScheduleSlotReservation;
 import com.communet.malmoon.member.domain.Member;
 import com.communet.malmoon.member.repository.MemberRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -20,12 +29,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -39,6 +50,21 @@ class ScheduleServiceTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
+    @Mock
+    private TreatmentTimeRepository treatmentTimeRepository;
+
+    @Mock
+    private TherapistDirectory therapistDirectory;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ScheduleSlotReservation slotReservation;
+
+    @Mock
+    private DailyScheduleIndex dailyScheduleIndex;
+
     @InjectMocks
     private ScheduleService scheduleService;
 
@@ -69,33 +95,50 @@ class ScheduleServiceTest {
     @Test
     void getSchedules_Success_ReturnsFlattenedDayTimes() {
         long therapistId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 8, 1);
+        LocalDate endDate = LocalDate.of(2025, 8, 31);
         when(memberRepository.existsById(therapistId)).thenReturn(true);
+        when(treatmentTimeRepository.findDayTimesByTherapistId(therapistId)).thenReturn(List.of(
+                new DayTimeReq(DayType.MONDAY, 10),
+                new DayTimeReq(DayType.TUESDAY, 11)));
+        when(scheduleRepository.findBusyDayTimes(therapistId, startDate, endDate,
+                List.of(StatusType.PENDING, StatusType.ACCEPTED))).thenReturn(List.of());
 
-        Schedule schedule = Schedule.builder()
-                .therapist(therapist)
-                .startDate(LocalDate.of(2025, 8, 1))
-                .endDate(LocalDate.of(2025, 8, 31))
-                .build();
-        DayTime dt1 = DayTime.builder().day(DayType.MONDAY).time(10).build();
-        DayTime dt2 = DayTime.builder().day(DayType.TUESDAY).time(11).build();
-        schedule.addAllDayTimes(Arrays.asList(dt1, dt2));
-
-        ScheduleGetReq req = new ScheduleGetReq();
-        req.setTherapistId(therapistId);
-        req.setStartDate(LocalDate.of(2025, 8, 1));
-        req.setEndDate(LocalDate.of(2025, 8, 31));
-
-        when(scheduleRepository.findAllByTherapist_MemberIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                therapistId, req.getEndDate(), req.getStartDate()))
-                .thenReturn(List.of(schedule));
-
-        ScheduleGetRes res = scheduleService.getSchedules(req.getTherapistId(), req.getStartDate(), req.getEndDate());
+        ScheduleGetRes res = scheduleService.getSchedules(therapistId, startDate, endDate);
         List<DayTimeReq> times = res.getDayTimes();
         assertEquals(2, times.size());
         assertTrue(times.stream().anyMatch(t -> t.getDay().equals(DayType.MONDAY) && t.getTime().equals(10)));
         assertTrue(times.stream().anyMatch(t -> t.getDay().equals(DayType.TUESDAY) && t.getTime().equals(11)));
     }
 
+    @Test
+    void getSchedules_ExcludesBusyHoursFromTreatmentTimes() {
+        long therapistId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 8, 1);
+        LocalDate endDate = LocalDate.of(2025, 8, 31);
+        when(memberRepository.existsById(therapistId)).thenReturn(true);
+        when(treatmentTimeRepository.findDayTimesByTherapistId(therapistId)).thenReturn(List.of(
+                new DayTimeReq(DayType.MONDAY, 10),
+                new DayTimeReq(DayType.MONDAY, 11),
+                new DayTimeReq(DayType.TUESDAY, 9),
+                new DayTimeReq(DayType.FRIDAY, 23)));
+        when(scheduleRepository.findBusyDayTimes(therapistId, startDate, endDate,
+                List.of(StatusType.PENDING, StatusType.ACCEPTED))).thenReturn(List.of(
+                new DayTimeReq(DayType.MONDAY, 10),
+                new DayTimeReq(DayType.TUESDAY, 10)));
+
+        ScheduleGetRes res = scheduleService.getSchedules(therapistId, startDate, endDate);
+
+        List<DayTimeReq> times = res.getDayTimes();
+        assertEquals(3, times.size());
+        assertEquals(DayType.MONDAY, times.get(0).getDay());
+        assertEquals(11, times.get(0).getTime());
+        assertEquals(DayType.TUESDAY, times.get(1).getDay());
+        assertEquals(9, times.get(1).getTime());
+        assertEquals(DayType.FRIDAY, times.get(2).getDay());
+        assertEquals(23, times.get(2).getTime());
+    }
+
     @Test
     void requestSchedule_TherapistNotFound_ThrowsException() {
         long therapistId = 1L;
@@ -137,6 +180,32 @@ class ScheduleServiceTest {
         assertEquals(12, saved.getDayTimes().get(0).getTime());
     }
 
+    @Test
+    void requestSchedule_PeriodOverOneYear_ThrowsBeforeConflictCheck() {
+        SchedulePostReq postReq = new SchedulePostReq();
+        postReq.setTherapistId(1L);
+        postReq.setStartDate(LocalDate.of(2025, 9, 1));
+        postReq.setEndDate(LocalDate.of(2026, 9, 2));
+        postReq.setDayTimes(List.of(new DayTimeReq(DayType.WEDNESDAY, 12)));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> scheduleService.requestSchedule(requester, postReq));
+        assertEquals("스케줄 기간은 최대 1년까지 요청할 수 있습니다.", ex.getMessage());
+        verifyNoInteractions(slotReservation, scheduleRepository);
+    }
+
+    @Test
+    void requestSchedule_EndBeforeStart_ThrowsException() {
+        SchedulePostReq postReq = new SchedulePostReq();
+        postReq.setTherapistId(1L);
+        postReq.setStartDate(LocalDate.of(2025, 9, 2));
+        postReq.setEndDate(LocalDate.of(2025, 9, 1));
+        postReq.setDayTimes(List.of(new DayTimeReq(DayType.WEDNESDAY, 12)));
+
+        assertThrows(IllegalArgumentException.class, () -> scheduleService.requestSchedule(requester, postReq));
+        verifyNoInteractions(slotReservation, scheduleRepository);
+    }
+
     @Test
     void updateStatus_ScheduleNotFound_ThrowsException() {
         long scheduleId = 100L;
@@ -189,8 +258,12 @@ class ScheduleServiceTest {
     void updateStatus_Success_UpdatesStatus() {
         Schedule schedule = Schedule.builder()
                 .therapist(therapist)
+                .member(requester)
                 .status(StatusType.PENDING)
+                .startDate(LocalDate.of(2025, 9, 1))
+                .endDate(LocalDate.of(2025, 9, 14))
                 .build();
+        schedule.addAllDayTimes(List.of(DayTime.builder().day(DayType.MONDAY).time(10).build()));
         when(scheduleRepository.findById(1L)).thenReturn(Optional.of(schedule));
 
         ScheduleUpdateReq updateReq = new ScheduleUpdateReq();
@@ -200,5 +273,77 @@ class ScheduleServiceTest {
         scheduleService.updateStatus(therapist, updateReq);
 
         assertEquals(StatusType.ACCEPTED, schedule.getStatus());
+        ArgumentCaptor<TherapistDirectoryChangedEvent> captor = ArgumentCaptor.forClass(TherapistDirectoryChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(therapist.getMemberId(), captor.getValue().getTherapistId());
+        ArgumentCaptor<ScheduleOccurrencesChangedEvent> occurrences = ArgumentCaptor.forClass(ScheduleOccurrencesChangedEvent.class);
+        verify(eventPublisher).publishEvent(occurrences.capture());
+        assertEquals(requester.getMemberId(), occurrences.getValue().getMemberId());
+        assertEquals(Set.of(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 8)), occurrences.getValue().getDates());
+    }
+
+    @Test
+    void updateStatus_SlotConflict_KeepsPending() {
+        Schedule schedule = Schedule.builder()
+                .therapist(therapist)
+                .status(StatusType.PENDING)
+                .build();
+        when(scheduleRepository.findById(1L)).thenReturn(Optional.of(schedule));
+        doThrow(new ScheduleSlotConflictException(LocalDate.of(2025, 9, 1))).when(slotReservation).reserve(schedule);
+
+        ScheduleUpdateReq updateReq = new ScheduleUpdateReq();
+        updateReq.setScheduleId(1L);
+        updateReq.setStatus(StatusType.ACCEPTED);
+
+        assertThrows(ScheduleSlotConflictException.class, () -> scheduleService.updateStatus(therapist, updateReq));
+        assertEquals(StatusType.PENDING, schedule.getStatus());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateStatus_Rejected_DoesNotReserveSlots() {
+        Schedule schedule = Schedule.builder()
+                .therapist(therapist)
+                .status(StatusType.PENDING)
+                .build();
+        when(scheduleRepository.findById(1L)).thenReturn(Optional.of(schedule));
+
+        ScheduleUpdateReq updateReq = new ScheduleUpdateReq();
+        updateReq.setScheduleId(1L);
+        updateReq.setStatus(StatusType.REJECTED);
+
+        scheduleService.updateStatus(therapist, updateReq);
+
+        assertEquals(StatusType.REJECTED, schedule.getStatus());
+        verify(slotReservation, never()).reserve(any());
+    }
+
+    @Test
+    void getPendingSchedules_MapsSingleQueryRows_WithAndWithoutDiagnostic() {
+        LocalDateTime requestedAt = LocalDateTime.of(2025, 8, 1, 10, 0);
+        PendingScheduleView withResult = mock(PendingScheduleView.class);
+        when(withResult.getScheduleId()).thenReturn(10L);
+        when(withResult.getMemberId()).thenReturn(2L);
+        when(withResult.getName()).thenReturn("홍길동");
+        when(withResult.getTelephone()).thenReturn("010-0000-0000");
+        when(withResult.getCreateDate()).thenReturn(requestedAt);
+        when(withResult.getEvaluation()).thenReturn("평가");
+        when(withResult.getStrengths()).thenReturn("강점");
+        PendingScheduleView withoutResult = mock(PendingScheduleView.class);
+        when(withoutResult.getScheduleId()).thenReturn(11L);
+        when(withoutResult.getMemberId()).thenReturn(3L);
+        when(scheduleRepository.findPendingWithLatestDiagnostic(1L)).thenReturn(List.of(withResult, withoutResult));
+
+        List<MemberPendingRes> result = scheduleService.getPendingSchedules(1L);
+
+        assertEquals(2, result.size());
+        assertEquals(10L, result.get(0).getScheduleId());
+        assertEquals("010-0000-0000", result.get(0).getTelephone());
+        assertEquals(requestedAt, result.get(0).getCreateDate());
+        assertEquals("평가", result.get(0).getEvaluation());
+        assertEquals(11L, result.get(1).getScheduleId());
+        assertNull(result.get(1).getEvaluation());
+        verify(scheduleRepository, only()).findPendingWithLatestDiagnostic(1L);
+        verifyNoInteractions(memberRepository);
     }
 }
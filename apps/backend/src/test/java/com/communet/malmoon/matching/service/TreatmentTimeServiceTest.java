@@ -13,6 +13,7 @@ import com.communet.malmoon.member.repository.TherapistRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
 import java.util.*;
 
 class TreatmentTimeServiceTest {
@@ -23,6 +24,9 @@ class TreatmentTimeServiceTest {
     @Mock
     private TreatmentTimeRepository treatmentTimeRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TreatmentTimeService treatmentTimeService;
 
@@ -0,0 +1,183 @@
+package com.communet.malmoon.matching.service.daily;
+
+import com.communet.malmoon.common.redis.RedisCacheVersions;
+import com.communet.malmoon.matching.domain.DayType;
+import com.communet.malmoon.matching.domain.StatusType;
+import com.communet.malmoon.matching.dto.response.MemberScheduleRes;
+import com.communet.malmoon.matching.dto.response.TherapistScheduleRes;
+import com.communet.malmoon.matching.event.ScheduleOccurrencesChangedEvent;
+import com.communet.malmoon.matching.repository.ScheduleRepository;
+import com.communet.malmoon.member.event.MemberProfileChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailyScheduleIndexTest {
+
+    // 2025-09-01은 월요일
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 1);
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisCacheVersions cacheVersions;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private DailyScheduleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DailyScheduleIndex(scheduleRepository, redisTemplate, objectMapper, cacheVersions,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void getTherapistSchedules_Hit_ReturnsIndexedDayWithoutQuery() throws Exception {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("schedule:daily:therapist:1:2025-09-01")).thenReturn(
+                objectMapper.writeValueAsString(List.of(new TherapistScheduleRes(2L, "회원", 10))));
+
+        List<TherapistScheduleRes> result = index.getTherapistSchedules(1L, MONDAY);
+
+        assertEquals(1, result.size());
+        assertEquals(2L, result.get(0).getMemberId());
+        assertEquals(10, result.get(0).getTime());
+        verifyNoInteractions(scheduleRepository);
+    }
+
+    @Test
+    void getMemberSchedules_Miss_LoadsDayFilteredRowsAndIndexesThem() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        List<String> versionKeys = List.of("schedule:daily-version:member:2:2025-09-01",
+                "schedule:daily-version:member:2");
+        RedisCacheVersions.Snapshot snapshot = new RedisCacheVersions.Snapshot(versionKeys, List.of("3", "0"));
+        when(cacheVersions.snapshot(versionKeys)).thenReturn(snapshot);
+        when(scheduleRepository.findMemberOccurrences(2L, StatusType.ACCEPTED, MONDAY, DayType.MONDAY))
+                .thenReturn(List.of(new MemberScheduleRes(1L, "치료사", 10)));
+
+        List<MemberScheduleRes> result = index.getMemberSchedules(2L, MONDAY);
+
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).getTherapistId());
+        // 조회 전에 읽어 둔 버전으로 조건부 저장
+        InOrder inOrder = inOrder(cacheVersions, scheduleRepository);
+        inOrder.verify(cacheVersions).snapshot(versionKeys);
+        inOrder.verify(scheduleRepository).findMemberOccurrences(2L, StatusType.ACCEPTED, MONDAY, DayType.MONDAY);
+        inOrder.verify(cacheVersions).setIfUnchanged(eq("schedule:daily:member:2:2025-09-01"), anyString(),
+                eq(Duration.ofDays(1)), eq(snapshot));
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void getMemberSchedules_RedisDown_FallsBackToQuery() {
+        when(redisTemplate.opsForValue()).thenThrow(new RuntimeException("connection refused"));
+        when(scheduleRepository.findMemberOccurrences(2L, StatusType.ACCEPTED, MONDAY, DayType.MONDAY))
+                .thenReturn(List.of());
+
+        assertTrue(index.getMemberSchedules(2L, MONDAY).isEmpty());
+        verify(cacheVersions, never()).setIfUnchanged(anyString(), anyString(), any(Duration.class), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void onOccurrencesChanged_EvictsOnlyAffectedDates() {
+        index.onOccurrencesChanged(new ScheduleOccurrencesChangedEvent(1L, 2L, Set.of(MONDAY)));
+
+        // 버전을 먼저 올린 뒤 삭제
+        ArgumentCaptor<List<String>> versionKeys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        InOrder inOrder = inOrder(cacheVersions, redisTemplate);
+        inOrder.verify(cacheVersions).bump(versionKeys.capture(), eq(Duration.ofDays(2)));
+        inOrder.verify(redisTemplate).delete(keys.capture());
+        assertEquals(Set.of("schedule:daily-version:therapist:1:2025-09-01", "schedule:daily-version:member:2:2025-09-01"),
+                Set.copyOf(versionKeys.getValue()));
+        assertEquals(Set.of("schedule:daily:therapist:1:2025-09-01", "schedule:daily:member:2:2025-09-01"),
+                Set.copyOf(keys.getValue()));
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void onMemberProfileChanged_EvictsCounterpartEntriesOfAllDates() {
+        // 3번 회원은 1번 치료사의 수락 스케줄 회원이면서, 치료사로서 4번 회원의 수락 스케줄을 가짐
+        when(scheduleRepository.findTherapistIdsByMemberAndStatuses(3L, List.of(StatusType.ACCEPTED)))
+                .thenReturn(Set.of(1L));
+        when(scheduleRepository.findMemberIdsByTherapistAndStatuses(3L, List.of(StatusType.ACCEPTED)))
+                .thenReturn(Set.of(4L));
+        Cursor<String> therapistKeys = cursor("schedule:daily:therapist:1:2025-09-01", "schedule:daily:therapist:1:2025-09-02");
+        Cursor<String> memberKeys = cursor("schedule:daily:member:4:2025-09-01");
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(therapistKeys, memberKeys);
+
+        index.onMemberProfileChanged(new MemberProfileChangedEvent(3L));
+
+        ArgumentCaptor<List<String>> versionKeys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        InOrder inOrder = inOrder(cacheVersions, redisTemplate);
+        inOrder.verify(cacheVersions).bump(versionKeys.capture(), eq(Duration.ofDays(2)));
+        inOrder.verify(redisTemplate, times(2)).delete(keys.capture());
+        assertEquals(List.of("schedule:daily-version:therapist:1", "schedule:daily-version:member:4"),
+                versionKeys.getValue());
+        assertEquals(List.of("schedule:daily:therapist:1:2025-09-01", "schedule:daily:therapist:1:2025-09-02"),
+                List.copyOf(keys.getAllValues().get(0)));
+        assertEquals(List.of("schedule:daily:member:4:2025-09-01"), List.copyOf(keys.getAllValues().get(1)));
+    }
+
+    @Test
+    void onMemberProfileChanged_NoAcceptedSchedules_TouchesNothing() {
+        when(scheduleRepository.findTherapistIdsByMemberAndStatuses(3L, List.of(StatusType.ACCEPTED)))
+                .thenReturn(Set.of());
+        when(scheduleRepository.findMemberIdsByTherapistAndStatuses(3L, List.of(StatusType.ACCEPTED)))
+                .thenReturn(Set.of());
+
+        index.onMemberProfileChanged(new MemberProfileChangedEvent(3L));
+
+        verify(cacheVersions, never()).bump(anyList(), any(Duration.class));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cursor<String> cursor(String... keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        doAnswer(inv -> {
+            Consumer<String> action = inv.getArgument(0);
+            for (String key : keys) {
+                action.accept(key);
+            }
+            return null;
+        }).when(cursor).forEachRemaining(any());
+        return cursor;
+    }
+}
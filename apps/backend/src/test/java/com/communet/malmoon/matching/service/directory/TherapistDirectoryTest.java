@@ -0,0 +1,118 @@
+package com.communet.malmoon.matching.service.directory;
+
+import com.communet.malmoon.matching.domain.DayType;
+import com.communet.malmoon.matching.domain.WeeklyHourMask;
+import com.communet.malmoon.matching.dto.request.TherapistSearchReq;
+import com.communet.malmoon.matching.dto.response.TherapistRes;
+import com.communet.malmoon.matching.event.TherapistDirectoryChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TherapistDirectoryTest {
+
+    @Mock
+    private TherapistDirectoryLoader loader;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TherapistDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = new TherapistDirectory(loader, redisTemplate, new SimpleMeterRegistry(), listenerContainer);
+    }
+
+    @Test
+    void search_FiltersBySlotCareerAndDistrict_AndExcludesPerClient() {
+        when(loader.loadAll(any(LocalDate.class))).thenReturn(List.of(
+                entry(1L, "강남구", 5, DayType.MONDAY, 10),
+                entry(2L, "강남구", 2, DayType.MONDAY, 10),
+                entry(3L, "서초구", 7, DayType.MONDAY, 10),
+                entry(4L, "강남구", 8, DayType.TUESDAY, 10),
+                entry(5L, "강남구", 10, DayType.MONDAY, 10)));
+
+        TherapistSearchReq req = new TherapistSearchReq();
+        req.setDay(DayType.MONDAY);
+        req.setTime(10);
+        req.setMinCareerYears(3);
+        req.setDistrict("강남구");
+
+        Page<TherapistRes> page = directory.search(req, Set.of(5L));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(1L, page.getContent().get(0).getTherapistId());
+    }
+
+    @Test
+    void search_PaginatesInTherapistIdOrder() {
+        when(loader.loadAll(any(LocalDate.class))).thenReturn(List.of(
+                entry(3L, "강남구", 1, DayType.MONDAY, 9),
+                entry(1L, "강남구", 1, DayType.MONDAY, 9),
+                entry(2L, "강남구", 1, DayType.MONDAY, 9)));
+
+        TherapistSearchReq req = new TherapistSearchReq();
+        req.setPage(1);
+        req.setSize(2);
+
+        Page<TherapistRes> page = directory.search(req, Set.of());
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+        assertEquals(1, page.getContent().size());
+        assertEquals(3L, page.getContent().get(0).getTherapistId());
+    }
+
+    @Test
+    void onTherapistChanged_ReplacesOnlyThatEntry_AndNotifiesOtherInstances() {
+        when(loader.loadAll(any(LocalDate.class))).thenReturn(List.of(
+                entry(1L, "강남구", 1, DayType.MONDAY, 9),
+                entry(2L, "강남구", 1, DayType.MONDAY, 9)));
+        directory.rebuild();
+        when(loader.load(eq(1L), any(LocalDate.class)))
+                .thenReturn(Optional.of(entry(1L, "강남구", 1, DayType.FRIDAY, 15)));
+        when(loader.load(eq(2L), any(LocalDate.class))).thenReturn(Optional.empty());
+
+        directory.onTherapistChanged(new TherapistDirectoryChangedEvent(1L));
+        directory.onTherapistChanged(new TherapistDirectoryChangedEvent(2L));
+
+        TherapistSearchReq req = new TherapistSearchReq();
+        req.setDay(DayType.FRIDAY);
+        req.setTime(15);
+        Page<TherapistRes> page = directory.search(req, Set.of());
+        assertEquals(1, page.getTotalElements());
+        assertEquals(1L, page.getContent().get(0).getTherapistId());
+        assertEquals(1, directory.findAll(Set.of()).size());
+        verify(loader, times(1)).loadAll(any(LocalDate.class));
+        verify(redisTemplate).convertAndSend(anyString(), eq("1"));
+    }
+
+    private TherapistDirectoryEntry entry(Long therapistId, String district, int careerYears, DayType day, int hour) {
+        WeeklyHourMask available = new WeeklyHourMask();
+        available.set(day, hour);
+        TherapistRes profile = new TherapistRes(therapistId, "치료사" + therapistId, null, null, null, null,
+                careerYears, List.of());
+        return new TherapistDirectoryEntry(profile, district, careerYears, available);
+    }
+}
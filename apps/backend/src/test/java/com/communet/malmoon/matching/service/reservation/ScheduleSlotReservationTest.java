@@ -0,0 +1,217 @@
+package com.communet.malmoon.matching.service.reservation;
+
+import com.communet.malmoon.matching.domain.DayTime;
+import com.communet.malmoon.matching.domain.DayType;
+import com.communet.malmoon.matching.domain.Schedule;
+import com.communet.malmoon.matching.domain.ScheduleSlot;
+import com.communet.malmoon.matching.exception.ScheduleSlotConflictException;
+import com.communet.malmoon.matching.repository.ScheduleSlotRepository;
+import com.communet.malmoon.member.domain.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleSlotReservationTest {
+
+    private static final long THERAPIST_ID = 1L;
+    // 2025-09-01 은 월요일
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 1);
+
+    @Mock
+    private ScheduleSlotRepository slotRepository;
+
+    private ScheduleSlotReservation reservation;
+
+    // schedule_slot 의 조건부 upsert/해제를 흉내 내는 원장 (날짜 → 24비트 마스크)
+    private final Map<LocalDate, Integer> ledger = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        reservation = new ScheduleSlotReservation(slotRepository, new SimpleMeterRegistry());
+
+        lenient().when(slotRepository.reserve(eq(THERAPIST_ID), any(LocalDate.class), anyInt())).thenAnswer(inv -> {
+            LocalDate date = inv.getArgument(1);
+            int mask = inv.getArgument(2);
+            AtomicInteger updated = new AtomicInteger();
+            ledger.compute(date, (d, hours) -> {
+                int current = hours == null ? 0 : hours;
+                if ((current & mask) != 0) {
+                    return hours;
+                }
+                updated.set(1);
+                return current | mask;
+            });
+            return updated.get();
+        });
+        lenient().when(slotRepository.release(eq(THERAPIST_ID), any(LocalDate.class), anyInt())).thenAnswer(inv -> {
+            LocalDate date = inv.getArgument(1);
+            int mask = inv.getArgument(2);
+            ledger.computeIfPresent(date, (d, hours) -> hours & ~mask);
+            return 1;
+        });
+    }
+
+    @Test
+    void plan_ExpandsRequestedWeekdaysWithinPeriod() {
+        Schedule schedule = schedule(MONDAY, MONDAY.plusDays(13),
+                new DayTime[]{dayTime(DayType.MONDAY, 10), dayTime(DayType.MONDAY, 11), dayTime(DayType.WEDNESDAY, 15)});
+
+        NavigableMap<LocalDate, Integer> plan = ScheduleSlotReservation.plan(schedule);
+
+        assertEquals(4, plan.size());
+        assertEquals((1 << 10) | (1 << 11), plan.get(MONDAY));
+        assertEquals(1 << 15, plan.get(MONDAY.plusDays(2)));
+        assertEquals((1 << 10) | (1 << 11), plan.get(MONDAY.plusDays(7)));
+        assertEquals(1 << 15, plan.get(MONDAY.plusDays(9)));
+    }
+
+    @Test
+    void reserve_ConflictOnLaterDate_ReleasesEarlierDates() {
+        // 2주차 월요일 10시만 먼저 예약됨
+        ledger.put(MONDAY.plusDays(7), 1 << 10);
+        Schedule schedule = schedule(MONDAY, MONDAY.plusDays(13), new DayTime[]{dayTime(DayType.MONDAY, 10)});
+
+        ScheduleSlotConflictException ex = assertThrows(ScheduleSlotConflictException.class,
+                () -> reservation.reserve(schedule));
+
+        assertEquals(MONDAY.plusDays(7), ex.getConflictDate());
+        assertEquals(0, ledger.getOrDefault(MONDAY, 0));
+        assertEquals(1 << 10, ledger.get(MONDAY.plusDays(7)));
+    }
+
+    @Test
+    void conflicts_DetectsOverlapWithoutReserving() {
+        when(slotRepository.findAllByTherapistIdAndSlotDateBetween(eq(THERAPIST_ID), any(), any()))
+                .thenReturn(List.of(ScheduleSlot.builder()
+                        .therapistId(THERAPIST_ID)
+                        .slotDate(MONDAY.plusDays(2))
+                        .hours(1 << 15)
+                        .build()));
+
+        assertTrue(reservation.conflicts(schedule(MONDAY, MONDAY.plusDays(6), new DayTime[]{dayTime(DayType.WEDNESDAY, 15)})));
+        assertFalse(reservation.conflicts(schedule(MONDAY, MONDAY.plusDays(6), new DayTime[]{dayTime(DayType.WEDNESDAY, 16)})));
+        verify(slotRepository, never()).reserve(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    void reserve_ConcurrentDisjointHours_AllSucceed() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(24);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            Schedule schedule = schedule(MONDAY, MONDAY.plusWeeks(8), new DayTime[]{dayTime(DayType.MONDAY, hour)});
+            results.add(pool.submit(() -> {
+                start.await();
+                reservation.reserve(schedule);
+                return null;
+            }));
+        }
+        start.countDown();
+
+        for (Future<?> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        for (int week = 0; week <= 8; week++) {
+            assertEquals((1 << 24) - 1, ledger.get(MONDAY.plusWeeks(week)));
+        }
+    }
+
+    /**
+     * 겹치는 요청이 동시에 들어와도 reserve 의 날짜별 예약/충돌 시 되돌리기 흐름이 부분 예약을 남기지 않는지 확인
+     * 날짜별 원자성은 원장 stub(ConcurrentHashMap.compute)이 제공하므로, schedule_slot 조건부 upsert 의
+     * DB 수준 동시성은 이 테스트로 검증되지 않음 (실제 Postgres 대상 검증은 ScheduleSlotRepositoryPostgresTest)
+     */
+    @Test
+    void reserve_ConcurrentOverlappingRequests_RollsBackPartialReservationsOnStubLedger() throws Exception {
+        int threads = 32;
+        int attempts = 400;
+        Random random = new Random(42);
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            // 4주 안의 임의 기간, 월/수 9~12시 중 1~2개 시간 → 대부분 서로 겹침
+            LocalDate startDate = MONDAY.plusDays(random.nextInt(21));
+            LocalDate endDate = startDate.plusDays(random.nextInt(14));
+            DayTime first = dayTime(random.nextBoolean() ? DayType.MONDAY : DayType.WEDNESDAY, 9 + random.nextInt(4));
+            DayTime[] dayTimes = random.nextBoolean()
+                    ? new DayTime[]{first}
+                    : new DayTime[]{first, dayTime(random.nextBoolean() ? DayType.MONDAY : DayType.WEDNESDAY, 9 + random.nextInt(4))};
+            schedules.add(schedule(startDate, endDate, dayTimes));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (Schedule schedule : schedules) {
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    reservation.reserve(schedule);
+                    return true;
+                } catch (ScheduleSlotConflictException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        List<Schedule> accepted = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            if (results.get(i).get(30, TimeUnit.SECONDS)) {
+                accepted.add(schedules.get(i));
+            }
+        }
+        pool.shutdown();
+
+        // 수락된 스케줄끼리는 같은 날짜·시간을 공유하지 않고, 원장은 수락된 스케줄의 합과 정확히 같아야 함
+        Map<LocalDate, Integer> expected = new HashMap<>();
+        for (Schedule schedule : accepted) {
+            for (Map.Entry<LocalDate, Integer> slot : ScheduleSlotReservation.plan(schedule).entrySet()) {
+                int before = expected.getOrDefault(slot.getKey(), 0);
+                assertEquals(0, before & slot.getValue(), "같은 슬롯이 두 번 예약됨: " + slot.getKey());
+                expected.put(slot.getKey(), before | slot.getValue());
+            }
+        }
+        ledger.values().removeIf(hours -> hours == 0);
+        assertEquals(expected, ledger);
+        assertFalse(accepted.isEmpty());
+        assertTrue(accepted.size() < attempts);
+    }
+
+    private Schedule schedule(LocalDate startDate, LocalDate endDate, DayTime[] dayTimes) {
+        Schedule schedule = Schedule.builder()
+                .therapist(Member.builder().memberId(THERAPIST_ID).build())
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+        schedule.addAllDayTimes(List.of(dayTimes));
+        return schedule;
+    }
+
+    private DayTime dayTime(DayType day, int time) {
+        return DayTime.builder().day(day).time(time).build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.communet.malmoon.member.jwt.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.domain.MemberStatusType;
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.event.MemberChangedEvent;
+import com.communet.malmoon.member.jwt.util.JwtTokenUtil;
+import com.communet.malmoon.member.repository.MemberRepository;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+	private static final String EMAIL = "therapist@example.com";
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private AuthenticationManager authenticationManager;
+
+	private MemberPrincipalCache memberPrincipalCache;
+	private JwtAuthenticationFilter filter;
+	private MockHttpServletRequest request;
+
+	@BeforeEach
+	void setUp() {
+		JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+		ReflectionTestUtils.setField(jwtTokenUtil, "secret", "test-secret-key-for-jwt-authentication-filter");
+		ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 60_000);
+		jwtTokenUtil.init();
+
+		memberPrincipalCache = new MemberPrincipalCache(memberRepository);
+		filter = new JwtAuthenticationFilter(authenticationManager, memberPrincipalCache);
+
+		request = new MockHttpServletRequest();
+		request.addHeader(JwtTokenUtil.HEADER_STRING,
+			JwtTokenUtil.TOKEN_PREFIX + JwtTokenUtil.getToken(EMAIL, MemberType.ROLE_THERAPIST));
+	}
+
+	@Test
+	@DisplayName("같은 회원의 반복 요청은 회원 조회 쿼리 없이 캐시된 인증 주체를 사용")
+	void getAuthentication_warmToken_skipsMemberLookup() throws Exception {
+		// given
+		given(memberRepository.getByEmail(EMAIL)).willReturn(Optional.of(member(MemberStatusType.ACTIVE)));
+
+		// when
+		Authentication first = filter.getAuthentication(request);
+		Authentication second = filter.getAuthentication(request);
+
+		// then
+		assertThat(second.getName()).isEqualTo(EMAIL);
+		assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_THERAPIST");
+		assertThat(second.getDetails()).isInstanceOf(MemberPrincipal.class);
+		assertThat(((MemberPrincipal)second.getDetails()).getMemberId()).isEqualTo(1L);
+		assertThat(second.getDetails()).isSameAs(first.getDetails());
+		verify(memberRepository, times(1)).getByEmail(EMAIL);
+	}
+
+	@Test
+	@DisplayName("회원 변경 이벤트 이후에는 캐시를 비우고 다시 조회하며, 탈퇴 회원은 인증하지 않음")
+	void getAuthentication_afterMemberChanged_reloadsAndRejectsWithdrawn() throws Exception {
+		// given
+		given(memberRepository.getByEmail(EMAIL))
+			.willReturn(Optional.of(member(MemberStatusType.ACTIVE)))
+			.willReturn(Optional.of(member(MemberStatusType.WITHDRAWN)));
+		filter.getAuthentication(request);
+
+		// when
+		memberPrincipalCache.onMemberChanged(new MemberChangedEvent(EMAIL));
+		Authentication afterWithdraw = filter.getAuthentication(request);
+
+		// then
+		assertThat(afterWithdraw).isNull();
+		verify(memberRepository, times(2)).getByEmail(EMAIL);
+	}
+
+	private Member member(MemberStatusType status) {
+		return Member.builder()
+			.memberId(1L)
+			.email(EMAIL)
+			.role(MemberType.ROLE_THERAPIST)
+			.status(status)
+			.build();
+	}
+}
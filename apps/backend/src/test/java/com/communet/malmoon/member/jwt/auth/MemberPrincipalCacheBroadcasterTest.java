@@ -0,0 +1,95 @@
+package com.communet.malmoon.member.jwt.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.member.domain.MemberStatusType;
+import com.communet.malmoon.member.domain.MemberType;
+import com.communet.malmoon.member.event.MemberChangedEvent;
+import com.communet.malmoon.member.repository.MemberRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MemberPrincipalCacheBroadcasterTest {
+
+	private static final String EMAIL = "therapist@example.com";
+	private static final String CHANNEL = "member-principal-invalidate";
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	private MemberPrincipalCache memberPrincipalCache;
+	private MemberPrincipalCacheBroadcaster broadcaster;
+
+	@BeforeEach
+	void setUp() {
+		memberPrincipalCache = new MemberPrincipalCache(memberRepository);
+		broadcaster = new MemberPrincipalCacheBroadcaster(memberPrincipalCache, redisTemplate, listenerContainer);
+	}
+
+	@Test
+	@DisplayName("회원 변경 이벤트 커밋 후 다른 인스턴스에 무효화할 이메일을 발행")
+	void onMemberChanged_publishesEmail() {
+		// when
+		broadcaster.onMemberChanged(new MemberChangedEvent(EMAIL));
+
+		// then
+		verify(redisTemplate).convertAndSend(CHANNEL, EMAIL);
+	}
+
+	@Test
+	@DisplayName("Redis 발행이 실패해도 예외를 전파하지 않음")
+	void onMemberChanged_redisDown_doesNotFail() {
+		// given
+		given(redisTemplate.convertAndSend(CHANNEL, EMAIL)).willThrow(new IllegalStateException("redis down"));
+
+		// when & then
+		assertThatCode(() -> broadcaster.onMemberChanged(new MemberChangedEvent(EMAIL)))
+			.doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스의 무효화 메시지를 받으면 로컬 캐시 항목을 제거하고 다시 조회")
+	void invalidateMessage_evictsLocalEntry() {
+		// given
+		ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+		verify(listenerContainer).addMessageListener(listener.capture(), eq(new ChannelTopic(CHANNEL)));
+		given(memberRepository.getByEmail(EMAIL)).willReturn(Optional.of(Member.builder()
+			.memberId(1L)
+			.email(EMAIL)
+			.role(MemberType.ROLE_THERAPIST)
+			.status(MemberStatusType.ACTIVE)
+			.build()));
+		memberPrincipalCache.get(EMAIL);
+
+		// when
+		listener.getValue().onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+			EMAIL.getBytes(StandardCharsets.UTF_8)), null);
+		memberPrincipalCache.get(EMAIL);
+
+		// then
+		verify(memberRepository, times(2)).getByEmail(EMAIL);
+	}
+}
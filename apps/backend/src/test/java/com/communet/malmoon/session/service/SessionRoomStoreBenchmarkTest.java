@@ -0,0 +1,174 @@
+package com.communet.malmoon.session.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 동시 세션 시작 시 Redis 방 생성 경로 지연시간 비교 벤치마크.
+ * - legacy : 기존 방식 (hasKey → putAll → set ×3, 명령마다 왕복)
+ * - script : SessionRoomStore (SET NX Lua 스크립트 1회 + 채팅방 매핑 1회)
+ *
+ * 치료사마다 동시 요청 2건(더블 클릭)을 보내 지연시간 분포와 중복 생성된 방 개수를 출력합니다.
+ * 실행: REDIS_BENCH_HOST=localhost [REDIS_BENCH_PORT=6379] ./gradlew test --tests '*SessionRoomStoreBenchmarkTest'
+ * (지정한 Redis 의 DB 15 를 비우고 사용합니다.)
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_BENCH_HOST", matches = ".+")
+class SessionRoomStoreBenchmarkTest {
+
+	private static final int THERAPISTS = 500;
+	private static final int CLICKS_PER_THERAPIST = 2;
+	private static final int THREADS = 64;
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private SessionRoomStore sessionRoomStore;
+
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+			System.getenv("REDIS_BENCH_HOST"),
+			Integer.parseInt(System.getenv().getOrDefault("REDIS_BENCH_PORT", "6379")));
+		config.setDatabase(15);
+		connectionFactory = new LettuceConnectionFactory(config);
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		sessionRoomStore = new SessionRoomStore(redisTemplate);
+		flush();
+	}
+
+	@AfterEach
+	void tearDown() {
+		flush();
+		connectionFactory.destroy();
+	}
+
+	@Test
+	@DisplayName("동시 세션 시작 - legacy vs script 지연시간 및 중복 방 생성 비교")
+	void concurrentSessionStarts() throws Exception {
+		// 워밍업
+		run("warmup-legacy", this::legacyCreate);
+		run("warmup-script", this::scriptCreate);
+
+		Result legacy = run("legacy", this::legacyCreate);
+		Result script = run("script", this::scriptCreate);
+
+		System.out.println(legacy);
+		System.out.println(script);
+
+		assertThat(script.duplicatedRooms).isZero();
+	}
+
+	/** 기존 SessionService 의 명령 순서를 그대로 재현 (경쟁 조건 포함) */
+	private boolean legacyCreate(String therapist, String client, String roomName) {
+		String therapistKey = SessionRoomStore.THERAPIST_PREFIX + therapist;
+		if (Boolean.TRUE.equals(redisTemplate.hasKey(therapistKey))) {
+			redisTemplate.opsForValue().get(therapistKey);
+			redisTemplate.opsForValue().get(SessionRoomStore.CHAT_ROOM_PREFIX + roomName);
+			return false;
+		}
+		redisTemplate.opsForHash().putAll(SessionRoomStore.ROOM_PREFIX + roomName,
+			Map.of("therapist", therapist, "client", client, "createdAt", "now"));
+		redisTemplate.opsForValue().set(SessionRoomStore.CHAT_ROOM_PREFIX + roomName, "1");
+		redisTemplate.opsForValue().set(therapistKey, roomName);
+		redisTemplate.opsForValue().set(SessionRoomStore.CLIENT_PREFIX + client, roomName);
+		return true;
+	}
+
+	private boolean scriptCreate(String therapist, String client, String roomName) {
+		boolean created = sessionRoomStore.reserve(therapist, client, roomName, "now").isCreated();
+		if (created) {
+			sessionRoomStore.bindChatRoom(roomName, 1L);
+		}
+		return created;
+	}
+
+	private Result run(String name, RoomCreator creator) throws Exception {
+		flush();
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		Map<String, AtomicInteger> createdPerTherapist = new ConcurrentHashMap<>();
+		List<Future<Long>> futures = new ArrayList<>();
+
+		for (int t = 0; t < THERAPISTS; t++) {
+			String therapist = name + "-therapist-" + t + "@ex.com";
+			String client = name + "-client-" + t + "@ex.com";
+			for (int c = 0; c < CLICKS_PER_THERAPIST; c++) {
+				String roomName = therapist + "-room-" + c;
+				futures.add(pool.submit(() -> {
+					start.await();
+					long begin = System.nanoTime();
+					if (creator.create(therapist, client, roomName)) {
+						createdPerTherapist.computeIfAbsent(therapist, k -> new AtomicInteger()).incrementAndGet();
+					}
+					return System.nanoTime() - begin;
+				}));
+			}
+		}
+
+		start.countDown();
+		long[] latencies = new long[futures.size()];
+		for (int i = 0; i < futures.size(); i++) {
+			latencies[i] = futures.get(i).get();
+		}
+		pool.shutdown();
+
+		int duplicated = createdPerTherapist.values().stream().mapToInt(count -> count.get() - 1).sum();
+		return new Result(name, latencies, duplicated);
+	}
+
+	private void flush() {
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		}, true);
+	}
+
+	@FunctionalInterface
+	private interface RoomCreator {
+		boolean create(String therapist, String client, String roomName);
+	}
+
+	private static class Result {
+		private final String name;
+		private final long[] latencies;
+		private final int duplicatedRooms;
+
+		Result(String name, long[] latencies, int duplicatedRooms) {
+			this.name = name;
+			this.latencies = latencies;
+			this.duplicatedRooms = duplicatedRooms;
+			Arrays.sort(this.latencies);
+		}
+
+		private double percentileMillis(double p) {
+			int index = (int)Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1);
+			return latencies[Math.max(index, 0)] / 1_000_000.0;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("[%s] requests=%d p50=%.3fms p95=%.3fms p99=%.3fms max=%.3fms duplicatedRooms=%d",
+				name, latencies.length, percentileMillis(0.50), percentileMillis(0.95), percentileMillis(0.99),
+				percentileMillis(1.0), duplicatedRooms);
+		}
+	}
+}
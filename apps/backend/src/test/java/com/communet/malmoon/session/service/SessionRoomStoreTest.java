@@ -0,0 +1,98 @@
+package com.communet.malmoon.session.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.communet.malmoon.session.service.SessionRoomStore.SessionRoom;
+
+@ExtendWith(MockitoExtension.class)
+class SessionRoomStoreTest {
+
+	@InjectMocks
+	private SessionRoomStore sessionRoomStore;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Test
+	@DisplayName("방 예약 - 스크립트 1회 호출로 새 방을 예약")
+	void reserve_newRoom_singleRoundTrip() {
+		// given
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willReturn(List.of("1", "room-1", ""));
+
+		// when
+		SessionRoom room = sessionRoomStore.reserve("t@ex.com", "c@ex.com", "room-1", "2025-08-01T10:00:00");
+
+		// then
+		assertThat(room.isCreated()).isTrue();
+		assertThat(room.getRoomName()).isEqualTo("room-1");
+		assertThat(room.getChatRoomId()).isNull();
+		verify(redisTemplate).execute(any(RedisScript.class),
+			eq(List.of("user:therapist:t@ex.com", "session:room:room-1", "user:client:c@ex.com")),
+			any(Object[].class));
+		verifyNoMoreInteractions(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("방 예약 - 이미 방이 있으면 기존 방과 채팅방 ID 반환")
+	void reserve_existingRoom_returnsExisting() {
+		// given
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willReturn(List.of("0", "room-0", "42"));
+
+		// when
+		SessionRoom room = sessionRoomStore.reserve("t@ex.com", "c@ex.com", "room-1", "2025-08-01T10:00:00");
+
+		// then
+		assertThat(room.isCreated()).isFalse();
+		assertThat(room.getRoomName()).isEqualTo("room-0");
+		assertThat(room.getChatRoomId()).isEqualTo(42L);
+	}
+
+	@Test
+	@DisplayName("방 종료 - 이미 종료된 방이면 empty 반환")
+	void release_alreadyReleased_returnsEmpty() {
+		// given
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willReturn(List.of());
+
+		// when
+		Optional<SessionRoom> room = sessionRoomStore.release("t@ex.com");
+
+		// then
+		assertThat(room).isEmpty();
+		verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("채팅방 매핑 대기 - 동시 요청의 이긴 쪽이 매핑을 저장하면 그 채팅방 ID 반환")
+	void awaitChatRoomId_boundLater_returnsChatRoomId() {
+		// given
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get("chat:session:room-0")).willReturn(null, null, "42");
+
+		// when
+		Long chatRoomId = sessionRoomStore.awaitChatRoomId("room-0");
+
+		// then
+		assertThat(chatRoomId).isEqualTo(42L);
+		verify(valueOperations, times(3)).get("chat:session:room-0");
+	}
+}
@@ -0,0 +1,114 @@
+package com.communet.malmoon.session.service.retry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.communet.malmoon.session.service.retry.FailedRoomDeletionQueue.Delivery;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class FailedRoomDeletionQueueTest {
+
+	private static final String PAYLOAD = "{\"roomName\":\"room-1\",\"retryCount\":1,\"firstFailedAt\":0}";
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private StreamOperations<String, Object, Object> streamOperations;
+
+	private FailedRoomDeletionQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new FailedRoomDeletionQueue(redisTemplate, new ObjectMapper());
+	}
+
+	@Test
+	@DisplayName("시작 시 Redis 에 연결할 수 없어도 예외 없이 초기화")
+	void init_redisDown_doesNotFail() {
+		// given
+		given(redisTemplate.execute(any(RedisCallback.class)))
+			.willThrow(new RedisConnectionFailureException("Unable to connect to Redis"));
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willThrow(new RedisConnectionFailureException("Unable to connect to Redis"));
+
+		// when & then
+		assertThatCode(() -> queue.init()).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("읽기 중 consumer group 이 없으면(NOGROUP) group 을 다시 만든 뒤 한 번 더 읽음")
+	void read_noGroup_recreatesGroupAndRetries() {
+		// given
+		MapRecord<String, Object, Object> record = MapRecord
+			.create(FailedRoomDeletionQueue.STREAM_KEY, Map.<Object, Object>of("payload", PAYLOAD))
+			.withId(RecordId.of("1-0"));
+		given(redisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset[].class)))
+			.willThrow(new RedisSystemException("NOGROUP No such key 'session:room-deletion:stream'", null))
+			.willReturn(List.of(record));
+
+		// when
+		List<Delivery> deliveries = queue.read("worker-1", 10);
+
+		// then
+		verify(redisTemplate).execute(any(RedisCallback.class));
+		assertThat(deliveries).singleElement().satisfies(delivery -> {
+			assertThat(delivery.getRecordId()).isEqualTo("1-0");
+			assertThat(delivery.getItem().getRoomName()).isEqualTo("room-1");
+		});
+	}
+
+	@Test
+	@DisplayName("재수집 중 consumer group 이 없으면(NOGROUP) group 을 다시 만든 뒤 한 번 더 가져옴")
+	void reclaim_noGroup_recreatesGroupAndRetries() {
+		// given
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willThrow(new RedisSystemException("NOGROUP No such key 'session:room-deletion:stream'", null))
+			.willReturn(List.of("2-0", PAYLOAD));
+
+		// when
+		List<Delivery> deliveries = queue.reclaim("worker-1", Duration.ofMinutes(1), 10);
+
+		// then
+		verify(redisTemplate).execute(any(RedisCallback.class));
+		assertThat(deliveries).extracting(Delivery::getRecordId).containsExactly("2-0");
+	}
+
+	@Test
+	@DisplayName("NOGROUP 이 아닌 오류는 group 을 만들지 않고 그대로 전파")
+	void read_otherError_propagates() {
+		// given
+		given(redisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset[].class)))
+			.willThrow(new RedisConnectionFailureException("Unable to connect to Redis"));
+
+		// when & then
+		assertThatThrownBy(() -> queue.read("worker-1", 10))
+			.isInstanceOf(RedisConnectionFailureException.class);
+		verify(redisTemplate, never()).execute(any(RedisCallback.class));
+	}
+}
@@ -0,0 +1,176 @@
+package com.communet.malmoon.session.service.retry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import com.communet.malmoon.session.service.retry.FailedRoomDeletionQueue.Delivery;
+import com.communet.malmoon.session.service.retry.FailedRoomDeletionQueue.RetryItem;
+
+import io.livekit.server.RoomServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+@ExtendWith(MockitoExtension.class)
+class RoomDeletionRetryWorkerTest {
+
+	@Mock
+	private FailedRoomDeletionQueue retryQueue;
+
+	@Mock
+	private RoomServiceClient roomServiceClient;
+
+	@Mock
+	private Call<Void> call;
+
+	private SimpleMeterRegistry meterRegistry;
+	private RoomDeletionRetryWorker worker;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		worker = new RoomDeletionRetryWorker(retryQueue, roomServiceClient, meterRegistry, 2);
+	}
+
+	@Test
+	@DisplayName("삭제 성공 또는 이미 없는 방(404)이면 항목을 확인하고 완료")
+	void drain_deletedOrNotFound_completes() {
+		// given
+		given(retryQueue.read(anyString(), eq(2))).willReturn(List.of(
+			delivery("1-0", "room-1", 1), delivery("2-0", "room-2", 3)));
+		given(roomServiceClient.deleteRoom(anyString())).willReturn(call);
+		willAnswer(respond(Response.success(null)))
+			.willAnswer(respond(Response.error(404, ResponseBody.create("", MediaType.get("text/plain")))))
+			.given(call).enqueue(any());
+
+		// when
+		worker.drain();
+
+		// then
+		verify(retryQueue).complete("1-0");
+		verify(retryQueue).complete("2-0");
+		verify(retryQueue, never()).schedule(any());
+		assertThat(counter("deleted")).isEqualTo(2);
+		assertThat(meterRegistry.get("session.room.deletion.retry.age").timer().count()).isEqualTo(2);
+		assertThat(worker.inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("삭제 실패 - 최대 횟수 전이면 다음 재시도를 등록한 뒤 확인")
+	void drain_failure_schedulesNextAttempt() {
+		// given
+		given(retryQueue.read(anyString(), eq(2))).willReturn(List.of(delivery("1-0", "room-1", 2)));
+		given(roomServiceClient.deleteRoom("room-1")).willReturn(call);
+		willAnswer(invocation -> {
+			invocation.<Callback<Void>>getArgument(0).onFailure(call, new IOException("timeout"));
+			return null;
+		}).given(call).enqueue(any());
+
+		// when
+		worker.drain();
+
+		// then
+		ArgumentCaptor<RetryItem> next = ArgumentCaptor.forClass(RetryItem.class);
+		var inOrder = inOrder(retryQueue);
+		inOrder.verify(retryQueue).schedule(next.capture());
+		inOrder.verify(retryQueue).complete("1-0");
+		assertThat(next.getValue().getRoomName()).isEqualTo("room-1");
+		assertThat(next.getValue().getRetryCount()).isEqualTo(3);
+		assertThat(next.getValue().getFirstFailedAt()).isEqualTo(1L);
+		assertThat(counter("retried")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("삭제 실패 - 최대 횟수에 도달하면 포기하고 확인")
+	void drain_failureAtMaxRetry_givesUp() {
+		// given
+		given(retryQueue.read(anyString(), eq(2))).willReturn(List.of(delivery("1-0", "room-1", 5)));
+		given(roomServiceClient.deleteRoom("room-1")).willReturn(call);
+		willAnswer(respond(Response.error(500, ResponseBody.create("", MediaType.get("text/plain")))))
+			.given(call).enqueue(any());
+
+		// when
+		worker.drain();
+
+		// then
+		verify(retryQueue, never()).schedule(any());
+		verify(retryQueue).complete("1-0");
+		assertThat(counter("gave_up")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("진행 중인 삭제가 상한에 도달하면 더 읽지 않고, 확인 전 항목은 그대로 둠")
+	void drain_respectsConcurrencyCap() {
+		// given: 응답이 오지 않는 요청 2건
+		given(retryQueue.read(anyString(), eq(2))).willReturn(List.of(
+			delivery("1-0", "room-1", 1), delivery("2-0", "room-2", 1)));
+		given(roomServiceClient.deleteRoom(anyString())).willReturn(call);
+
+		// when
+		worker.drain();
+		worker.drain();
+		worker.reclaimStale();
+
+		// then
+		assertThat(worker.inFlight()).isEqualTo(2);
+		verify(retryQueue, times(1)).read(anyString(), anyInt());
+		verify(retryQueue, never()).reclaim(anyString(), any(Duration.class), anyInt());
+		verify(retryQueue, never()).complete(anyString());
+	}
+
+	@Test
+	@DisplayName("미확인 항목 재처리 - 남은 동시 처리 여유만큼 가져와 삭제")
+	void reclaimStale_dispatchesClaimedItems() {
+		// given
+		given(retryQueue.reclaim(anyString(), any(Duration.class), eq(2)))
+			.willReturn(List.of(delivery("1-0", "room-1", 1)));
+		given(roomServiceClient.deleteRoom("room-1")).willReturn(call);
+		willAnswer(respond(Response.success(null))).given(call).enqueue(any());
+
+		// when
+		worker.reclaimStale();
+
+		// then
+		verify(retryQueue).complete("1-0");
+		assertThat(counter("deleted")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("재시도 대기 시간 - 15초부터 2배씩 늘어나고 10분을 넘지 않음")
+	void backoff_growsExponentiallyAndCaps() {
+		assertThat(FailedRoomDeletionQueue.backoff(1)).isEqualTo(Duration.ofSeconds(15));
+		assertThat(FailedRoomDeletionQueue.backoff(3)).isEqualTo(Duration.ofSeconds(60));
+		assertThat(FailedRoomDeletionQueue.backoff(20)).isEqualTo(Duration.ofMinutes(10));
+	}
+
+	private Delivery delivery(String recordId, String roomName, int retryCount) {
+		return new Delivery(recordId, new RetryItem(roomName, retryCount, 1L));
+	}
+
+	private Answer<Void> respond(Response<Void> response) {
+		return invocation -> {
+			invocation.<Callback<Void>>getArgument(0).onResponse(call, response);
+			return null;
+		};
+	}
+
+	private double counter(String result) {
+		return meterRegistry.get("session.room.deletion.retries").tag("result", result).counter().count();
+	}
+}
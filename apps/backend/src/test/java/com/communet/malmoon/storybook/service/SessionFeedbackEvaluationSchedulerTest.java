@@ -0,0 +1,186 @@
+package com.communet.malmoon.storybook.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpServerErrorException;
+
+import com.communet.malmoon.external.fastapi.FastApiEndpoint;
+import com.communet.malmoon.external.fastapi.FastApiHttpClient;
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.storybook.domain.SessionFeedback;
+import com.communet.malmoon.storybook.domain.SessionFeedbackStatus;
+import com.communet.malmoon.storybook.domain.SpeechResult;
+import com.communet.malmoon.storybook.domain.SpeechResultStatus;
+import com.communet.malmoon.storybook.domain.StorybookSentence;
+import com.communet.malmoon.storybook.dto.FeedbackEvalResponseDto;
+import com.communet.malmoon.storybook.repository.SessionFeedbackRepository;
+import com.communet.malmoon.storybook.repository.SpeechResultRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SessionFeedbackEvaluationSchedulerTest {
+
+	private static final Long CHILD_ID = 7L;
+	private static final LocalDate DATE = LocalDate.of(2025, 8, 14);
+
+	@Mock
+	private SessionFeedbackRepository sessionFeedbackRepository;
+
+	@Mock
+	private SpeechResultRepository speechResultRepository;
+
+	@Mock
+	private FastApiHttpClient fastApiHttpClient;
+
+	private SessionFeedbackEvaluationScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		scheduler = new SessionFeedbackEvaluationScheduler(sessionFeedbackRepository, speechResultRepository,
+			fastApiHttpClient, new SimpleMeterRegistry(), 2, 4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.shutdown();
+	}
+
+	@Test
+	@DisplayName("flush - 대기 중인 작업을 묶음 크기만큼만 점유하고, 점유에 실패한 작업은 건너뜀")
+	void flush_claimsDueJobsUpToBatchSize() {
+		// given
+		given(sessionFeedbackRepository.findDueJobIds(any(LocalDateTime.class), any(Pageable.class)))
+			.willReturn(List.of(1L, 2L));
+		given(sessionFeedbackRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+			.willReturn(1);
+		given(sessionFeedbackRepository.claim(eq(2L), any(LocalDateTime.class), any(LocalDateTime.class)))
+			.willReturn(0);
+
+		// when
+		scheduler.flush();
+
+		// then
+		then(sessionFeedbackRepository).should()
+			.findDueJobIds(any(LocalDateTime.class), argThat(pageable -> pageable.getPageSize() == 4));
+		then(sessionFeedbackRepository).should(timeout(1_000)).findById(1L);
+		then(sessionFeedbackRepository).should(never()).findById(2L);
+	}
+
+	@Test
+	@DisplayName("process - 평가 결과를 같은 행에 저장하고 COMPLETED 로 변경")
+	void process_success_completes() {
+		// given
+		SessionFeedback feedback = job(1);
+		given(sessionFeedbackRepository.findById(1L)).willReturn(Optional.of(feedback));
+		given(speechResultRepository.findWithSentenceByChildIdAndCreatedAtBetween(eq(CHILD_ID), any(), any()))
+			.willReturn(List.of(speech("{\"text\":\"안녕하세요\"}")));
+		FeedbackEvalResponseDto res = new FeedbackEvalResponseDto();
+		res.setAccuracy(87.5);
+		res.setEvaluation("잘했어요");
+		given(fastApiHttpClient.post(eq(FastApiEndpoint.FEEDBACK_EVAL), any(HttpEntity.class),
+			eq(FeedbackEvalResponseDto.class))).willReturn(ResponseEntity.ok(res));
+
+		// when
+		scheduler.process(1L);
+
+		// then
+		assertThat(feedback.getStatus()).isEqualTo(SessionFeedbackStatus.COMPLETED);
+		assertThat(feedback.getAccuracy()).isEqualTo(87.5);
+		assertThat(feedback.getEvaluation()).isEqualTo("잘했어요");
+		verify(sessionFeedbackRepository).save(feedback);
+	}
+
+	@Test
+	@DisplayName("process - 해당 날짜 STT 변환이 남아 있으면 시도 횟수를 쓰지 않고 평가를 미룸")
+	void process_sttUnfinished_waits() {
+		// given
+		SessionFeedback feedback = job(1);
+		given(sessionFeedbackRepository.findById(1L)).willReturn(Optional.of(feedback));
+		given(speechResultRepository.existsUnfinishedByChildIdAndCreatedAtBetween(eq(CHILD_ID), any(), any()))
+			.willReturn(true);
+
+		// when
+		scheduler.process(1L);
+
+		// then
+		assertThat(feedback.getStatus()).isEqualTo(SessionFeedbackStatus.PENDING);
+		assertThat(feedback.getAttempts()).isZero();
+		assertThat(feedback.getNextAttemptAt()).isAfter(LocalDateTime.now());
+		verifyNoInteractions(fastApiHttpClient);
+	}
+
+	@Test
+	@DisplayName("process - 일시적 오류(5xx)는 백오프 후 재시도, 한도 도달 시 FAILED")
+	void process_serverError_retriesThenDeadLetters() {
+		// given
+		SessionFeedback first = job(1);
+		SessionFeedback last = job(SessionFeedbackEvaluationScheduler.MAX_ATTEMPTS);
+		given(sessionFeedbackRepository.findById(1L)).willReturn(Optional.of(first), Optional.of(last));
+		given(speechResultRepository.findWithSentenceByChildIdAndCreatedAtBetween(eq(CHILD_ID), any(), any()))
+			.willReturn(List.of(speech("안녕하세요")));
+		given(fastApiHttpClient.post(eq(FastApiEndpoint.FEEDBACK_EVAL), any(HttpEntity.class),
+			eq(FeedbackEvalResponseDto.class))).willThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+
+		// when
+		scheduler.process(1L);
+		scheduler.process(1L);
+
+		// then
+		assertThat(first.getStatus()).isEqualTo(SessionFeedbackStatus.PENDING);
+		assertThat(first.getNextAttemptAt()).isAfter(LocalDateTime.now());
+		assertThat(last.getStatus()).isEqualTo(SessionFeedbackStatus.FAILED);
+		assertThat(last.getLastError()).contains("HttpServerErrorException");
+	}
+
+	@Test
+	@DisplayName("process - 해당 날짜 STT 결과가 없으면 FAILED")
+	void process_noSpeechResults_fails() {
+		// given
+		SessionFeedback feedback = job(1);
+		given(sessionFeedbackRepository.findById(1L)).willReturn(Optional.of(feedback));
+
+		// when
+		scheduler.process(1L);
+
+		// then
+		assertThat(feedback.getStatus()).isEqualTo(SessionFeedbackStatus.FAILED);
+		verifyNoInteractions(fastApiHttpClient);
+	}
+
+	private SessionFeedback job(int attempts) {
+		return SessionFeedback.builder()
+			.id(1L)
+			.child(Member.builder().memberId(CHILD_ID).build())
+			.date(DATE)
+			.status(SessionFeedbackStatus.PROCESSING)
+			.attempts(attempts)
+			.createdAt(LocalDateTime.now())
+			.build();
+	}
+
+	private SpeechResult speech(String sttText) {
+		return SpeechResult.builder()
+			.sentence(StorybookSentence.builder().id(3L).sentence("안녕하세요").build())
+			.sttText(sttText)
+			.status(SpeechResultStatus.COMPLETED)
+			.build();
+	}
+}
@@ -0,0 +1,112 @@
+package com.communet.malmoon.storybook.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.communet.malmoon.matching.domain.StatusType;
+import com.communet.malmoon.matching.repository.ScheduleRepository;
+import com.communet.malmoon.member.domain.Member;
+import com.communet.malmoon.storybook.domain.SpeechResult;
+import com.communet.malmoon.storybook.domain.SpeechResultStatus;
+import com.communet.malmoon.storybook.dto.SpeechJobResponseDto;
+import com.communet.malmoon.storybook.repository.SpeechResultRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SpeechResultServiceTest {
+
+	private static final Long CHILD_ID = 10L;
+	private static final Long THERAPIST_ID = 20L;
+
+	@Mock
+	private SpeechResultRepository speechResultRepository;
+
+	@Mock
+	private ScheduleRepository scheduleRepository;
+
+	@InjectMocks
+	private SpeechResultService speechResultService;
+
+	@Test
+	@DisplayName("허용된 음성 확장자는 소문자로 유지")
+	void audioExtension_allowed_kept() {
+		assertThat(SpeechResultService.audioExtension("record.WAV")).isEqualTo(".wav");
+		assertThat(SpeechResultService.audioExtension("a.b.m4a")).isEqualTo(".m4a");
+	}
+
+	@Test
+	@DisplayName("확장자가 없거나 허용되지 않거나 경로 구분자가 섞이면 .webm 사용")
+	void audioExtension_untrusted_fallsBackToWebm() {
+		assertThat(SpeechResultService.audioExtension(null)).isEqualTo(".webm");
+		assertThat(SpeechResultService.audioExtension("record")).isEqualTo(".webm");
+		assertThat(SpeechResultService.audioExtension("record.exe")).isEqualTo(".webm");
+		assertThat(SpeechResultService.audioExtension("x./../../etc/passwd")).isEqualTo(".webm");
+		assertThat(SpeechResultService.audioExtension("x.webm/../../evil")).isEqualTo(".webm");
+	}
+
+	@Test
+	@DisplayName("findSpeechJob - 아동 본인은 변환 결과를 조회")
+	void findSpeechJob_child_returnsJob() {
+		// given
+		given(speechResultRepository.findById(1L)).willReturn(Optional.of(completedJob()));
+
+		// when
+		Optional<SpeechJobResponseDto> job = speechResultService.findSpeechJob(1L, member(CHILD_ID));
+
+		// then
+		assertThat(job).hasValueSatisfying(dto -> assertThat(dto.getSttText()).isEqualTo("안녕"));
+	}
+
+	@Test
+	@DisplayName("findSpeechJob - 수락된 스케줄로 연결된 치료사는 변환 결과를 조회")
+	void findSpeechJob_acceptedTherapist_returnsJob() {
+		// given
+		given(speechResultRepository.findById(1L)).willReturn(Optional.of(completedJob()));
+		given(scheduleRepository.findTherapistIdsByMemberAndStatuses(CHILD_ID, List.of(StatusType.ACCEPTED)))
+			.willReturn(Set.of(THERAPIST_ID));
+
+		// when
+		Optional<SpeechJobResponseDto> job = speechResultService.findSpeechJob(1L, member(THERAPIST_ID));
+
+		// then
+		assertThat(job).isPresent();
+	}
+
+	@Test
+	@DisplayName("findSpeechJob - 아동 본인도 담당 치료사도 아니면 작업이 없는 것과 같이 empty")
+	void findSpeechJob_otherMember_returnsEmpty() {
+		// given
+		given(speechResultRepository.findById(1L)).willReturn(Optional.of(completedJob()));
+		given(scheduleRepository.findTherapistIdsByMemberAndStatuses(CHILD_ID, List.of(StatusType.ACCEPTED)))
+			.willReturn(Set.of(THERAPIST_ID));
+
+		// when
+		Optional<SpeechJobResponseDto> job = speechResultService.findSpeechJob(1L, member(99L));
+
+		// then
+		assertThat(job).isEmpty();
+	}
+
+	private SpeechResult completedJob() {
+		return SpeechResult.builder()
+			.id(1L)
+			.child(member(CHILD_ID))
+			.status(SpeechResultStatus.COMPLETED)
+			.sttText("안녕")
+			.build();
+	}
+
+	private Member member(Long memberId) {
+		return Member.builder().memberId(memberId).build();
+	}
+}
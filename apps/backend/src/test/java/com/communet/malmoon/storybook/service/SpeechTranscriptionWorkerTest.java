@@ -0,0 +1,175 @@
+package com.communet.malmoon.storybook.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import com.communet.malmoon.external.fastapi.FastApiEndpoint;
+import com.communet.malmoon.external.fastapi.FastApiHttpClient;
+import com.communet.malmoon.external.fastapi.FastApiUnavailableException;
+import com.communet.malmoon.storybook.domain.SpeechResult;
+import com.communet.malmoon.storybook.domain.SpeechResultStatus;
+import com.communet.malmoon.storybook.repository.SpeechResultRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SpeechTranscriptionWorkerTest {
+
+	@Mock
+	private SpeechResultRepository speechResultRepository;
+
+	@Mock
+	private FastApiHttpClient fastApiHttpClient;
+
+	@TempDir
+	Path tempDir;
+
+	private SpeechTranscriptionWorker worker;
+	private Path audio;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		worker = new SpeechTranscriptionWorker(speechResultRepository, fastApiHttpClient, new SimpleMeterRegistry(),
+			2, 10);
+		audio = Files.write(tempDir.resolve("a.webm"), new byte[] {1, 2, 3});
+	}
+
+	@AfterEach
+	void tearDown() {
+		worker.shutdown();
+	}
+
+	@Test
+	@DisplayName("process - 변환 성공 시 결과를 저장하고 COMPLETED 로 변경")
+	void process_success_completes() {
+		// given
+		SpeechResult result = job(1);
+		given(speechResultRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(1);
+		given(speechResultRepository.findById(1L)).willReturn(Optional.of(result));
+		given(fastApiHttpClient.post(eq(FastApiEndpoint.STT), any(HttpEntity.class), eq(String.class)))
+			.willReturn(ResponseEntity.ok("안녕"));
+
+		// when
+		worker.process(1L);
+
+		// then
+		assertThat(result.getStatus()).isEqualTo(SpeechResultStatus.COMPLETED);
+		assertThat(result.getSttText()).isEqualTo("안녕");
+		verify(speechResultRepository).save(result);
+	}
+
+	@Test
+	@DisplayName("process - 일시적 오류(5xx)는 PENDING 으로 되돌리고 백오프 후 재시도 예약")
+	void process_serverError_schedulesRetry() {
+		// given
+		SpeechResult result = job(1);
+		given(speechResultRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(1);
+		given(speechResultRepository.findById(1L)).willReturn(Optional.of(result));
+		given(fastApiHttpClient.post(eq(FastApiEndpoint.STT), any(HttpEntity.class), eq(String.class)))
+			.willThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+		// when
+		worker.process(1L);
+
+		// then
+		assertThat(result.getStatus()).isEqualTo(SpeechResultStatus.PENDING);
+		assertThat(result.getNextAttemptAt()).isAfter(LocalDateTime.now());
+		assertThat(result.getLastError()).contains("HttpServerErrorException");
+	}
+
+	@Test
+	@DisplayName("process - FastAPI 클라이언트가 요청을 거절하면(서킷 열림) 백오프 후 재시도 예약")
+	void process_circuitOpen_schedulesRetry() {
+		// given
+		SpeechResult result = job(1);
+		given(speechResultRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(1);
+		given(speechResultRepository.findById(1L)).willReturn(Optional.of(result));
+		given(fastApiHttpClient.post(eq(FastApiEndpoint.STT), any(HttpEntity.class), eq(String.class)))
+			.willThrow(new FastApiUnavailableException(FastApiEndpoint.STT, "서킷 브레이커 열림"));
+
+		// when
+		worker.process(1L);
+
+		// then
+		assertThat(result.getStatus()).isEqualTo(SpeechResultStatus.PENDING);
+		assertThat(result.getNextAttemptAt()).isAfter(LocalDateTime.now());
+	}
+
+	@Test
+	@DisplayName("process - 재시도 한도에 도달하면 FAILED(dead-letter)로 종료")
+	void process_maxAttempts_deadLetters() {
+		// given
+		SpeechResult result = job(SpeechTranscriptionWorker.MAX_ATTEMPTS);
+		given(speechResultRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(1);
+		given(speechResultRepository.findById(1L)).willReturn(Optional.of(result));
+		given(fastApiHttpClient.post(eq(FastApiEndpoint.STT), any(HttpEntity.class), eq(String.class)))
+			.willThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+		// when
+		worker.process(1L);
+
+		// then
+		assertThat(result.getStatus()).isEqualTo(SpeechResultStatus.FAILED);
+		assertThat(result.getNextAttemptAt()).isNull();
+	}
+
+	@Test
+	@DisplayName("process - 재시도해도 소용없는 4xx 오류는 바로 FAILED")
+	void process_clientError_failsImmediately() {
+		// given
+		SpeechResult result = job(1);
+		given(speechResultRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(1);
+		given(speechResultRepository.findById(1L)).willReturn(Optional.of(result));
+		given(fastApiHttpClient.post(eq(FastApiEndpoint.STT), any(HttpEntity.class), eq(String.class)))
+			.willThrow(new HttpClientErrorException(HttpStatus.UNPROCESSABLE_ENTITY));
+
+		// when
+		worker.process(1L);
+
+		// then
+		assertThat(result.getStatus()).isEqualTo(SpeechResultStatus.FAILED);
+	}
+
+	@Test
+	@DisplayName("process - 다른 워커가 점유한 작업은 건너뜀")
+	void process_notClaimed_skips() {
+		// given
+		given(speechResultRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(0);
+
+		// when
+		worker.process(1L);
+
+		// then
+		verify(speechResultRepository, never()).findById(any());
+		verifyNoInteractions(fastApiHttpClient);
+	}
+
+	private SpeechResult job(int attempts) {
+		return SpeechResult.builder()
+			.id(1L)
+			.audioUrl(audio.toString())
+			.status(SpeechResultStatus.PROCESSING)
+			.attempts(attempts)
+			.createdAt(LocalDateTime.now())
+			.build();
+	}
+}
@@ -0,0 +1,61 @@
+// blocking-client-ramp.js
+// FastAPI 호출(AAC 미리보기 생성)에서 요청 스레드가 대기하는 구간의 동시성 한계를 비교합니다.
+// 같은 스크립트를 플랫폼 스레드 모드 / 가상 스레드 모드 백엔드에 각각 실행하고 summary 를 비교합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+/* ===================== 환경 변수 ===================== */
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE     = __ENV.MODE || 'platform'; // platform | virtual (결과 파일/태그 구분용)
+const EMAIL    = __ENV.EMAIL || 'therapist1@test.com';
+const PASSWORD = __ENV.PASSWORD || 'qwer1234';
+
+// 동시 요청 수(VU) 램핑: "VU:기간" 목록
+const STAGES_RAW = (__ENV.STAGES || '50:30s,200:1m,400:1m,800:1m,0:10s')
+  .split(',').map(s => s.trim()).filter(Boolean);
+
+const stages = STAGES_RAW.map(pair => {
+  const [n, d] = pair.split(':');
+  const target = Number(n);
+  if (!Number.isFinite(target) || !d) throw new Error(`형식 오류: "${pair}" (예: "200:1m")`);
+  return { target, duration: d };
+});
+
+export const options = {
+  discardResponseBodies: true,
+  summaryTrendStats: ['avg', 'min', 'med', 'max', 'p(90)', 'p(95)', 'p(99)'],
+  tags: { mode: MODE },
+  scenarios: {
+    aac_generate: { executor: 'ramping-vus', startVUs: 0, stages, gracefulRampDown: '10s' },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+/* ===================== 로그인 ===================== */
+export function setup() {
+  const r = http.post(`${BASE_URL}/api/v1/auth/login`, JSON.stringify({ email: EMAIL, password: PASSWORD }), {
+    headers: { 'Content-Type': 'application/json' },
+    responseType: 'text',
+  });
+  const body = JSON.parse(r.body || '{}');
+  const token = body?.accessToken ?? body?.data?.accessToken;
+  if (!token) throw new Error(`로그인 실패: status=${r.status} body=${r.body}`);
+  return { token };
+}
+
+/* ===================== 시나리오 ===================== */
+export default function (data) {
+  const res = http.post(`${BASE_URL}/api/v1/aacs/generate`,
+    JSON.stringify({ situation: '식사', action: '요청', emotion: '기쁨' }), {
+      headers: { 'Content-Type': 'application/json', Authorization: `Bearer ${data.token}` },
+      tags: { endpoint: 'aacs_generate' },
+      timeout: '60s',
+    });
+  check(res, { 'status 200': r => r.status === 200 });
+}
+
+export function handleSummary(data) {
+  return { [`virtual-threads/summary-${MODE}.json`]: JSON.stringify(data, null, 2) };
+}
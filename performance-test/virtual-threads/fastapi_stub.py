@@ -0,0 +1,45 @@
+"""
+가상 스레드 비교용 FastAPI 대역 서버.
+
+실제 이미지 생성 대신 고정 지연(DELAY_MS) 후 preview_url 을 반환하여,
+백엔드 요청 스레드가 외부 호출에서 대기하는 상황만 재현합니다.
+
+실행: python3 fastapi_stub.py  (PORT=8000, DELAY_MS=2000)
+"""
+import json
+import os
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+PORT = int(os.environ.get("PORT", "8000"))
+DELAY_MS = int(os.environ.get("DELAY_MS", "2000"))
+
+
+class StubHandler(BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"
+
+    def do_POST(self):
+        length = int(self.headers.get("Content-Length", 0))
+        self.rfile.read(length)
+        time.sleep(DELAY_MS / 1000)
+
+        if self.path == "/api/v1/aacs/generate":
+            body = {"preview_url": "https://example.com/preview/stub.png"}
+        else:
+            body = {}
+        payload = json.dumps(body).encode()
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(payload)))
+        self.end_headers()
+        self.wfile.write(payload)
+
+    def log_message(self, format, *args):
+        pass
+
+
+if __name__ == "__main__":
+    server = ThreadingHTTPServer(("0.0.0.0", PORT), StubHandler)
+    server.daemon_threads = True
+    print(f"FastAPI stub listening on :{PORT} (delay {DELAY_MS}ms)")
+    server.serve_forever()